@@ -0,0 +1,427 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * BackgroundRenderer.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Hold the dataset locks while drawing, limit the number of 
+ *               frames discarded in a row, and report drawing errors on the
+ *               worker thread (DG);
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.swing.SwingUtilities;
+
+import org.jfree.chart.block.ArrangeParams;
+import org.jfree.chart.block.RectangleConstraint;
+import org.jfree.chart.entity.GridEntityCollection;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.CombinedDomainCategoryPlot;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.CombinedRangeCategoryPlot;
+import org.jfree.chart.plot.CombinedRangeXYPlot;
+import org.jfree.chart.plot.MultiplePiePlot;
+import org.jfree.chart.plot.PiePlot;
+import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.PolarPlot;
+import org.jfree.chart.plot.XYPlot;
+
+/**
+ * Draws charts for a {@link ChartPanel} on a background thread, so that a 
+ * slow chart does not hold up the Swing event dispatch thread.  The panel 
+ * asks for a frame with {@link #request(JFreeChart, int, int, Rectangle2D,
+ * double, double, Point2D)} and continues to show the last finished frame 
+ * until the new one is handed back (on the event dispatch thread).
+ * <p>
+ * Requests that arrive while a frame is being drawn replace any earlier 
+ * request that has not started, so at most one frame is waiting.
+ * <p>
+ * The worker thread holds the lock (monitor) of each dataset in the plot 
+ * (for XY, category, pie and polar plots, including combined plots) while 
+ * it draws a frame, so a thread that updates a dataset while the chart is 
+ * displayed should synchronize on the dataset.  When the chart changes 
+ * while a frame is being drawn (see {@link #supersede()}), the frame is 
+ * discarded, since the chart may have changed part way through the 
+ * drawing, and a new frame is drawn.  To keep the panel up to date when 
+ * the chart changes continuously, no more than 
+ * {@link #MAX_DISCARDED_FRAMES} frames in a row are discarded.
+ * <p>
+ * An exception thrown while a frame is drawn is passed to the 
+ * <code>uncaughtException()</code> method of the worker thread's group, 
+ * and the panel keeps the last frame.
+ */
+class BackgroundRenderer implements Runnable {
+
+    /** The maximum number of frames that are discarded in a row. */
+    static final int MAX_DISCARDED_FRAMES = 2;
+
+    /** The panel that displays the frames. */
+    private ChartPanel panel;
+
+    /** The worker thread (<code>null</code> if not started). */
+    private Thread thread;
+
+    /** A flag that indicates that a frame has been requested. */
+    private boolean requested;
+
+    /** The chart for the requested frame. */
+    private JFreeChart chart;
+
+    /** The width of the requested frame. */
+    private int width;
+
+    /** The height of the requested frame. */
+    private int height;
+
+    /** The area in which the chart is drawn (before scaling). */
+    private Rectangle2D chartArea;
+
+    /** The horizontal scale factor. */
+    private double scaleX;
+
+    /** The vertical scale factor. */
+    private double scaleY;
+
+    /** The anchor point (possibly <code>null</code>). */
+    private Point2D anchor;
+
+    /** A count of the chart changes reported so far. */
+    private long generation;
+
+    /** The number of frames discarded since the last frame was shown. */
+    private int discarded;
+
+    /** An image that can be reused for the next frame. */
+    private BufferedImage spare;
+
+    /**
+     * Creates a new renderer for a panel.  The worker thread is started 
+     * when the first frame is requested.
+     *
+     * @param panel  the panel (<code>null</code> not permitted).
+     */
+    BackgroundRenderer(ChartPanel panel) {
+        if (panel == null) {
+            throw new IllegalArgumentException("Null 'panel' argument.");
+        }
+        this.panel = panel;
+    }
+
+    /**
+     * Requests a new frame.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the frame width in pixels.
+     * @param height  the frame height in pixels.
+     * @param chartArea  the area in which to draw the chart (before 
+     *                   scaling).
+     * @param scaleX  the horizontal scale factor.
+     * @param scaleY  the vertical scale factor.
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     */
+    synchronized void request(JFreeChart chart, int width, int height, 
+                              Rectangle2D chartArea, double scaleX, 
+                              double scaleY, Point2D anchor) {
+        this.chart = chart;
+        this.width = Math.max(width, 1);
+        this.height = Math.max(height, 1);
+        this.chartArea = chartArea;
+        this.scaleX = scaleX;
+        this.scaleY = scaleY;
+        this.anchor = anchor;
+        this.requested = true;
+        if (this.thread == null) {
+            this.thread = new Thread(this, "ChartPanel-BackgroundRenderer");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+        notifyAll();
+    }
+
+    /**
+     * Reports a chart change.  A frame that is being drawn when this method
+     * is called will not be shown, unless the limit on the number of frames
+     * discarded in a row has been reached.  Changes reported by the worker 
+     * thread itself (that is, changes made by the chart while it is drawn) 
+     * are ignored, otherwise no frame would ever be shown.  This method can
+     * be called on any thread.
+     */
+    synchronized void supersede() {
+        if (Thread.currentThread() != this.thread) {
+            this.generation++;
+        }
+    }
+
+    /**
+     * Returns an image that is no longer displayed, so that it can be reused
+     * for a later frame.
+     *
+     * @param image  the image (<code>null</code> permitted).
+     */
+    synchronized void recycle(BufferedImage image) {
+        this.spare = image;
+    }
+
+    /**
+     * Stops the worker thread once any frame in progress is finished.  
+     * Pending requests are dropped.  A later request starts a new thread.
+     */
+    synchronized void stop() {
+        this.thread = null;
+        this.requested = false;
+        this.chart = null;
+        this.spare = null;
+        notifyAll();
+    }
+
+    /**
+     * Draws the requested frames until the renderer is stopped.
+     */
+    public void run() {
+        Thread current = Thread.currentThread();
+        while (true) {
+            JFreeChart c;
+            int w;
+            int h;
+            Rectangle2D area;
+            double sx;
+            double sy;
+            Point2D a;
+            long g;
+            BufferedImage image;
+            synchronized (this) {
+                while (!this.requested && this.thread == current) {
+                    try {
+                        wait();
+                    }
+                    catch (InterruptedException e) {
+                        // check the flags again
+                    }
+                }
+                if (this.thread != current) {
+                    return;
+                }
+                this.requested = false;
+                c = this.chart;
+                w = this.width;
+                h = this.height;
+                area = this.chartArea;
+                sx = this.scaleX;
+                sy = this.scaleY;
+                a = this.anchor;
+                g = this.generation;
+                image = this.spare;
+                this.spare = null;
+            }
+            if (image == null || image.getWidth() != w 
+                    || image.getHeight() != h) {
+                image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+            }
+            ChartRenderingInfo info 
+                    = new ChartRenderingInfo(new GridEntityCollection());
+            Throwable error = null;
+            Graphics2D g2 = image.createGraphics();
+            try {
+                g2.setComposite(AlphaComposite.Clear);
+                g2.fillRect(0, 0, w, h);
+                g2.setComposite(AlphaComposite.SrcOver);
+                if (sx != 1.0 || sy != 1.0) {
+                    g2.transform(AffineTransform.getScaleInstance(sx, sy));
+                }
+                List datasets = new java.util.ArrayList();
+                addDatasets(c.getPlot(), datasets);
+                draw(c, g2, area, a, info, datasets, 0);
+            }
+            catch (Throwable t) {
+                error = t;
+            }
+            finally {
+                g2.dispose();
+            }
+            if (error != null) {
+                current.getThreadGroup().uncaughtException(current, error);
+            }
+            synchronized (this) {
+                if (error != null || this.thread != current) {
+                    this.spare = image;
+                    continue;
+                }
+                if (g != this.generation 
+                        && this.discarded < MAX_DISCARDED_FRAMES) {
+                    // the chart changed while it was drawn, so the frame 
+                    // may be inconsistent - a new request will follow
+                    this.discarded++;
+                    this.spare = image;
+                    continue;
+                }
+                this.discarded = 0;
+            }
+            deliver(c, image, info);
+        }
+    }
+
+    /**
+     * Draws the chart while holding the locks of the datasets from 
+     * <code>index</code> onwards.
+     *
+     * @param c  the chart.
+     * @param g2  the graphics device.
+     * @param area  the chart area.
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param info  the rendering info.
+     * @param datasets  the datasets.
+     * @param index  the index of the next dataset to lock.
+     */
+    private void draw(JFreeChart c, Graphics2D g2, Rectangle2D area, 
+                      Point2D anchor, ChartRenderingInfo info, List datasets,
+                      int index) {
+        if (index < datasets.size()) {
+            synchronized (datasets.get(index)) {
+                draw(c, g2, area, anchor, info, datasets, index + 1);
+            }
+        }
+        else {
+            c.arrange(g2, new RectangleConstraint(area.getWidth(), 
+                    area.getHeight()), new ArrangeParams());
+            c.draw(g2, area, anchor, info);
+        }
+    }
+
+    /**
+     * Adds the datasets for a plot (and its subplots) to a list, in order of
+     * their identity hash codes so that the locks are always taken in the 
+     * same order.
+     *
+     * @param plot  the plot (<code>null</code> permitted).
+     * @param datasets  the list of datasets.
+     */
+    private static void addDatasets(Plot plot, List datasets) {
+        List subplots = null;
+        if (plot instanceof XYPlot) {
+            XYPlot p = (XYPlot) plot;
+            for (int i = 0; i < p.getDatasetCount(); i++) {
+                addDataset(p.getDataset(i), datasets);
+            }
+            if (plot instanceof CombinedDomainXYPlot) {
+                subplots = ((CombinedDomainXYPlot) plot).getSubplots();
+            }
+            else if (plot instanceof CombinedRangeXYPlot) {
+                subplots = ((CombinedRangeXYPlot) plot).getSubplots();
+            }
+        }
+        else if (plot instanceof CategoryPlot) {
+            CategoryPlot p = (CategoryPlot) plot;
+            for (int i = 0; i < p.getDatasetCount(); i++) {
+                addDataset(p.getDataset(i), datasets);
+            }
+            if (plot instanceof CombinedDomainCategoryPlot) {
+                subplots = ((CombinedDomainCategoryPlot) plot).getSubplots();
+            }
+            else if (plot instanceof CombinedRangeCategoryPlot) {
+                subplots = ((CombinedRangeCategoryPlot) plot).getSubplots();
+            }
+        }
+        else if (plot instanceof PiePlot) {
+            addDataset(((PiePlot) plot).getDataset(), datasets);
+        }
+        else if (plot instanceof MultiplePiePlot) {
+            addDataset(((MultiplePiePlot) plot).getDataset(), datasets);
+        }
+        else if (plot instanceof PolarPlot) {
+            addDataset(((PolarPlot) plot).getDataset(), datasets);
+        }
+        if (subplots != null) {
+            Iterator iterator = subplots.iterator();
+            while (iterator.hasNext()) {
+                addDatasets((Plot) iterator.next(), datasets);
+            }
+        }
+    }
+
+    /**
+     * Inserts a dataset into a list that is sorted by identity hash code,
+     * unless the dataset is <code>null</code> or already in the list.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     * @param datasets  the list of datasets.
+     */
+    private static void addDataset(Object dataset, List datasets) {
+        if (dataset == null) {
+            return;
+        }
+        int hash = System.identityHashCode(dataset);
+        int index = 0;
+        while (index < datasets.size()) {
+            Object d = datasets.get(index);
+            if (d == dataset) {
+                return;
+            }
+            if (System.identityHashCode(d) > hash) {
+                break;
+            }
+            index++;
+        }
+        datasets.add(index, dataset);
+    }
+
+    /**
+     * Hands a finished frame to the panel on the event dispatch thread.
+     *
+     * @param c  the chart that was drawn.
+     * @param image  the frame.
+     * @param info  the rendering info for the frame.
+     */
+    private void deliver(final JFreeChart c, final BufferedImage image, 
+                         final ChartRenderingInfo info) {
+        SwingUtilities.invokeLater(new Runnable() {
+            public void run() {
+                BackgroundRenderer.this.panel.backgroundFrameReady(c, image, 
+                        info);
+            }
+        });
+    }
+
+}
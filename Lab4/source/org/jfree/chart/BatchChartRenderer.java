@@ -0,0 +1,814 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * BatchChartRenderer.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Draw charts with concurrent drawing enabled without 
+ *               locks (DG);
+ * 18-Oct-2026 : Fail jobs for any error, replace threads that die, and 
+ *               cancel the batch if a thread is interrupted (DG);
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.jfree.chart.encoders.ImageEncoder;
+
+/**
+ * Renders batches of charts to image files or streams on a fixed set of 
+ * threads (see {@link ChartRenderingJob}).
+ * <p>
+ * Drawing and encoding are done on separate threads, so that the encoding of
+ * one chart overlaps the drawing of the next.  Jobs wait in a bounded queue
+ * to be drawn, and drawn images wait in a second bounded queue to be 
+ * encoded:  when the first queue is full, {@link #submit(ChartRenderingJob)}
+ * blocks until a draw thread takes a job, and when the second queue is 
+ * full the draw threads wait for the encoders, so the number of images held
+ * in memory stays bounded however many jobs are submitted.  Idle threads 
+ * take the next job from the shared queue, so a slow chart does not hold up
+ * the others.
+ * <p>
+ * While a chart is being drawn, the draw thread holds the locks (monitors)
+ * of the chart and the datasets in its plot, so charts that share datasets 
+ * (or jobs that draw the same chart at different sizes) are drawn one at a 
+ * time, while unrelated charts are drawn in parallel.  Code that updates a
+ * dataset while a batch is running should synchronize on the dataset.  
+ * Charts with concurrent drawing enabled (see 
+ * {@link JFreeChart#setConcurrentDrawingEnabled(boolean)}) are drawn without
+ * taking these locks, so that several sizes of one chart are drawn in 
+ * parallel, and their datasets must not be updated while a batch is running.
+ * <p>
+ * A job that throws any exception or error while it is drawn, encoded or 
+ * written fails with that exception (errors are wrapped in a 
+ * <code>RuntimeException</code>), and the thread goes on to the next job.  
+ * A thread that dies anyway is reported to its thread group and replaced.
+ * If one of the threads is interrupted, the batch is cancelled:  the jobs 
+ * that are still waiting fail with an <code>InterruptedException</code>, 
+ * and {@link #submit(ChartRenderingJob)} throws an 
+ * <code>IllegalStateException</code> until {@link #finish()} is called.
+ * <p>
+ * Typical use:
+ * <pre>
+ * BatchChartRenderer renderer = new BatchChartRenderer();
+ * renderer.start();
+ * for (...) {
+ *     renderer.submit(new ChartRenderingJob(chart, 600, 400, 
+ *             ImageFormat.PNG, file));
+ * }
+ * renderer.finish();</pre>
+ *
+ * @since 1.0.3
+ */
+public class BatchChartRenderer {
+
+    /** Orders lock objects by identity hash code. */
+    private static final Comparator LOCK_ORDER = new Comparator() {
+        public int compare(Object o1, Object o2) {
+            int h1 = System.identityHashCode(o1);
+            int h2 = System.identityHashCode(o2);
+            return (h1 < h2 ? -1 : (h1 == h2 ? 0 : 1));
+        }
+    };
+
+    /** 
+     * A lock taken first when two lock objects have the same identity hash
+     * code (so their order is not defined). 
+     */
+    private static final Object TIE_LOCK = new Object();
+
+    /** The number of draw threads. */
+    private int drawThreadCount;
+
+    /** The number of encode threads. */
+    private int encodeThreadCount;
+
+    /** The capacity of each queue. */
+    private int queueCapacity;
+
+    /** The jobs waiting to be drawn. */
+    private BoundedQueue jobQueue;
+
+    /** The drawn images waiting to be encoded. */
+    private BoundedQueue imageQueue;
+
+    /** The draw threads. */
+    private Thread[] drawThreads;
+
+    /** The encode threads. */
+    private Thread[] encodeThreads;
+
+    /** The time the current (or last) batch was started. */
+    private long startTime;
+
+    /** The time the last batch was finished. */
+    private long finishTime;
+
+    /** The number of jobs completed. */
+    private int completedCount;
+
+    /** The number of jobs that failed. */
+    private int failedCount;
+
+    /** The total latency of the finished jobs. */
+    private long totalLatency;
+
+    /** The maximum latency of the finished jobs. */
+    private long maximumLatency;
+
+    /**
+     * Creates a renderer with one draw thread and one encode thread for each
+     * processor, and queues that hold two jobs for each processor.
+     */
+    public BatchChartRenderer() {
+        this(Runtime.getRuntime().availableProcessors(), 
+                Runtime.getRuntime().availableProcessors(), 
+                Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Creates a renderer.
+     * 
+     * @param drawThreadCount  the number of threads that draw charts 
+     *                         (requires &gt; 0).
+     * @param encodeThreadCount  the number of threads that encode and write
+     *                           images (requires &gt; 0).
+     * @param queueCapacity  the maximum number of jobs waiting to be drawn,
+     *                       and of images waiting to be encoded (requires 
+     *                       &gt; 0).
+     */
+    public BatchChartRenderer(int drawThreadCount, int encodeThreadCount, 
+                              int queueCapacity) {
+        if (drawThreadCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'drawThreadCount' > 0.");
+        }
+        if (encodeThreadCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'encodeThreadCount' > 0.");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'queueCapacity' > 0.");
+        }
+        this.drawThreadCount = drawThreadCount;
+        this.encodeThreadCount = encodeThreadCount;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Starts a batch:  resets the statistics and starts the threads.
+     * 
+     * @throws IllegalStateException if a batch is already running.
+     */
+    public synchronized void start() {
+        if (this.jobQueue != null) {
+            throw new IllegalStateException("Batch already running.");
+        }
+        this.startTime = System.currentTimeMillis();
+        this.finishTime = 0L;
+        this.completedCount = 0;
+        this.failedCount = 0;
+        this.totalLatency = 0L;
+        this.maximumLatency = 0L;
+        this.jobQueue = new BoundedQueue(this.queueCapacity);
+        this.imageQueue = new BoundedQueue(this.queueCapacity);
+        this.drawThreads = new Thread[this.drawThreadCount];
+        for (int i = 0; i < this.drawThreads.length; i++) {
+            this.drawThreads[i] = new Thread(new DrawTask(), 
+                    "BatchChartRenderer-draw-" + i);
+            this.drawThreads[i].start();
+        }
+        this.encodeThreads = new Thread[this.encodeThreadCount];
+        for (int i = 0; i < this.encodeThreads.length; i++) {
+            this.encodeThreads[i] = new Thread(new EncodeTask(), 
+                    "BatchChartRenderer-encode-" + i);
+            this.encodeThreads[i].start();
+        }
+    }
+
+    /**
+     * Submits a job, waiting while the queue of jobs to be drawn is full.
+     * 
+     * @param job  the job (<code>null</code> not permitted).
+     * 
+     * @throws InterruptedException if the thread is interrupted while 
+     *         waiting.
+     * @throws IllegalStateException if no batch is running, or the batch 
+     *         has been cancelled.
+     */
+    public void submit(ChartRenderingJob job) throws InterruptedException {
+        if (job == null) {
+            throw new IllegalArgumentException("Null 'job' argument.");
+        }
+        BoundedQueue queue;
+        synchronized (this) {
+            queue = this.jobQueue;
+        }
+        if (queue == null) {
+            throw new IllegalStateException("No batch running.");
+        }
+        job.submitted();
+        if (!queue.put(job)) {
+            throw new IllegalStateException("Batch cancelled.");
+        }
+    }
+
+    /**
+     * Ends a batch:  waits for the submitted jobs to be finished, and stops
+     * the threads.  A new batch can then be started.
+     * 
+     * @throws InterruptedException if the thread is interrupted while 
+     *         waiting (the batch keeps running).
+     */
+    public void finish() throws InterruptedException {
+        BoundedQueue jobs;
+        BoundedQueue images;
+        Thread[] drawers;
+        Thread[] encoders;
+        synchronized (this) {
+            if (this.jobQueue == null) {
+                return;
+            }
+            jobs = this.jobQueue;
+            images = this.imageQueue;
+            drawers = this.drawThreads;
+            encoders = this.encodeThreads;
+        }
+        jobs.close();
+        join(drawers);
+        images.close();
+        join(encoders);
+        synchronized (this) {
+            this.finishTime = System.currentTimeMillis();
+            this.jobQueue = null;
+            this.imageQueue = null;
+            this.drawThreads = null;
+            this.encodeThreads = null;
+        }
+    }
+
+    /**
+     * Waits for the threads in an array to end, including any threads that
+     * replace them (see {@link #threadDied(Throwable)}).
+     * 
+     * @param threads  the threads.
+     * 
+     * @throws InterruptedException if the thread is interrupted while 
+     *         waiting.
+     */
+    private void join(Thread[] threads) throws InterruptedException {
+        for (int i = 0; i < threads.length; i++) {
+            Thread thread;
+            synchronized (this) {
+                thread = threads[i];
+            }
+            thread.join();
+            synchronized (this) {
+                if (threads[i] != thread) {
+                    // the thread died and was replaced
+                    i--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Renders a collection of jobs as one batch, returning when all of them
+     * are finished.
+     * 
+     * @param jobs  the jobs (a collection of {@link ChartRenderingJob} 
+     *              instances, <code>null</code> not permitted).
+     * 
+     * @throws InterruptedException if the thread is interrupted while 
+     *         waiting.
+     */
+    public void render(Collection jobs) throws InterruptedException {
+        if (jobs == null) {
+            throw new IllegalArgumentException("Null 'jobs' argument.");
+        }
+        start();
+        try {
+            Iterator iterator = jobs.iterator();
+            while (iterator.hasNext()) {
+                submit((ChartRenderingJob) iterator.next());
+            }
+        }
+        finally {
+            finish();
+        }
+    }
+
+    /**
+     * Returns the number of jobs completed in the current (or last) batch.
+     * 
+     * @return The count.
+     */
+    public synchronized int getCompletedCount() {
+        return this.completedCount;
+    }
+
+    /**
+     * Returns the number of jobs that failed in the current (or last) batch.
+     * 
+     * @return The count.
+     */
+    public synchronized int getFailedCount() {
+        return this.failedCount;
+    }
+
+    /**
+     * Returns the average latency (from submission to completion, in 
+     * milliseconds) of the jobs finished in the current (or last) batch.
+     * 
+     * @return The average latency.
+     */
+    public synchronized double getAverageLatency() {
+        int count = this.completedCount + this.failedCount;
+        if (count == 0) {
+            return 0.0;
+        }
+        return (double) this.totalLatency / count;
+    }
+
+    /**
+     * Returns the maximum latency (in milliseconds) of the jobs finished in
+     * the current (or last) batch.
+     * 
+     * @return The maximum latency.
+     */
+    public synchronized long getMaximumLatency() {
+        return this.maximumLatency;
+    }
+
+    /**
+     * Returns the throughput of the current (or last) batch, in jobs 
+     * finished per second.
+     * 
+     * @return The throughput.
+     */
+    public synchronized double getThroughput() {
+        long end = this.finishTime;
+        if (this.jobQueue != null || end == 0L) {
+            end = System.currentTimeMillis();
+        }
+        long elapsed = Math.max(1L, end - this.startTime);
+        return (this.completedCount + this.failedCount) * 1000.0 / elapsed;
+    }
+
+    /**
+     * Records a finished job.
+     * 
+     * @param job  the job.
+     * @param e  the exception that stopped the job (<code>null</code> if it 
+     *           was completed).
+     */
+    private void jobFinished(ChartRenderingJob job, Exception e) {
+        job.finished(e);
+        long latency = job.getLatency();
+        synchronized (this) {
+            if (e == null) {
+                this.completedCount++;
+            }
+            else {
+                this.failedCount++;
+            }
+            this.totalLatency += latency;
+            this.maximumLatency = Math.max(this.maximumLatency, latency);
+        }
+    }
+
+    /**
+     * Records a job that failed with an exception or an error.
+     * 
+     * @param job  the job.
+     * @param t  the exception or error.
+     */
+    private void jobFailed(ChartRenderingJob job, Throwable t) {
+        if (t instanceof Exception) {
+            jobFinished(job, (Exception) t);
+        }
+        else {
+            jobFinished(job, new RuntimeException(t.toString()));
+        }
+    }
+
+    /**
+     * Cancels the batch after a thread has been interrupted:  closes both 
+     * queues and fails the jobs that are still waiting in them.
+     * 
+     * @param job  the job the thread was working on (<code>null</code> 
+     *             permitted).
+     * @param e  the exception.
+     */
+    private void cancel(ChartRenderingJob job, InterruptedException e) {
+        if (job != null) {
+            jobFinished(job, e);
+        }
+        List jobs = jobQueue().cancel();
+        for (int i = 0; i < jobs.size(); i++) {
+            jobFinished((ChartRenderingJob) jobs.get(i), e);
+        }
+        List images = imageQueue().cancel();
+        for (int i = 0; i < images.size(); i++) {
+            jobFinished(((DrawnChart) images.get(i)).job, e);
+        }
+    }
+
+    /**
+     * Called by a draw or encode thread that is about to die from an 
+     * unexpected error:  reports the error to the thread group, and starts 
+     * a new thread in its place.
+     * 
+     * @param t  the error.
+     */
+    private void threadDied(Throwable t) {
+        Thread current = Thread.currentThread();
+        current.getThreadGroup().uncaughtException(current, t);
+        synchronized (this) {
+            replace(this.drawThreads, current, true);
+            replace(this.encodeThreads, current, false);
+        }
+    }
+
+    /**
+     * Replaces a thread in an array with a new thread.
+     * 
+     * @param threads  the threads (<code>null</code> permitted).
+     * @param thread  the thread to replace.
+     * @param draw  a draw thread (or an encode thread)?
+     */
+    private void replace(Thread[] threads, Thread thread, boolean draw) {
+        if (threads == null) {
+            return;
+        }
+        for (int i = 0; i < threads.length; i++) {
+            if (threads[i] == thread) {
+                Runnable task;
+                if (draw) {
+                    task = new DrawTask();
+                }
+                else {
+                    task = new EncodeTask();
+                }
+                threads[i] = new Thread(task, thread.getName());
+                threads[i].start();
+            }
+        }
+    }
+
+    /**
+     * Draws the chart for a job into a new image, holding the locks of the 
+     * chart and its datasets (unless concurrent drawing is enabled for the
+     * chart).
+     * 
+     * @param job  the job.
+     * 
+     * @return The image.
+     */
+    private static BufferedImage draw(ChartRenderingJob job) {
+        JFreeChart chart = job.getChart();
+        if (chart.isConcurrentDrawingEnabled()) {
+            return draw(job, new Object[0], 0);
+        }
+        List locks = new ArrayList();
+        locks.add(chart);
+        Iterator iterator = ChartImageCache.getDatasets(chart).iterator();
+        while (iterator.hasNext()) {
+            Object dataset = iterator.next();
+            boolean found = (dataset == null);
+            for (int i = 0; i < locks.size() && !found; i++) {
+                found = (locks.get(i) == dataset);
+            }
+            if (!found) {
+                locks.add(dataset);
+            }
+        }
+        Object[] ordered = locks.toArray();
+        Arrays.sort(ordered, LOCK_ORDER);
+        for (int i = 1; i < ordered.length; i++) {
+            if (LOCK_ORDER.compare(ordered[i - 1], ordered[i]) == 0) {
+                synchronized (TIE_LOCK) {
+                    return draw(job, ordered, 0);
+                }
+            }
+        }
+        return draw(job, ordered, 0);
+    }
+
+    /**
+     * Takes the locks from a given index onwards, then draws the chart.
+     * 
+     * @param job  the job.
+     * @param locks  the lock objects, in order.
+     * @param index  the index of the next lock to take.
+     * 
+     * @return The image.
+     */
+    private static BufferedImage draw(ChartRenderingJob job, Object[] locks, 
+                                      int index) {
+        if (index == locks.length) {
+            return job.getChart().createBufferedImage(job.getWidth(), 
+                    job.getHeight(), BufferedImage.TYPE_INT_RGB, null);
+        }
+        synchronized (locks[index]) {
+            return draw(job, locks, index + 1);
+        }
+    }
+
+    /**
+     * Encodes an image and writes it to the job's destination.
+     * 
+     * @param job  the job.
+     * @param image  the image.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void encode(ChartRenderingJob job, BufferedImage image) 
+        throws IOException {
+        ImageEncoder encoder = ChartRenderingContext.getThreadContext()
+                .getEncoder(job.getFormat());
+        if (job.getFile() != null) {
+            OutputStream out = new BufferedOutputStream(
+                    new FileOutputStream(job.getFile()));
+            try {
+                encoder.encode(image, out);
+            }
+            finally {
+                out.close();
+            }
+        }
+        else {
+            encoder.encode(image, job.getStream());
+            job.getStream().flush();
+        }
+    }
+
+    /**
+     * Takes jobs from the job queue and draws them.
+     */
+    private class DrawTask implements Runnable {
+
+        /**
+         * Draws jobs until the job queue is closed and empty.
+         */
+        public void run() {
+            ChartRenderingJob job = null;
+            try {
+                while ((job = (ChartRenderingJob) jobQueue().take()) 
+                        != null) {
+                    BufferedImage image = null;
+                    try {
+                        job.drawStarted();
+                        image = draw(job);
+                        job.drawEnded();
+                    }
+                    catch (Throwable t) {
+                        jobFailed(job, t);
+                    }
+                    if (image != null 
+                            && !imageQueue().put(new DrawnChart(job, image))) {
+                        jobFinished(job, new IllegalStateException(
+                                "Batch cancelled."));
+                    }
+                    job = null;
+                }
+            }
+            catch (InterruptedException e) {
+                cancel(job, e);
+                Thread.currentThread().interrupt();
+            }
+            catch (Throwable t) {
+                if (job != null) {
+                    jobFailed(job, t);
+                }
+                threadDied(t);
+            }
+        }
+
+    }
+
+    /**
+     * Takes drawn charts from the image queue, and encodes and writes them.
+     */
+    private class EncodeTask implements Runnable {
+
+        /**
+         * Encodes images until the image queue is closed and empty.
+         */
+        public void run() {
+            try {
+                DrawnChart drawn;
+                while ((drawn = (DrawnChart) imageQueue().take()) != null) {
+                    Throwable failure = null;
+                    try {
+                        drawn.job.encodeStarted();
+                        encode(drawn.job, drawn.image);
+                    }
+                    catch (Throwable t) {
+                        failure = t;
+                    }
+                    if (failure == null) {
+                        jobFinished(drawn.job, null);
+                    }
+                    else {
+                        jobFailed(drawn.job, failure);
+                    }
+                }
+            }
+            catch (InterruptedException e) {
+                cancel(null, e);
+                Thread.currentThread().interrupt();
+            }
+            catch (Throwable t) {
+                threadDied(t);
+            }
+            finally {
+                ChartRenderingContext.releaseThreadContext();
+            }
+        }
+
+    }
+
+    /**
+     * Returns the job queue for the current batch.
+     * 
+     * @return The queue.
+     */
+    private synchronized BoundedQueue jobQueue() {
+        return this.jobQueue;
+    }
+
+    /**
+     * Returns the image queue for the current batch.
+     * 
+     * @return The queue.
+     */
+    private synchronized BoundedQueue imageQueue() {
+        return this.imageQueue;
+    }
+
+    /**
+     * A drawn chart waiting to be encoded.
+     */
+    private static class DrawnChart {
+
+        /** The job. */
+        ChartRenderingJob job;
+
+        /** The image. */
+        BufferedImage image;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param job  the job.
+         * @param image  the image.
+         */
+        DrawnChart(ChartRenderingJob job, BufferedImage image) {
+            this.job = job;
+            this.image = image;
+        }
+
+    }
+
+    /**
+     * A first-in first-out queue with a maximum size.
+     */
+    private static class BoundedQueue {
+
+        /** The items. */
+        private LinkedList items;
+
+        /** The maximum number of items. */
+        private int capacity;
+
+        /** A flag that indicates no more items will be added. */
+        private boolean closed;
+
+        /**
+         * Creates a new queue.
+         * 
+         * @param capacity  the maximum number of items.
+         */
+        BoundedQueue(int capacity) {
+            this.items = new LinkedList();
+            this.capacity = capacity;
+        }
+
+        /**
+         * Adds an item to the end of the queue, waiting while the queue is 
+         * full.
+         * 
+         * @param item  the item.
+         * 
+         * @return <code>true</code> if the item was added, and 
+         *         <code>false</code> if the queue is closed.
+         * 
+         * @throws InterruptedException if the thread is interrupted while 
+         *         waiting.
+         */
+        synchronized boolean put(Object item) throws InterruptedException {
+            while (this.items.size() >= this.capacity && !this.closed) {
+                wait();
+            }
+            if (this.closed) {
+                return false;
+            }
+            this.items.addLast(item);
+            notifyAll();
+            return true;
+        }
+
+        /**
+         * Removes the item at the front of the queue, waiting while the 
+         * queue is empty.
+         * 
+         * @return The item, or <code>null</code> if the queue is empty and 
+         *         closed.
+         * 
+         * @throws InterruptedException if the thread is interrupted while 
+         *         waiting.
+         */
+        synchronized Object take() throws InterruptedException {
+            while (this.items.isEmpty() && !this.closed) {
+                wait();
+            }
+            if (this.items.isEmpty()) {
+                return null;
+            }
+            Object result = this.items.removeFirst();
+            notifyAll();
+            return result;
+        }
+
+        /**
+         * Closes the queue:  items already in the queue can still be taken, 
+         * but no more can be added.
+         */
+        synchronized void close() {
+            this.closed = true;
+            notifyAll();
+        }
+
+        /**
+         * Closes the queue and removes the items in it.
+         * 
+         * @return The items that were in the queue.
+         */
+        synchronized List cancel() {
+            List result = new ArrayList(this.items);
+            this.items.clear();
+            this.closed = true;
+            notifyAll();
+            return result;
+        }
+
+    }
+
+}
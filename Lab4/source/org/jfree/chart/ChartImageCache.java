@@ -0,0 +1,588 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * ChartImageCache.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Include the chart's change count in the versions, and 
+ *               reject images for a chart that changed while it was drawn
+ *               (DG);
+ *
+ */
+
+package org.jfree.chart;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.PiePlot;
+import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.general.Versioned;
+
+/**
+ * A cache of encoded chart images (for example, PNG or JPEG bytes), used by
+ * the {@link ChartUtilities} class to skip drawing and encoding when the 
+ * same chart is written at the same size and in the same format more than 
+ * once without changing in between (see 
+ * {@link ChartUtilities#setImageCache(ChartImageCache)}).
+ * <p>
+ * The cache holds entries in least-recently-used order, and removes the
+ * oldest entries when either the entry count or the total number of bytes 
+ * goes over its limit.  Entries are keyed by the chart (by identity), the 
+ * image size and a string describing the format and encoder options.  An 
+ * entry is discarded when the chart sends a {@link ChartChangeEvent} (the 
+ * cache registers itself as a listener with each chart it holds images 
+ * for), and an entry is ignored if the chart's change count (see 
+ * {@link JFreeChart#getChangeCount()}) or the modification version (see 
+ * {@link Versioned}) of any dataset in the plot has changed since the image 
+ * was stored, which catches changes made with notification switched off or
+ * events still waiting in a 
+ * {@link org.jfree.data.general.DatasetChangeDispatcher}.  The versions are
+ * read when a request misses the cache, before the chart is drawn, and an 
+ * image is not stored if the chart changed while it was drawn.
+ * <p>
+ * The dataset versions are read from {@link XYPlot}, {@link CategoryPlot} 
+ * and {@link PiePlot} charts.  For other plots, the cache relies on change
+ * events alone.
+ * <p>
+ * All methods are synchronized, so one cache can be shared by the threads 
+ * of a servlet container.
+ *
+ * @since 1.0.3
+ */
+public class ChartImageCache implements ChartChangeListener {
+
+    /** The default maximum number of entries. */
+    public static final int DEFAULT_MAXIMUM_ENTRY_COUNT = 100;
+
+    /** The default maximum number of bytes (4 megabytes). */
+    public static final long DEFAULT_MAXIMUM_BYTE_COUNT = 4L * 1024 * 1024;
+
+    /** The entries, in least-recently-used order. */
+    private LinkedHashMap entries;
+
+    /** The number of entries held for each chart (keyed by identity). */
+    private Map chartEntryCounts;
+
+    /** The maximum number of entries. */
+    private int maximumEntryCount;
+
+    /** The maximum number of bytes. */
+    private long maximumByteCount;
+
+    /** The number of bytes held. */
+    private long byteCount;
+
+    /** The number of requests answered from the cache. */
+    private long hitCount;
+
+    /** The number of requests not answered from the cache. */
+    private long missCount;
+
+    /**
+     * Creates a new cache with the default limits.
+     */
+    public ChartImageCache() {
+        this(DEFAULT_MAXIMUM_ENTRY_COUNT, DEFAULT_MAXIMUM_BYTE_COUNT);
+    }
+
+    /**
+     * Creates a new cache.
+     * 
+     * @param maximumEntryCount  the maximum number of entries (requires 
+     *                           &gt; 0).
+     * @param maximumByteCount  the maximum number of bytes (requires 
+     *                          &gt; 0).
+     */
+    public ChartImageCache(int maximumEntryCount, long maximumByteCount) {
+        if (maximumEntryCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'maximumEntryCount' > 0.");
+        }
+        if (maximumByteCount <= 0L) {
+            throw new IllegalArgumentException(
+                    "Requires 'maximumByteCount' > 0.");
+        }
+        this.entries = new LinkedHashMap(16, 0.75f, true);
+        this.chartEntryCounts = new HashMap();
+        this.maximumEntryCount = maximumEntryCount;
+        this.maximumByteCount = maximumByteCount;
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     * 
+     * @return The maximum number of entries.
+     */
+    public synchronized int getMaximumEntryCount() {
+        return this.maximumEntryCount;
+    }
+
+    /**
+     * Sets the maximum number of entries, removing the least recently used
+     * entries if necessary.
+     * 
+     * @param count  the count (requires &gt; 0).
+     */
+    public synchronized void setMaximumEntryCount(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Requires 'count' > 0.");
+        }
+        this.maximumEntryCount = count;
+        trim();
+    }
+
+    /**
+     * Returns the maximum number of bytes.
+     * 
+     * @return The maximum number of bytes.
+     */
+    public synchronized long getMaximumByteCount() {
+        return this.maximumByteCount;
+    }
+
+    /**
+     * Sets the maximum number of bytes, removing the least recently used 
+     * entries if necessary.
+     * 
+     * @param count  the count (requires &gt; 0).
+     */
+    public synchronized void setMaximumByteCount(long count) {
+        if (count <= 0L) {
+            throw new IllegalArgumentException("Requires 'count' > 0.");
+        }
+        this.maximumByteCount = count;
+        trim();
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     * 
+     * @return The entry count.
+     */
+    public synchronized int getEntryCount() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the number of bytes held in the cache.
+     * 
+     * @return The byte count.
+     */
+    public synchronized long getByteCount() {
+        return this.byteCount;
+    }
+
+    /**
+     * Returns the number of requests answered from the cache.
+     * 
+     * @return The hit count.
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of requests that were not answered from the cache.
+     * 
+     * @return The miss count.
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Returns the encoded image for a chart, or <code>null</code> if there
+     * is no up-to-date image in the cache.  The caller must not modify the 
+     * returned array.
+     * 
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param format  the format and encoder options (<code>null</code> not 
+     *                permitted).
+     * 
+     * @return The encoded image (possibly <code>null</code>).
+     */
+    public synchronized byte[] get(JFreeChart chart, int width, int height, 
+                                   String format) {
+        Key key = new Key(chart, width, height, format);
+        Entry entry = (Entry) this.entries.get(key);
+        if (entry != null 
+                && !Arrays.equals(entry.versions, getVersions(chart))) {
+            remove(key);
+            entry = null;
+        }
+        if (entry == null) {
+            this.missCount++;
+            return null;
+        }
+        this.hitCount++;
+        return entry.data;
+    }
+
+    /**
+     * Stores an encoded image for a chart.  The versions must be read (with 
+     * {@link #getVersions(JFreeChart)}) <i>before</i> the chart is drawn.  
+     * If the chart or its datasets have changed since then (that is, while
+     * the chart was being drawn), the image may not match the current state
+     * of the chart and it is not stored.  The caller must not modify the 
+     * array after storing it.
+     * 
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param format  the format and encoder options (<code>null</code> not 
+     *                permitted).
+     * @param data  the encoded image (<code>null</code> not permitted).
+     * @param versions  the chart and dataset versions (<code>null</code> 
+     *                  not permitted).
+     */
+    public synchronized void put(JFreeChart chart, int width, int height, 
+                                 String format, byte[] data, 
+                                 long[] versions) {
+        if (data == null) {
+            throw new IllegalArgumentException("Null 'data' argument.");
+        }
+        if (versions == null) {
+            throw new IllegalArgumentException("Null 'versions' argument.");
+        }
+        Key key = new Key(chart, width, height, format);
+        remove(key);
+        if (data.length > this.maximumByteCount 
+                || !Arrays.equals(versions, getVersions(chart))) {
+            return;
+        }
+        this.entries.put(key, new Entry(data, versions));
+        this.byteCount += data.length;
+        ChartReference ref = new ChartReference(chart);
+        Integer count = (Integer) this.chartEntryCounts.get(ref);
+        if (count == null) {
+            chart.addChangeListener(this);
+            count = new Integer(0);
+        }
+        this.chartEntryCounts.put(ref, new Integer(count.intValue() + 1));
+        trim();
+    }
+
+    /**
+     * Removes all the entries for a chart.
+     * 
+     * @param chart  the chart (<code>null</code> not permitted).
+     */
+    public synchronized void invalidate(JFreeChart chart) {
+        if (chart == null) {
+            throw new IllegalArgumentException("Null 'chart' argument.");
+        }
+        List keys = new ArrayList();
+        Iterator iterator = this.entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            Key key = (Key) iterator.next();
+            if (key.chart == chart) {
+                keys.add(key);
+            }
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            remove((Key) keys.get(i));
+        }
+    }
+
+    /**
+     * Removes all the entries from the cache.
+     */
+    public synchronized void clear() {
+        Iterator iterator = this.chartEntryCounts.keySet().iterator();
+        while (iterator.hasNext()) {
+            ChartReference ref = (ChartReference) iterator.next();
+            ref.chart.removeChangeListener(this);
+        }
+        this.entries.clear();
+        this.chartEntryCounts.clear();
+        this.byteCount = 0L;
+    }
+
+    /**
+     * Receives notification that a chart has changed, and removes the 
+     * entries for that chart.
+     * 
+     * @param event  the event.
+     */
+    public void chartChanged(ChartChangeEvent event) {
+        JFreeChart chart = event.getChart();
+        if (chart != null) {
+            invalidate(chart);
+        }
+    }
+
+    /**
+     * Returns the change count of a chart (see 
+     * {@link JFreeChart#getChangeCount()}) followed by the modification 
+     * versions of the datasets in the chart (-1 for a dataset that does not 
+     * implement {@link Versioned}).
+     * 
+     * @param chart  the chart (<code>null</code> not permitted).
+     * 
+     * @return The versions.
+     */
+    public static long[] getVersions(JFreeChart chart) {
+        if (chart == null) {
+            throw new IllegalArgumentException("Null 'chart' argument.");
+        }
+        List datasets = getDatasets(chart);
+        long[] result = new long[datasets.size() + 1];
+        result[0] = chart.getChangeCount();
+        for (int i = 0; i < datasets.size(); i++) {
+            Dataset dataset = (Dataset) datasets.get(i);
+            if (dataset instanceof Versioned) {
+                result[i + 1] = ((Versioned) dataset).getVersion();
+            }
+            else {
+                result[i + 1] = -1L;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the datasets in a chart's plot (for {@link XYPlot}, 
+     * {@link CategoryPlot} and {@link PiePlot}; for other plots, the list is 
+     * empty).  The list may contain <code>null</code> entries.
+     * 
+     * @param chart  the chart (<code>null</code> not permitted).
+     * 
+     * @return The datasets.
+     */
+    static List getDatasets(JFreeChart chart) {
+        Plot plot = chart.getPlot();
+        List datasets = new ArrayList();
+        if (plot instanceof XYPlot) {
+            XYPlot xyPlot = (XYPlot) plot;
+            for (int i = 0; i < xyPlot.getDatasetCount(); i++) {
+                datasets.add(xyPlot.getDataset(i));
+            }
+        }
+        else if (plot instanceof CategoryPlot) {
+            CategoryPlot categoryPlot = (CategoryPlot) plot;
+            for (int i = 0; i < categoryPlot.getDatasetCount(); i++) {
+                datasets.add(categoryPlot.getDataset(i));
+            }
+        }
+        else if (plot instanceof PiePlot) {
+            datasets.add(((PiePlot) plot).getDataset());
+        }
+        return datasets;
+    }
+
+    /**
+     * Removes an entry (if there is one).
+     * 
+     * @param key  the key.
+     */
+    private void remove(Key key) {
+        Entry entry = (Entry) this.entries.remove(key);
+        if (entry == null) {
+            return;
+        }
+        this.byteCount -= entry.data.length;
+        ChartReference ref = new ChartReference(key.chart);
+        int count = ((Integer) this.chartEntryCounts.get(ref)).intValue();
+        if (count > 1) {
+            this.chartEntryCounts.put(ref, new Integer(count - 1));
+        }
+        else {
+            this.chartEntryCounts.remove(ref);
+            key.chart.removeChangeListener(this);
+        }
+    }
+
+    /**
+     * Removes the least recently used entries until the cache is within its
+     * limits.
+     */
+    private void trim() {
+        while (this.entries.size() > this.maximumEntryCount 
+                || this.byteCount > this.maximumByteCount) {
+            Key eldest = (Key) this.entries.keySet().iterator().next();
+            remove(eldest);
+        }
+    }
+
+    /**
+     * A reference that compares charts by identity.
+     */
+    private static class ChartReference {
+
+        /** The chart. */
+        JFreeChart chart;
+
+        /**
+         * Creates a new reference.
+         * 
+         * @param chart  the chart.
+         */
+        ChartReference(JFreeChart chart) {
+            this.chart = chart;
+        }
+
+        /**
+         * Tests this reference for equality with an arbitrary object.
+         * 
+         * @param obj  the object (<code>null</code> permitted).
+         * 
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ChartReference)) {
+                return false;
+            }
+            return this.chart == ((ChartReference) obj).chart;
+        }
+
+        /**
+         * Returns a hash code.
+         * 
+         * @return A hash code.
+         */
+        public int hashCode() {
+            return System.identityHashCode(this.chart);
+        }
+
+    }
+
+    /**
+     * The key for an entry.
+     */
+    private static class Key {
+
+        /** The chart. */
+        JFreeChart chart;
+
+        /** The image width. */
+        int width;
+
+        /** The image height. */
+        int height;
+
+        /** The format and encoder options. */
+        String format;
+
+        /**
+         * Creates a new key.
+         * 
+         * @param chart  the chart (<code>null</code> not permitted).
+         * @param width  the image width.
+         * @param height  the image height.
+         * @param format  the format (<code>null</code> not permitted).
+         */
+        Key(JFreeChart chart, int width, int height, String format) {
+            if (chart == null) {
+                throw new IllegalArgumentException("Null 'chart' argument.");
+            }
+            if (format == null) {
+                throw new IllegalArgumentException("Null 'format' argument.");
+            }
+            this.chart = chart;
+            this.width = width;
+            this.height = height;
+            this.format = format;
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         * 
+         * @param obj  the object (<code>null</code> permitted).
+         * 
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.chart == that.chart && this.width == that.width 
+                    && this.height == that.height 
+                    && this.format.equals(that.format);
+        }
+
+        /**
+         * Returns a hash code.
+         * 
+         * @return A hash code.
+         */
+        public int hashCode() {
+            int result = System.identityHashCode(this.chart);
+            result = 37 * result + this.width;
+            result = 37 * result + this.height;
+            result = 37 * result + this.format.hashCode();
+            return result;
+        }
+
+    }
+
+    /**
+     * An entry in the cache.
+     */
+    private static class Entry {
+
+        /** The encoded image. */
+        byte[] data;
+
+        /** The dataset versions when the image was stored. */
+        long[] versions;
+
+        /**
+         * Creates a new entry.
+         * 
+         * @param data  the encoded image.
+         * @param versions  the dataset versions.
+         */
+        Entry(byte[] data, long[] versions) {
+            this.data = data;
+            this.versions = versions;
+        }
+
+    }
+
+}
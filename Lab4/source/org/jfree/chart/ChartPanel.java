@@ -119,6 +119,10 @@
  * 26-Apr-2005 : Removed LOGGER (DG);
  * 01-Jun-2005 : Fixed zooming for combined plots - see bug report 
  *               1212039, fix thanks to Onno vd Akker (DG);
+ * 17-Oct-2026 : Use a GridEntityCollection for faster entity lookups (DG);
+ *               Added optional background rendering (DG);
+ * 18-Oct-2026 : Read the background renderer under a lock in 
+ *               chartChanged(), since events can arrive on any thread (DG);
  */
 
 package org.jfree.chart;
@@ -140,6 +144,7 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.awt.print.PageFormat;
 import java.awt.print.Printable;
 import java.awt.print.PrinterException;
@@ -163,6 +168,7 @@ import org.jfree.chart.block.ArrangeParams;
 import org.jfree.chart.block.RectangleConstraint;
 import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.GridEntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
@@ -275,6 +281,29 @@ public class ChartPanel extends JPanel
     /** The width of the chart buffer. */
     private int chartBufferWidth;
 
+    /** 
+     * A flag that controls whether or not the chart is drawn on a background
+     * thread. 
+     */
+    private boolean backgroundRendering;
+
+    /** 
+     * The renderer that draws the chart on a background thread 
+     * (<code>null</code> until the first frame is requested). 
+     */
+    private transient BackgroundRenderer backgroundRenderer;
+
+    /** The last frame drawn by the background renderer. */
+    private transient BufferedImage backgroundFrame;
+
+    /** The width of the last frame requested from the background renderer. */
+    private int backgroundRequestWidth;
+
+    /** 
+     * The height of the last frame requested from the background renderer. 
+     */
+    private int backgroundRequestHeight;
+
     /** 
      * The minimum width for drawing a chart (uses scaling for smaller widths). 
      */
@@ -553,7 +582,7 @@ public class ChartPanel extends JPanel
                 this.orientation = z.getOrientation();
             }
         }
-        this.info = new ChartRenderingInfo();
+        this.info = new ChartRenderingInfo(new GridEntityCollection());
         setPreferredSize(new Dimension(width, height));
         setBackground(Color.white);
         this.useBuffer = useBuffer;
@@ -1172,6 +1201,148 @@ public class ChartPanel extends JPanel
         this.refreshBuffer = flag;
     }
 
+    /**
+     * Returns the flag that controls whether or not the chart is drawn on a
+     * background thread.
+     * 
+     * @return A boolean.
+     * 
+     * @see #setBackgroundRendering(boolean)
+     * 
+     * @since 1.0.3
+     */
+    public boolean isBackgroundRendering() {
+        return this.backgroundRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the chart is drawn on a
+     * background thread.  When this flag is set, the chart is drawn into an 
+     * off-screen image by a worker thread, and the panel shows the last 
+     * finished image (which may be slightly out of date) until a new one is 
+     * ready.  The worker thread holds the lock of each dataset in the plot 
+     * while it draws, so code that updates a dataset on another thread 
+     * should synchronize on the dataset.  A frame that is being drawn when 
+     * the chart changes is usually discarded and the chart is drawn again, 
+     * but a frame is always shown after a few discarded frames, so the 
+     * panel is kept up to date when the chart changes continuously.  An 
+     * exception thrown while drawing is reported on the worker thread and 
+     * the last frame is kept.  The rendering info for the panel is replaced
+     * each time a new frame is shown.
+     * 
+     * @param flag  the flag.
+     * 
+     * @see #isBackgroundRendering()
+     * 
+     * @since 1.0.3
+     */
+    public void setBackgroundRendering(boolean flag) {
+        if (this.backgroundRendering != flag) {
+            this.backgroundRendering = flag;
+            if (!flag) {
+                stopBackgroundRenderer();
+            }
+            this.refreshBuffer = true;
+            repaint();
+        }
+    }
+
+    /**
+     * Stops the background renderer and discards the last frame.
+     */
+    private void stopBackgroundRenderer() {
+        if (this.backgroundRenderer != null) {
+            this.backgroundRenderer.stop();
+            setBackgroundRenderer(null);
+        }
+        this.backgroundFrame = null;
+        this.backgroundRequestWidth = 0;
+        this.backgroundRequestHeight = 0;
+    }
+
+    /**
+     * Returns the background renderer.  The renderer is only replaced on the
+     * event dispatch thread, but it is read (by {@link #chartChanged(
+     * ChartChangeEvent)}) on the thread that changes the chart, so access 
+     * is synchronized.
+     * 
+     * @return The renderer (possibly <code>null</code>).
+     */
+    private synchronized BackgroundRenderer getBackgroundRenderer() {
+        return this.backgroundRenderer;
+    }
+
+    /**
+     * Sets the background renderer.
+     * 
+     * @param renderer  the renderer (<code>null</code> permitted).
+     */
+    private synchronized void setBackgroundRenderer(
+            BackgroundRenderer renderer) {
+        this.backgroundRenderer = renderer;
+    }
+
+    /**
+     * Receives a frame from the background renderer.  This method is called
+     * on the event dispatch thread.
+     * 
+     * @param drawn  the chart that was drawn.
+     * @param frame  the frame.
+     * @param frameInfo  the rendering info for the frame.
+     */
+    void backgroundFrameReady(JFreeChart drawn, BufferedImage frame, 
+                              ChartRenderingInfo frameInfo) {
+        if (!this.backgroundRendering || drawn != this.chart 
+                || this.backgroundRenderer == null) {
+            return;
+        }
+        this.backgroundRenderer.recycle(this.backgroundFrame);
+        this.backgroundFrame = frame;
+        this.info = frameInfo;
+        repaint();
+    }
+
+    /**
+     * Paints the last frame from the background renderer, and requests a new
+     * frame if the chart has changed or the panel has been resized.
+     * 
+     * @param g2  the graphics device.
+     * @param insets  the panel insets.
+     * @param available  the area available for the chart.
+     * @param chartArea  the area in which the chart is drawn (before 
+     *                   scaling).
+     */
+    private void paintBackgroundFrame(Graphics2D g2, Insets insets, 
+                                      Rectangle2D available, 
+                                      Rectangle2D chartArea) {
+        int width = (int) available.getWidth();
+        int height = (int) available.getHeight();
+        if (this.refreshBuffer || width != this.backgroundRequestWidth 
+                || height != this.backgroundRequestHeight) {
+            if (this.backgroundRenderer == null) {
+                setBackgroundRenderer(new BackgroundRenderer(this));
+            }
+            this.backgroundRenderer.request(this.chart, width, height, 
+                    chartArea, this.scaleX, this.scaleY, this.anchor);
+            this.backgroundRequestWidth = width;
+            this.backgroundRequestHeight = height;
+            this.refreshBuffer = false;
+        }
+        if (this.backgroundFrame != null) {
+            g2.drawImage(this.backgroundFrame, insets.left, insets.top, this);
+        }
+    }
+
+    /**
+     * Stops the background renderer (if there is one) when the panel is 
+     * removed from its container.
+     */
+    public void removeNotify() {
+        stopBackgroundRenderer();
+        this.refreshBuffer = true;
+        super.removeNotify();
+    }
+
 //    /**
 //     * Paints the component by drawing the chart to fill the entire component,
 //     * but allowing for the insets (which will be non-zero if a border has been
@@ -1379,8 +1550,13 @@ public class ChartPanel extends JPanel
 //        setAnchor(null);
 //        setVerticalTraceLine(null);
 //        setHorizontalTraceLine(null);
+        // are we drawing the chart on a background thread?
+        if (this.backgroundRendering) {
+            paintBackgroundFrame(g2, insets, available, chartArea);
+        }
+
         // are we using the chart buffer?
-        if (this.useBuffer) {
+        else if (this.useBuffer) {
 
             // do we need to resize the buffer?
             if ((this.chartBuffer == null) 
@@ -1466,6 +1642,10 @@ public class ChartPanel extends JPanel
      * @param event  details of the chart change event.
      */
     public void chartChanged(ChartChangeEvent event) {
+        BackgroundRenderer renderer = getBackgroundRenderer();
+        if (renderer != null) {
+            renderer.supersede();
+        }
         this.refreshBuffer = true;
         Plot plot = chart.getPlot();
         this.domainZoomable = false;
@@ -0,0 +1,440 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * ChartRenderingContext.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Lend pooled images until releaseImage() is called, and 
+ *               dispose encoders that are dropped (DG);
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jfree.chart.encoders.EncoderUtil;
+import org.jfree.chart.encoders.ImageEncoder;
+import org.jfree.chart.encoders.ImageEncoderFactory;
+
+/**
+ * A context for drawing charts into images and encoding them, that reuses 
+ * its images, encoders and output buffer from one chart to the next instead
+ * of allocating new ones each time.  This cuts down the garbage generated 
+ * when a server renders many charts a second.
+ * <p>
+ * Images are pooled by size and type, up to a byte budget (the least 
+ * recently used images are dropped when the budget is exceeded).  An image 
+ * returned by {@link #drawChart(JFreeChart, int, int, int, 
+ * ChartRenderingInfo)} is lent to the caller, who hands it back with 
+ * {@link #releaseImage(BufferedImage)} when finished with it; an image that
+ * is not handed back is simply not reused.  Each time an image is reused it
+ * is cleared before the chart is drawn, so the result is the same as drawing
+ * into a new image.  Encoders are obtained from the 
+ * {@link ImageEncoderFactory} once for each format and set of options, and 
+ * reused (the encoders for the Sun PNG and JPEG adapters keep their 
+ * <code>ImageWriter</code>, which is disposed when the encoder is dropped by
+ * {@link #clear()} or {@link #releaseThreadContext()}).
+ * <p>
+ * A context is not thread-safe.  Use {@link #getThreadContext()} to get a 
+ * context for the current thread, or create one context for each thread.
+ * The {@link ChartUtilities} class uses the thread contexts when 
+ * {@link ChartUtilities#setRenderingContextEnabled(boolean)} has been 
+ * called with <code>true</code>.
+ *
+ * @since 1.0.3
+ */
+public class ChartRenderingContext {
+
+    /** The default maximum number of bytes of pooled images (16MB). */
+    public static final long DEFAULT_MAXIMUM_BYTE_COUNT = 16L * 1024 * 1024;
+
+    /** The context for each thread. */
+    private static ThreadLocal threadContext = new ThreadLocal();
+
+    /** The pooled images (keyed by size and type), in LRU order. */
+    private LinkedHashMap images;
+
+    /** The encoders (keyed by format and options). */
+    private Map encoders;
+
+    /** The buffer used to encode images to a byte array. */
+    private ByteArrayOutputStream buffer;
+
+    /** The maximum number of bytes of pooled images. */
+    private long maximumByteCount;
+
+    /** The number of bytes of pooled images. */
+    private long byteCount;
+
+    /**
+     * Creates a new context with the default byte budget.
+     */
+    public ChartRenderingContext() {
+        this(DEFAULT_MAXIMUM_BYTE_COUNT);
+    }
+
+    /**
+     * Creates a new context.
+     * 
+     * @param maximumByteCount  the maximum number of bytes of pooled images
+     *                          (requires &gt; 0).
+     */
+    public ChartRenderingContext(long maximumByteCount) {
+        if (maximumByteCount <= 0L) {
+            throw new IllegalArgumentException(
+                    "Requires 'maximumByteCount' > 0.");
+        }
+        this.images = new LinkedHashMap(16, 0.75f, true);
+        this.encoders = new HashMap();
+        this.buffer = new ByteArrayOutputStream();
+        this.maximumByteCount = maximumByteCount;
+    }
+
+    /**
+     * Returns the context for the current thread, creating it if necessary.
+     * 
+     * @return The context (never <code>null</code>).
+     */
+    public static ChartRenderingContext getThreadContext() {
+        ChartRenderingContext result 
+            = (ChartRenderingContext) threadContext.get();
+        if (result == null) {
+            result = new ChartRenderingContext();
+            threadContext.set(result);
+        }
+        return result;
+    }
+
+    /**
+     * Releases the context for the current thread (if there is one), so 
+     * that its images can be garbage collected, and disposes its encoders.
+     */
+    public static void releaseThreadContext() {
+        ChartRenderingContext context 
+            = (ChartRenderingContext) threadContext.get();
+        if (context != null) {
+            context.clear();
+            threadContext.set(null);
+        }
+    }
+
+    /**
+     * Returns the maximum number of bytes of pooled images.
+     * 
+     * @return The maximum number of bytes.
+     */
+    public long getMaximumByteCount() {
+        return this.maximumByteCount;
+    }
+
+    /**
+     * Sets the maximum number of bytes of pooled images, dropping the least
+     * recently used images if necessary.
+     * 
+     * @param count  the count (requires &gt; 0).
+     */
+    public void setMaximumByteCount(long count) {
+        if (count <= 0L) {
+            throw new IllegalArgumentException("Requires 'count' > 0.");
+        }
+        this.maximumByteCount = count;
+        trim();
+    }
+
+    /**
+     * Returns the number of bytes of pooled images.
+     * 
+     * @return The byte count.
+     */
+    public long getByteCount() {
+        return this.byteCount;
+    }
+
+    /**
+     * Draws a chart into a pooled image (or a new image if there is no 
+     * pooled image of the right size and type).  The image is taken out of
+     * the pool, so it is not affected by later calls to this method; pass it
+     * to {@link #releaseImage(BufferedImage)} when you have finished with it
+     * so that it can be reused.
+     * 
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param imageType  the image type (see {@link BufferedImage}).
+     * @param info  carries back chart state information (<code>null</code> 
+     *              permitted).
+     * 
+     * @return The image.
+     */
+    public BufferedImage drawChart(JFreeChart chart, int width, int height, 
+                                   int imageType, ChartRenderingInfo info) {
+        if (chart == null) {
+            throw new IllegalArgumentException("Null 'chart' argument.");
+        }
+        ImageKey key = new ImageKey(width, height, imageType);
+        BufferedImage image = (BufferedImage) this.images.remove(key);
+        Graphics2D g2;
+        if (image == null) {
+            image = new BufferedImage(width, height, imageType);
+            g2 = image.createGraphics();
+        }
+        else {
+            this.byteCount -= key.getByteCount();
+            g2 = image.createGraphics();
+            g2.setComposite(AlphaComposite.Clear);
+            g2.fillRect(0, 0, width, height);
+            g2.setComposite(AlphaComposite.SrcOver);
+        }
+        chart.draw(g2, new Rectangle2D.Double(0, 0, width, height), null, 
+                info);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Hands back an image returned by {@link #drawChart(JFreeChart, int, 
+     * int, int, ChartRenderingInfo)}, so that it can be reused.  The caller 
+     * must not use the image after releasing it.
+     * 
+     * @param image  the image (<code>null</code> not permitted).
+     */
+    public void releaseImage(BufferedImage image) {
+        if (image == null) {
+            throw new IllegalArgumentException("Null 'image' argument.");
+        }
+        ImageKey key = new ImageKey(image.getWidth(), image.getHeight(), 
+                image.getType());
+        long size = key.getByteCount();
+        if (size > this.maximumByteCount || this.images.containsKey(key)) {
+            return;
+        }
+        this.images.put(key, image);
+        this.byteCount += size;
+        trim();
+    }
+
+    /**
+     * Returns an encoder for an image format, with the default settings.  
+     * The encoder belongs to the context and is reused, so its settings must
+     * not be changed.
+     * 
+     * @param format  the image format (<code>null</code> not permitted).
+     * 
+     * @return The encoder.
+     */
+    public ImageEncoder getEncoder(String format) {
+        return getEncoder(format, format, 0.0f, false, false);
+    }
+
+    /**
+     * Returns an encoder for an image format, with the specified settings.
+     * The encoder belongs to the context and is reused, so its settings must
+     * not be changed.
+     * 
+     * @param format  the image format (<code>null</code> not permitted).
+     * @param quality  the quality.
+     * @param encodingAlpha  encode alpha transparency?
+     * 
+     * @return The encoder.
+     */
+    public ImageEncoder getEncoder(String format, float quality, 
+                                   boolean encodingAlpha) {
+        String key = format + ";quality=" + quality + ";alpha=" 
+                + encodingAlpha;
+        return getEncoder(key, format, quality, encodingAlpha, true);
+    }
+
+    /**
+     * Returns a pooled encoder, creating it if necessary.  A pooled encoder 
+     * is replaced if the factory has been switched to a different encoder 
+     * class for the format.
+     * 
+     * @param key  the pool key.
+     * @param format  the image format (<code>null</code> not permitted).
+     * @param quality  the quality.
+     * @param encodingAlpha  encode alpha transparency?
+     * @param configure  set the quality and alpha flag?
+     * 
+     * @return The encoder.
+     */
+    private ImageEncoder getEncoder(String key, String format, float quality,
+            boolean encodingAlpha, boolean configure) {
+        if (format == null) {
+            throw new IllegalArgumentException("Null 'format' argument.");
+        }
+        ImageEncoder result = (ImageEncoder) this.encoders.get(key);
+        String className = ImageEncoderFactory.getImageEncoder(format);
+        if (result == null || !result.getClass().getName().equals(className)) {
+            EncoderUtil.dispose(result);
+            result = ImageEncoderFactory.newInstance(format);
+            if (configure) {
+                result.setQuality(quality);
+                result.setEncodingAlpha(encodingAlpha);
+            }
+            this.encoders.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Encodes an image to a byte array, using the context's output buffer.
+     * 
+     * @param image  the image (<code>null</code> not permitted).
+     * @param encoder  the encoder (<code>null</code> not permitted).
+     * 
+     * @return The encoded image.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public byte[] encode(BufferedImage image, ImageEncoder encoder) 
+        throws IOException {
+        if (encoder == null) {
+            throw new IllegalArgumentException("Null 'encoder' argument.");
+        }
+        this.buffer.reset();
+        encoder.encode(image, this.buffer);
+        byte[] result = this.buffer.toByteArray();
+        if (result.length > this.maximumByteCount) {
+            // don't hold on to an unusually large buffer
+            this.buffer = new ByteArrayOutputStream();
+        }
+        return result;
+    }
+
+    /**
+     * Drops all pooled images and encoders, disposing the encoders.
+     */
+    public void clear() {
+        Iterator iterator = this.encoders.values().iterator();
+        while (iterator.hasNext()) {
+            EncoderUtil.dispose((ImageEncoder) iterator.next());
+        }
+        this.images.clear();
+        this.encoders.clear();
+        this.buffer = new ByteArrayOutputStream();
+        this.byteCount = 0L;
+    }
+
+    /**
+     * Drops the least recently used images until the pool is within its
+     * byte budget.
+     */
+    private void trim() {
+        Iterator iterator = this.images.keySet().iterator();
+        while (this.byteCount > this.maximumByteCount && iterator.hasNext()) {
+            ImageKey key = (ImageKey) iterator.next();
+            iterator.remove();
+            this.byteCount -= key.getByteCount();
+        }
+    }
+
+    /**
+     * The key for a pooled image.
+     */
+    private static class ImageKey {
+
+        /** The image width. */
+        int width;
+
+        /** The image height. */
+        int height;
+
+        /** The image type. */
+        int type;
+
+        /**
+         * Creates a new key.
+         * 
+         * @param width  the image width.
+         * @param height  the image height.
+         * @param type  the image type.
+         */
+        ImageKey(int width, int height, int type) {
+            this.width = width;
+            this.height = height;
+            this.type = type;
+        }
+
+        /**
+         * Returns the (approximate) number of bytes in an image with this 
+         * key.
+         * 
+         * @return The byte count.
+         */
+        long getByteCount() {
+            return 4L * this.width * this.height;
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         * 
+         * @param obj  the object (<code>null</code> permitted).
+         * 
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ImageKey)) {
+                return false;
+            }
+            ImageKey that = (ImageKey) obj;
+            return this.width == that.width && this.height == that.height 
+                    && this.type == that.type;
+        }
+
+        /**
+         * Returns a hash code.
+         * 
+         * @return A hash code.
+         */
+        public int hashCode() {
+            int result = this.width;
+            result = 37 * result + this.height;
+            result = 37 * result + this.type;
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,338 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * ChartRenderingJob.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.chart;
+
+import java.io.File;
+import java.io.OutputStream;
+
+import org.jfree.chart.encoders.ImageFormat;
+
+/**
+ * A request to draw a chart at a given size and write it in a given image 
+ * format to a file or an output stream, for use with the 
+ * {@link BatchChartRenderer} class.  Once the job has been processed, it 
+ * also records how long it spent waiting, being drawn and being encoded, 
+ * and the exception (if any) that stopped it from completing.
+ *
+ * @since 1.0.3
+ */
+public class ChartRenderingJob {
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /** The image width. */
+    private int width;
+
+    /** The image height. */
+    private int height;
+
+    /** The image format (see {@link ImageFormat}). */
+    private String format;
+
+    /** The destination file (<code>null</code> for a stream). */
+    private File file;
+
+    /** The destination stream (<code>null</code> for a file). */
+    private OutputStream stream;
+
+    /** The time the job was submitted. */
+    private long submitTime;
+
+    /** The time the drawing started. */
+    private long drawStartTime;
+
+    /** The time the drawing ended. */
+    private long drawEndTime;
+
+    /** The time the encoding started. */
+    private long encodeStartTime;
+
+    /** The time the job was completed (or failed). */
+    private long endTime;
+
+    /** The exception that stopped the job (if any). */
+    private Exception exception;
+
+    /** A flag that indicates the job has been completed (or failed). */
+    private boolean done;
+
+    /**
+     * Creates a job that writes a chart to a file.
+     * 
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param format  the image format, for example {@link ImageFormat#PNG}
+     *                (<code>null</code> not permitted).
+     * @param file  the file (<code>null</code> not permitted).
+     */
+    public ChartRenderingJob(JFreeChart chart, int width, int height, 
+                             String format, File file) {
+        this(chart, width, height, format);
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        this.file = file;
+    }
+
+    /**
+     * Creates a job that writes a chart to an output stream.  The stream is
+     * flushed, but not closed, when the job is completed.
+     * 
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param format  the image format, for example {@link ImageFormat#PNG}
+     *                (<code>null</code> not permitted).
+     * @param stream  the output stream (<code>null</code> not permitted).
+     */
+    public ChartRenderingJob(JFreeChart chart, int width, int height, 
+                             String format, OutputStream stream) {
+        this(chart, width, height, format);
+        if (stream == null) {
+            throw new IllegalArgumentException("Null 'stream' argument.");
+        }
+        this.stream = stream;
+    }
+
+    /**
+     * Checks and stores the common arguments.
+     * 
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param format  the image format (<code>null</code> not permitted).
+     */
+    private ChartRenderingJob(JFreeChart chart, int width, int height, 
+                              String format) {
+        if (chart == null) {
+            throw new IllegalArgumentException("Null 'chart' argument.");
+        }
+        if (format == null) {
+            throw new IllegalArgumentException("Null 'format' argument.");
+        }
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'width' > 0 and 'height' > 0.");
+        }
+        this.chart = chart;
+        this.width = width;
+        this.height = height;
+        this.format = format;
+    }
+
+    /**
+     * Returns the chart.
+     * 
+     * @return The chart (never <code>null</code>).
+     */
+    public JFreeChart getChart() {
+        return this.chart;
+    }
+
+    /**
+     * Returns the image width.
+     * 
+     * @return The width.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the image height.
+     * 
+     * @return The height.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Returns the image format.
+     * 
+     * @return The format (never <code>null</code>).
+     */
+    public String getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Returns the destination file.
+     * 
+     * @return The file (<code>null</code> if the job writes to a stream).
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns the destination stream.
+     * 
+     * @return The stream (<code>null</code> if the job writes to a file).
+     */
+    public OutputStream getStream() {
+        return this.stream;
+    }
+
+    /**
+     * Returns <code>true</code> if the job has been completed or has failed, 
+     * and <code>false</code> otherwise.
+     * 
+     * @return A boolean.
+     */
+    public synchronized boolean isDone() {
+        return this.done;
+    }
+
+    /**
+     * Waits until the job has been completed or has failed.
+     * 
+     * @throws InterruptedException if the thread is interrupted while 
+     *         waiting.
+     */
+    public synchronized void waitFor() throws InterruptedException {
+        while (!this.done) {
+            wait();
+        }
+    }
+
+    /**
+     * Returns the exception that stopped the job.
+     * 
+     * @return The exception (<code>null</code> if the job has not failed).
+     */
+    public synchronized Exception getException() {
+        return this.exception;
+    }
+
+    /**
+     * Returns the time (in milliseconds) the job spent waiting for a thread
+     * to draw it.
+     * 
+     * @return The time.
+     */
+    public synchronized long getQueueTime() {
+        return this.drawStartTime - this.submitTime;
+    }
+
+    /**
+     * Returns the time (in milliseconds) spent drawing the chart.
+     * 
+     * @return The time.
+     */
+    public synchronized long getDrawTime() {
+        return this.drawEndTime - this.drawStartTime;
+    }
+
+    /**
+     * Returns the time (in milliseconds) spent encoding and writing the 
+     * image.
+     * 
+     * @return The time.
+     */
+    public synchronized long getEncodeTime() {
+        return this.endTime - this.encodeStartTime;
+    }
+
+    /**
+     * Returns the time (in milliseconds) from the job being submitted to it
+     * being completed (or failing).
+     * 
+     * @return The latency.
+     */
+    public synchronized long getLatency() {
+        return this.endTime - this.submitTime;
+    }
+
+    /**
+     * Records that the job has been submitted.
+     */
+    synchronized void submitted() {
+        this.submitTime = System.currentTimeMillis();
+        this.drawStartTime = this.submitTime;
+        this.drawEndTime = this.submitTime;
+        this.encodeStartTime = this.submitTime;
+        this.endTime = this.submitTime;
+        this.exception = null;
+        this.done = false;
+    }
+
+    /**
+     * Records that the drawing has started.
+     */
+    synchronized void drawStarted() {
+        this.drawStartTime = System.currentTimeMillis();
+        this.drawEndTime = this.drawStartTime;
+        this.encodeStartTime = this.drawStartTime;
+    }
+
+    /**
+     * Records that the drawing has ended.
+     */
+    synchronized void drawEnded() {
+        this.drawEndTime = System.currentTimeMillis();
+        this.encodeStartTime = this.drawEndTime;
+    }
+
+    /**
+     * Records that the encoding has started.
+     */
+    synchronized void encodeStarted() {
+        this.encodeStartTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Records that the job is finished.
+     * 
+     * @param e  the exception that stopped the job (<code>null</code> if the
+     *           job was completed).
+     */
+    synchronized void finished(Exception e) {
+        this.endTime = System.currentTimeMillis();
+        this.exception = e;
+        this.done = true;
+        notifyAll();
+    }
+
+}
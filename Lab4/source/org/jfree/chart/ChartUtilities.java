@@ -67,6 +67,11 @@
  * 13-Jan-2005 : Renamed ImageMapUtil --> ImageMapUtilities, removed method
  *               writeImageMap(PrintWriter, String, ChartRenderingInfo) which 
  *               exists in ImageMapUtilities (DG);
+ * 17-Oct-2026 : Added an optional cache of encoded chart images (DG);
+ *               Added the encoder class to image cache keys (DG);
+ *               Added the option to use ChartRenderingContext (DG);
+ * 18-Oct-2026 : Moved the image cache lookup into writeCachedChart() (DG);
+ *               Release pooled images and dispose unpooled encoders (DG);
  *
  */
 
@@ -91,6 +96,8 @@ import org.jfree.chart.imagemap.ToolTipTagFragmentGenerator;
 import org.jfree.chart.imagemap.URLTagFragmentGenerator;
 
 import org.jfree.chart.encoders.EncoderUtil;
+import org.jfree.chart.encoders.ImageEncoder;
+import org.jfree.chart.encoders.ImageEncoderFactory;
 import org.jfree.chart.encoders.ImageFormat;
 
 /**
@@ -100,6 +107,238 @@ import org.jfree.chart.encoders.ImageFormat;
  */
 public abstract class ChartUtilities {
 
+    /** 
+     * The cache of encoded chart images (<code>null</code> if images are 
+     * not cached).
+     */
+    private static ChartImageCache imageCache;
+
+    /** 
+     * A flag that controls whether the chart writing methods use the 
+     * {@link ChartRenderingContext} for the current thread. 
+     */
+    private static boolean renderingContextEnabled;
+
+    /**
+     * Returns the cache of encoded chart images.
+     * 
+     * @return The cache (possibly <code>null</code>).
+     * 
+     * @see #setImageCache(ChartImageCache)
+     * 
+     * @since 1.0.3
+     */
+    public static ChartImageCache getImageCache() {
+        return imageCache;
+    }
+
+    /**
+     * Sets the cache of encoded chart images.  With a cache, the 
+     * writeChartAsPNG() and writeChartAsJPEG() methods (and the 
+     * saveChartAsPNG() and saveChartAsJPEG() methods that call them) reuse
+     * the encoded bytes from an earlier call for the same chart, size, format 
+     * and encoder options, provided that the chart has not changed in 
+     * between.  Calls that collect a {@link ChartRenderingInfo} always draw
+     * the chart.  By default, there is no cache.
+     * 
+     * @param cache  the cache (<code>null</code> permitted).
+     * 
+     * @since 1.0.3
+     */
+    public static void setImageCache(ChartImageCache cache) {
+        imageCache = cache;
+    }
+
+    /**
+     * Returns <code>true</code> if the writeChartAsPNG() and 
+     * writeChartAsJPEG() methods use a {@link ChartRenderingContext}, and 
+     * <code>false</code> otherwise.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.0.3
+     */
+    public static boolean isRenderingContextEnabled() {
+        return renderingContextEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether the writeChartAsPNG() and 
+     * writeChartAsJPEG() methods (and the saveChartAsPNG() and 
+     * saveChartAsJPEG() methods that call them) draw and encode charts using
+     * the {@link ChartRenderingContext} for the current thread, which reuses
+     * images and encoders from one call to the next.  Each thread keeps its 
+     * pooled images until {@link ChartRenderingContext#releaseThreadContext()}
+     * is called, so this is off by default.
+     * 
+     * @param enabled  the new flag value.
+     * 
+     * @since 1.0.3
+     */
+    public static void setRenderingContextEnabled(boolean enabled) {
+        renderingContextEnabled = enabled;
+    }
+
+    /**
+     * Draws a chart into an image, using the rendering context for the 
+     * current thread if that is enabled.
+     * 
+     * @param chart  the chart.
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param imageType  the image type.
+     * @param info  the chart rendering info (<code>null</code> permitted).
+     * 
+     * @return The image.
+     */
+    private static BufferedImage drawChart(JFreeChart chart, int width, 
+            int height, int imageType, ChartRenderingInfo info) {
+        if (renderingContextEnabled) {
+            return ChartRenderingContext.getThreadContext().drawChart(chart, 
+                    width, height, imageType, info);
+        }
+        return chart.createBufferedImage(width, height, imageType, info);
+    }
+
+    /**
+     * Hands an image returned by {@link #drawChart(JFreeChart, int, int, 
+     * int, ChartRenderingInfo)} back to the rendering context for the 
+     * current thread, if that is enabled, so that it can be reused.
+     * 
+     * @param image  the image.
+     */
+    private static void releaseImage(BufferedImage image) {
+        if (renderingContextEnabled) {
+            ChartRenderingContext.getThreadContext().releaseImage(image);
+        }
+    }
+
+    /**
+     * Returns an encoder with the default settings, from the rendering 
+     * context for the current thread if that is enabled.
+     * 
+     * @param format  the image format.
+     * 
+     * @return The encoder.
+     */
+    private static ImageEncoder getEncoder(String format) {
+        if (renderingContextEnabled) {
+            return ChartRenderingContext.getThreadContext().getEncoder(format);
+        }
+        return ImageEncoderFactory.newInstance(format);
+    }
+
+    /**
+     * Returns an encoder with the specified settings, from the rendering 
+     * context for the current thread if that is enabled.
+     * 
+     * @param format  the image format.
+     * @param quality  the quality.
+     * @param encodeAlpha  encode alpha?
+     * 
+     * @return The encoder.
+     */
+    private static ImageEncoder getEncoder(String format, float quality, 
+            boolean encodeAlpha) {
+        if (renderingContextEnabled) {
+            return ChartRenderingContext.getThreadContext().getEncoder(format,
+                    quality, encodeAlpha);
+        }
+        return ImageEncoderFactory.newInstance(format, quality, encodeAlpha);
+    }
+
+    /**
+     * Releases an encoder returned by one of the getEncoder() methods.  The
+     * encoders that belong to a rendering context are kept for reuse, and 
+     * the others are disposed.
+     * 
+     * @param encoder  the encoder.
+     */
+    private static void releaseEncoder(ImageEncoder encoder) {
+        if (!renderingContextEnabled) {
+            EncoderUtil.dispose(encoder);
+        }
+    }
+
+    /**
+     * Encodes an image to a byte array, using the rendering context for the
+     * current thread if that is enabled.
+     * 
+     * @param image  the image.
+     * @param encoder  the encoder.
+     * 
+     * @return The encoded image.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static byte[] encode(BufferedImage image, ImageEncoder encoder) 
+        throws IOException {
+        if (renderingContextEnabled) {
+            return ChartRenderingContext.getThreadContext().encode(image, 
+                    encoder);
+        }
+        return encoder.encode(image);
+    }
+
+    /**
+     * Creates the key for an entry in the image cache.  The key includes the 
+     * name of the encoder class, so that images encoded before a change of 
+     * encoder (see {@link ImageEncoderFactory}) are not reused.
+     * 
+     * @param format  the image format.
+     * @param options  the encoder options.
+     * 
+     * @return The key.
+     */
+    private static String createCacheKey(String format, String options) {
+        return format + ";encoder=" 
+                + ImageEncoderFactory.getImageEncoder(format) + options;
+    }
+
+    /**
+     * Writes a chart to an output stream using the image cache (see 
+     * {@link #setImageCache(ChartImageCache)}).  If the cache does not 
+     * contain a current image, the chart is drawn and encoded, and the 
+     * result is stored in the cache.  Nothing is written if there is no
+     * cache or if rendering info is requested (the cache does not store 
+     * rendering info).
+     * 
+     * @param out  the output stream.
+     * @param chart  the chart.
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  the chart rendering info (<code>null</code> permitted).
+     * @param imageType  the image type.
+     * @param format  the image format.
+     * @param options  the encoder options (part of the cache key).
+     * @param encoder  the encoder.
+     * 
+     * @return A boolean that indicates whether the chart was written.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static boolean writeCachedChart(OutputStream out, 
+            JFreeChart chart, int width, int height, ChartRenderingInfo info,
+            int imageType, String format, String options, 
+            ImageEncoder encoder) throws IOException {
+        ChartImageCache cache = imageCache;
+        if (cache == null || info != null) {
+            return false;
+        }
+        String key = createCacheKey(format, options);
+        byte[] data = cache.get(chart, width, height, key);
+        if (data == null) {
+            long[] versions = ChartImageCache.getVersions(chart);
+            BufferedImage image = drawChart(chart, width, height, imageType, 
+                    null);
+            data = encode(image, encoder);
+            releaseImage(image);
+            cache.put(chart, width, height, key, data, versions);
+        }
+        out.write(data);
+        return true;
+    }
+
     /**
      * Writes a chart to an output stream in PNG format.
      *
@@ -170,9 +409,21 @@ public abstract class ChartUtilities {
         if (chart == null) {
             throw new IllegalArgumentException("Null 'chart' argument.");
         }
-        BufferedImage bufferedImage 
-            = chart.createBufferedImage(width, height, info);
-        EncoderUtil.writeBufferedImage(bufferedImage, ImageFormat.PNG, out);
+        ImageEncoder encoder = getEncoder(ImageFormat.PNG);
+        try {
+            if (writeCachedChart(out, chart, width, height, info, 
+                    BufferedImage.TYPE_INT_RGB, ImageFormat.PNG, "", 
+                    encoder)) {
+                return;
+            }
+            BufferedImage bufferedImage = drawChart(chart, width, height, 
+                    BufferedImage.TYPE_INT_RGB, info);
+            encoder.encode(bufferedImage, out);
+            releaseImage(bufferedImage);
+        }
+        finally {
+            releaseEncoder(encoder);
+        }
     }
 
     /**
@@ -205,12 +456,23 @@ public abstract class ChartUtilities {
         if (chart == null) {
             throw new IllegalArgumentException("Null 'chart' argument.");
         }
-        BufferedImage chartImage = chart.createBufferedImage(
-            width, height, BufferedImage.TYPE_INT_ARGB, info
-        );
-        ChartUtilities.writeBufferedImageAsPNG(
-            out, chartImage, encodeAlpha, compression
-        );
+        ImageEncoder encoder = getEncoder(ImageFormat.PNG, compression, 
+                encodeAlpha);
+        try {
+            if (writeCachedChart(out, chart, width, height, info, 
+                    BufferedImage.TYPE_INT_ARGB, ImageFormat.PNG, ";alpha=" 
+                    + encodeAlpha + ";compression=" + compression, 
+                    encoder)) {
+                return;
+            }
+            BufferedImage chartImage = drawChart(chart, width, height, 
+                    BufferedImage.TYPE_INT_ARGB, info);
+            encoder.encode(chartImage, out);
+            releaseImage(chartImage);
+        }
+        finally {
+            releaseEncoder(encoder);
+        }
 
     }
 
@@ -438,8 +700,21 @@ public abstract class ChartUtilities {
         if (chart == null) {
             throw new IllegalArgumentException("Null 'chart' argument.");
         }
-        BufferedImage image = chart.createBufferedImage(width, height, info);
-        EncoderUtil.writeBufferedImage(image, ImageFormat.JPEG, out);
+        ImageEncoder encoder = getEncoder(ImageFormat.JPEG);
+        try {
+            if (writeCachedChart(out, chart, width, height, info, 
+                    BufferedImage.TYPE_INT_RGB, ImageFormat.JPEG, "", 
+                    encoder)) {
+                return;
+            }
+            BufferedImage image = drawChart(chart, width, height, 
+                    BufferedImage.TYPE_INT_RGB, info);
+            encoder.encode(image, out);
+            releaseImage(image);
+        }
+        finally {
+            releaseEncoder(encoder);
+        }
 
     }
 
@@ -469,8 +744,21 @@ public abstract class ChartUtilities {
         if (chart == null) {
             throw new IllegalArgumentException("Null 'chart' argument.");
         }
-        BufferedImage image = chart.createBufferedImage(width, height, info);
-        EncoderUtil.writeBufferedImage(image, ImageFormat.JPEG, out, quality);
+        ImageEncoder encoder = getEncoder(ImageFormat.JPEG, quality, false);
+        try {
+            if (writeCachedChart(out, chart, width, height, info, 
+                    BufferedImage.TYPE_INT_RGB, ImageFormat.JPEG, 
+                    ";quality=" + quality, encoder)) {
+                return;
+            }
+            BufferedImage image = drawChart(chart, width, height, 
+                    BufferedImage.TYPE_INT_RGB, info);
+            encoder.encode(image, out);
+            releaseImage(image);
+        }
+        finally {
+            releaseEncoder(encoder);
+        }
 
     }
 
@@ -118,6 +118,20 @@
  * 20-Apr-2005 : Modified to collect chart entities from titles and 
  *               subtitles (DG);
  * 26-Apr-2005 : Removed LOGGER (DG);
+ * 17-Oct-2026 : Added beginUpdate() and endUpdate() (DG);
+ * 17-Oct-2026 : Added a cache for the static layers of the chart (DG);
+ * 17-Oct-2026 : Added incremental scrolling of the data layer (DG);
+ * 18-Oct-2026 : Added a concurrent drawing mode (DG);
+ * 18-Oct-2026 : Only scroll the data layer when no dataset is rendered 
+ *               through a view (DG);
+ * 18-Oct-2026 : Documented the use of try/finally with beginUpdate(), and 
+ *               end the chart update even if the plot's listeners throw an
+ *               exception (DG);
+ * 18-Oct-2026 : Compare the domain range lengths for scrolling with a 
+ *               tolerance (DG);
+ * 18-Oct-2026 : Added getChangeCount() method (DG);
+ * 18-Oct-2026 : Use DomainViewAware.isViewed() to check whether the data 
+ *               layer can be scrolled, instead of creating a view (DG);
  *
  */
 
@@ -128,8 +142,11 @@ import java.awt.Color;
 import java.awt.Composite;
 import java.awt.Font;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
 import java.awt.Image;
 import java.awt.Paint;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.geom.AffineTransform;
@@ -152,6 +169,10 @@ import javax.swing.UIManager;
 import javax.swing.event.EventListenerList;
 
 import org.jfree.JCommon;
+import org.jfree.chart.axis.CyclicNumberAxis;
+import org.jfree.chart.axis.DateAxis;
+import org.jfree.chart.axis.SegmentedTimeline;
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.block.AbstractContentBlock;
 import org.jfree.chart.block.ArrangeParams;
 import org.jfree.chart.block.ArrangeResult;
@@ -164,6 +185,7 @@ import org.jfree.chart.block.LengthConstraintType;
 import org.jfree.chart.block.RectangleConstraint;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
 import org.jfree.chart.event.ChartProgressListener;
@@ -173,11 +195,15 @@ import org.jfree.chart.event.TitleChangeEvent;
 import org.jfree.chart.event.TitleChangeListener;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.title.LegendTitle;
 import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.title.Title;
 import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.xy.DomainViewAware;
+import org.jfree.data.xy.XYDataset;
 import org.jfree.ui.Align;
 import org.jfree.ui.HorizontalAlignment;
 import org.jfree.ui.RectangleEdge;
@@ -267,6 +293,79 @@ public class JFreeChart extends AbstractContentBlock
     /** Storage for registered progress listeners. */
     private transient EventListenerList progressListeners;
 
+    /** The number of nested {@link #beginUpdate()} calls still open. */
+    private transient int updateDepth;
+
+    /** A flag that records a change made during an update. */
+    private transient boolean updatePending;
+
+    /** The plot that was put into update mode by {@link #beginUpdate()}. */
+    private transient Plot updatePlot;
+
+    /** 
+     * The type of the changes made during an update (GENERAL if the changes 
+     * were of different types).
+     */
+    private transient ChartChangeEventType updateType;
+
+    /** 
+     * A flag that controls whether the parts of the chart that do not depend
+     * on the data are cached as an image between draws.
+     */
+    private boolean layerCacheEnabled;
+
+    /** 
+     * A counter that is incremented for every change event that is not a 
+     * dataset update. 
+     */
+    private transient long layerVersion;
+
+    /** A counter that is incremented for every change event. */
+    private transient long changeCount;
+
+    /** The cached image of the chart without the data layer. */
+    private transient BufferedImage staticLayer;
+
+    /** The key describing the state of the chart in the cached image. */
+    private transient List staticLayerKey;
+
+    /** The data area of the plot in the cached image. */
+    private transient Rectangle2D staticLayerDataArea;
+
+    /** 
+     * A flag that controls whether the data layer is scrolled rather than 
+     * redrawn when the domain axis range moves by a whole number of pixels.
+     */
+    private boolean incrementalScrolling;
+
+    /** The cached image of the data layer (used for scrolling). */
+    private transient BufferedImage dataLayer;
+
+    /** The key describing the state of the chart in the data layer image. */
+    private transient List dataLayerKey;
+
+    /** The domain axis range for the data layer image. */
+    private transient Range dataLayerRange;
+
+    /** 
+     * The width (in pixels) of the strip to the left of the new pixels that
+     * is redrawn after scrolling, so that the shapes and lines of items near 
+     * the edge are completed.
+     */
+    private static final int SCROLL_MARGIN = 16;
+
+    /** 
+     * A flag that controls whether the chart can be drawn by several threads
+     * at the same time.
+     */
+    private boolean concurrentDrawingEnabled;
+
+    /** 
+     * The lock held while the layout is calculated and the titles are drawn,
+     * in concurrent drawing mode.
+     */
+    private transient Object layoutLock;
+
     /** 
      * A flag that can be used to enable/disable notification of chart change 
      * events. 
@@ -340,6 +439,7 @@ public class JFreeChart extends AbstractContentBlock
         // create storage for listeners...
         this.progressListeners = new EventListenerList();
         this.changeListeners = new EventListenerList();
+        this.layoutLock = new Object();
         this.notify = true;  // default is to notify listeners when the 
                              // chart changes
 
@@ -819,6 +919,244 @@ public class JFreeChart extends AbstractContentBlock
         }
     }
 
+    /**
+     * Starts an update.  Until the matching call to {@link #endUpdate()}, 
+     * change events from the chart, its titles and its plot (including the 
+     * plot's axes, renderers and datasets) are held back, and a single 
+     * {@link ChartChangeEvent} is sent when the update ends (if anything 
+     * changed).  The plot is put into update mode too, so that it does not
+     * send a {@link PlotChangeEvent} for each change.  Updates can be 
+     * nested.
+     * <p>
+     * Each call must be matched by a call to {@link #endUpdate()}, even if 
+     * an exception is thrown, otherwise the chart never sends another 
+     * change event.  Use a <code>try/finally</code> block:
+     * <pre>
+     * chart.beginUpdate();
+     * try {
+     *     ...
+     * }
+     * finally {
+     *     chart.endUpdate();
+     * }
+     * </pre>
+     * 
+     * @see #endUpdate()
+     * 
+     * @since 1.0.3
+     */
+    public void beginUpdate() {
+        if (this.updateDepth == 0) {
+            this.updatePlot = this.plot;
+            if (this.updatePlot != null) {
+                this.updatePlot.beginUpdate();
+            }
+        }
+        this.updateDepth++;
+    }
+
+    /**
+     * Ends an update started with {@link #beginUpdate()}.  When the 
+     * outermost update ends, one {@link ChartChangeEvent} is sent to the 
+     * registered listeners if any change was made during the update.
+     * 
+     * @throws IllegalStateException if there is no update in progress.
+     * 
+     * @since 1.0.3
+     */
+    public void endUpdate() {
+        if (this.updateDepth == 0) {
+            throw new IllegalStateException("No update in progress.");
+        }
+        if (this.updateDepth == 1 && this.updatePlot != null) {
+            // the plot sends its consolidated event while the chart is still
+            // holding back events
+            Plot p = this.updatePlot;
+            this.updatePlot = null;
+            try {
+                p.endUpdate();
+            }
+            finally {
+                this.updateDepth--;
+            }
+        }
+        else {
+            this.updateDepth--;
+        }
+        if (this.updateDepth == 0 && this.updatePending) {
+            this.updatePending = false;
+            ChartChangeEvent event = new ChartChangeEvent(this);
+            event.setType(this.updateType);
+            notifyListeners(event);
+        }
+    }
+
+    /**
+     * Returns the number of changes made to the chart (including changes to
+     * its titles, plot, axes, renderers and datasets that are reported with 
+     * a change event).  The count is incremented even if the notify flag is
+     * cleared or an update is in progress (see {@link #beginUpdate()}), so 
+     * it can be used to find out whether a chart changed while it was being
+     * drawn.
+     * 
+     * @return The change count.
+     * 
+     * @since 1.0.3
+     */
+    public long getChangeCount() {
+        return this.changeCount;
+    }
+
+    /**
+     * Returns the flag that controls whether the parts of the chart that do
+     * not depend on the data are cached between draws.
+     * 
+     * @return A boolean.
+     * 
+     * @see #setLayerCacheEnabled(boolean)
+     * 
+     * @since 1.0.3
+     */
+    public boolean isLayerCacheEnabled() {
+        return this.layerCacheEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether the parts of the chart that do not
+     * depend on the data (the background, titles, legend, plot background, 
+     * gridlines and background markers) are cached as an image between 
+     * draws.  When the flag is set and only the data has changed since the 
+     * last draw, the chart copies the cached image and then draws the data 
+     * layer of the plot, which is much faster for charts with many titles or
+     * legend items that are updated frequently.  The cache is rebuilt 
+     * whenever the chart size, the range of any axis or any chart setting 
+     * changes.  At present the cache is only used for charts with an 
+     * {@link XYPlot}, when the chart is drawn to a device other than a 
+     * printer with a transform that is (at most) a translation.
+     * 
+     * @param enabled  the flag.
+     * 
+     * @since 1.0.3
+     */
+    public void setLayerCacheEnabled(boolean enabled) {
+        this.layerCacheEnabled = enabled;
+        if (!enabled) {
+            this.staticLayer = null;
+            this.staticLayerKey = null;
+            this.staticLayerDataArea = null;
+            this.dataLayer = null;
+            this.dataLayerKey = null;
+            this.dataLayerRange = null;
+        }
+    }
+
+    /**
+     * Returns the flag that controls whether the data layer is scrolled 
+     * rather than redrawn when the domain axis range moves.
+     * 
+     * @return A boolean.
+     * 
+     * @see #setIncrementalScrolling(boolean)
+     * 
+     * @since 1.0.3
+     */
+    public boolean isIncrementalScrolling() {
+        return this.incrementalScrolling;
+    }
+
+    /**
+     * Sets the flag that controls whether the data layer is scrolled rather
+     * than redrawn when the domain axis range moves.  This is intended for 
+     * strip charts (for example, a chart using a 
+     * {@link org.jfree.data.time.DynamicTimeSeriesCollection} or a 
+     * {@link org.jfree.data.time.TimeSeries} with a maximum item count, and a
+     * domain axis with a fixed auto-range), where each update appends items
+     * on the right and moves the axis range along by a fixed amount.  When 
+     * the domain axis range has the same length as in the previous drawing
+     * and has moved to the right by a whole number of pixels, the chart 
+     * shifts the existing pixels of the data layer to the left and renders 
+     * only the items in the new strip on the right.  Any other change (to 
+     * the chart size, the range axes, the series or any chart setting) 
+     * causes the data layer to be drawn in full.
+     * <P>
+     * Because the existing pixels are reused, the data layer will be 
+     * incorrect if items already on the chart are modified between 
+     * drawings.  This flag only has an effect when the layer cache is 
+     * enabled (see {@link #setLayerCacheEnabled(boolean)}).
+     * 
+     * @param flag  the flag.
+     * 
+     * @since 1.0.3
+     */
+    public void setIncrementalScrolling(boolean flag) {
+        this.incrementalScrolling = flag;
+        if (!flag) {
+            this.dataLayer = null;
+            this.dataLayerKey = null;
+            this.dataLayerRange = null;
+        }
+    }
+
+    /**
+     * Returns the flag that controls whether the chart can be drawn by 
+     * several threads at the same time.
+     * 
+     * @return A boolean.
+     * 
+     * @see #setConcurrentDrawingEnabled(boolean)
+     * 
+     * @since 1.0.3
+     */
+    public boolean isConcurrentDrawingEnabled() {
+        return this.concurrentDrawingEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether the chart can be drawn by several 
+     * threads at the same time (for example, to render one chart at several
+     * sizes for a web page, without cloning it).  Normally the layout of the
+     * chart is recorded in the titles and the plot as the chart is drawn, so
+     * only one thread at a time can draw a chart.  When this flag is set, the
+     * layout is calculated and the titles are drawn while holding a lock 
+     * belonging to the chart, then the plot is drawn outside the lock in the 
+     * area that was calculated for it, so the plots are drawn in parallel.
+     * The layer cache (see {@link #setLayerCacheEnabled(boolean)}) is not 
+     * used while this flag is set.
+     * <P>
+     * Only the {@link XYPlot} and {@link CategoryPlot} classes have been 
+     * checked for concurrent drawing: they keep the values that change 
+     * during a draw in the plot state and renderer state objects, and the 
+     * crosshair values are only updated by draws with an anchor point (the 
+     * concurrent draws have none).  Most of the renderers supplied with 
+     * JFreeChart do the same, but the following must not be drawn 
+     * concurrently:
+     * <ul>
+     * <li>the {@link org.jfree.chart.renderer.xy.CyclicXYItemRenderer} and
+     *     the {@link org.jfree.chart.axis.CyclicNumberAxis}, which record 
+     *     the cycle being drawn;</li>
+     * <li>the {@link org.jfree.chart.axis.PeriodAxis}, which updates its 
+     *     first and last periods as it is drawn;</li>
+     * <li>the combined plots 
+     *     ({@link org.jfree.chart.plot.CombinedDomainCategoryPlot},
+     *     {@link org.jfree.chart.plot.CombinedRangeCategoryPlot} and 
+     *     {@link org.jfree.chart.plot.CombinedRangeXYPlot}), which record 
+     *     the areas of their subplots;</li>
+     * <li>other plot types, and renderers (including third-party renderers)
+     *     that record anything in their own fields while they draw.</li>
+     * </ul>
+     * This flag does not make the chart safe to change: the chart settings, 
+     * the plot and renderer settings, and the datasets must not be changed 
+     * (and the datasets must not send change events) while the chart is 
+     * being drawn, so updates must be applied between draws.
+     * 
+     * @param enabled  the flag.
+     * 
+     * @since 1.0.3
+     */
+    public void setConcurrentDrawingEnabled(boolean enabled) {
+        this.concurrentDrawingEnabled = enabled;
+    }
+
     /**
      * Arranges the contents of the block, within the given constraints, and 
      * returns the block size.
@@ -915,6 +1253,31 @@ public class JFreeChart extends AbstractContentBlock
 
         g2.addRenderingHints(getRenderingHints());
 
+        if (isLayerCacheUsable(g2, chartArea)) {
+            drawLayers(g2, chartArea);
+        }
+        else {
+            drawChart(g2, chartArea);
+        }
+
+        g2.setClip(savedClip);
+
+        notifyListeners(
+            new ChartProgressEvent(
+                this, this, ChartProgressEvent.DRAWING_FINISHED, 100
+            )
+        );
+
+    }
+
+    /**
+     * Draws the chart background, titles and plot.
+     *
+     * @param g2  the graphics device.
+     * @param chartArea  the chart area.
+     */
+    private void drawChart(Graphics2D g2, Rectangle2D chartArea) {
+
         // draw the chart background...
         if (getBackgroundPaint() != null) {
             g2.setPaint(getBackgroundPaint());
@@ -941,16 +1304,355 @@ public class JFreeChart extends AbstractContentBlock
         }
 
         // draw the title and subtitles...
-        this.container.draw(g2, chartArea);
+        if (this.concurrentDrawingEnabled) {
+            drawBlocksConcurrently(g2, chartArea);
+        }
+        else {
+            this.container.draw(g2, chartArea);
+        }
 
-        g2.setClip(savedClip);
+    }
 
-        notifyListeners(
-            new ChartProgressEvent(
-                this, this, ChartProgressEvent.DRAWING_FINISHED, 100
-            )
+    /**
+     * Draws the titles and the plot in the same way as the layout container,
+     * except that the plot is drawn after the lock that protects the layout
+     * has been released (see {@link #setConcurrentDrawingEnabled(boolean)}).
+     *
+     * @param g2  the graphics device.
+     * @param chartArea  the chart area.
+     */
+    private void drawBlocksConcurrently(Graphics2D g2, Rectangle2D chartArea) {
+        Block plotBlock = null;
+        Rectangle2D plotArea = null;
+        AffineTransform saved = g2.getTransform();
+        synchronized (this.layoutLock) {
+            BlockContainer c = this.container;
+            c.arrange(
+                g2, new RectangleConstraint(
+                    chartArea.getWidth(), chartArea.getHeight()
+                ), new ArrangeParams()
+            );
+            Rectangle2D contentArea = (Rectangle2D) chartArea.clone();
+            contentArea = c.trimMargin(contentArea);
+            c.getBorder().draw(g2, contentArea);
+            contentArea = c.trimBorder(contentArea);
+            contentArea = c.trimPadding(contentArea);
+            g2.translate(contentArea.getX(), contentArea.getY());
+            Iterator iterator = c.getBlocks().iterator();
+            while (iterator.hasNext()) {
+                Block block = (Block) iterator.next();
+                if (block == this.plot) {
+                    plotBlock = block;
+                    plotArea = (Rectangle2D) block.getBounds().clone();
+                }
+                else {
+                    block.draw(g2, block.getBounds(), null);
+                }
+            }
+        }
+        if (plotBlock != null) {
+            plotBlock.draw(g2, plotArea, null);
+        }
+        g2.setTransform(saved);
+    }
+
+    /**
+     * Returns <code>true</code> if the layer cache can be used to draw the 
+     * chart on the specified graphics device.
+     *
+     * @param g2  the graphics device.
+     * @param chartArea  the chart area.
+     * 
+     * @return A boolean.
+     */
+    private boolean isLayerCacheUsable(Graphics2D g2, Rectangle2D chartArea) {
+        if (!this.layerCacheEnabled || this.concurrentDrawingEnabled 
+                || !(this.plot instanceof XYPlot)) {
+            return false;
+        }
+        if (chartArea.getWidth() < 1.0 || chartArea.getHeight() < 1.0) {
+            return false;
+        }
+        int type = g2.getTransform().getType();
+        if ((type & ~AffineTransform.TYPE_TRANSLATION) != 0) {
+            return false;
+        }
+        GraphicsConfiguration gc = g2.getDeviceConfiguration();
+        if (gc != null 
+                && gc.getDevice().getType() == GraphicsDevice.TYPE_PRINTER) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Draws the chart by copying the cached image of the static layer (which
+     * is redrawn first if it is out of date) and then drawing the data layer
+     * of the plot.
+     *
+     * @param g2  the graphics device.
+     * @param chartArea  the chart area.
+     */
+    private void drawLayers(Graphics2D g2, Rectangle2D chartArea) {
+        XYPlot xyPlot = (XYPlot) this.plot;
+        List key = createLayerKey(chartArea, xyPlot);
+        if (this.staticLayer == null || !key.equals(this.staticLayerKey)) {
+            int width = (int) Math.ceil(chartArea.getWidth());
+            int height = (int) Math.ceil(chartArea.getHeight());
+            int type = BufferedImage.TYPE_INT_ARGB_PRE;
+            Paint bg = getBackgroundPaint();
+            if (bg instanceof Color && ((Color) bg).getAlpha() == 255) {
+                // the background covers the image, so it can be opaque
+                type = BufferedImage.TYPE_INT_RGB;
+            }
+            BufferedImage image = this.staticLayer;
+            if (image == null || image.getWidth() != width 
+                    || image.getHeight() != height || image.getType() != type) {
+                image = new BufferedImage(width, height, type);
+            }
+            Graphics2D ig = image.createGraphics();
+            ig.setComposite(AlphaComposite.Clear);
+            ig.fillRect(0, 0, width, height);
+            ig.setComposite(AlphaComposite.SrcOver);
+            ig.setRenderingHints(g2.getRenderingHints());
+            ig.translate(-chartArea.getX(), -chartArea.getY());
+            ig.clip(chartArea);
+            xyPlot.setStaticLayerOnly(true);
+            try {
+                drawChart(ig, chartArea);
+            }
+            finally {
+                xyPlot.setStaticLayerOnly(false);
+                ig.dispose();
+            }
+            this.staticLayer = image;
+            this.staticLayerKey = key;
+            this.staticLayerDataArea = xyPlot.getLastDataArea();
+        }
+        g2.drawImage(
+            this.staticLayer, (int) chartArea.getX(), (int) chartArea.getY(), 
+            null
         );
+        if (this.staticLayerDataArea == null) {
+            return;
+        }
+        if (this.incrementalScrolling && isScrollable(xyPlot)) {
+            drawScrolledDataLayer(g2, xyPlot, this.staticLayerDataArea);
+        }
+        else {
+            this.dataLayer = null;
+            this.dataLayerKey = null;
+            this.dataLayerRange = null;
+            xyPlot.drawDataLayer(g2, this.staticLayerDataArea, null, null);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the data layer of the plot can be 
+     * scrolled, which requires a vertical plot with a single domain axis 
+     * that maps values linearly from left to right, and datasets whose items
+     * do not depend on the visible range.
+     *
+     * @param xyPlot  the plot.
+     * 
+     * @return A boolean.
+     */
+    private boolean isScrollable(XYPlot xyPlot) {
+        if (xyPlot.getOrientation() != PlotOrientation.VERTICAL 
+                || xyPlot.getDomainAxisCount() != 1) {
+            return false;
+        }
+        ValueAxis axis = xyPlot.getDomainAxis();
+        if (axis == null || axis.isInverted() 
+                || axis instanceof CyclicNumberAxis) {
+            return false;
+        }
+        if (axis instanceof DateAxis && ((DateAxis) axis).getTimeline() 
+                instanceof SegmentedTimeline) {
+            return false;
+        }
+        Range range = axis.getRange();
+        Rectangle2D area = this.staticLayerDataArea;
+        RectangleEdge edge = xyPlot.getDomainAxisEdge();
+        double x0 = axis.valueToJava2D(range.getLowerBound(), area, edge);
+        double x1 = axis.valueToJava2D(range.getUpperBound(), area, edge);
+        double xm = axis.valueToJava2D(range.getCentralValue(), area, edge);
+        if (!(x1 > x0) || Math.abs(xm - (x0 + x1) / 2.0) > 1.0E-6) {
+            // not a linear mapping
+            return false;
+        }
+        for (int i = 0; i < xyPlot.getDatasetCount(); i++) {
+            XYDataset dataset = xyPlot.getDataset(i);
+            // the items are only stable when the dataset is rendered 
+            // directly rather than through a view...
+            if (dataset instanceof DomainViewAware 
+                    && ((DomainViewAware) dataset).isViewed(range, x1 - x0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Draws the data layer from a cached image, scrolling the image and 
+     * rendering the new strip on the right if possible, and drawing the 
+     * data layer in full otherwise.
+     *
+     * @param g2  the graphics device.
+     * @param xyPlot  the plot.
+     * @param dataArea  the data area.
+     */
+    private void drawScrolledDataLayer(Graphics2D g2, XYPlot xyPlot, 
+                                       Rectangle2D dataArea) {
+        ValueAxis axis = xyPlot.getDomainAxis();
+        Range range = axis.getRange();
+        Rectangle bounds = dataArea.getBounds();
+        List key = createScrollKey(xyPlot, dataArea);
+
+        // work out how far the existing pixels can be moved...
+        int shift = 0;
+        if (this.dataLayer != null && key.equals(this.dataLayerKey) 
+                && Math.abs(range.getLength() 
+                - this.dataLayerRange.getLength()) 
+                <= range.getLength() * 1.0E-9) {
+            // the range length is compared with a tolerance, since the 
+            // bounds of a moving range are subject to rounding errors
+            double dx = (range.getLowerBound() 
+                    - this.dataLayerRange.getLowerBound()) 
+                    / range.getLength() * dataArea.getWidth();
+            long n = Math.round(dx);
+            if (Math.abs(dx - n) < 1.0E-6 && n > 0 && n < bounds.width) {
+                shift = (int) n;
+            }
+        }
 
+        BufferedImage image = this.dataLayer;
+        if (image == null || image.getWidth() != bounds.width 
+                || image.getHeight() != bounds.height) {
+            image = new BufferedImage(
+                bounds.width, bounds.height, BufferedImage.TYPE_INT_ARGB_PRE
+            );
+        }
+        Graphics2D ig = image.createGraphics();
+        ig.setRenderingHints(g2.getRenderingHints());
+        Range window = null;
+        int x0 = 0;
+        if (shift > 0) {
+            ig.setComposite(AlphaComposite.Src);
+            ig.copyArea(shift, 0, bounds.width - shift, bounds.height, -shift,
+                    0);
+            x0 = Math.max(0, bounds.width - shift - SCROLL_MARGIN);
+            double low = axis.java2DToValue(
+                bounds.x + x0 - SCROLL_MARGIN, dataArea, 
+                xyPlot.getDomainAxisEdge()
+            );
+            window = new Range(
+                Math.min(low, range.getUpperBound()), range.getUpperBound()
+            );
+        }
+        ig.setComposite(AlphaComposite.Clear);
+        ig.fillRect(x0, 0, bounds.width - x0, bounds.height);
+        ig.setComposite(AlphaComposite.SrcOver);
+        ig.translate(-bounds.x, -bounds.y);
+        ig.clip(new Rectangle(
+            bounds.x + x0, bounds.y, bounds.width - x0, bounds.height
+        ));
+        try {
+            xyPlot.drawDataLayer(ig, dataArea, null, null, window);
+        }
+        finally {
+            ig.dispose();
+        }
+        this.dataLayer = image;
+        this.dataLayerKey = key;
+        this.dataLayerRange = range;
+        g2.drawImage(image, bounds.x, bounds.y, null);
+    }
+
+    /**
+     * Creates a key that describes everything that the data layer depends 
+     * on apart from the domain axis range (and the data itself):  the data 
+     * area, the number of (non-dataset) changes to the chart, the ranges of
+     * the range axes and the series keys.
+     *
+     * @param xyPlot  the plot.
+     * @param dataArea  the data area.
+     * 
+     * @return The key.
+     */
+    private List createScrollKey(XYPlot xyPlot, Rectangle2D dataArea) {
+        List key = new ArrayList();
+        key.add(dataArea.clone());
+        key.add(new Long(this.layerVersion));
+        for (int i = 0; i < xyPlot.getRangeAxisCount(); i++) {
+            addAxisRange(key, xyPlot.getRangeAxis(i));
+        }
+        for (int i = 0; i < xyPlot.getDatasetCount(); i++) {
+            XYDataset dataset = xyPlot.getDataset(i);
+            if (dataset != null) {
+                // the 'no data' message is drawn in the data layer
+                key.add(Boolean.valueOf(
+                    DatasetUtilities.isEmptyOrNull(dataset))
+                );
+                int seriesCount = dataset.getSeriesCount();
+                key.add(new Integer(seriesCount));
+                for (int s = 0; s < seriesCount; s++) {
+                    key.add(dataset.getSeriesKey(s));
+                }
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Creates a key that describes everything that the static layer of the 
+     * chart depends on:  the size of the chart, the number of (non-dataset)
+     * changes to the chart, the ranges of the axes (which can change with the
+     * data when they are set to auto-range without a change event being sent)
+     * and the series keys (which appear in the legend).
+     *
+     * @param chartArea  the chart area.
+     * @param xyPlot  the plot.
+     * 
+     * @return The key.
+     */
+    private List createLayerKey(Rectangle2D chartArea, XYPlot xyPlot) {
+        List key = new ArrayList();
+        key.add(new Double(chartArea.getWidth()));
+        key.add(new Double(chartArea.getHeight()));
+        key.add(new Long(this.layerVersion));
+        for (int i = 0; i < xyPlot.getDomainAxisCount(); i++) {
+            addAxisRange(key, xyPlot.getDomainAxis(i));
+        }
+        for (int i = 0; i < xyPlot.getRangeAxisCount(); i++) {
+            addAxisRange(key, xyPlot.getRangeAxis(i));
+        }
+        for (int i = 0; i < xyPlot.getDatasetCount(); i++) {
+            XYDataset dataset = xyPlot.getDataset(i);
+            if (dataset != null) {
+                int seriesCount = dataset.getSeriesCount();
+                key.add(new Integer(seriesCount));
+                for (int s = 0; s < seriesCount; s++) {
+                    key.add(dataset.getSeriesKey(s));
+                }
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Adds the bounds of an axis range to a layer key.
+     *
+     * @param key  the key.
+     * @param axis  the axis (<code>null</code> permitted).
+     */
+    private static void addAxisRange(List key, ValueAxis axis) {
+        if (axis != null) {
+            // compare the bounds rather than the ranges, see Range.equals()
+            Range range = axis.getRange();
+            key.add(new Double(range.getLowerBound()));
+            key.add(new Double(range.getUpperBound()));
+        }
     }
 
     /**
@@ -1234,6 +1936,20 @@ public class JFreeChart extends AbstractContentBlock
      *               notification.
      */
     protected void notifyListeners(ChartChangeEvent event) {
+        this.changeCount++;
+        if (event.getType() != ChartChangeEventType.DATASET_UPDATED) {
+            this.layerVersion++;
+        }
+        if (this.updateDepth > 0) {
+            if (!this.updatePending) {
+                this.updateType = event.getType();
+            }
+            else if (this.updateType != event.getType()) {
+                this.updateType = ChartChangeEventType.GENERAL;
+            }
+            this.updatePending = true;
+            return;
+        }
         if (this.notify) {
             Object[] listeners = this.changeListeners.getListenerList();
             for (int i = listeners.length - 2; i >= 0; i -= 2) {
@@ -1373,6 +2089,7 @@ public class JFreeChart extends AbstractContentBlock
     private void readObject(ObjectInputStream stream) 
         throws IOException, ClassNotFoundException {
         stream.defaultReadObject();
+        this.layoutLock = new Object();
         this.progressListeners = new EventListenerList();
         this.changeListeners = new EventListenerList();
         this.renderingHints = new RenderingHints(
@@ -1445,7 +2162,18 @@ public class JFreeChart extends AbstractContentBlock
 
         chart.progressListeners = new EventListenerList();
         chart.changeListeners = new EventListenerList();
+        chart.layoutLock = new Object();
         //private boolean notify;
+        chart.updateDepth = 0;
+        chart.updatePending = false;
+        chart.updatePlot = null;
+        chart.updateType = null;
+        chart.staticLayer = null;
+        chart.staticLayerKey = null;
+        chart.staticLayerDataArea = null;
+        chart.dataLayer = null;
+        chart.dataLayerKey = null;
+        chart.dataLayerRange = null;
 
         return chart;
     }
@@ -36,6 +36,8 @@
  * Changes
  * -------
  * 01-Aug-2004 : Initial version (RA);
+ * 18-Oct-2026 : Dispose the encoders after use, and added dispose() 
+ *               method (DG);
  *
  */
 
@@ -65,7 +67,12 @@ public class EncoderUtil {
     public static byte[] encode(BufferedImage image, String format) 
         throws IOException {
         ImageEncoder imageEncoder = ImageEncoderFactory.newInstance(format);
-        return imageEncoder.encode(image);
+        try {
+            return imageEncoder.encode(image);
+        }
+        finally {
+            dispose(imageEncoder);
+        }
     }
 
     /**
@@ -82,7 +89,12 @@ public class EncoderUtil {
                                 boolean encodeAlpha) throws IOException {
         ImageEncoder imageEncoder 
             = ImageEncoderFactory.newInstance(format, encodeAlpha);
-        return imageEncoder.encode(image);
+        try {
+            return imageEncoder.encode(image);
+        }
+        finally {
+            dispose(imageEncoder);
+        }
     }
 
     /**
@@ -99,7 +111,12 @@ public class EncoderUtil {
                                 float quality) throws IOException {
         ImageEncoder imageEncoder 
             = ImageEncoderFactory.newInstance(format, quality);
-        return imageEncoder.encode(image);
+        try {
+            return imageEncoder.encode(image);
+        }
+        finally {
+            dispose(imageEncoder);
+        }
     }
 
     /**
@@ -119,7 +136,12 @@ public class EncoderUtil {
         throws IOException {
         ImageEncoder imageEncoder 
             = ImageEncoderFactory.newInstance(format, quality, encodeAlpha);
-        return imageEncoder.encode(image);
+        try {
+            return imageEncoder.encode(image);
+        }
+        finally {
+            dispose(imageEncoder);
+        }
     }
 
     /**
@@ -133,7 +155,12 @@ public class EncoderUtil {
     public static void writeBufferedImage(BufferedImage image, String format, 
         OutputStream outputStream) throws IOException {
         ImageEncoder imageEncoder = ImageEncoderFactory.newInstance(format);
-        imageEncoder.encode(image, outputStream);
+        try {
+            imageEncoder.encode(image, outputStream);
+        }
+        finally {
+            dispose(imageEncoder);
+        }
     }
 
     /**
@@ -150,7 +177,12 @@ public class EncoderUtil {
         OutputStream outputStream, float quality) throws IOException {
         ImageEncoder imageEncoder 
             = ImageEncoderFactory.newInstance(format, quality);
-        imageEncoder.encode(image, outputStream);
+        try {
+            imageEncoder.encode(image, outputStream);
+        }
+        finally {
+            dispose(imageEncoder);
+        }
     }
 
     /**
@@ -167,7 +199,12 @@ public class EncoderUtil {
         OutputStream outputStream, boolean encodeAlpha) throws IOException {
         ImageEncoder imageEncoder 
             = ImageEncoderFactory.newInstance(format, encodeAlpha);
-        imageEncoder.encode(image, outputStream);
+        try {
+            imageEncoder.encode(image, outputStream);
+        }
+        finally {
+            dispose(imageEncoder);
+        }
     }
 
     /**
@@ -187,7 +224,31 @@ public class EncoderUtil {
         throws IOException {
         ImageEncoder imageEncoder 
             = ImageEncoderFactory.newInstance(format, quality, encodeAlpha);
-        imageEncoder.encode(image, outputStream);
+        try {
+            imageEncoder.encode(image, outputStream);
+        }
+        finally {
+            dispose(imageEncoder);
+        }
+    }
+
+    /**
+     * Releases the resources held by an encoder (for the encoders that hold
+     * any, such as the {@link SunPNGEncoderAdapter} and 
+     * {@link SunJPEGEncoderAdapter} classes).  The encoder can still be used
+     * afterwards.
+     * 
+     * @param encoder  the encoder (<code>null</code> permitted).
+     * 
+     * @since 1.0.3
+     */
+    public static void dispose(ImageEncoder encoder) {
+        if (encoder instanceof SunPNGEncoderAdapter) {
+            ((SunPNGEncoderAdapter) encoder).dispose();
+        }
+        else if (encoder instanceof SunJPEGEncoderAdapter) {
+            ((SunJPEGEncoderAdapter) encoder).dispose();
+        }
     }
 
 }
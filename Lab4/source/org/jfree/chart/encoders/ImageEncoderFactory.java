@@ -40,6 +40,8 @@
  * 01-Nov-2005 : Now using ImageIO for JPEG encoding, so we no longer have a
  *               dependency on com.sun.* which isn't available on all 
  *               implementations (DG);
+ * 17-Oct-2026 : Added getImageEncoder() method, and a reference to the 
+ *               ParallelPNGEncoder (DG);
  *
  */
 
@@ -84,7 +86,12 @@ public class ImageEncoderFactory {
     }
 
     /**
-     * Used to set additional encoders or replace default ones.
+     * Used to set additional encoders or replace default ones.  For 
+     * example, to use the {@link ParallelPNGEncoder} for PNG images 
+     * (requires JRE 1.7 or later):
+     * <pre>
+     * ImageEncoderFactory.setImageEncoder(ImageFormat.PNG, 
+     *         "org.jfree.chart.encoders.ParallelPNGEncoder");</pre>
      *
      * @param format  The image format name.
      * @param imageEncoderClassName  The name of the ImageEncoder class.
@@ -94,6 +101,20 @@ public class ImageEncoderFactory {
         encoders.put(format, imageEncoderClassName);
     }
 
+    /**
+     * Returns the name of the ImageEncoder class used for an image format.
+     *
+     * @param format  The image format name.
+     * 
+     * @return The class name, or <code>null</code> if there is no encoder 
+     *         for the format.
+     *         
+     * @since 1.0.3
+     */
+    public static String getImageEncoder(String format) {
+        return (String) encoders.get(format);
+    }
+
     /**
      * Used to retrieve an ImageEncoder for a specific image format.
      *
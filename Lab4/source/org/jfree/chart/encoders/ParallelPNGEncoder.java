@@ -0,0 +1,941 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * ParallelPNGEncoder.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Use the sync flush option through reflection, with a serial
+ *               fallback for older JREs, and compress on the threads of the
+ *               shared WorkerPool (DG);
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.jfree.data.general.WorkerPool;
+
+/**
+ * A PNG encoder that writes the image to the output stream as it is 
+ * encoded, and compresses blocks of rows on several threads at once (the
+ * calling thread and the threads of the shared {@link WorkerPool}).
+ * <p>
+ * The image is split into blocks of rows.  Each block is filtered (the 
+ * filter for each row is chosen by trying all five PNG filters and keeping
+ * the one with the smallest sum of absolute differences) and compressed on 
+ * its own, using the tail of the previous block as the dictionary, and the 
+ * compressed blocks are joined into a single zlib stream in the same way as
+ * the <code>pigz</code> utility.  Each block is written out as an IDAT chunk
+ * as soon as it and the blocks before it are ready, so the encoded image is 
+ * never held in memory as a whole.
+ * <p>
+ * Joining the blocks needs the sync flush option of the 
+ * <code>Deflater</code> class, which was added in JRE 1.7.  On older JREs 
+ * (and with a thread count of one) the rows are filtered in the same way 
+ * but compressed as a single stream on the calling thread.  The encoder is
+ * not used by default.  To use it for all PNG output, call:
+ * <pre>
+ * ImageEncoderFactory.setImageEncoder(ImageFormat.PNG, 
+ *         "org.jfree.chart.encoders.ParallelPNGEncoder");</pre>
+ *
+ * @since 1.0.3
+ */
+public class ParallelPNGEncoder implements ImageEncoder {
+
+    /** The PNG file signature. */
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10, 
+            26, 10};
+
+    /** The target number of (filtered) bytes in a block. */
+    private static final int BLOCK_SIZE = 128 * 1024;
+
+    /** The maximum dictionary size for the deflate algorithm. */
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+
+    /** 
+     * The <code>Deflater.deflate(byte[], int, int, int)</code> method 
+     * (<code>null</code> before JRE 1.7). 
+     */
+    private static final Method DEFLATE;
+
+    /** The value of <code>Deflater.SYNC_FLUSH</code>. */
+    private static final Integer SYNC_FLUSH;
+
+    static {
+        Method method = null;
+        Integer flush = null;
+        try {
+            method = Deflater.class.getMethod("deflate", new Class[] {
+                    byte[].class, Integer.TYPE, Integer.TYPE, Integer.TYPE});
+            flush = (Integer) Deflater.class.getField("SYNC_FLUSH").get(null);
+        }
+        catch (Exception e) {
+            // an older JRE, the image will be compressed serially
+            method = null;
+            flush = null;
+        }
+        DEFLATE = method;
+        SYNC_FLUSH = flush;
+    }
+
+    /** The compression level (0 to 9). */
+    private int quality = 6;
+
+    /** A flag that controls whether or not alpha values are written. */
+    private boolean encodingAlpha = false;
+
+    /** The number of threads used to compress the image. */
+    private int threadCount;
+
+    /**
+     * Creates a new encoder that uses one thread for each processor.
+     */
+    public ParallelPNGEncoder() {
+        this.threadCount = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Returns the compression level:  0 for no compression, and values 1 
+     * through 9 for various levels of compression (1 is best speed, 9 is 
+     * best compression).  The default is 6.
+     *
+     * @return A float representing the quality.
+     */
+    public float getQuality() {
+        return this.quality;
+    }
+
+    /**
+     * Sets the compression level:  0 for no compression, and values 1 
+     * through 9 for various levels of compression (1 is best speed, 9 is 
+     * best compression).
+     *
+     * @param quality  the compression level (0 to 9).
+     */
+    public void setQuality(float quality) {
+        int level = (int) quality;
+        if (level < 0 || level > 9) {
+            throw new IllegalArgumentException(
+                    "Requires 'quality' in the range 0 to 9.");
+        }
+        this.quality = level;
+    }
+
+    /**
+     * Get whether the encoder should encode alpha transparency.
+     *
+     * @return Whether the encoder is encoding alpha transparency.
+     */
+    public boolean isEncodingAlpha() {
+        return this.encodingAlpha;
+    }
+
+    /**
+     * Set whether the encoder should encode alpha transparency (supported).
+     *
+     * @param encodingAlpha  Whether the encoder should encode alpha 
+     *                       transparency.
+     */
+    public void setEncodingAlpha(boolean encodingAlpha) {
+        this.encodingAlpha = encodingAlpha;
+    }
+
+    /**
+     * Returns the number of threads used to compress an image.
+     * 
+     * @return The thread count.
+     */
+    public int getThreadCount() {
+        return this.threadCount;
+    }
+
+    /**
+     * Sets the number of threads used to compress an image (including the 
+     * calling thread).  With one thread, or on a JRE older than 1.7, the 
+     * image is encoded on the calling thread.
+     * 
+     * @param count  the thread count (requires &gt; 0).
+     */
+    public void setThreadCount(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Requires 'count' > 0.");
+        }
+        this.threadCount = count;
+    }
+
+    /**
+     * Encodes an image in PNG format.
+     *
+     * @param bufferedImage  The image to be encoded.
+     * 
+     * @return The byte[] that is the encoded image.
+     * 
+     * @throws IOException
+     */
+    public byte[] encode(BufferedImage bufferedImage) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        encode(bufferedImage, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Encodes an image in PNG format and writes it to an OutputStream.
+     *
+     * @param bufferedImage  The image to be encoded.
+     * @param outputStream  The OutputStream to write the encoded image to.
+     * 
+     * @throws IOException
+     */
+    public void encode(BufferedImage bufferedImage, OutputStream outputStream) 
+        throws IOException {
+        if (bufferedImage == null) {
+            throw new IllegalArgumentException("Null 'image' argument.");
+        }
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Null 'outputStream' argument.");
+        }
+        Encoding encoding = new Encoding(bufferedImage, this.encodingAlpha, 
+                this.quality);
+        int workers = Math.min(this.threadCount, encoding.blockCount);
+
+        outputStream.write(SIGNATURE);
+        byte[] header = new byte[13];
+        putInt(header, 0, encoding.width);
+        putInt(header, 4, encoding.height);
+        header[8] = 8;
+        header[9] = (byte) (this.encodingAlpha ? 6 : 2);
+        writeChunk(outputStream, "IHDR", header, 0, header.length);
+
+        if (workers > 1 && DEFLATE != null) {
+            writeBlocks(encoding, workers, outputStream);
+        }
+        else {
+            writeRows(encoding, outputStream);
+        }
+        writeChunk(outputStream, "IEND", new byte[0], 0, 0);
+        outputStream.flush();
+    }
+
+    /**
+     * Writes the image data as a single zlib stream, compressed on the 
+     * calling thread.
+     * 
+     * @param encoding  the encoding state.
+     * @param out  the output stream.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeRows(Encoding encoding, OutputStream out) 
+            throws IOException {
+        Deflater deflater = new Deflater(this.quality);
+        try {
+            byte[] buffer = new byte[DICTIONARY_SIZE];
+            int length = 0;
+            for (int b = 0; b <= encoding.blockCount; b++) {
+                if (b < encoding.blockCount) {
+                    deflater.setInput(encoding.filter(b));
+                }
+                else {
+                    deflater.finish();
+                }
+                while (b < encoding.blockCount ? !deflater.needsInput() 
+                        : !deflater.finished()) {
+                    length += deflater.deflate(buffer, length, 
+                            buffer.length - length);
+                    if (length == buffer.length) {
+                        writeChunk(out, "IDAT", buffer, 0, length);
+                        length = 0;
+                    }
+                }
+            }
+            if (length > 0) {
+                writeChunk(out, "IDAT", buffer, 0, length);
+            }
+        }
+        finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Writes the image data as blocks that are compressed in parallel and 
+     * joined into a single zlib stream.
+     * 
+     * @param encoding  the encoding state.
+     * @param workers  the number of threads (including the calling thread).
+     * @param outputStream  the output stream.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeBlocks(Encoding encoding, int workers, 
+            OutputStream outputStream) throws IOException {
+        encoding.start(workers);
+        try {
+            Adler32 adler = new Adler32();
+            for (int b = 0; b < encoding.blockCount; b++) {
+                Block block = encoding.take(b);
+                adler.update(block.filtered, 0, block.filtered.length);
+                int start = 0;
+                int end = block.compressedLength;
+                byte[] data = block.compressed;
+                if (b == 0) {
+                    // the zlib header is written in front of the first block
+                    start = -2;
+                }
+                if (b == encoding.blockCount - 1) {
+                    // ...and the checksum after the last block
+                    end += 4;
+                }
+                byte[] chunk = new byte[end - start];
+                System.arraycopy(data, 0, chunk, -start, 
+                        block.compressedLength);
+                if (b == 0) {
+                    writeZlibHeader(chunk, this.quality);
+                }
+                if (b == encoding.blockCount - 1) {
+                    putInt(chunk, chunk.length - 4, (int) adler.getValue());
+                }
+                writeChunk(outputStream, "IDAT", chunk, 0, chunk.length);
+            }
+        }
+        finally {
+            encoding.stop();
+        }
+    }
+
+    /**
+     * Writes a two byte zlib header (deflate compression with a 32K window, 
+     * no preset dictionary) to the start of an array.
+     * 
+     * @param data  the array.
+     * @param level  the compression level (recorded in the header).
+     */
+    private static void writeZlibHeader(byte[] data, int level) {
+        int cmf = 0x78;
+        int flevel;
+        if (level <= 1) {
+            flevel = 0;
+        }
+        else if (level <= 5) {
+            flevel = 1;
+        }
+        else if (level == 6) {
+            flevel = 2;
+        }
+        else {
+            flevel = 3;
+        }
+        int flg = flevel << 6;
+        flg += 31 - ((cmf << 8) + flg) % 31;
+        data[0] = (byte) cmf;
+        data[1] = (byte) flg;
+    }
+
+    /**
+     * Writes a PNG chunk.
+     * 
+     * @param out  the output stream.
+     * @param type  the chunk type (four ASCII characters).
+     * @param data  the chunk data.
+     * @param offset  the offset of the chunk data in the array.
+     * @param length  the length of the chunk data.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeChunk(OutputStream out, String type, 
+            byte[] data, int offset, int length) throws IOException {
+        byte[] buffer = new byte[8];
+        putInt(buffer, 0, length);
+        for (int i = 0; i < 4; i++) {
+            buffer[4 + i] = (byte) type.charAt(i);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer, 4, 4);
+        crc.update(data, offset, length);
+        out.write(buffer);
+        out.write(data, offset, length);
+        putInt(buffer, 0, (int) crc.getValue());
+        out.write(buffer, 0, 4);
+    }
+
+    /**
+     * Writes an integer to an array in big-endian order.
+     * 
+     * @param data  the array.
+     * @param offset  the offset.
+     * @param value  the value.
+     */
+    private static void putInt(byte[] data, int offset, int value) {
+        data[offset] = (byte) (value >>> 24);
+        data[offset + 1] = (byte) (value >>> 16);
+        data[offset + 2] = (byte) (value >>> 8);
+        data[offset + 3] = (byte) value;
+    }
+
+    /**
+     * A filtered and compressed block of rows.
+     */
+    private static class Block {
+
+        /** The filtered rows (the uncompressed data for the block). */
+        byte[] filtered;
+
+        /** The compressed data. */
+        byte[] compressed;
+
+        /** The number of bytes of compressed data. */
+        int compressedLength;
+
+    }
+
+    /**
+     * The state for encoding one image, shared by the worker threads.
+     */
+    private static class Encoding implements Runnable {
+
+        /** The image. */
+        BufferedImage image;
+
+        /** A flag that controls whether or not alpha values are written. */
+        boolean alpha;
+
+        /** The compression level. */
+        int level;
+
+        /** The image width. */
+        int width;
+
+        /** The image height. */
+        int height;
+
+        /** The number of bytes per pixel. */
+        int bytesPerPixel;
+
+        /** The number of rows in each block. */
+        int rowsPerBlock;
+
+        /** The number of blocks. */
+        int blockCount;
+
+        /** The filtered blocks (<code>null</code> until filtered). */
+        byte[][] filtered;
+
+        /** The finished blocks, waiting to be written. */
+        Block[] blocks;
+
+        /** The index of the next block to be started. */
+        int nextBlock;
+
+        /** The number of blocks written so far. */
+        int written;
+
+        /** The maximum number of blocks started but not yet written. */
+        int window;
+
+        /** An exception thrown by a worker. */
+        RuntimeException failure;
+
+        /** A flag that tells the workers to stop. */
+        boolean stopped;
+
+        /** The pool that runs the workers. */
+        WorkerPool pool;
+
+        /** The number of times the encoding was queued in the pool. */
+        int queued;
+
+        /**
+         * Creates the state for encoding an image.
+         * 
+         * @param image  the image.
+         * @param alpha  write alpha values?
+         * @param level  the compression level.
+         */
+        Encoding(BufferedImage image, boolean alpha, int level) {
+            this.image = image;
+            this.alpha = alpha;
+            this.level = level;
+            this.width = image.getWidth();
+            this.height = image.getHeight();
+            this.bytesPerPixel = (alpha ? 4 : 3);
+            int rowLength = this.width * this.bytesPerPixel + 1;
+            this.rowsPerBlock = Math.max(1, BLOCK_SIZE / rowLength);
+            this.blockCount = (this.height + this.rowsPerBlock - 1) 
+                    / this.rowsPerBlock;
+            this.filtered = new byte[this.blockCount][];
+            this.blocks = new Block[this.blockCount];
+        }
+
+        /**
+         * Queues the workers in the shared pool.  The calling thread is one 
+         * of the workers (see {@link #take(int)}), so the encoding is queued
+         * once less than the number of workers.
+         * 
+         * @param workers  the number of threads (including the calling 
+         *                 thread).
+         */
+        void start(int workers) {
+            this.window = workers * 2;
+            this.pool = WorkerPool.getSharedInstance();
+            this.queued = workers - 1;
+            for (int i = 0; i < this.queued; i++) {
+                this.pool.execute(this);
+            }
+        }
+
+        /**
+         * Tells the workers to stop, and takes back the ones that the pool 
+         * has not started yet.
+         */
+        void stop() {
+            synchronized (this) {
+                this.stopped = true;
+                notifyAll();
+            }
+            for (int i = 0; i < this.queued; i++) {
+                this.pool.remove(this);
+            }
+        }
+
+        /**
+         * Returns a block, waiting for it to be finished by the workers.  If
+         * no worker has started the block yet (because the pool is busy), 
+         * the block is encoded on the calling thread.
+         * 
+         * @param b  the block index.
+         * 
+         * @return The block.
+         * 
+         * @throws IOException if the thread is interrupted.
+         */
+        Block take(int b) throws IOException {
+            Block result;
+            synchronized (this) {
+                while (this.blocks[b] == null && this.nextBlock > b) {
+                    if (this.failure != null) {
+                        throw this.failure;
+                    }
+                    try {
+                        wait();
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException("Interrupted while encoding.");
+                    }
+                }
+                result = this.blocks[b];
+                this.blocks[b] = null;
+                if (result == null) {
+                    this.nextBlock++;
+                }
+            }
+            if (result == null) {
+                try {
+                    result = encodeBlock(b);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while encoding.");
+                }
+            }
+            release(b);
+            return result;
+        }
+
+        /**
+         * Records that a block has been taken for writing, releasing the 
+         * previous block (which is no longer needed as a dictionary).
+         * 
+         * @param b  the block index.
+         */
+        synchronized void release(int b) {
+            if (b > 0) {
+                this.filtered[b - 1] = null;
+            }
+            this.written = b + 1;
+            notifyAll();
+        }
+
+        /**
+         * Encodes blocks until there are none left.
+         */
+        public void run() {
+            try {
+                while (true) {
+                    int b;
+                    synchronized (this) {
+                        while (!this.stopped && this.nextBlock < this.blockCount
+                                && this.nextBlock >= this.written 
+                                + this.window) {
+                            wait();
+                        }
+                        if (this.stopped || this.nextBlock >= this.blockCount) {
+                            return;
+                        }
+                        b = this.nextBlock++;
+                    }
+                    Block block = encodeBlock(b);
+                    synchronized (this) {
+                        this.blocks[b] = block;
+                        notifyAll();
+                    }
+                }
+            }
+            catch (InterruptedException e) {
+                fail(new RuntimeException("Interrupted while encoding."));
+            }
+            catch (RuntimeException e) {
+                fail(e);
+            }
+            catch (Error e) {
+                fail(new RuntimeException(e.toString()));
+                throw e;
+            }
+        }
+
+        /**
+         * Records a failure in a worker thread.
+         * 
+         * @param e  the exception.
+         */
+        private synchronized void fail(RuntimeException e) {
+            if (this.failure == null) {
+                this.failure = e;
+            }
+            this.stopped = true;
+            notifyAll();
+        }
+
+        /**
+         * Filters and compresses a block.  The compressed data for every block
+         * except the last ends with a sync flush (so that the blocks can be 
+         * joined), and the last block is finished.
+         * 
+         * @param b  the block index.
+         * 
+         * @return The block.
+         * 
+         * @throws InterruptedException if the thread is interrupted while 
+         *         waiting for the previous block to be filtered.
+         */
+        Block encodeBlock(int b) throws InterruptedException {
+            Block block = new Block();
+            block.filtered = filter(b);
+            byte[] dictionary = null;
+            synchronized (this) {
+                this.filtered[b] = block.filtered;
+                notifyAll();
+                if (b > 0) {
+                    while (this.filtered[b - 1] == null && !this.stopped) {
+                        wait();
+                    }
+                    dictionary = this.filtered[b - 1];
+                }
+            }
+            Deflater deflater = new Deflater(this.level, true);
+            try {
+                if (dictionary != null) {
+                    int length = Math.min(dictionary.length, DICTIONARY_SIZE);
+                    deflater.setDictionary(dictionary, 
+                            dictionary.length - length, length);
+                }
+                deflater.setInput(block.filtered);
+                boolean last = (b == this.blockCount - 1);
+                if (last) {
+                    deflater.finish();
+                }
+                byte[] out = new byte[block.filtered.length / 4 + 64];
+                int length = 0;
+                while (true) {
+                    if (length == out.length) {
+                        byte[] larger = new byte[out.length * 2];
+                        System.arraycopy(out, 0, larger, 0, length);
+                        out = larger;
+                    }
+                    int count;
+                    if (last) {
+                        count = deflater.deflate(out, length, 
+                                out.length - length);
+                    }
+                    else {
+                        count = syncFlush(deflater, out, length, 
+                                out.length - length);
+                    }
+                    length += count;
+                    if (last ? deflater.finished() : length < out.length) {
+                        break;
+                    }
+                }
+                block.compressed = out;
+                block.compressedLength = length;
+            }
+            finally {
+                deflater.end();
+            }
+            return block;
+        }
+
+        /**
+         * Compresses data with the sync flush option, through reflection.
+         * 
+         * @param deflater  the deflater.
+         * @param out  the array for the compressed data.
+         * @param offset  the offset in the array.
+         * @param length  the maximum number of bytes to write.
+         * 
+         * @return The number of bytes written.
+         */
+        private int syncFlush(Deflater deflater, byte[] out, int offset, 
+                int length) {
+            try {
+                Integer count = (Integer) DEFLATE.invoke(deflater, 
+                        new Object[] {out, new Integer(offset), 
+                        new Integer(length), SYNC_FLUSH});
+                return count.intValue();
+            }
+            catch (IllegalAccessException e) {
+                throw new RuntimeException(e.toString());
+            }
+            catch (InvocationTargetException e) {
+                throw new RuntimeException(e.getTargetException().toString());
+            }
+        }
+
+        /**
+         * Reads and filters the rows in a block.
+         * 
+         * @param b  the block index.
+         * 
+         * @return The filtered rows (each starts with the filter type).
+         */
+        byte[] filter(int b) {
+            int y0 = b * this.rowsPerBlock;
+            int y1 = Math.min(this.height, y0 + this.rowsPerBlock);
+            int rowBytes = this.width * this.bytesPerPixel;
+            byte[] result = new byte[(y1 - y0) * (rowBytes + 1)];
+            int[] pixels = new int[this.width];
+            byte[] previous = new byte[rowBytes];
+            byte[] current = new byte[rowBytes];
+            if (y0 > 0) {
+                readRow(y0 - 1, pixels, previous);
+            }
+            int offset = 0;
+            for (int y = y0; y < y1; y++) {
+                readRow(y, pixels, current);
+                int type = 0;
+                if (this.level > 0) {
+                    type = chooseFilter(current, previous, 
+                            this.bytesPerPixel);
+                }
+                result[offset] = (byte) type;
+                applyFilter(type, current, previous, this.bytesPerPixel, 
+                        result, offset + 1);
+                offset += rowBytes + 1;
+                byte[] temp = previous;
+                previous = current;
+                current = temp;
+            }
+            return result;
+        }
+
+        /**
+         * Reads a row of the image as RGB or RGBA bytes.  Images with packed
+         * integer pixels are read from the raster without going through the
+         * color model.
+         * 
+         * @param y  the row.
+         * @param pixels  an array for the ARGB pixel values.
+         * @param row  the array for the result.
+         */
+        private void readRow(int y, int[] pixels, byte[] row) {
+            int type = this.image.getType();
+            boolean opaque = false;
+            if (type == BufferedImage.TYPE_INT_RGB) {
+                Raster raster = this.image.getRaster();
+                raster.getDataElements(0, y, this.width, 1, pixels);
+                opaque = true;
+            }
+            else if (type == BufferedImage.TYPE_INT_ARGB) {
+                Raster raster = this.image.getRaster();
+                raster.getDataElements(0, y, this.width, 1, pixels);
+            }
+            else {
+                this.image.getRGB(0, y, this.width, 1, pixels, 0, this.width);
+            }
+            int i = 0;
+            for (int x = 0; x < this.width; x++) {
+                int p = pixels[x];
+                row[i++] = (byte) (p >> 16);
+                row[i++] = (byte) (p >> 8);
+                row[i++] = (byte) p;
+                if (this.alpha) {
+                    row[i++] = (byte) (opaque ? 0xFF : p >>> 24);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Returns the PNG filter type that gives the smallest sum of absolute 
+     * (signed) differences for a row.
+     * 
+     * @param row  the row.
+     * @param prior  the previous row (all zeros for the first row).
+     * @param bpp  the number of bytes per pixel.
+     * 
+     * @return The filter type (0 to 4).
+     */
+    private static int chooseFilter(byte[] row, byte[] prior, int bpp) {
+        long none = 0L;
+        long sub = 0L;
+        long up = 0L;
+        long average = 0L;
+        long paeth = 0L;
+        for (int i = 0; i < row.length; i++) {
+            int x = row[i] & 0xFF;
+            int a = (i >= bpp ? row[i - bpp] & 0xFF : 0);
+            int b = prior[i] & 0xFF;
+            int c = (i >= bpp ? prior[i - bpp] & 0xFF : 0);
+            none += cost(x);
+            sub += cost(x - a);
+            up += cost(x - b);
+            average += cost(x - ((a + b) >> 1));
+            paeth += cost(x - paethPredictor(a, b, c));
+        }
+        int result = 0;
+        long best = none;
+        if (sub < best) {
+            result = 1;
+            best = sub;
+        }
+        if (up < best) {
+            result = 2;
+            best = up;
+        }
+        if (average < best) {
+            result = 3;
+            best = average;
+        }
+        if (paeth < best) {
+            result = 4;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the absolute value of a filtered byte, treated as signed.
+     * 
+     * @param value  the filtered value (before truncation to a byte).
+     * 
+     * @return The cost.
+     */
+    private static int cost(int value) {
+        int v = value & 0xFF;
+        return (v < 128 ? v : 256 - v);
+    }
+
+    /**
+     * Filters a row.
+     * 
+     * @param type  the filter type (0 to 4).
+     * @param row  the row.
+     * @param prior  the previous row (all zeros for the first row).
+     * @param bpp  the number of bytes per pixel.
+     * @param out  the array for the result.
+     * @param offset  the offset for the result.
+     */
+    private static void applyFilter(int type, byte[] row, byte[] prior, 
+            int bpp, byte[] out, int offset) {
+        for (int i = 0; i < row.length; i++) {
+            int x = row[i] & 0xFF;
+            int a = (i >= bpp ? row[i - bpp] & 0xFF : 0);
+            int b = prior[i] & 0xFF;
+            int c = (i >= bpp ? prior[i - bpp] & 0xFF : 0);
+            int predictor;
+            switch (type) {
+                case 1:
+                    predictor = a;
+                    break;
+                case 2:
+                    predictor = b;
+                    break;
+                case 3:
+                    predictor = (a + b) >> 1;
+                    break;
+                case 4:
+                    predictor = paethPredictor(a, b, c);
+                    break;
+                default:
+                    predictor = 0;
+            }
+            out[offset + i] = (byte) (x - predictor);
+        }
+    }
+
+    /**
+     * Returns the Paeth predictor for a byte.
+     * 
+     * @param a  the byte to the left.
+     * @param b  the byte above.
+     * @param c  the byte above and to the left.
+     * 
+     * @return The predictor.
+     */
+    private static int paethPredictor(int a, int b, int c) {
+        int p = a + b - c;
+        int pa = Math.abs(p - a);
+        int pb = Math.abs(p - b);
+        int pc = Math.abs(p - c);
+        if (pa <= pb && pa <= pc) {
+            return a;
+        }
+        else if (pb <= pc) {
+            return b;
+        }
+        return c;
+    }
+
+}
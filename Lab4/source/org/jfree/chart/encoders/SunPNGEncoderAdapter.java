@@ -36,25 +36,39 @@
  * Changes
  * -------
  * 01-Aug-2004 : Initial version (RA);
+ * 17-Oct-2026 : Reuse the ImageWriter (DG);
+ * 18-Oct-2026 : Added dispose() method (DG);
  *
  */
 package org.jfree.chart.encoders;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
 import java.awt.image.BufferedImage;
 import java.io.OutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Iterator;
 
 /**
  * Adapter class for the Sun PNG Encoder.  The ImageEncoderFactory will only 
  * return a reference to this class by default if the library has been compiled 
  * under a JDK 1.4+ and is being run using a JDK 1.4+.
+ * <p>
+ * The adapter keeps the <code>ImageWriter</code> it uses, so an instance 
+ * should not be used by more than one thread at a time, and 
+ * {@link #dispose()} should be called when it is no longer needed (see 
+ * {@link EncoderUtil#dispose(ImageEncoder)}).
  *
  * @author Richard Atkinson
  */
 public class SunPNGEncoderAdapter implements ImageEncoder {
 
+    /** The image writer (created when first needed). */
+    private ImageWriter writer;
+
     /**
      * Get the quality of the image encoding (always 0.0).
      *
@@ -124,7 +138,38 @@ public class SunPNGEncoderAdapter implements ImageEncoder {
         if (outputStream == null) {
             throw new IllegalArgumentException("Null 'outputStream' argument.");
         }
-        ImageIO.write(bufferedImage, ImageFormat.PNG, outputStream);
+        if (this.writer == null) {
+            Iterator writers = ImageIO.getImageWritersByFormatName(
+                    ImageFormat.PNG);
+            if (!writers.hasNext()) {
+                throw new IOException("No PNG image writer available.");
+            }
+            this.writer = (ImageWriter) writers.next();
+        }
+        ImageOutputStream stream = ImageIO.createImageOutputStream(
+                outputStream);
+        try {
+            this.writer.setOutput(stream);
+            this.writer.write(bufferedImage);
+        }
+        finally {
+            this.writer.reset();
+            stream.close();
+        }
+    }
+
+    /**
+     * Disposes the <code>ImageWriter</code> held by the encoder, releasing 
+     * its resources.  The encoder can still be used afterwards (a new writer 
+     * is created when needed).
+     * 
+     * @since 1.0.3
+     */
+    public void dispose() {
+        if (this.writer != null) {
+            this.writer.dispose();
+            this.writer = null;
+        }
     }
 
 }
@@ -0,0 +1,149 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * EncoderUtilTests.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.chart.encoders.junit;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.encoders.EncoderUtil;
+import org.jfree.chart.encoders.ImageEncoder;
+import org.jfree.chart.encoders.SunJPEGEncoderAdapter;
+import org.jfree.chart.encoders.SunPNGEncoderAdapter;
+
+/**
+ * Tests for the {@link EncoderUtil} class.
+ */
+public class EncoderUtilTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(EncoderUtilTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public EncoderUtilTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates an image for testing.
+     * 
+     * @return The image.
+     */
+    private static BufferedImage createImage() {
+        BufferedImage image = new BufferedImage(40, 30, 
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setPaint(Color.white);
+        g2.fillRect(0, 0, 40, 30);
+        g2.setPaint(Color.blue);
+        g2.fillRect(10, 10, 20, 10);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Encodes an image, disposes the encoder and encodes the image again, 
+     * checking that both results can be decoded.
+     * 
+     * @param encoder  the encoder.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void checkDispose(ImageEncoder encoder) 
+            throws IOException {
+        BufferedImage image = createImage();
+        byte[] data1 = encoder.encode(image);
+        EncoderUtil.dispose(encoder);
+        byte[] data2 = encoder.encode(image);
+        EncoderUtil.dispose(encoder);
+        EncoderUtil.dispose(encoder);
+        BufferedImage decoded1 = ImageIO.read(new ByteArrayInputStream(data1));
+        BufferedImage decoded2 = ImageIO.read(new ByteArrayInputStream(data2));
+        assertEquals(40, decoded1.getWidth());
+        assertEquals(30, decoded2.getHeight());
+        assertEquals(decoded1.getRGB(20, 15), decoded2.getRGB(20, 15));
+    }
+
+    /**
+     * An adapter should still work after its writer has been disposed.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testDispose() throws IOException {
+        checkDispose(new SunPNGEncoderAdapter());
+        checkDispose(new SunJPEGEncoderAdapter());
+        EncoderUtil.dispose(null);
+    }
+
+    /**
+     * The encode() methods should produce images that can be decoded.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testEncode() throws IOException {
+        BufferedImage image = createImage();
+        byte[] data = EncoderUtil.encode(image, "png");
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(data));
+        assertEquals(image.getRGB(20, 15), decoded.getRGB(20, 15));
+        data = EncoderUtil.encode(image, "jpeg", 0.9f);
+        decoded = ImageIO.read(new ByteArrayInputStream(data));
+        assertEquals(40, decoded.getWidth());
+    }
+
+}
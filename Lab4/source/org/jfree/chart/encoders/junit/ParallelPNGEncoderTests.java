@@ -0,0 +1,197 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * ParallelPNGEncoderTests.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.chart.encoders.junit;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.encoders.ParallelPNGEncoder;
+
+/**
+ * Tests for the {@link ParallelPNGEncoder} class.
+ */
+public class ParallelPNGEncoderTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ParallelPNGEncoderTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ParallelPNGEncoderTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates an image for testing, large enough to be split into several
+     * blocks.
+     * 
+     * @param type  the image type.
+     * 
+     * @return The image.
+     */
+    private static BufferedImage createImage(int type) {
+        BufferedImage image = new BufferedImage(300, 1000, type);
+        Graphics2D g2 = image.createGraphics();
+        g2.setPaint(new GradientPaint(0.0f, 0.0f, Color.red, 300.0f, 1000.0f,
+                new Color(0, 0, 255, 64)));
+        g2.fillRect(0, 0, 300, 1000);
+        g2.setPaint(Color.black);
+        for (int i = 0; i < 100; i++) {
+            g2.drawLine(i * 3, 0, 300 - i * 3, 1000);
+        }
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Encodes an image, decodes it again and checks that the pixels are 
+     * unchanged.
+     * 
+     * @param encoder  the encoder.
+     * @param image  the image.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void checkRoundTrip(ParallelPNGEncoder encoder, 
+            BufferedImage image) throws IOException {
+        byte[] data = encoder.encode(image);
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(data));
+        assertEquals(image.getWidth(), decoded.getWidth());
+        assertEquals(image.getHeight(), decoded.getHeight());
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int expected = image.getRGB(x, y);
+                if (!encoder.isEncodingAlpha()) {
+                    expected = expected | 0xFF000000;
+                }
+                assertEquals(expected, decoded.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * An image encoded on several threads should decode to the same pixels.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testParallel() throws IOException {
+        ParallelPNGEncoder encoder = new ParallelPNGEncoder();
+        encoder.setThreadCount(4);
+        checkRoundTrip(encoder, createImage(BufferedImage.TYPE_INT_RGB));
+        encoder.setEncodingAlpha(true);
+        checkRoundTrip(encoder, createImage(BufferedImage.TYPE_INT_ARGB));
+    }
+
+    /**
+     * An image encoded on the calling thread should decode to the same 
+     * pixels.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testSerial() throws IOException {
+        ParallelPNGEncoder encoder = new ParallelPNGEncoder();
+        encoder.setThreadCount(1);
+        checkRoundTrip(encoder, createImage(BufferedImage.TYPE_INT_RGB));
+        encoder.setEncodingAlpha(true);
+        checkRoundTrip(encoder, createImage(BufferedImage.TYPE_INT_ARGB));
+    }
+
+    /**
+     * The lowest and highest compression levels should both work, and the
+     * output should be the same for any number of threads.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testQuality() throws IOException {
+        BufferedImage image = createImage(BufferedImage.TYPE_INT_RGB);
+        ParallelPNGEncoder encoder = new ParallelPNGEncoder();
+        encoder.setThreadCount(3);
+        encoder.setQuality(0.0f);
+        checkRoundTrip(encoder, image);
+        encoder.setQuality(9.0f);
+        checkRoundTrip(encoder, image);
+        byte[] data1 = encoder.encode(image);
+        byte[] data2 = encoder.encode(image);
+        assertTrue(Arrays.equals(data1, data2));
+        try {
+            encoder.setQuality(10.0f);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * A one pixel image has a single block.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testSmallImage() throws IOException {
+        BufferedImage image = new BufferedImage(1, 1, 
+                BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, 0x123456);
+        ParallelPNGEncoder encoder = new ParallelPNGEncoder();
+        encoder.setThreadCount(4);
+        checkRoundTrip(encoder, image);
+    }
+
+}
@@ -0,0 +1,777 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * CompactEntityCollection.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Added getEntityBounds() method (DG);
+ * 18-Oct-2026 : Keep non-rectangular entity areas, only defer the tool tips
+ *               and URLs for datasets with a modification version, and 
+ *               added hashCode() (DG);
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jfree.chart.labels.CategoryToolTipGenerator;
+import org.jfree.chart.labels.XYToolTipGenerator;
+import org.jfree.chart.renderer.category.CategoryItemRenderer;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.urls.CategoryURLGenerator;
+import org.jfree.chart.urls.XYURLGenerator;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.Versioned;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.util.ObjectUtilities;
+
+/**
+ * An entity collection that stores the entities for data items in a 
+ * compact form.  When a renderer adds an item entity to this collection 
+ * (see {@link #addItem(XYItemRenderer, XYDataset, int, int, Shape)} 
+ * and {@link #addItem(CategoryItemRenderer, CategoryDataset, int, int, 
+ * Shape)}) for a dataset that implements {@link Versioned}, only the 
+ * renderer, the dataset and its version, the series and item indices and 
+ * the bounds of the entity area are recorded, in primitive arrays.  No 
+ * entity, tool tip or URL is created until an entity is requested (for 
+ * example by <code>ImageMapUtilities</code> or <code>ChartPanel</code>), at
+ * which point an {@link XYItemEntity} or {@link CategoryItemEntity} is 
+ * created using the renderer's tool tip and URL generators.  Other entities 
+ * (including the item entities for datasets that do not implement 
+ * {@link Versioned}) are stored as they are.
+ * <p>
+ * A few points to note:
+ * <ul>
+ * <li>rectangular and elliptical areas are stored as their bounds, and 
+ *     other areas are kept as they are, so hit testing uses the same shapes
+ *     as the {@link StandardEntityCollection} class;</li>
+ * <li>a new entity object is returned each time an item entity is 
+ *     requested;</li>
+ * <li>if the dataset has changed (according to its version) since the 
+ *     entity was added, the entity is returned without a tool tip or URL, 
+ *     since the item may no longer exist;</li>
+ * <li>the renderer should not be changed while the collection is in 
+ *     use;</li>
+ * <li>a serialized collection is written as a 
+ *     {@link StandardEntityCollection} containing the created entities.</li>
+ * </ul>
+ *
+ * @since 1.0.3
+ */
+public class CompactEntityCollection implements EntityCollection, 
+                                                Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2290367390380407317L;
+
+    /** The initial capacity of the arrays. */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** The kind for an entity with a rectangular area. */
+    private static final byte RECTANGLE = 0;
+
+    /** The kind for an entity with an elliptical area. */
+    private static final byte ELLIPSE = 1;
+
+    /** The kind for an entity with an area of any other shape. */
+    private static final byte SHAPE = 2;
+
+    /** The number of entities in the collection. */
+    private int count;
+
+    /** 
+     * The source index for each entity, or <code>-1</code> for an entity 
+     * that is stored as an object. 
+     */
+    private int[] sourceIndex;
+
+    /** 
+     * The series (or row) index for each item entity (not used for other
+     * entities). 
+     */
+    private int[] series;
+
+    /** 
+     * The item (or column) index for each item entity, or the index into 
+     * the object list for other entities. 
+     */
+    private int[] item;
+
+    /** The x-coordinate of the bounds for each item entity. */
+    private float[] x;
+
+    /** The y-coordinate of the bounds for each item entity. */
+    private float[] y;
+
+    /** The width of the bounds for each item entity. */
+    private float[] width;
+
+    /** The height of the bounds for each item entity. */
+    private float[] height;
+
+    /** The kind of area for each item entity. */
+    private byte[] kind;
+
+    /** 
+     * The area for each item entity of kind <code>SHAPE</code> 
+     * (<code>null</code> for other entities). 
+     */
+    private Shape[] shapes;
+
+    /** The renderers that have added item entities. */
+    private List sourceRenderers;
+
+    /** The dataset used by each renderer in the renderer list. */
+    private List sourceDatasets;
+
+    /** 
+     * The version (a <code>Long</code>) of each dataset in the dataset list
+     * when its entities were added. 
+     */
+    private List sourceVersions;
+
+    /** The entities that are stored as objects. */
+    private List objects;
+
+    /**
+     * Constructs a new entity collection (initially empty).
+     */
+    public CompactEntityCollection() {
+        this.sourceRenderers = new java.util.ArrayList();
+        this.sourceDatasets = new java.util.ArrayList();
+        this.sourceVersions = new java.util.ArrayList();
+        this.objects = new java.util.ArrayList();
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the number of entities in the collection.
+     * 
+     * @return The entity count.
+     */
+    public int getEntityCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns a chart entity from the collection.  For an item entity, a new
+     * entity is created (including the tool tip and URL, if the renderer has
+     * generators for them and the dataset has not changed since the entity 
+     * was added).
+     * 
+     * @param index  the entity index.
+     * 
+     * @return The entity.
+     */
+    public ChartEntity getEntity(int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        int source = this.sourceIndex[index];
+        if (source < 0) {
+            return (ChartEntity) this.objects.get(this.item[index]);
+        }
+        Shape area = getArea(index);
+        int s = this.series[index];
+        int i = this.item[index];
+        Object renderer = this.sourceRenderers.get(source);
+        Object dataset = this.sourceDatasets.get(source);
+        long version = ((Long) this.sourceVersions.get(source)).longValue();
+        boolean current = (((Versioned) dataset).getVersion() == version);
+        if (renderer instanceof XYItemRenderer) {
+            if (!current) {
+                return new XYItemEntity(area, (XYDataset) dataset, s, i, 
+                        null, null);
+            }
+            return createEntity((XYItemRenderer) renderer, 
+                    (XYDataset) dataset, s, i, area);
+        }
+        else {
+            if (!current) {
+                return new CategoryItemEntity(area, null, null, 
+                        (CategoryDataset) dataset, s, null, i);
+            }
+            return createEntity((CategoryItemRenderer) renderer, 
+                    (CategoryDataset) dataset, s, i, area);
+        }
+    }
+
+    /**
+     * Returns the bounds of the area for an entity, without creating the 
+     * entity (and its tool tip and URL) if it is an item entity.  This is
+     * intended for code that only needs some of the entities, for example
+     * to skip the entities that are too small for an image map.
+     * 
+     * @param index  the entity index.
+     * 
+     * @return The bounds (a new rectangle, never <code>null</code>).
+     */
+    public Rectangle2D getEntityBounds(int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        if (this.sourceIndex[index] < 0) {
+            ChartEntity entity = (ChartEntity) this.objects.get(
+                    this.item[index]);
+            return entity.getArea().getBounds2D();
+        }
+        return new Rectangle2D.Float(this.x[index], this.y[index], 
+                this.width[index], this.height[index]);
+    }
+
+    /**
+     * Clears the entities.
+     */
+    public void clear() {
+        java.util.Arrays.fill(this.shapes, 0, this.count, null);
+        this.count = 0;
+        this.sourceRenderers.clear();
+        this.sourceDatasets.clear();
+        this.sourceVersions.clear();
+        this.objects.clear();
+    }
+
+    /**
+     * Adds an entity to the collection.  The entity is stored as it is.
+     *
+     * @param entity  the entity (<code>null</code> not permitted).
+     */
+    public void add(ChartEntity entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("Null 'entity' argument.");
+        }
+        int index = append();
+        this.sourceIndex[index] = -1;
+        this.item[index] = this.objects.size();
+        this.objects.add(entity);
+    }
+
+    /**
+     * Adds an entity for an item in an {@link XYDataset}.  If the dataset 
+     * does not implement {@link Versioned}, the entity (with its tool tip 
+     * and URL) is created straight away.
+     * 
+     * @param renderer  the renderer (<code>null</code> not permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param area  the entity area (<code>null</code> not permitted).
+     */
+    public void addItem(XYItemRenderer renderer, XYDataset dataset, 
+                        int series, int item, Shape area) {
+        if (renderer == null) {
+            throw new IllegalArgumentException("Null 'renderer' argument.");
+        }
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        if (area == null) {
+            throw new IllegalArgumentException("Null 'area' argument.");
+        }
+        if (!(dataset instanceof Versioned)) {
+            add(createEntity(renderer, dataset, series, item, area));
+            return;
+        }
+        addItem(getSourceIndex(renderer, (Versioned) dataset), series, item, 
+                area);
+    }
+
+    /**
+     * Adds an entity for an item in a {@link CategoryDataset}.  If the 
+     * dataset does not implement {@link Versioned}, the entity (with its 
+     * tool tip and URL) is created straight away.
+     * 
+     * @param renderer  the renderer (<code>null</code> not permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param row  the row index.
+     * @param column  the column index.
+     * @param area  the entity area (<code>null</code> not permitted).
+     */
+    public void addItem(CategoryItemRenderer renderer, CategoryDataset dataset,
+                        int row, int column, Shape area) {
+        if (renderer == null) {
+            throw new IllegalArgumentException("Null 'renderer' argument.");
+        }
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        if (area == null) {
+            throw new IllegalArgumentException("Null 'area' argument.");
+        }
+        if (!(dataset instanceof Versioned)) {
+            add(createEntity(renderer, dataset, row, column, area));
+            return;
+        }
+        addItem(getSourceIndex(renderer, (Versioned) dataset), row, column, 
+                area);
+    }
+
+    /**
+     * Adds all the entities from the specified collection.
+     * 
+     * @param collection  the collection of entities.
+     */
+    public void addAll(EntityCollection collection) {
+        if (collection instanceof CompactEntityCollection) {
+            CompactEntityCollection that = (CompactEntityCollection) collection;
+            for (int i = 0; i < that.count; i++) {
+                int source = that.sourceIndex[i];
+                if (source < 0) {
+                    add((ChartEntity) that.objects.get(that.item[i]));
+                }
+                else {
+                    int index = append();
+                    this.sourceIndex[index] = getSourceIndex(
+                            that.sourceRenderers.get(source), 
+                            that.sourceDatasets.get(source), 
+                            that.sourceVersions.get(source));
+                    this.series[index] = that.series[i];
+                    this.item[index] = that.item[i];
+                    this.x[index] = that.x[i];
+                    this.y[index] = that.y[i];
+                    this.width[index] = that.width[i];
+                    this.height[index] = that.height[i];
+                    this.kind[index] = that.kind[i];
+                    this.shapes[index] = that.shapes[i];
+                }
+            }
+        }
+        else {
+            Iterator iterator = collection.iterator();
+            while (iterator.hasNext()) {
+                add((ChartEntity) iterator.next());
+            }
+        }
+    }
+
+    /**
+     * Returns the last entity in the list with an area that encloses the 
+     * specified coordinates, or <code>null</code> if there is no such entity.
+     * Item entities are tested against their areas without creating an 
+     * entity object.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly <code>null</code>).
+     */
+    public ChartEntity getEntity(double x, double y) {
+        for (int i = this.count - 1; i >= 0; i--) {
+            if (this.sourceIndex[i] < 0) {
+                ChartEntity entity 
+                        = (ChartEntity) this.objects.get(this.item[i]);
+                if (entity.getArea().contains(x, y)) {
+                    return entity;
+                }
+            }
+            else {
+                double x0 = this.x[i];
+                double y0 = this.y[i];
+                if (x >= x0 && y >= y0 && x < x0 + this.width[i] 
+                        && y < y0 + this.height[i]
+                        && (this.kind[i] == RECTANGLE 
+                        || getArea(i).contains(x, y))) {
+                    return getEntity(i);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the entities in an unmodifiable collection.  Item entities are
+     * created as they are accessed.
+     * 
+     * @return The entities.
+     */
+    public Collection getEntities() {
+        return Collections.unmodifiableList(new EntityList());
+    }
+
+    /**
+     * Returns an iterator for the entities in the collection.
+     *
+     * @return An iterator.
+     */
+    public Iterator iterator() {
+        return getEntities().iterator();
+    }
+
+    /**
+     * Tests this object for equality with an arbitrary object.
+     * 
+     * @param obj  the object to test against (<code>null</code> permitted).
+     * 
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;   
+        }
+        if (!(obj instanceof CompactEntityCollection)) {
+            return false;
+        }
+        CompactEntityCollection that = (CompactEntityCollection) obj;
+        if (this.count != that.count) {
+            return false;
+        }
+        for (int i = 0; i < this.count; i++) {
+            if (!getEntity(i).equals(that.getEntity(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the collection, based on the tool tip and URL
+     * text of the entities.
+     * 
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = 193;
+        for (int i = 0; i < this.count; i++) {
+            ChartEntity entity = getEntity(i);
+            result = 37 * result 
+                    + ObjectUtilities.hashCode(entity.getToolTipText());
+            result = 37 * result 
+                    + ObjectUtilities.hashCode(entity.getURLText());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone.
+     * 
+     * @return A clone.
+     * 
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        CompactEntityCollection clone 
+                = (CompactEntityCollection) super.clone();
+        clone.sourceIndex = copy(this.sourceIndex);
+        clone.series = copy(this.series);
+        clone.item = copy(this.item);
+        clone.x = copy(this.x);
+        clone.y = copy(this.y);
+        clone.width = copy(this.width);
+        clone.height = copy(this.height);
+        clone.kind = new byte[this.kind.length];
+        System.arraycopy(this.kind, 0, clone.kind, 0, this.kind.length);
+        clone.shapes = new Shape[this.shapes.length];
+        System.arraycopy(this.shapes, 0, clone.shapes, 0, this.shapes.length);
+        clone.sourceRenderers = new java.util.ArrayList(this.sourceRenderers);
+        clone.sourceDatasets = new java.util.ArrayList(this.sourceDatasets);
+        clone.sourceVersions = new java.util.ArrayList(this.sourceVersions);
+        clone.objects = new java.util.ArrayList(this.objects);
+        return clone;
+    }
+
+    /**
+     * Replaces this collection, when it is serialized, with a 
+     * {@link StandardEntityCollection} containing the same entities (the 
+     * renderers and datasets are not serialized).
+     * 
+     * @return The replacement.
+     * 
+     * @throws ObjectStreamException never.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        StandardEntityCollection result = new StandardEntityCollection();
+        for (int i = 0; i < this.count; i++) {
+            result.add(getEntity(i));
+        }
+        return result;
+    }
+
+    /**
+     * Creates an entity for an item in an {@link XYDataset}.
+     * 
+     * @param renderer  the renderer.
+     * @param dataset  the dataset.
+     * @param s  the series index.
+     * @param i  the item index.
+     * @param area  the entity area.
+     * 
+     * @return The entity.
+     */
+    private static ChartEntity createEntity(XYItemRenderer renderer, 
+                                            XYDataset dataset, int s, int i,
+                                            Shape area) {
+        String tip = null;
+        XYToolTipGenerator generator = renderer.getToolTipGenerator(s, i);
+        if (generator != null) {
+            tip = generator.generateToolTip(dataset, s, i);
+        }
+        String url = null;
+        XYURLGenerator urlGenerator = renderer.getURLGenerator();
+        if (urlGenerator != null) {
+            url = urlGenerator.generateURL(dataset, s, i);
+        }
+        return new XYItemEntity(area, dataset, s, i, tip, url);
+    }
+
+    /**
+     * Creates an entity for an item in a {@link CategoryDataset}.
+     * 
+     * @param renderer  the renderer.
+     * @param dataset  the dataset.
+     * @param s  the row index.
+     * @param i  the column index.
+     * @param area  the entity area.
+     * 
+     * @return The entity.
+     */
+    private static ChartEntity createEntity(CategoryItemRenderer renderer, 
+                                            CategoryDataset dataset, int s, 
+                                            int i, Shape area) {
+        String tip = null;
+        CategoryToolTipGenerator generator 
+                = renderer.getToolTipGenerator(s, i);
+        if (generator != null) {
+            tip = generator.generateToolTip(dataset, s, i);
+        }
+        String url = null;
+        CategoryURLGenerator urlGenerator = renderer.getItemURLGenerator(s, i);
+        if (urlGenerator != null) {
+            url = urlGenerator.generateURL(dataset, s, i);
+        }
+        return new CategoryItemEntity(area, tip, url, dataset, s, 
+                dataset.getColumnKey(i), i);
+    }
+
+    /**
+     * Returns the area of an item entity.
+     * 
+     * @param index  the entity index.
+     * 
+     * @return The area.
+     */
+    private Shape getArea(int index) {
+        if (this.kind[index] == SHAPE) {
+            return this.shapes[index];
+        }
+        else if (this.kind[index] == ELLIPSE) {
+            return new Ellipse2D.Float(this.x[index], this.y[index], 
+                    this.width[index], this.height[index]);
+        }
+        return new Rectangle2D.Float(this.x[index], this.y[index], 
+                this.width[index], this.height[index]);
+    }
+
+    /**
+     * Records an item entity.
+     * 
+     * @param source  the source index.
+     * @param s  the series (or row) index.
+     * @param i  the item (or column) index.
+     * @param area  the entity area.
+     */
+    private void addItem(int source, int s, int i, Shape area) {
+        int index = append();
+        this.sourceIndex[index] = source;
+        this.series[index] = s;
+        this.item[index] = i;
+        Rectangle2D bounds = area.getBounds2D();
+        this.x[index] = (float) bounds.getX();
+        this.y[index] = (float) bounds.getY();
+        this.width[index] = (float) bounds.getWidth();
+        this.height[index] = (float) bounds.getHeight();
+        if (area instanceof Rectangle2D) {
+            this.kind[index] = RECTANGLE;
+        }
+        else if (area instanceof Ellipse2D) {
+            this.kind[index] = ELLIPSE;
+        }
+        else {
+            this.kind[index] = SHAPE;
+            this.shapes[index] = area;
+        }
+    }
+
+    /**
+     * Returns the index of a renderer and dataset pair in the source lists,
+     * adding the pair (and the current version of the dataset) if necessary.
+     * 
+     * @param renderer  the renderer.
+     * @param dataset  the dataset.
+     * 
+     * @return The source index.
+     */
+    private int getSourceIndex(Object renderer, Versioned dataset) {
+        return getSourceIndex(renderer, dataset, 
+                new Long(dataset.getVersion()));
+    }
+
+    /**
+     * Returns the index of a renderer, dataset and version in the source 
+     * lists, adding them if necessary.  Renderers add their entities in runs,
+     * so the last entry is checked first.
+     * 
+     * @param renderer  the renderer.
+     * @param dataset  the dataset.
+     * @param version  the dataset version.
+     * 
+     * @return The source index.
+     */
+    private int getSourceIndex(Object renderer, Object dataset, 
+                               Object version) {
+        for (int i = this.sourceRenderers.size() - 1; i >= 0; i--) {
+            if (this.sourceRenderers.get(i) == renderer 
+                    && this.sourceDatasets.get(i) == dataset
+                    && this.sourceVersions.get(i).equals(version)) {
+                return i;
+            }
+        }
+        this.sourceRenderers.add(renderer);
+        this.sourceDatasets.add(dataset);
+        this.sourceVersions.add(version);
+        return this.sourceRenderers.size() - 1;
+    }
+
+    /**
+     * Makes room for one more entity and returns its index.
+     * 
+     * @return The index for the new entity.
+     */
+    private int append() {
+        if (this.count == this.sourceIndex.length) {
+            int[] oldSourceIndex = this.sourceIndex;
+            int[] oldSeries = this.series;
+            int[] oldItem = this.item;
+            float[] oldX = this.x;
+            float[] oldY = this.y;
+            float[] oldWidth = this.width;
+            float[] oldHeight = this.height;
+            byte[] oldKind = this.kind;
+            Shape[] oldShapes = this.shapes;
+            allocate(this.count * 2);
+            System.arraycopy(oldSourceIndex, 0, this.sourceIndex, 0, 
+                    this.count);
+            System.arraycopy(oldSeries, 0, this.series, 0, this.count);
+            System.arraycopy(oldItem, 0, this.item, 0, this.count);
+            System.arraycopy(oldX, 0, this.x, 0, this.count);
+            System.arraycopy(oldY, 0, this.y, 0, this.count);
+            System.arraycopy(oldWidth, 0, this.width, 0, this.count);
+            System.arraycopy(oldHeight, 0, this.height, 0, this.count);
+            System.arraycopy(oldKind, 0, this.kind, 0, this.count);
+            System.arraycopy(oldShapes, 0, this.shapes, 0, this.count);
+        }
+        return this.count++;
+    }
+
+    /**
+     * Returns a copy of an array.
+     * 
+     * @param array  the array.
+     * 
+     * @return A copy of the array.
+     */
+    private static int[] copy(int[] array) {
+        int[] result = new int[array.length];
+        System.arraycopy(array, 0, result, 0, array.length);
+        return result;
+    }
+
+    /**
+     * Returns a copy of an array.
+     * 
+     * @param array  the array.
+     * 
+     * @return A copy of the array.
+     */
+    private static float[] copy(float[] array) {
+        float[] result = new float[array.length];
+        System.arraycopy(array, 0, result, 0, array.length);
+        return result;
+    }
+
+    /**
+     * Allocates new (empty) arrays.
+     * 
+     * @param capacity  the capacity.
+     */
+    private void allocate(int capacity) {
+        this.sourceIndex = new int[capacity];
+        this.series = new int[capacity];
+        this.item = new int[capacity];
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.width = new float[capacity];
+        this.height = new float[capacity];
+        this.kind = new byte[capacity];
+        this.shapes = new Shape[capacity];
+    }
+
+    /**
+     * A list view of the entities.
+     */
+    private class EntityList extends AbstractList {
+
+        /**
+         * Returns an entity.
+         * 
+         * @param index  the entity index.
+         * 
+         * @return The entity.
+         */
+        public Object get(int index) {
+            return getEntity(index);
+        }
+
+        /**
+         * Returns the entity count.
+         * 
+         * @return The entity count.
+         */
+        public int size() {
+            return getEntityCount();
+        }
+
+    }
+
+}
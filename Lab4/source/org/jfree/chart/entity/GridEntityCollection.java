@@ -0,0 +1,445 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * GridEntityCollection.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Added hashCode() (DG);
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Iterator;
+
+import org.jfree.util.ObjectUtilities;
+
+/**
+ * An entity collection that keeps a uniform grid index of the entity 
+ * bounds, so that {@link #getEntity(double, double)} only tests the entities
+ * that overlap the grid cell containing the point.  This makes hit testing 
+ * (for example, in <code>ChartPanel</code> on each mouse move) fast for 
+ * charts with a large number of entities.  As in the 
+ * {@link StandardEntityCollection} class, the last entity added that 
+ * contains the point is returned.
+ * <p>
+ * The index is built on the first call to <code>getEntity(x, y)</code> 
+ * after the collection is filled, and is updated as further entities are 
+ * added.  Entities that span a large number of cells (for example, the 
+ * entity for a whole plot area) are kept in a separate list rather than 
+ * in the grid.  The area of an entity should not be changed once the entity
+ * has been added to the collection.
+ *
+ * @since 1.0.3
+ */
+public class GridEntityCollection extends StandardEntityCollection {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4326735191372470361L;
+
+    /** The maximum number of cells along each side of the grid. */
+    private static final int MAX_CELLS_PER_SIDE = 512;
+
+    /** 
+     * The number of cells an entity can span before it is kept in the large
+     * entity list instead of the grid.
+     */
+    private static final int MAX_CELLS_PER_ENTITY = 16;
+
+    /** The number of entities in the index. */
+    private transient int indexedCount;
+
+    /** The entity count when the grid was laid out. */
+    private transient int layoutCount;
+
+    /** The x-coordinate of the left edge of the grid. */
+    private transient double gridX;
+
+    /** The y-coordinate of the top edge of the grid. */
+    private transient double gridY;
+
+    /** The width of each cell. */
+    private transient double cellWidth;
+
+    /** The height of each cell. */
+    private transient double cellHeight;
+
+    /** The number of columns in the grid. */
+    private transient int columns;
+
+    /** The number of rows in the grid. */
+    private transient int rows;
+
+    /** 
+     * The entity indices for each cell, in ascending order 
+     * (<code>null</code> if the grid has not been built).
+     */
+    private transient int[][] cells;
+
+    /** The number of entity indices in each cell. */
+    private transient int[] cellSizes;
+
+    /** The indices of the large entities, in ascending order. */
+    private transient int[] large;
+
+    /** The number of large entities. */
+    private transient int largeCount;
+
+    /**
+     * Constructs a new entity collection (initially empty).
+     */
+    public GridEntityCollection() {
+        super();
+    }
+
+    /**
+     * Clears the entities.
+     */
+    public void clear() {
+        super.clear();
+        discardIndex();
+    }
+
+    /**
+     * Adds all the entities from the specified collection.
+     * 
+     * @param collection  the collection of entities.
+     */
+    public void addAll(EntityCollection collection) {
+        if (collection == null) {
+            throw new IllegalArgumentException("Null 'collection' argument.");
+        }
+        Iterator iterator = collection.iterator();
+        while (iterator.hasNext()) {
+            add((ChartEntity) iterator.next());
+        }
+    }
+
+    /**
+     * Returns the last entity in the list with an area that encloses the 
+     * specified coordinates, or <code>null</code> if there is no such entity.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly <code>null</code>).
+     */
+    public ChartEntity getEntity(double x, double y) {
+        updateIndex();
+        if (this.cells == null || Double.isNaN(x) || Double.isNaN(y)) {
+            return super.getEntity(x, y);
+        }
+        int best = -1;
+        int cell = row(y) * this.columns + column(x);
+        int[] indices = this.cells[cell];
+        for (int i = this.cellSizes[cell] - 1; i >= 0; i--) {
+            if (contains(indices[i], x, y)) {
+                best = indices[i];
+                break;
+            }
+        }
+        for (int i = this.largeCount - 1; i >= 0 && this.large[i] > best; 
+                i--) {
+            if (contains(this.large[i], x, y)) {
+                best = this.large[i];
+                break;
+            }
+        }
+        return (best >= 0 ? getEntity(best) : null);
+    }
+
+    /**
+     * Returns an iterator for the entities in the collection.  The iterator 
+     * does not support removal, since that would leave the index out of 
+     * date.
+     *
+     * @return An iterator.
+     */
+    public Iterator iterator() {
+        return getEntities().iterator();
+    }
+
+    /**
+     * Tests this object for equality with an arbitrary object.
+     * 
+     * @param obj  the object to test against (<code>null</code> permitted).
+     * 
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;   
+        }
+        if (!(obj instanceof GridEntityCollection)) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Returns a hash code for the collection, based on the tool tip and URL
+     * text of the entities (the areas are not used, since most 
+     * <code>Shape</code> implementations do not override 
+     * <code>hashCode()</code>).
+     * 
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = 193;
+        Iterator iterator = iterator();
+        while (iterator.hasNext()) {
+            ChartEntity entity = (ChartEntity) iterator.next();
+            result = 37 * result 
+                    + ObjectUtilities.hashCode(entity.getToolTipText());
+            result = 37 * result 
+                    + ObjectUtilities.hashCode(entity.getURLText());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone.  The clone builds its own index when it is first 
+     * queried.
+     * 
+     * @return A clone.
+     * 
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        GridEntityCollection clone = (GridEntityCollection) super.clone();
+        clone.discardIndex();
+        return clone;
+    }
+
+    /**
+     * Returns <code>true</code> if the area of an entity contains a point.
+     * 
+     * @param index  the entity index.
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     * 
+     * @return A boolean.
+     */
+    private boolean contains(int index, double x, double y) {
+        return getEntity(index).getArea().contains(x, y);
+    }
+
+    /**
+     * Discards the index.
+     */
+    private void discardIndex() {
+        this.cells = null;
+        this.cellSizes = null;
+        this.large = null;
+        this.largeCount = 0;
+        this.indexedCount = 0;
+        this.layoutCount = 0;
+    }
+
+    /**
+     * Brings the index up to date, laying out a new grid if there is no grid
+     * yet or the number of entities has more than doubled since the grid was
+     * laid out.
+     */
+    private void updateIndex() {
+        int count = getEntityCount();
+        if (count < this.indexedCount) {
+            // the entities were changed behind our back
+            discardIndex();
+        }
+        if (this.cells == null || count > 2 * this.layoutCount) {
+            layoutGrid();
+        }
+        for (int i = this.indexedCount; i < count; i++) {
+            insert(i);
+        }
+        this.indexedCount = count;
+    }
+
+    /**
+     * Lays out an empty grid that covers the bounds of the current entities,
+     * with roughly one cell per entity (but with cells no smaller than the 
+     * average entity, so that most entities fall in just a few cells).
+     */
+    private void layoutGrid() {
+        int count = getEntityCount();
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        double totalWidth = 0.0;
+        double totalHeight = 0.0;
+        int finiteCount = 0;
+        for (int i = 0; i < count; i++) {
+            Rectangle2D b = getEntity(i).getArea().getBounds2D();
+            if (isFinite(b)) {
+                totalWidth += b.getWidth();
+                totalHeight += b.getHeight();
+                finiteCount++;
+                minX = Math.min(minX, b.getMinX());
+                minY = Math.min(minY, b.getMinY());
+                maxX = Math.max(maxX, b.getMaxX());
+                maxY = Math.max(maxY, b.getMaxY());
+            }
+        }
+        if (minX > maxX) {
+            minX = 0.0;
+            minY = 0.0;
+            maxX = 1.0;
+            maxY = 1.0;
+        }
+        int side = (int) Math.ceil(Math.sqrt(Math.max(count, 1)));
+        side = Math.min(side, MAX_CELLS_PER_SIDE);
+        double w = (maxX - minX) / side;
+        double h = (maxY - minY) / side;
+        if (finiteCount > 0) {
+            w = Math.max(w, totalWidth / finiteCount);
+            h = Math.max(h, totalHeight / finiteCount);
+        }
+        this.cellWidth = Math.max(w, Double.MIN_VALUE);
+        this.cellHeight = Math.max(h, Double.MIN_VALUE);
+        this.gridX = minX;
+        this.gridY = minY;
+        this.columns = (int) Math.max(1, Math.min(side, 
+                Math.ceil((maxX - minX) / this.cellWidth)));
+        this.rows = (int) Math.max(1, Math.min(side, 
+                Math.ceil((maxY - minY) / this.cellHeight)));
+        this.cells = new int[this.columns * this.rows][];
+        this.cellSizes = new int[this.columns * this.rows];
+        this.large = new int[16];
+        this.largeCount = 0;
+        this.indexedCount = 0;
+        this.layoutCount = count;
+    }
+
+    /**
+     * Adds an entity to the index.
+     * 
+     * @param index  the entity index.
+     */
+    private void insert(int index) {
+        Rectangle2D b = getEntity(index).getArea().getBounds2D();
+        if (!isFinite(b)) {
+            addLarge(index);
+            return;
+        }
+        int c0 = column(b.getMinX());
+        int c1 = column(b.getMaxX());
+        int r0 = row(b.getMinY());
+        int r1 = row(b.getMaxY());
+        if ((c1 - c0 + 1) * (r1 - r0 + 1) > MAX_CELLS_PER_ENTITY) {
+            addLarge(index);
+            return;
+        }
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * this.columns + c;
+                int[] indices = this.cells[cell];
+                int size = this.cellSizes[cell];
+                if (indices == null) {
+                    indices = new int[4];
+                    this.cells[cell] = indices;
+                }
+                else if (size == indices.length) {
+                    int[] larger = new int[size * 2];
+                    System.arraycopy(indices, 0, larger, 0, size);
+                    indices = larger;
+                    this.cells[cell] = indices;
+                }
+                indices[size] = index;
+                this.cellSizes[cell] = size + 1;
+            }
+        }
+    }
+
+    /**
+     * Adds an entity to the large entity list.
+     * 
+     * @param index  the entity index.
+     */
+    private void addLarge(int index) {
+        if (this.largeCount == this.large.length) {
+            int[] larger = new int[this.largeCount * 2];
+            System.arraycopy(this.large, 0, larger, 0, this.largeCount);
+            this.large = larger;
+        }
+        this.large[this.largeCount++] = index;
+    }
+
+    /**
+     * Returns the grid column for an x-coordinate.  Coordinates outside the
+     * grid are mapped to the nearest column.
+     * 
+     * @param x  the x-coordinate.
+     * 
+     * @return The column index.
+     */
+    private int column(double x) {
+        double c = Math.floor((x - this.gridX) / this.cellWidth);
+        return (int) Math.max(0.0, Math.min(this.columns - 1, c));
+    }
+
+    /**
+     * Returns the grid row for a y-coordinate.  Coordinates outside the grid
+     * are mapped to the nearest row.
+     * 
+     * @param y  the y-coordinate.
+     * 
+     * @return The row index.
+     */
+    private int row(double y) {
+        double r = Math.floor((y - this.gridY) / this.cellHeight);
+        return (int) Math.max(0.0, Math.min(this.rows - 1, r));
+    }
+
+    /**
+     * Returns <code>true</code> if all the coordinates of a rectangle are
+     * finite.
+     * 
+     * @param r  the rectangle.
+     * 
+     * @return A boolean.
+     */
+    private static boolean isFinite(Rectangle2D r) {
+        return !Double.isNaN(r.getX()) && !Double.isInfinite(r.getX())
+                && !Double.isNaN(r.getY()) && !Double.isInfinite(r.getY())
+                && !Double.isNaN(r.getWidth()) 
+                && !Double.isInfinite(r.getWidth())
+                && !Double.isNaN(r.getHeight()) 
+                && !Double.isInfinite(r.getHeight());
+    }
+
+}
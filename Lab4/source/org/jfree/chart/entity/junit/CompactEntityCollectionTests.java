@@ -0,0 +1,338 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ---------------------------------
+ * CompactEntityCollectionTests.java
+ * ---------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.chart.entity.junit;
+
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.GeneralPath;
+import java.awt.geom.Rectangle2D;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.entity.CategoryItemEntity;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.CompactEntityCollection;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.labels.StandardCategoryToolTipGenerator;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.renderer.category.BarRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetGroup;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link CompactEntityCollection} class.
+ */
+public class CompactEntityCollectionTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(CompactEntityCollectionTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public CompactEntityCollectionTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a renderer with a tool tip generator.
+     * 
+     * @return The renderer.
+     */
+    private XYLineAndShapeRenderer createRenderer() {
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        renderer.setToolTipGenerator(new StandardXYToolTipGenerator());
+        return renderer;
+    }
+
+    /**
+     * Creates a dataset with one series of three items.
+     * 
+     * @return The dataset.
+     */
+    private XYSeriesCollection createDataset() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 10.0);
+        series.add(2.0, 20.0);
+        series.add(3.0, 30.0);
+        return new XYSeriesCollection(series);
+    }
+
+    /**
+     * Hit testing uses the entity areas, not just their bounds.
+     */
+    public void testGetEntityShapes() {
+        CompactEntityCollection c = new CompactEntityCollection();
+        XYLineAndShapeRenderer r = createRenderer();
+        XYSeriesCollection d = createDataset();
+        c.addItem(r, d, 0, 0, new Rectangle2D.Double(0.0, 0.0, 10.0, 10.0));
+        c.addItem(r, d, 0, 1, new Ellipse2D.Double(20.0, 0.0, 10.0, 10.0));
+        GeneralPath triangle = new GeneralPath();
+        triangle.moveTo(40.0f, 0.0f);
+        triangle.lineTo(50.0f, 0.0f);
+        triangle.lineTo(40.0f, 10.0f);
+        triangle.closePath();
+        c.addItem(r, d, 0, 2, triangle);
+        assertEquals(3, c.getEntityCount());
+
+        // the corners of the rectangle are inside the entity...
+        assertNotNull(c.getEntity(0.5, 0.5));
+
+        // ...but the corners of the ellipse and triangle are not
+        assertNull(c.getEntity(20.5, 0.5));
+        assertSame(c.getEntity(25.0, 5.0).getArea().getClass(), 
+                c.getEntity(1).getArea().getClass());
+        assertNull(c.getEntity(49.0, 9.0));
+        assertNotNull(c.getEntity(41.0, 1.0));
+
+        // the original shape is returned as the entity area
+        assertSame(triangle, c.getEntity(2).getArea());
+        assertTrue(c.getEntity(1).getArea() instanceof Ellipse2D);
+    }
+
+    /**
+     * The tool tip is generated for an unchanged dataset, and omitted once 
+     * the dataset has changed (when the item may no longer exist).
+     */
+    public void testToolTipAfterDatasetChange() {
+        CompactEntityCollection c = new CompactEntityCollection();
+        XYSeriesCollection d = createDataset();
+        c.addItem(createRenderer(), d, 0, 2, 
+                new Rectangle2D.Double(0.0, 0.0, 10.0, 10.0));
+        assertNotNull(c.getEntity(0).getToolTipText());
+        d.getSeries(0).clear();
+        ChartEntity entity = c.getEntity(0);
+        assertNull(entity.getToolTipText());
+        assertNull(entity.getURLText());
+        assertNotNull(c.getEntity(5.0, 5.0));
+    }
+
+    /**
+     * A category entity for a removed column does not throw an exception.
+     */
+    public void testCategoryEntityAfterDatasetChange() {
+        DefaultCategoryDataset d = new DefaultCategoryDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(2.0, "R1", "C2");
+        BarRenderer r = new BarRenderer();
+        r.setToolTipGenerator(new StandardCategoryToolTipGenerator());
+        CompactEntityCollection c = new CompactEntityCollection();
+        c.addItem(r, d, 0, 1, new Rectangle2D.Double(0.0, 0.0, 10.0, 10.0));
+        CategoryItemEntity entity = (CategoryItemEntity) c.getEntity(0);
+        assertEquals("C2", entity.getCategory());
+        assertNotNull(entity.getToolTipText());
+        d.clear();
+        entity = (CategoryItemEntity) c.getEntity(0);
+        assertNull(entity.getCategory());
+        assertNull(entity.getToolTipText());
+    }
+
+    /**
+     * The entities for a dataset without a version are created straight 
+     * away, so their tool tips are not affected by later changes.
+     */
+    public void testDatasetWithoutVersion() {
+        XYSeriesCollection d = createDataset();
+        XYDataset unversioned = new UnversionedDataset(d);
+        CompactEntityCollection c = new CompactEntityCollection();
+        c.addItem(createRenderer(), unversioned, 0, 2, 
+                new Rectangle2D.Double(0.0, 0.0, 10.0, 10.0));
+        ChartEntity entity = c.getEntity(0);
+        String tip = entity.getToolTipText();
+        assertNotNull(tip);
+        d.getSeries(0).clear();
+        assertSame(entity, c.getEntity(0));
+        assertEquals(tip, c.getEntity(0).getToolTipText());
+    }
+
+    /**
+     * Equal collections have equal hash codes.
+     */
+    public void testEquals() {
+        XYLineAndShapeRenderer r = createRenderer();
+        XYSeriesCollection d = createDataset();
+        CompactEntityCollection c1 = new CompactEntityCollection();
+        CompactEntityCollection c2 = new CompactEntityCollection();
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+        c1.addItem(r, d, 0, 1, new Rectangle2D.Double(1, 2, 3, 4));
+        assertFalse(c1.equals(c2));
+        c2.addItem(r, d, 0, 1, new Rectangle2D.Double(1, 2, 3, 4));
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+    }
+
+    /**
+     * A clone is independent of the original collection.
+     */
+    public void testClone() throws CloneNotSupportedException {
+        XYLineAndShapeRenderer r = createRenderer();
+        XYSeriesCollection d = createDataset();
+        CompactEntityCollection c1 = new CompactEntityCollection();
+        for (int i = 0; i < 100; i++) {
+            c1.addItem(r, d, 0, i % 3, 
+                    new Ellipse2D.Double(i * 10.0, 0.0, 5.0, 5.0));
+        }
+        CompactEntityCollection c2 = (CompactEntityCollection) c1.clone();
+        assertEquals(c1, c2);
+        c2.addItem(r, d, 0, 0, new Rectangle2D.Double(2000, 0, 10, 10));
+        assertEquals(100, c1.getEntityCount());
+        assertEquals(101, c2.getEntityCount());
+        assertNull(c1.getEntity(2005.0, 5.0));
+        assertNotNull(c2.getEntity(2005.0, 5.0));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() throws Exception {
+        XYLineAndShapeRenderer r = createRenderer();
+        XYSeriesCollection d = createDataset();
+        CompactEntityCollection c1 = new CompactEntityCollection();
+        c1.add(new ChartEntity(new Rectangle2D.Double(0, 0, 50, 50), "A"));
+        c1.addItem(r, d, 0, 1, new Ellipse2D.Double(1, 2, 3, 4));
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(c1);
+        out.close();
+        ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(
+                buffer.toByteArray()));
+        EntityCollection c2 = (EntityCollection) in.readObject();
+        in.close();
+        assertEquals(2, c2.getEntityCount());
+        assertEquals(c1.getEntity(1).getToolTipText(), 
+                c2.getEntity(1).getToolTipText());
+    }
+
+    /**
+     * A dataset that does not implement the <code>Versioned</code> interface.
+     */
+    private static class UnversionedDataset implements XYDataset {
+
+        /** The underlying dataset. */
+        private AbstractXYDataset underlying;
+
+        /**
+         * Creates a new dataset.
+         * 
+         * @param underlying  the underlying dataset.
+         */
+        UnversionedDataset(AbstractXYDataset underlying) {
+            this.underlying = underlying;
+        }
+
+        public int getSeriesCount() {
+            return this.underlying.getSeriesCount();
+        }
+
+        public Comparable getSeriesKey(int series) {
+            return this.underlying.getSeriesKey(series);
+        }
+
+        public int indexOf(Comparable seriesKey) {
+            return this.underlying.indexOf(seriesKey);
+        }
+
+        public DomainOrder getDomainOrder() {
+            return this.underlying.getDomainOrder();
+        }
+
+        public int getItemCount(int series) {
+            return this.underlying.getItemCount(series);
+        }
+
+        public Number getX(int series, int item) {
+            return this.underlying.getX(series, item);
+        }
+
+        public double getXValue(int series, int item) {
+            return this.underlying.getXValue(series, item);
+        }
+
+        public Number getY(int series, int item) {
+            return this.underlying.getY(series, item);
+        }
+
+        public double getYValue(int series, int item) {
+            return this.underlying.getYValue(series, item);
+        }
+
+        public void addChangeListener(DatasetChangeListener listener) {
+            this.underlying.addChangeListener(listener);
+        }
+
+        public void removeChangeListener(DatasetChangeListener listener) {
+            this.underlying.removeChangeListener(listener);
+        }
+
+        public DatasetGroup getGroup() {
+            return this.underlying.getGroup();
+        }
+
+        public void setGroup(DatasetGroup group) {
+            this.underlying.setGroup(group);
+        }
+
+    }
+
+}
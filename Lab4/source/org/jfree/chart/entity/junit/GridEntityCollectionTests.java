@@ -0,0 +1,153 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * GridEntityCollectionTests.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.chart.entity.junit;
+
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.GridEntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+
+/**
+ * Tests for the {@link GridEntityCollection} class.
+ */
+public class GridEntityCollectionTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(GridEntityCollectionTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public GridEntityCollectionTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Hit testing gives the same results as the standard collection, 
+     * including for entities that are added after the index is built.
+     */
+    public void testGetEntity() {
+        Random random = new Random(1L);
+        StandardEntityCollection standard = new StandardEntityCollection();
+        GridEntityCollection grid = new GridEntityCollection();
+        ChartEntity plot = new ChartEntity(
+            new Rectangle2D.Double(0.0, 0.0, 500.0, 500.0), "Plot"
+        );
+        standard.add(plot);
+        grid.add(plot);
+        for (int i = 0; i < 2000; i++) {
+            if (i == 1000) {
+                grid.getEntity(1.0, 1.0);
+            }
+            double x = random.nextDouble() * 500.0;
+            double y = random.nextDouble() * 500.0;
+            ChartEntity entity = new ChartEntity(
+                new Ellipse2D.Double(x, y, 6.0, 6.0), "E" + i
+            );
+            standard.add(entity);
+            grid.add(entity);
+        }
+        for (int i = 0; i < 5000; i++) {
+            double x = random.nextDouble() * 520.0 - 10.0;
+            double y = random.nextDouble() * 520.0 - 10.0;
+            assertSame(standard.getEntity(x, y), grid.getEntity(x, y));
+        }
+    }
+
+    /**
+     * Equal collections have equal hash codes.
+     */
+    public void testEquals() {
+        GridEntityCollection c1 = new GridEntityCollection();
+        GridEntityCollection c2 = new GridEntityCollection();
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+        c1.add(new ChartEntity(new Rectangle2D.Double(1, 2, 3, 4), "A"));
+        assertFalse(c1.equals(c2));
+        c2.add(new ChartEntity(new Rectangle2D.Double(1, 2, 3, 4), "A"));
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+    }
+
+    /**
+     * A clone has its own index.
+     */
+    public void testClone() throws CloneNotSupportedException {
+        GridEntityCollection c1 = new GridEntityCollection();
+        ChartEntity e = new ChartEntity(
+            new Rectangle2D.Double(10, 10, 10, 10), "A"
+        );
+        c1.add(e);
+        assertSame(e, c1.getEntity(15.0, 15.0));
+        GridEntityCollection c2 = (GridEntityCollection) c1.clone();
+        assertEquals(c1, c2);
+        assertSame(e, c2.getEntity(15.0, 15.0));
+        assertNull(c2.getEntity(50.0, 50.0));
+    }
+
+    /**
+     * Clearing the collection discards the index.
+     */
+    public void testClear() {
+        GridEntityCollection c = new GridEntityCollection();
+        c.add(new ChartEntity(new Rectangle2D.Double(10, 10, 10, 10), "A"));
+        assertNotNull(c.getEntity(15.0, 15.0));
+        c.clear();
+        assertNull(c.getEntity(15.0, 15.0));
+        assertEquals(0, c.getEntityCount());
+    }
+
+}
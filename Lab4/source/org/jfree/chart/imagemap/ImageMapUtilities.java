@@ -39,6 +39,10 @@
  * 13-Jan-2005 : Renamed ImageMapUtilities (DG);
  * 19-Jan-2005 : Reversed order of tags for chart entities to get correct
  *               layering (DG);
+ * 18-Oct-2026 : Write maps through ImageMapWriter and added 
+ *               writeImageMap(Writer, ...) method (DG);
+ * 18-Oct-2026 : Write the existing maps with the entities' area tags again,
+ *               and stream them to the writer (DG);
  * 
  */
 
@@ -46,6 +50,8 @@ package org.jfree.chart.imagemap;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
 
 import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.entity.ChartEntity;
@@ -132,11 +138,44 @@ public class ImageMapUtilities {
             URLTagFragmentGenerator urlTagFragmentGenerator) 
         throws IOException {
 
-        writer.println(
-            ImageMapUtilities.getImageMap(
-                name, info, toolTipTagFragmentGenerator, urlTagFragmentGenerator
-            )
-        );
+        writeAreaTags(writer, name, info, toolTipTagFragmentGenerator, 
+                urlTagFragmentGenerator);
+        writer.println();
+    }
+
+    /**
+     * Writes an image map to a writer, without building the map in memory.
+     * Areas that are completely covered by areas that come before them in 
+     * the map, and areas with bounds smaller than <code>minimumArea</code>,
+     * are left out, and adjacent rectangles with the same URL and tool tip 
+     * are merged (see {@link ImageMapWriter}).  This is much faster, and 
+     * gives a much smaller page, for charts with many thousands of entities.
+     *
+     * @param writer  the writer (<code>null</code> not permitted).
+     * @param name  the map name (<code>null</code> not permitted).
+     * @param info  the chart rendering info (<code>null</code> not permitted).
+     * @param toolTipTagFragmentGenerator  the tool tip generator 
+     *                                     (<code>null</code> not permitted).
+     * @param urlTagFragmentGenerator  the url generator (<code>null</code> 
+     *                                 not permitted).
+     * @param minimumArea  the minimum area (in square pixels) for the bounds
+     *                     of an area (<code>0.0</code> to write areas of 
+     *                     any size).
+     *
+     * @throws java.io.IOException if there are any I/O errors.
+     * 
+     * @since 1.0.3
+     */
+    public static void writeImageMap(Writer writer, String name, 
+            ChartRenderingInfo info,
+            ToolTipTagFragmentGenerator toolTipTagFragmentGenerator,
+            URLTagFragmentGenerator urlTagFragmentGenerator, 
+            double minimumArea) throws IOException {
+
+        ImageMapWriter mapWriter = new ImageMapWriter(
+                toolTipTagFragmentGenerator, urlTagFragmentGenerator);
+        mapWriter.setMinimumArea(minimumArea);
+        mapWriter.writeImageMap(writer, name, info);
     }
 
     /**
@@ -172,9 +211,42 @@ public class ImageMapUtilities {
             ToolTipTagFragmentGenerator toolTipTagFragmentGenerator,
             URLTagFragmentGenerator urlTagFragmentGenerator) {
 
-        StringBuffer sb = new StringBuffer();
-        sb.append("<map id=\"" + name + "\" name=\"" + name + "\">");
-        sb.append(StringUtils.getLineSeparator());
+        StringWriter writer = new StringWriter();
+        try {
+            writeAreaTags(writer, name, info, toolTipTagFragmentGenerator, 
+                    urlTagFragmentGenerator);
+        }
+        catch (IOException e) {
+            // a StringWriter doesn't throw IOExceptions
+            throw new RuntimeException(e.getMessage());
+        }
+        return writer.toString();
+        
+    }
+
+    /**
+     * Writes an image map element containing the area tag of every entity 
+     * with a tool tip or URL (see 
+     * {@link ChartEntity#getImageMapAreaTag(ToolTipTagFragmentGenerator, 
+     * URLTagFragmentGenerator)}), as these methods have always done.
+     * 
+     * @param writer  the writer.
+     * @param name  the map name.
+     * @param info  the chart rendering info.
+     * @param toolTipTagFragmentGenerator  the tool tip generator.
+     * @param urlTagFragmentGenerator  the url generator.
+     * 
+     * @throws IOException if there is an I/O error.
+     */
+    private static void writeAreaTags(Writer writer, String name, 
+            ChartRenderingInfo info,
+            ToolTipTagFragmentGenerator toolTipTagFragmentGenerator,
+            URLTagFragmentGenerator urlTagFragmentGenerator) 
+        throws IOException {
+
+        String separator = StringUtils.getLineSeparator();
+        writer.write("<map id=\"" + name + "\" name=\"" + name + "\">");
+        writer.write(separator);
         EntityCollection entities = info.getEntityCollection();
         if (entities != null) {
             int count = entities.getEntityCount();
@@ -186,15 +258,13 @@ public class ImageMapUtilities {
                         toolTipTagFragmentGenerator, urlTagFragmentGenerator
                     );
                     if (area.length() > 0) {
-                        sb.append(area);
-                        sb.append(StringUtils.getLineSeparator());
+                        writer.write(area);
+                        writer.write(separator);
                     }
                 }
             }
         }
-        sb.append("</map>");
-        return sb.toString();
-        
+        writer.write("</map>");
     }
 
 }
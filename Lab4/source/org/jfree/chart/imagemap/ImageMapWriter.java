@@ -0,0 +1,622 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * ImageMapWriter.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Always use the fragment generators for the tool tip and URL
+ *               attributes (DG);
+ *
+ */
+package org.jfree.chart.imagemap;
+
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.BitSet;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.CompactEntityCollection;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.util.ObjectUtilities;
+import org.jfree.util.StringUtils;
+
+/**
+ * Writes an HTML image map for a chart directly to a {@link Writer}, 
+ * without building the map (or the tags for the individual areas) in 
+ * memory.  The writer can also leave out areas that are of no use to the 
+ * reader of the page:
+ * <ul>
+ * <li>areas that are completely covered by areas that appear before them 
+ *     in the map (a browser uses the first area that contains the mouse 
+ *     pointer, so these areas can never be selected) - see 
+ *     {@link #setCoveredAreasSkipped(boolean)};</li>
+ * <li>areas with bounds smaller than a minimum size - see 
+ *     {@link #setMinimumArea(double)};</li>
+ * </ul>
+ * and it can merge neighbouring rectangles that have the same URL and 
+ * tool tip (for example, the cells of a heat map that link to the same 
+ * page) into a single area - see {@link #setAdjacentAreasMerged(boolean)}.
+ * <p>
+ * As in {@link ImageMapUtilities}, the entities are written in the reverse
+ * of the order in which they were added, so that the entities drawn last
+ * (on top) come first in the map.  When the chart has a 
+ * {@link CompactEntityCollection}, the entities that are skipped are never 
+ * created, so their tool tips and URLs are not generated.
+ * <p>
+ * An instance of this class should not be used by several threads at the
+ * same time.
+ *
+ * @since 1.0.3
+ */
+public class ImageMapWriter {
+
+    /** 
+     * The largest number of pixels in the image for which the covered areas
+     * are tracked.
+     */
+    private static final int MAX_COVERAGE_PIXELS = 16 * 1024 * 1024;
+
+    /** The tool tip fragment generator. */
+    private ToolTipTagFragmentGenerator toolTipTagFragmentGenerator;
+
+    /** The URL fragment generator. */
+    private URLTagFragmentGenerator urlTagFragmentGenerator;
+
+    /** The minimum area (in square pixels) of the bounds of an area. */
+    private double minimumArea;
+
+    /** A flag that controls whether covered areas are left out. */
+    private boolean coveredAreasSkipped;
+
+    /** A flag that controls whether adjacent rectangles are merged. */
+    private boolean adjacentAreasMerged;
+
+    /** The line separator. */
+    private String lineSeparator;
+
+    /** Working storage for the digits of an integer. */
+    private char[] digits;
+
+    /** The pixels covered by the areas written so far (if tracked). */
+    private BitSet covered;
+
+    /** The width of the coverage map. */
+    private int coveredWidth;
+
+    /** The height of the coverage map. */
+    private int coveredHeight;
+
+    /** A flag that indicates whether there is a pending rectangle. */
+    private boolean pending;
+
+    /** The coordinates of the pending rectangle (x1, y1, x2, y2). */
+    private int[] pendingCoords;
+
+    /** The tool tip for the pending rectangle. */
+    private String pendingToolTip;
+
+    /** The URL for the pending rectangle. */
+    private String pendingURL;
+
+    /**
+     * Creates a new writer that uses the standard tool tip and URL fragment 
+     * generators.
+     */
+    public ImageMapWriter() {
+        this(new StandardToolTipTagFragmentGenerator(), 
+                new StandardURLTagFragmentGenerator());
+    }
+
+    /**
+     * Creates a new writer.  Covered areas are skipped and adjacent 
+     * rectangles are merged, but no areas are skipped because of their 
+     * size.
+     * 
+     * @param toolTipTagFragmentGenerator  the tool tip fragment generator
+     *                                     (<code>null</code> not permitted).
+     * @param urlTagFragmentGenerator  the URL fragment generator 
+     *                                 (<code>null</code> not permitted).
+     */
+    public ImageMapWriter(
+            ToolTipTagFragmentGenerator toolTipTagFragmentGenerator,
+            URLTagFragmentGenerator urlTagFragmentGenerator) {
+        if (toolTipTagFragmentGenerator == null) {
+            throw new IllegalArgumentException(
+                    "Null 'toolTipTagFragmentGenerator' argument.");
+        }
+        if (urlTagFragmentGenerator == null) {
+            throw new IllegalArgumentException(
+                    "Null 'urlTagFragmentGenerator' argument.");
+        }
+        this.toolTipTagFragmentGenerator = toolTipTagFragmentGenerator;
+        this.urlTagFragmentGenerator = urlTagFragmentGenerator;
+        this.minimumArea = 0.0;
+        this.coveredAreasSkipped = true;
+        this.adjacentAreasMerged = true;
+        this.lineSeparator = StringUtils.getLineSeparator();
+        this.digits = new char[11];
+        this.pendingCoords = new int[4];
+    }
+
+    /**
+     * Returns the minimum area (in square pixels) for the bounds of an area
+     * that is written to the map.
+     * 
+     * @return The minimum area.
+     * 
+     * @see #setMinimumArea(double)
+     */
+    public double getMinimumArea() {
+        return this.minimumArea;
+    }
+
+    /**
+     * Sets the minimum area (in square pixels) for the bounds of an area that
+     * is written to the map.  Entities with smaller bounds (for example, the 
+     * entities for the items in a line chart with tens of thousands of 
+     * items, which are too small to point at) are left out.  The default is
+     * <code>0.0</code> (no entities are left out because of their size).
+     * 
+     * @param area  the area.
+     * 
+     * @see #getMinimumArea()
+     */
+    public void setMinimumArea(double area) {
+        this.minimumArea = area;
+    }
+
+    /**
+     * Returns the flag that controls whether areas that are completely 
+     * covered by the areas that come before them in the map are left out.
+     * 
+     * @return A boolean.
+     * 
+     * @see #setCoveredAreasSkipped(boolean)
+     */
+    public boolean isCoveredAreasSkipped() {
+        return this.coveredAreasSkipped;
+    }
+
+    /**
+     * Sets the flag that controls whether areas that are completely covered 
+     * by the areas that come before them in the map are left out (the 
+     * default is <code>true</code>).  The coverage is tracked per pixel 
+     * within the chart area recorded in the {@link ChartRenderingInfo}.  
+     * Only rectangles count as covering other areas, and an area is only 
+     * left out if every pixel in its bounds is covered.
+     * 
+     * @param flag  the flag.
+     * 
+     * @see #isCoveredAreasSkipped()
+     */
+    public void setCoveredAreasSkipped(boolean flag) {
+        this.coveredAreasSkipped = flag;
+    }
+
+    /**
+     * Returns the flag that controls whether adjacent rectangles with the 
+     * same URL and tool tip are merged.
+     * 
+     * @return A boolean.
+     * 
+     * @see #setAdjacentAreasMerged(boolean)
+     */
+    public boolean isAdjacentAreasMerged() {
+        return this.adjacentAreasMerged;
+    }
+
+    /**
+     * Sets the flag that controls whether adjacent rectangles with the same 
+     * URL and tool tip are merged (the default is <code>true</code>).  Two 
+     * rectangles that follow one another in the map are merged when they 
+     * have the same top and bottom and touch or overlap horizontally, or 
+     * have the same left and right and touch or overlap vertically.
+     * 
+     * @param flag  the flag.
+     * 
+     * @see #isAdjacentAreasMerged()
+     */
+    public void setAdjacentAreasMerged(boolean flag) {
+        this.adjacentAreasMerged = flag;
+    }
+
+    /**
+     * Writes an image map element that complies with the XHTML 1.0 
+     * specification.  The writer is not flushed or closed.
+     * 
+     * @param writer  the writer (<code>null</code> not permitted).
+     * @param name  the map name (<code>null</code> not permitted).
+     * @param info  the chart rendering info (<code>null</code> not 
+     *              permitted).
+     * 
+     * @throws IOException if there is an I/O error.
+     */
+    public void writeImageMap(Writer writer, String name, 
+                              ChartRenderingInfo info) throws IOException {
+        if (writer == null) {
+            throw new IllegalArgumentException("Null 'writer' argument.");
+        }
+        if (name == null) {
+            throw new IllegalArgumentException("Null 'name' argument.");
+        }
+        if (info == null) {
+            throw new IllegalArgumentException("Null 'info' argument.");
+        }
+        writer.write("<map id=\"");
+        writer.write(name);
+        writer.write("\" name=\"");
+        writer.write(name);
+        writer.write("\">");
+        writer.write(this.lineSeparator);
+        EntityCollection entities = info.getEntityCollection();
+        if (entities != null) {
+            try {
+                startCoverage(info.getChartArea());
+                writeAreas(writer, entities);
+            }
+            finally {
+                this.covered = null;
+                this.pending = false;
+                this.pendingToolTip = null;
+                this.pendingURL = null;
+            }
+        }
+        writer.write("</map>");
+    }
+
+    /**
+     * Writes the areas for the entities in a collection, starting with the
+     * last entity.
+     * 
+     * @param writer  the writer.
+     * @param entities  the entities.
+     * 
+     * @throws IOException if there is an I/O error.
+     */
+    private void writeAreas(Writer writer, EntityCollection entities) 
+            throws IOException {
+        CompactEntityCollection compact = null;
+        if (entities instanceof CompactEntityCollection 
+                && (this.minimumArea > 0.0 || this.covered != null)) {
+            compact = (CompactEntityCollection) entities;
+        }
+        int count = entities.getEntityCount();
+        for (int i = count - 1; i >= 0; i--) {
+            if (compact != null) {
+                // check the bounds before the entity (and its tool tip) is
+                // created...
+                Rectangle2D b = compact.getEntityBounds(i);
+                if (isSkipped(b, b.getBounds())) {
+                    continue;
+                }
+            }
+            ChartEntity entity = entities.getEntity(i);
+            String toolTip = entity.getToolTipText();
+            String url = entity.getURLText();
+            boolean hasToolTip = (toolTip != null && toolTip.length() > 0);
+            boolean hasURL = (url != null && url.length() > 0);
+            if (!hasToolTip && !hasURL) {
+                continue;
+            }
+            Shape area = entity.getArea();
+            Rectangle2D bounds = area.getBounds2D();
+            if (compact == null && isSkipped(bounds, area.getBounds())) {
+                continue;
+            }
+            if (area instanceof Rectangle2D) {
+                int[] c = getRectCoords((Rectangle2D) area);
+                markCovered(c);
+                if (this.pending && this.adjacentAreasMerged 
+                        && merge(c, toolTip, url)) {
+                    continue;
+                }
+                flush(writer);
+                if (this.adjacentAreasMerged) {
+                    System.arraycopy(c, 0, this.pendingCoords, 0, 4);
+                    this.pendingToolTip = toolTip;
+                    this.pendingURL = url;
+                    this.pending = true;
+                }
+                else {
+                    writeRect(writer, c, toolTip, url);
+                }
+            }
+            else {
+                flush(writer);
+                writer.write("<area shape=\"poly\" coords=\"");
+                writePolyCoords(writer, area);
+                writeAttributes(writer, toolTip, url);
+            }
+        }
+        flush(writer);
+    }
+
+    /**
+     * Returns <code>true</code> if an area should be left out of the map 
+     * because of its size or because it is covered.
+     * 
+     * @param bounds  the bounds of the area.
+     * @param pixels  the bounds of the area in whole pixels.
+     * 
+     * @return A boolean.
+     */
+    private boolean isSkipped(Rectangle2D bounds, Rectangle pixels) {
+        if (this.minimumArea > 0.0 && bounds.getWidth() * bounds.getHeight() 
+                < this.minimumArea) {
+            return true;
+        }
+        if (this.covered == null) {
+            return false;
+        }
+        // the pixels on the right and bottom edges are included, since a 
+        // browser may treat them as part of the area...
+        int x1 = pixels.x;
+        int y1 = pixels.y;
+        int x2 = x1 + pixels.width + 1;
+        int y2 = y1 + pixels.height + 1;
+        if (x1 < 0 || y1 < 0 || x2 > this.coveredWidth 
+                || y2 > this.coveredHeight) {
+            return false;
+        }
+        for (int y = y1; y < y2; y++) {
+            int offset = y * this.coveredWidth;
+            if (this.covered.nextClearBit(offset + x1) < offset + x2) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets up the coverage map for the chart area, if covered areas are 
+     * skipped.
+     * 
+     * @param chartArea  the chart area (<code>null</code> permitted).
+     */
+    private void startCoverage(Rectangle2D chartArea) {
+        this.covered = null;
+        if (!this.coveredAreasSkipped || chartArea == null) {
+            return;
+        }
+        double w = Math.ceil(chartArea.getMaxX());
+        double h = Math.ceil(chartArea.getMaxY());
+        if (w < 1.0 || h < 1.0 || w * h > MAX_COVERAGE_PIXELS) {
+            return;
+        }
+        this.coveredWidth = (int) w;
+        this.coveredHeight = (int) h;
+        this.covered = new BitSet(this.coveredWidth * this.coveredHeight);
+    }
+
+    /**
+     * Records the pixels covered by a rectangle that is written to the map.
+     * 
+     * @param c  the coordinates of the rectangle (x1, y1, x2, y2).
+     */
+    private void markCovered(int[] c) {
+        if (this.covered == null) {
+            return;
+        }
+        int x1 = Math.max(c[0], 0);
+        int x2 = Math.min(c[2], this.coveredWidth);
+        int y1 = Math.max(c[1], 0);
+        int y2 = Math.min(c[3], this.coveredHeight);
+        if (x1 >= x2) {
+            return;
+        }
+        for (int y = y1; y < y2; y++) {
+            int offset = y * this.coveredWidth;
+            this.covered.set(offset + x1, offset + x2);
+        }
+    }
+
+    /**
+     * Merges a rectangle into the pending rectangle, if they have the same
+     * tool tip and URL and are adjacent.
+     * 
+     * @param c  the coordinates of the rectangle (x1, y1, x2, y2).
+     * @param toolTip  the tool tip (<code>null</code> permitted).
+     * @param url  the URL (<code>null</code> permitted).
+     * 
+     * @return A boolean that indicates whether the rectangle was merged.
+     */
+    private boolean merge(int[] c, String toolTip, String url) {
+        if (!ObjectUtilities.equal(toolTip, this.pendingToolTip) 
+                || !ObjectUtilities.equal(url, this.pendingURL)) {
+            return false;
+        }
+        int[] p = this.pendingCoords;
+        if (c[1] == p[1] && c[3] == p[3] && c[0] <= p[2] && c[2] >= p[0]) {
+            p[0] = Math.min(p[0], c[0]);
+            p[2] = Math.max(p[2], c[2]);
+            return true;
+        }
+        if (c[0] == p[0] && c[2] == p[2] && c[1] <= p[3] && c[3] >= p[1]) {
+            p[1] = Math.min(p[1], c[1]);
+            p[3] = Math.max(p[3], c[3]);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Writes the pending rectangle, if there is one.
+     * 
+     * @param writer  the writer.
+     * 
+     * @throws IOException if there is an I/O error.
+     */
+    private void flush(Writer writer) throws IOException {
+        if (this.pending) {
+            this.pending = false;
+            writeRect(writer, this.pendingCoords, this.pendingToolTip, 
+                    this.pendingURL);
+            this.pendingToolTip = null;
+            this.pendingURL = null;
+        }
+    }
+
+    /**
+     * Returns the coordinates of a rectangle in the form used in the map 
+     * (see {@link ChartEntity#getShapeCoords()}).
+     * 
+     * @param rectangle  the rectangle.
+     * 
+     * @return The coordinates (x1, y1, x2, y2).
+     */
+    private static int[] getRectCoords(Rectangle2D rectangle) {
+        int x1 = (int) rectangle.getX();
+        int y1 = (int) rectangle.getY();
+        int x2 = x1 + (int) rectangle.getWidth();
+        int y2 = y1 + (int) rectangle.getHeight();
+        if (x2 == x1) {
+            x2++;
+        }
+        if (y2 == y1) {
+            y2++;
+        }
+        return new int[] {x1, y1, x2, y2};
+    }
+
+    /**
+     * Writes an area tag for a rectangle.
+     * 
+     * @param writer  the writer.
+     * @param c  the coordinates (x1, y1, x2, y2).
+     * @param toolTip  the tool tip (<code>null</code> permitted).
+     * @param url  the URL (<code>null</code> permitted).
+     * 
+     * @throws IOException if there is an I/O error.
+     */
+    private void writeRect(Writer writer, int[] c, String toolTip, 
+                           String url) throws IOException {
+        writer.write("<area shape=\"rect\" coords=\"");
+        for (int i = 0; i < 4; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeInt(writer, c[i]);
+        }
+        writeAttributes(writer, toolTip, url);
+    }
+
+    /**
+     * Writes the coordinates of a polygon (see 
+     * {@link ChartEntity#getShapeCoords()}).
+     * 
+     * @param writer  the writer.
+     * @param shape  the shape.
+     * 
+     * @throws IOException if there is an I/O error.
+     */
+    private void writePolyCoords(Writer writer, Shape shape) 
+            throws IOException {
+        boolean first = true;
+        float[] coords = new float[6];
+        PathIterator pi = shape.getPathIterator(null, 1.0);
+        while (!pi.isDone()) {
+            pi.currentSegment(coords);
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            writeInt(writer, (int) coords[0]);
+            writer.write(',');
+            writeInt(writer, (int) coords[1]);
+            pi.next();
+        }
+    }
+
+    /**
+     * Writes the end of the coordinates attribute, the tool tip and URL 
+     * attributes and the end of the tag.
+     * 
+     * @param writer  the writer.
+     * @param toolTip  the tool tip (<code>null</code> permitted).
+     * @param url  the URL (<code>null</code> permitted).
+     * 
+     * @throws IOException if there is an I/O error.
+     */
+    private void writeAttributes(Writer writer, String toolTip, String url) 
+            throws IOException {
+        writer.write('"');
+        boolean hasToolTip = (toolTip != null && toolTip.length() > 0);
+        if (hasToolTip) {
+            writer.write(this.toolTipTagFragmentGenerator
+                    .generateToolTipFragment(toolTip));
+        }
+        if (url != null && url.length() > 0) {
+            writer.write(this.urlTagFragmentGenerator.generateURLFragment(url));
+        }
+        // if there is a tool tip, we expect it to generate the title and
+        // alt values, so we only add an empty alt if there is no tooltip
+        if (!hasToolTip) {
+            writer.write(" alt=\"\"");
+        }
+        writer.write("/>");
+        writer.write(this.lineSeparator);
+    }
+
+    /**
+     * Writes an integer in decimal form, without creating a string.
+     * 
+     * @param writer  the writer.
+     * @param value  the value.
+     * 
+     * @throws IOException if there is an I/O error.
+     */
+    private void writeInt(Writer writer, int value) throws IOException {
+        if (value == Integer.MIN_VALUE) {
+            writer.write(String.valueOf(value));
+            return;
+        }
+        if (value < 0) {
+            writer.write('-');
+            value = -value;
+        }
+        int pos = this.digits.length;
+        do {
+            this.digits[--pos] = (char) ('0' + value % 10);
+            value = value / 10;
+        } while (value > 0);
+        writer.write(this.digits, pos, this.digits.length - pos);
+    }
+
+}
@@ -0,0 +1,158 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * ImageMapUtilitiesTests.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.chart.imagemap.junit;
+
+import java.awt.geom.Rectangle2D;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.imagemap.ImageMapUtilities;
+import org.jfree.chart.imagemap.ToolTipTagFragmentGenerator;
+import org.jfree.chart.imagemap.URLTagFragmentGenerator;
+import org.jfree.util.StringUtils;
+
+/**
+ * Tests for the {@link ImageMapUtilities} class.
+ */
+public class ImageMapUtilitiesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ImageMapUtilitiesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ImageMapUtilitiesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * The map contains the area tags of the entities with a tool tip or URL,
+     * starting with the last entity.
+     */
+    public void testGetImageMap() {
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        EntityCollection entities = info.getEntityCollection();
+        entities.add(new ChartEntity(new Rectangle2D.Double(0.0, 0.0, 10.0, 
+                10.0), "A", "a.html"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(0.0, 0.0, 5.0, 
+                5.0)));
+        entities.add(new ChartEntity(new Rectangle2D.Double(20.0, 0.0, 10.0, 
+                10.0), null, "b.html"));
+        String sep = StringUtils.getLineSeparator();
+        assertEquals("<map id=\"m\" name=\"m\">" + sep 
+                + "<area shape=\"rect\" coords=\"20,0,30,10\" "
+                + "href=\"b.html\" alt=\"\"/>" + sep
+                + "<area shape=\"rect\" coords=\"0,0,10,10\" title=\"A\" "
+                + "alt=\"\" href=\"a.html\"/>" + sep + "</map>",
+                ImageMapUtilities.getImageMap("m", info));
+    }
+
+    /**
+     * The maps are built from the entities' area tags, so entities that 
+     * override {@link ChartEntity#getImageMapAreaTag(
+     * ToolTipTagFragmentGenerator, URLTagFragmentGenerator)} control their 
+     * own tags.
+     */
+    public void testAreaTagOverride() throws Exception {
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        info.getEntityCollection().add(new CustomEntity());
+        String map = ImageMapUtilities.getImageMap("m", info);
+        assertTrue(map.indexOf("<area custom=\"true\"/>") >= 0);
+
+        StringWriter out = new StringWriter();
+        PrintWriter writer = new PrintWriter(out);
+        ImageMapUtilities.writeImageMap(writer, "m", info);
+        writer.flush();
+        StringWriter expected = new StringWriter();
+        PrintWriter expectedWriter = new PrintWriter(expected);
+        expectedWriter.println(map);
+        expectedWriter.flush();
+        assertEquals(expected.toString(), out.toString());
+    }
+
+    /**
+     * An entity with its own area tag.
+     */
+    static class CustomEntity extends ChartEntity {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates a new entity.
+         */
+        CustomEntity() {
+            super(new Rectangle2D.Double(0.0, 0.0, 10.0, 10.0), "Tip");
+        }
+
+        /**
+         * Returns a custom area tag.
+         * 
+         * @param toolTipTagFragmentGenerator  the tool tip generator.
+         * @param urlTagFragmentGenerator  the URL generator.
+         * 
+         * @return The tag.
+         */
+        public String getImageMapAreaTag(
+                ToolTipTagFragmentGenerator toolTipTagFragmentGenerator,
+                URLTagFragmentGenerator urlTagFragmentGenerator) {
+            return "<area custom=\"true\"/>";
+        }
+
+    }
+
+}
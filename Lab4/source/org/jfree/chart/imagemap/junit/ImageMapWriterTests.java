@@ -0,0 +1,273 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * ImageMapWriterTests.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.chart.imagemap.junit;
+
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.imagemap.ImageMapUtilities;
+import org.jfree.chart.imagemap.ImageMapWriter;
+import org.jfree.chart.imagemap.StandardToolTipTagFragmentGenerator;
+import org.jfree.chart.imagemap.StandardURLTagFragmentGenerator;
+
+/**
+ * Tests for the {@link ImageMapWriter} class.
+ */
+public class ImageMapWriterTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ImageMapWriterTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ImageMapWriterTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates rendering info for a 100 x 100 chart.
+     * 
+     * @return The info.
+     */
+    private ChartRenderingInfo createInfo() {
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        info.setChartArea(new Rectangle2D.Double(0.0, 0.0, 100.0, 100.0));
+        return info;
+    }
+
+    /**
+     * Writes a map.
+     * 
+     * @param mapWriter  the map writer.
+     * @param info  the info.
+     * 
+     * @return The map.
+     * 
+     * @throws IOException if there is an I/O error.
+     */
+    private String write(ImageMapWriter mapWriter, ChartRenderingInfo info) 
+            throws IOException {
+        StringWriter writer = new StringWriter();
+        mapWriter.writeImageMap(writer, "m", info);
+        return writer.toString();
+    }
+
+    /**
+     * With the optimisations turned off, the map is the same as the map 
+     * built from the entities' area tags.
+     */
+    public void testSameAsAreaTags() throws IOException {
+        ChartRenderingInfo info = createInfo();
+        EntityCollection entities = info.getEntityCollection();
+        entities.add(new ChartEntity(new Rectangle2D.Double(1.5, 2.5, 10.0, 
+                20.0), "A", "a.html"));
+        entities.add(new ChartEntity(new Ellipse2D.Double(30.0, 30.0, 20.0, 
+                10.0), "B"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(5.0, 5.0, 0.0, 
+                0.0), null, "c.html"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(0.0, 0.0, 5.0, 
+                5.0)));
+        ImageMapWriter mapWriter = new ImageMapWriter();
+        mapWriter.setCoveredAreasSkipped(false);
+        mapWriter.setAdjacentAreasMerged(false);
+        assertEquals(ImageMapUtilities.getImageMap("m", info), 
+                write(mapWriter, info));
+    }
+
+    /**
+     * The tool tip and URL attributes are always written by the fragment 
+     * generators.
+     */
+    public void testGenerators() throws IOException {
+        ChartRenderingInfo info = createInfo();
+        EntityCollection entities = info.getEntityCollection();
+        entities.add(new ChartEntity(new Rectangle2D.Double(0.0, 0.0, 10.0, 
+                10.0), "A<B", "a.html?x=1&y=2"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(20.0, 0.0, 10.0, 
+                10.0), "C", "c.html"));
+        ImageMapWriter mapWriter = new ImageMapWriter(
+                new EscapingToolTipGenerator(), new EscapingURLGenerator());
+        String map = write(mapWriter, info);
+        assertTrue(map.indexOf(" title=\"A&lt;B\" alt=\"\"") >= 0);
+        assertTrue(map.indexOf(" href=\"a.html?x=1&amp;y=2\"") >= 0);
+        assertTrue(map.indexOf(" title=\"C\" alt=\"\" href=\"c.html\"") 
+                >= 0);
+    }
+
+    /**
+     * An area that is completely covered by an area that comes before it in
+     * the map is left out.
+     */
+    public void testCoveredAreasSkipped() throws IOException {
+        ChartRenderingInfo info = createInfo();
+        EntityCollection entities = info.getEntityCollection();
+        entities.add(new ChartEntity(new Rectangle2D.Double(10.0, 10.0, 5.0, 
+                5.0), "Small"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(0.0, 0.0, 50.0, 
+                50.0), "Big"));
+        ImageMapWriter mapWriter = new ImageMapWriter();
+        assertTrue(mapWriter.isCoveredAreasSkipped());
+        String map = write(mapWriter, info);
+        assertTrue(map.indexOf("Big") >= 0);
+        assertEquals(-1, map.indexOf("Small"));
+
+        mapWriter.setCoveredAreasSkipped(false);
+        assertTrue(write(mapWriter, info).indexOf("Small") >= 0);
+    }
+
+    /**
+     * Adjacent rectangles with the same tool tip and URL are merged.
+     */
+    public void testAdjacentAreasMerged() throws IOException {
+        ChartRenderingInfo info = createInfo();
+        EntityCollection entities = info.getEntityCollection();
+        entities.add(new ChartEntity(new Rectangle2D.Double(0.0, 0.0, 10.0, 
+                10.0), "T", "u.html"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(10.0, 0.0, 10.0, 
+                10.0), "T", "u.html"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(20.0, 0.0, 10.0, 
+                10.0), "T", "v.html"));
+        ImageMapWriter mapWriter = new ImageMapWriter();
+        assertTrue(mapWriter.isAdjacentAreasMerged());
+        String map = write(mapWriter, info);
+        assertTrue(map.indexOf("coords=\"0,0,20,10\"") >= 0);
+        assertTrue(map.indexOf("coords=\"20,0,30,10\"") >= 0);
+        assertEquals(-1, map.indexOf("coords=\"10,0,20,10\""));
+    }
+
+    /**
+     * Areas with bounds smaller than the minimum area are left out.
+     */
+    public void testMinimumArea() throws IOException {
+        ChartRenderingInfo info = createInfo();
+        EntityCollection entities = info.getEntityCollection();
+        entities.add(new ChartEntity(new Rectangle2D.Double(0.0, 0.0, 2.0, 
+                2.0), "Small"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(50.0, 50.0, 10.0,
+                10.0), "Big"));
+        ImageMapWriter mapWriter = new ImageMapWriter();
+        assertEquals(0.0, mapWriter.getMinimumArea(), 0.0);
+        assertTrue(write(mapWriter, info).indexOf("Small") >= 0);
+        mapWriter.setMinimumArea(9.0);
+        String map = write(mapWriter, info);
+        assertEquals(-1, map.indexOf("Small"));
+        assertTrue(map.indexOf("Big") >= 0);
+    }
+
+    /**
+     * Null arguments are rejected.
+     */
+    public void testNullArguments() throws IOException {
+        try {
+            new ImageMapWriter(null, new StandardURLTagFragmentGenerator());
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        ImageMapWriter mapWriter = new ImageMapWriter();
+        try {
+            mapWriter.writeImageMap(new StringWriter(), "m", null);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * A tool tip generator that escapes the tool tip.
+     */
+    static class EscapingToolTipGenerator 
+            extends StandardToolTipTagFragmentGenerator {
+
+        /**
+         * Generates a tooltip string to go in an HTML image map.
+         *
+         * @param toolTipText  the tooltip.
+         * 
+         * @return The formatted HTML area tag attribute(s).
+         */
+        public String generateToolTipFragment(String toolTipText) {
+            return super.generateToolTipFragment(toolTipText.replaceAll("<", 
+                    "&lt;"));
+        }
+
+    }
+
+    /**
+     * A URL generator that escapes the URL.
+     */
+    static class EscapingURLGenerator extends StandardURLTagFragmentGenerator {
+
+        /**
+         * Generates a URL string to go in an HTML image map.
+         *
+         * @param urlText  the URL.
+         * 
+         * @return The formatted text.
+         */
+        public String generateURLFragment(String urlText) {
+            return super.generateURLFragment(urlText.replaceAll("&", 
+                    "&amp;"));
+        }
+
+    }
+
+}
@@ -0,0 +1,311 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * BatchChartRendererTests.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.chart.junit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.BatchChartRenderer;
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingJob;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link BatchChartRenderer} class.
+ */
+public class BatchChartRendererTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(BatchChartRendererTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public BatchChartRendererTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a chart for testing.
+     * 
+     * @param dataset  the dataset.
+     * 
+     * @return The chart.
+     */
+    private static JFreeChart createChart(XYSeriesCollection dataset) {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 2.0);
+        series.add(2.0, 3.0);
+        dataset.addSeries(series);
+        return ChartFactory.createXYLineChart("Title", "X", "Y", dataset, 
+                PlotOrientation.VERTICAL, false, false, false);
+    }
+
+    /**
+     * Creates a job that writes a chart to a stream.
+     * 
+     * @param out  the stream.
+     * 
+     * @return The job.
+     */
+    private static ChartRenderingJob createJob(OutputStream out) {
+        return new ChartRenderingJob(createChart(new XYSeriesCollection()), 
+                200, 100, ImageFormat.PNG, out);
+    }
+
+    /**
+     * A chart that throws an error while it is drawn should fail its job, 
+     * without stopping the other jobs.
+     * 
+     * @throws InterruptedException if the test is interrupted.
+     */
+    public void testDrawError() throws InterruptedException {
+        FailingDataset dataset = new FailingDataset();
+        JFreeChart chart = createChart(dataset);
+        dataset.failing = true;
+        ChartRenderingJob job1 = new ChartRenderingJob(chart, 200, 100, 
+                ImageFormat.PNG, new ByteArrayOutputStream());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChartRenderingJob job2 = createJob(out);
+        BatchChartRenderer renderer = new BatchChartRenderer(1, 1, 2);
+        renderer.start();
+        renderer.submit(job1);
+        renderer.submit(job2);
+        renderer.finish();
+        assertTrue(job1.isDone());
+        assertTrue(job1.getException() instanceof RuntimeException);
+        assertTrue(job2.isDone());
+        assertNull(job2.getException());
+        assertTrue(out.size() > 0);
+        assertEquals(1, renderer.getCompletedCount());
+        assertEquals(1, renderer.getFailedCount());
+    }
+
+    /**
+     * If a draw thread is interrupted, the batch should be cancelled and the
+     * waiting jobs should fail.
+     * 
+     * @throws InterruptedException if the test is interrupted.
+     */
+    public void testInterrupt() throws InterruptedException {
+        BlockingStream blocking = new BlockingStream();
+        ChartRenderingJob job1 = createJob(blocking);
+        ChartRenderingJob job2 = createJob(new ByteArrayOutputStream());
+        ChartRenderingJob job3 = createJob(new ByteArrayOutputStream());
+        ChartRenderingJob job4 = createJob(new ByteArrayOutputStream());
+        BatchChartRenderer renderer = new BatchChartRenderer(1, 1, 1);
+        renderer.start();
+        try {
+            // job1 is being encoded, job2 waits to be encoded, the draw 
+            // thread waits to queue job3, and job4 waits to be drawn
+            renderer.submit(job1);
+            renderer.submit(job2);
+            renderer.submit(job3);
+            renderer.submit(job4);
+            blocking.waitForWrite();
+            findThread("BatchChartRenderer-draw-0").interrupt();
+
+            job2.waitFor();
+            job3.waitFor();
+            job4.waitFor();
+            assertTrue(job2.getException() instanceof InterruptedException);
+            assertTrue(job3.getException() instanceof InterruptedException);
+            assertTrue(job4.getException() instanceof InterruptedException);
+            try {
+                renderer.submit(createJob(new ByteArrayOutputStream()));
+                fail("Expected an IllegalStateException.");
+            }
+            catch (IllegalStateException e) {
+                // expected
+            }
+        }
+        finally {
+            blocking.release();
+        }
+        renderer.finish();
+        assertNull(job1.getException());
+        assertEquals(1, renderer.getCompletedCount());
+        assertEquals(3, renderer.getFailedCount());
+    }
+
+    /**
+     * Returns the live thread with the specified name.
+     * 
+     * @param name  the name.
+     * 
+     * @return The thread.
+     */
+    private static Thread findThread(String name) {
+        Thread[] threads = new Thread[Thread.activeCount() + 10];
+        int count = Thread.enumerate(threads);
+        for (int i = 0; i < count; i++) {
+            if (threads[i].getName().equals(name)) {
+                return threads[i];
+            }
+        }
+        fail("Thread not found: " + name);
+        return null;
+    }
+
+    /**
+     * A dataset that throws an error when it is read, once the flag is set.
+     */
+    static class FailingDataset extends XYSeriesCollection {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 1L;
+
+        /** A flag that controls whether the dataset fails. */
+        boolean failing;
+
+        /**
+         * Returns the number of items in a series, or throws an error.
+         * 
+         * @param series  the series index.
+         * 
+         * @return The item count.
+         */
+        public int getItemCount(int series) {
+            if (this.failing) {
+                throw new Error("Failing dataset.");
+            }
+            return super.getItemCount(series);
+        }
+
+    }
+
+    /**
+     * A stream that blocks the first write until it is released.
+     */
+    static class BlockingStream extends ByteArrayOutputStream {
+
+        /** A flag that is set when the first write starts. */
+        private boolean writing;
+
+        /** A flag that is set when writes can go ahead. */
+        private boolean released;
+
+        /**
+         * Writes bytes, blocking until the stream is released.
+         * 
+         * @param b  the bytes.
+         * @param off  the offset.
+         * @param len  the number of bytes.
+         */
+        public synchronized void write(byte[] b, int off, int len) {
+            await();
+            super.write(b, off, len);
+        }
+
+        /**
+         * Writes a byte, blocking until the stream is released.
+         * 
+         * @param b  the byte.
+         */
+        public synchronized void write(int b) {
+            await();
+            super.write(b);
+        }
+
+        /**
+         * Records the write and waits until the stream is released.
+         */
+        private synchronized void await() {
+            this.writing = true;
+            notifyAll();
+            while (!this.released) {
+                try {
+                    wait();
+                }
+                catch (InterruptedException e) {
+                    throw new RuntimeException("Interrupted.");
+                }
+            }
+        }
+
+        /**
+         * Waits until a write has started.
+         * 
+         * @throws InterruptedException if the thread is interrupted.
+         */
+        synchronized void waitForWrite() throws InterruptedException {
+            while (!this.writing) {
+                wait();
+            }
+        }
+
+        /**
+         * Lets writes go ahead.
+         */
+        synchronized void release() {
+            this.released = true;
+            notifyAll();
+        }
+
+        /**
+         * Does nothing (the encoder may close or flush the stream).
+         * 
+         * @throws IOException never.
+         */
+        public void flush() throws IOException {
+            // nothing to do
+        }
+
+    }
+
+}
@@ -0,0 +1,226 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * ChartImageCacheTests.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.chart.junit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartImageCache;
+import org.jfree.chart.ChartUtilities;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link ChartImageCache} class.
+ */
+public class ChartImageCacheTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ChartImageCacheTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ChartImageCacheTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a chart for testing.
+     * 
+     * @param series  the series.
+     * 
+     * @return The chart.
+     */
+    private static JFreeChart createChart(XYSeries series) {
+        return ChartFactory.createXYLineChart("Title", "X", "Y", 
+                new XYSeriesCollection(series), PlotOrientation.VERTICAL, 
+                false, false, false);
+    }
+
+    /**
+     * Writes a chart in PNG format.
+     * 
+     * @param chart  the chart.
+     * 
+     * @return The encoded image.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static byte[] write(JFreeChart chart) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChartUtilities.writeChartAsPNG(out, chart, 200, 100);
+        return out.toByteArray();
+    }
+
+    /**
+     * A second request for the same chart should be served from the cache,
+     * and a change to the data should make the entry out of date.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testWriteChart() throws IOException {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 2.0);
+        series.add(2.0, 3.0);
+        JFreeChart chart = createChart(series);
+        ChartImageCache cache = new ChartImageCache();
+        ChartUtilities.setImageCache(cache);
+        try {
+            byte[] data1 = write(chart);
+            assertEquals(1, cache.getMissCount());
+            assertEquals(1, cache.getEntryCount());
+            byte[] data2 = write(chart);
+            assertEquals(1, cache.getHitCount());
+            assertTrue(Arrays.equals(data1, data2));
+
+            series.add(3.0, 1.0);
+            assertEquals(0, cache.getEntryCount());
+            write(chart);
+            assertEquals(2, cache.getMissCount());
+            assertEquals(1, cache.getEntryCount());
+        }
+        finally {
+            ChartUtilities.setImageCache(null);
+        }
+    }
+
+    /**
+     * An image for a chart that changed after the versions were read (that 
+     * is, while the chart was being drawn) should not be stored.
+     */
+    public void testPutAfterChartChange() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 2.0);
+        JFreeChart chart = createChart(series);
+        ChartImageCache cache = new ChartImageCache();
+        long[] versions = ChartImageCache.getVersions(chart);
+        chart.setTitle("Changed");
+        cache.put(chart, 200, 100, "png", new byte[10], versions);
+        assertEquals(0, cache.getEntryCount());
+        assertNull(cache.get(chart, 200, 100, "png"));
+
+        versions = ChartImageCache.getVersions(chart);
+        cache.put(chart, 200, 100, "png", new byte[10], versions);
+        assertEquals(1, cache.getEntryCount());
+        assertNotNull(cache.get(chart, 200, 100, "png"));
+    }
+
+    /**
+     * A change made to a dataset without notification should also prevent
+     * the image from being stored, and should make a stored image out of 
+     * date.
+     */
+    public void testPutAfterUnnotifiedChange() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 2.0);
+        JFreeChart chart = createChart(series);
+        ChartImageCache cache = new ChartImageCache();
+        long[] versions = ChartImageCache.getVersions(chart);
+        series.add(2.0, 3.0, false);
+        cache.put(chart, 200, 100, "png", new byte[10], versions);
+        assertEquals(0, cache.getEntryCount());
+
+        versions = ChartImageCache.getVersions(chart);
+        cache.put(chart, 200, 100, "png", new byte[10], versions);
+        assertEquals(1, cache.getEntryCount());
+        series.add(3.0, 1.0, false);
+        assertNull(cache.get(chart, 200, 100, "png"));
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    /**
+     * Drawing a chart should not change its versions, otherwise no image 
+     * would ever be stored.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testVersionsAfterDraw() throws IOException {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 2.0);
+        series.add(2.0, 3.0);
+        JFreeChart chart = createChart(series);
+        long[] versions = ChartImageCache.getVersions(chart);
+        chart.createBufferedImage(200, 100);
+        assertTrue(Arrays.equals(versions, 
+                ChartImageCache.getVersions(chart)));
+    }
+
+    /**
+     * The least recently used entries should be removed when the cache is 
+     * full.
+     */
+    public void testTrim() {
+        JFreeChart chart = createChart(new XYSeries("S1"));
+        ChartImageCache cache = new ChartImageCache(2, 100L);
+        long[] versions = ChartImageCache.getVersions(chart);
+        cache.put(chart, 100, 100, "png", new byte[10], versions);
+        cache.put(chart, 200, 100, "png", new byte[10], versions);
+        assertNotNull(cache.get(chart, 100, 100, "png"));
+        cache.put(chart, 300, 100, "png", new byte[10], versions);
+        assertEquals(2, cache.getEntryCount());
+        assertNull(cache.get(chart, 200, 100, "png"));
+        assertNotNull(cache.get(chart, 100, 100, "png"));
+
+        cache.put(chart, 400, 100, "png", new byte[91], versions);
+        assertEquals(1, cache.getEntryCount());
+        assertEquals(91L, cache.getByteCount());
+        cache.put(chart, 500, 100, "png", new byte[101], versions);
+        assertNull(cache.get(chart, 500, 100, "png"));
+    }
+
+}
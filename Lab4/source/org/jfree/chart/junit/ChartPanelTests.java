@@ -0,0 +1,278 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * ChartPanelTests.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.chart.junit;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import javax.swing.SwingUtilities;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link ChartPanel} class.
+ */
+public class ChartPanelTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ChartPanelTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ChartPanelTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a panel that draws a chart for a dataset on a background 
+     * thread.
+     * 
+     * @param dataset  the dataset.
+     * 
+     * @return The panel.
+     */
+    private ChartPanel createPanel(XYSeriesCollection dataset) {
+        JFreeChart chart = ChartFactory.createXYLineChart("Test", "X", "Y", 
+                dataset, PlotOrientation.VERTICAL, false, false, false);
+        ChartPanel panel = new ChartPanel(chart);
+        panel.setBackgroundRendering(true);
+        panel.setSize(300, 200);
+        return panel;
+    }
+
+    /**
+     * Paints a panel into an image.
+     * 
+     * @param panel  the panel.
+     */
+    private void paint(ChartPanel panel) {
+        BufferedImage image = new BufferedImage(300, 200, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        g2.dispose();
+    }
+
+    /**
+     * Returns the rendering info for a panel, read on the event dispatch 
+     * thread.
+     * 
+     * @param panel  the panel.
+     * 
+     * @return The rendering info.
+     * 
+     * @throws Exception if there is a problem.
+     */
+    private ChartRenderingInfo getInfo(final ChartPanel panel) 
+            throws Exception {
+        final ChartRenderingInfo[] result = new ChartRenderingInfo[1];
+        SwingUtilities.invokeAndWait(new Runnable() {
+            public void run() {
+                result[0] = panel.getChartRenderingInfo();
+            }
+        });
+        return result[0];
+    }
+
+    /**
+     * Waits up to 10 seconds for a panel to show a new frame.
+     * 
+     * @param panel  the panel.
+     * @param info  the rendering info for the old frame.
+     * 
+     * @return A boolean.
+     * 
+     * @throws Exception if there is a problem.
+     */
+    private boolean waitForFrame(ChartPanel panel, ChartRenderingInfo info) 
+            throws Exception {
+        for (int i = 0; i < 200; i++) {
+            if (getInfo(panel) != info) {
+                return true;
+            }
+            Thread.sleep(50L);
+        }
+        return false;
+    }
+
+    /**
+     * Creates a dataset with one series.
+     * 
+     * @return The dataset.
+     */
+    private XYSeriesCollection createDataset() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 100; i++) {
+            series.add(i, i * i);
+        }
+        return new XYSeriesCollection(series);
+    }
+
+    /**
+     * The background renderer holds the dataset lock while it draws.
+     */
+    public void testBackgroundRenderingLocksDataset() throws Exception {
+        XYSeriesCollection dataset = createDataset();
+        ChartPanel panel = createPanel(dataset);
+        ChartRenderingInfo info = getInfo(panel);
+        synchronized (dataset) {
+            paint(panel);
+            Thread.sleep(500L);
+            assertSame(info, getInfo(panel));
+        }
+        assertTrue(waitForFrame(panel, info));
+        panel.removeNotify();
+    }
+
+    /**
+     * An exception thrown while drawing is reported to the thread group of
+     * the worker thread, and the renderer carries on.
+     */
+    public void testBackgroundRenderingError() throws Exception {
+        FailingDataset dataset = new FailingDataset();
+        dataset.addSeries(createDataset().getSeries(0));
+        final ChartPanel panel = createPanel(dataset);
+        final Throwable[] reported = new Throwable[1];
+        ThreadGroup group = new ThreadGroup("ChartPanelTests") {
+            public void uncaughtException(Thread t, Throwable e) {
+                synchronized (reported) {
+                    reported[0] = e;
+                    reported.notifyAll();
+                }
+            }
+        };
+        ChartRenderingInfo info = getInfo(panel);
+        synchronized (dataset) {
+            dataset.failing = true;
+        }
+
+        // the worker thread is started by the first request, in the 
+        // thread group of the requesting thread
+        Thread painter = new Thread(group, new Runnable() {
+            public void run() {
+                paint(panel);
+            }
+        });
+        painter.start();
+        painter.join();
+        synchronized (reported) {
+            if (reported[0] == null) {
+                reported.wait(10000L);
+            }
+        }
+        assertTrue(reported[0] instanceof IllegalStateException);
+        assertSame(info, getInfo(panel));
+
+        // fix the dataset and request another frame
+        synchronized (dataset) {
+            dataset.failing = false;
+        }
+        panel.setRefreshBuffer(true);
+        paint(panel);
+        assertTrue(waitForFrame(panel, info));
+        panel.removeNotify();
+    }
+
+    /**
+     * A dataset that can be made to throw an exception when it is read.
+     */
+    static class FailingDataset extends XYSeriesCollection {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 1L;
+
+        /** A flag that makes the y-value methods fail. */
+        boolean failing;
+
+        /**
+         * Returns the y-value for an item, or throws an exception if the 
+         * dataset is failing.
+         * 
+         * @param series  the series index.
+         * @param item  the item index.
+         * 
+         * @return The y-value.
+         */
+        public Number getY(int series, int item) {
+            if (this.failing) {
+                throw new IllegalStateException("Failing.");
+            }
+            return super.getY(series, item);
+        }
+
+        /**
+         * Returns the y-value for an item, or throws an exception if the 
+         * dataset is failing.
+         * 
+         * @param series  the series index.
+         * @param item  the item index.
+         * 
+         * @return The y-value.
+         */
+        public double getYValue(int series, int item) {
+            if (this.failing) {
+                throw new IllegalStateException("Failing.");
+            }
+            return super.getYValue(series, item);
+        }
+
+    }
+
+}
@@ -0,0 +1,169 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * -------------------------------
+ * ChartRenderingContextTests.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.chart.junit;
+
+import java.awt.image.BufferedImage;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingContext;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.encoders.ImageEncoder;
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link ChartRenderingContext} class.
+ */
+public class ChartRenderingContextTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ChartRenderingContextTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ChartRenderingContextTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a chart for testing.
+     * 
+     * @return The chart.
+     */
+    private static JFreeChart createChart() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 2.0);
+        series.add(2.0, 3.0);
+        return ChartFactory.createXYLineChart("Title", "X", "Y", 
+                new XYSeriesCollection(series), PlotOrientation.VERTICAL, 
+                true, false, false);
+    }
+
+    /**
+     * An image that has not been released should not be handed out again,
+     * and a released image should be reused.
+     */
+    public void testReleaseImage() {
+        ChartRenderingContext context = new ChartRenderingContext();
+        JFreeChart chart = createChart();
+        BufferedImage image1 = context.drawChart(chart, 200, 100, 
+                BufferedImage.TYPE_INT_RGB, null);
+        BufferedImage image2 = context.drawChart(chart, 200, 100, 
+                BufferedImage.TYPE_INT_RGB, null);
+        assertNotSame(image1, image2);
+        assertEquals(0L, context.getByteCount());
+
+        context.releaseImage(image1);
+        assertEquals(80000L, context.getByteCount());
+        BufferedImage image3 = context.drawChart(chart, 200, 100, 
+                BufferedImage.TYPE_INT_RGB, null);
+        assertSame(image1, image3);
+        assertEquals(0L, context.getByteCount());
+
+        // the reused image is cleared before drawing
+        for (int y = 0; y < 100; y++) {
+            for (int x = 0; x < 200; x++) {
+                assertEquals(image2.getRGB(x, y), image3.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * Released images should be kept within the byte budget.
+     */
+    public void testByteBudget() {
+        ChartRenderingContext context = new ChartRenderingContext(100000L);
+        JFreeChart chart = createChart();
+        BufferedImage image1 = context.drawChart(chart, 200, 100, 
+                BufferedImage.TYPE_INT_RGB, null);
+        BufferedImage image2 = context.drawChart(chart, 100, 100, 
+                BufferedImage.TYPE_INT_RGB, null);
+        BufferedImage image3 = context.drawChart(chart, 200, 200, 
+                BufferedImage.TYPE_INT_RGB, null);
+        context.releaseImage(image1);
+        assertEquals(80000L, context.getByteCount());
+
+        // the least recently used image is dropped
+        context.releaseImage(image2);
+        assertEquals(40000L, context.getByteCount());
+        assertNotSame(image1, context.drawChart(chart, 200, 100, 
+                BufferedImage.TYPE_INT_RGB, null));
+
+        // an image larger than the budget is not kept
+        context.releaseImage(image3);
+        assertEquals(40000L, context.getByteCount());
+        context.setMaximumByteCount(30000L);
+        assertEquals(0L, context.getByteCount());
+    }
+
+    /**
+     * Encoders should be reused until the context is cleared.
+     */
+    public void testGetEncoder() {
+        ChartRenderingContext context = new ChartRenderingContext();
+        ImageEncoder encoder1 = context.getEncoder(ImageFormat.PNG);
+        assertSame(encoder1, context.getEncoder(ImageFormat.PNG));
+        ImageEncoder encoder2 = context.getEncoder(ImageFormat.JPEG, 0.5f, 
+                false);
+        assertSame(encoder2, context.getEncoder(ImageFormat.JPEG, 0.5f, 
+                false));
+        assertNotSame(encoder2, context.getEncoder(ImageFormat.JPEG, 0.6f, 
+                false));
+        context.clear();
+        assertNotSame(encoder1, context.getEncoder(ImageFormat.PNG));
+    }
+
+}
@@ -0,0 +1,527 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * JFreeChartTests.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Added tests for concurrent drawing (DG);
+ * 18-Oct-2026 : Added testScrollingCreatesOneView() (DG);
+ *
+ */
+package org.jfree.chart.junit;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.event.PlotChangeListener;
+import org.jfree.chart.plot.PiePlot;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.category.CategoryStepRenderer;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.Range;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.xy.DownsampledXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link JFreeChart} class.
+ */
+public class JFreeChartTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(JFreeChartTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public JFreeChartTests(String name) {
+        super(name);
+    }
+
+    /**
+     * A listener that counts the chart change events.
+     */
+    static class Counter implements ChartChangeListener {
+
+        /** The event count. */
+        int count;
+
+        /**
+         * Counts an event.
+         * 
+         * @param event  the event.
+         */
+        public void chartChanged(ChartChangeEvent event) {
+            this.count++;
+        }
+
+    }
+
+    /**
+     * One event is sent at the end of an update.
+     */
+    public void testUpdate() {
+        PiePlot plot = new PiePlot(new DefaultPieDataset());
+        JFreeChart chart = new JFreeChart(plot);
+        Counter counter = new Counter();
+        chart.addChangeListener(counter);
+        chart.beginUpdate();
+        try {
+            plot.setBackgroundPaint(Color.red);
+            plot.setNoDataMessage("None");
+            chart.setBackgroundPaint(Color.green);
+        }
+        finally {
+            chart.endUpdate();
+        }
+        assertEquals(1, counter.count);
+    }
+
+    /**
+     * The update ends even if a plot listener throws an exception, so that
+     * later changes are still reported.
+     */
+    public void testUpdateWithFailingListener() {
+        final PiePlot plot = new PiePlot(new DefaultPieDataset());
+        JFreeChart chart = new JFreeChart(plot);
+        Counter counter = new Counter();
+        chart.addChangeListener(counter);
+        final RuntimeException error = new RuntimeException("Test.");
+        PlotChangeListener failing = new PlotChangeListener() {
+            public void plotChanged(PlotChangeEvent event) {
+                throw error;
+            }
+        };
+        plot.addChangeListener(failing);
+        chart.beginUpdate();
+        plot.setBackgroundPaint(Color.red);
+        try {
+            chart.endUpdate();
+            fail("Expected a RuntimeException.");
+        }
+        catch (RuntimeException e) {
+            assertSame(error, e);
+        }
+        plot.removeChangeListener(failing);
+        int count = counter.count;
+        plot.setBackgroundPaint(Color.blue);
+        assertEquals(count + 1, counter.count);
+    }
+
+    /**
+     * Creates an XY chart with fixed axis ranges.
+     * 
+     * @param series  the series.
+     * 
+     * @return The chart.
+     */
+    private JFreeChart createXYChart(XYSeries series) {
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y", 
+                new XYSeriesCollection(series), PlotOrientation.VERTICAL, 
+                true, false, false);
+        chart.setAntiAlias(false);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.getDomainAxis().setRange(0.0, 100.0);
+        plot.getRangeAxis().setRange(-10.0, 110.0);
+        return chart;
+    }
+
+    /**
+     * Draws a chart into a new image.
+     * 
+     * @param chart  the chart.
+     * 
+     * @return The image.
+     */
+    private BufferedImage draw(JFreeChart chart) {
+        return draw(chart, 400, 300);
+    }
+
+    /**
+     * Draws a chart into a new image.
+     * 
+     * @param chart  the chart.
+     * @param width  the image width.
+     * @param height  the image height.
+     * 
+     * @return The image.
+     */
+    private static BufferedImage draw(JFreeChart chart, int width, 
+                                      int height) {
+        BufferedImage image = new BufferedImage(width, height, 
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0.0, 0.0, width, height));
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Checks that two images have the same pixels.
+     * 
+     * @param expected  the expected image.
+     * @param actual  the actual image.
+     */
+    private void assertSamePixels(BufferedImage expected, 
+                                  BufferedImage actual) {
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if (expected.getRGB(x, y) != actual.getRGB(x, y)) {
+                    fail("Pixels differ at (" + x + ", " + y + ").");
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that two images have the same pixels, apart from pixels that 
+     * are one pixel to the left or right of the expected position (lines 
+     * that are scrolled can be rasterized differently, because of rounding
+     * in the item coordinates).
+     * 
+     * @param expected  the expected image.
+     * @param actual  the actual image.
+     */
+    private void assertSimilarPixels(BufferedImage expected, 
+                                     BufferedImage actual) {
+        int width = expected.getWidth();
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 1; x < width - 1; x++) {
+                int rgb = actual.getRGB(x, y);
+                if (expected.getRGB(x, y) != rgb 
+                        && expected.getRGB(x - 1, y) != rgb 
+                        && expected.getRGB(x + 1, y) != rgb) {
+                    fail("Pixels differ at (" + x + ", " + y + ").");
+                }
+            }
+        }
+    }
+
+    /**
+     * A chart drawn with the layer cache looks the same as a chart drawn 
+     * without it, after data and setting changes.
+     */
+    public void testLayerCache() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 50; i++) {
+            series.add(i, i % 7 * 10.0);
+        }
+        JFreeChart chart = createXYChart(series);
+        chart.setLayerCacheEnabled(true);
+        assertTrue(chart.isLayerCacheEnabled());
+        draw(chart);
+
+        // a data change only redraws the data layer
+        series.add(50.0, 100.0);
+        BufferedImage cached = draw(chart);
+        chart.setLayerCacheEnabled(false);
+        assertSamePixels(draw(chart), cached);
+
+        // a setting change rebuilds the static layer
+        chart.setLayerCacheEnabled(true);
+        draw(chart);
+        chart.setTitle("New Title");
+        ((XYPlot) chart.getPlot()).setDomainGridlinePaint(Color.red);
+        cached = draw(chart);
+        chart.setLayerCacheEnabled(false);
+        assertSamePixels(draw(chart), cached);
+    }
+
+    /**
+     * A strip chart that is scrolled by a whole number of pixels looks the 
+     * same (to within a pixel) as a chart drawn in full, and only the new 
+     * items are rendered.
+     */
+    public void testIncrementalScrolling() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i <= 100; i++) {
+            series.add(i, i % 7 * 10.0);
+        }
+        CountingCollection dataset = new CountingCollection(series);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, true, false, false);
+        chart.setAntiAlias(false);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        ValueAxis axis = plot.getDomainAxis();
+        axis.setFixedAutoRange(100.0);
+        plot.getRangeAxis().setRange(-10.0, 110.0);
+        chart.setLayerCacheEnabled(true);
+        chart.setIncrementalScrolling(true);
+        assertTrue(chart.isIncrementalScrolling());
+
+        // find a step that moves the axis by three pixels
+        series.add(101.0, 0.0);
+        draw(chart);
+        double width = plot.getLastDataArea().getWidth();
+        double step = 3.0 * axis.getRange().getLength() / width;
+
+        double x = series.getMaxX();
+        BufferedImage scrolled = null;
+        for (int i = 0; i < 5; i++) {
+            x = x + step;
+            series.add(x, i * 20.0);
+            dataset.reads = 0;
+            scrolled = draw(chart);
+        }
+        int scrolledReads = dataset.reads;
+        chart.setIncrementalScrolling(false);
+        dataset.reads = 0;
+        assertSimilarPixels(draw(chart), scrolled);
+        assertTrue(scrolledReads * 4 < dataset.reads);
+    }
+
+    /**
+     * The check for whether a chart with a {@link DownsampledXYDataset} can
+     * be scrolled doesn't create a view, so only the plot creates one per 
+     * draw.
+     */
+    public void testScrollingCreatesOneView() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i <= 1000; i++) {
+            series.add(i, i % 7 * 10.0);
+        }
+        CountingDownsampledDataset dataset = new CountingDownsampledDataset(
+                new XYSeriesCollection(series));
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, true, false, false);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.getDomainAxis().setFixedAutoRange(100.0);
+        chart.setLayerCacheEnabled(true);
+        chart.setIncrementalScrolling(true);
+        draw(chart);
+        for (int i = 0; i < 3; i++) {
+            series.add(1001.0 + i, 0.0);
+            dataset.views = 0;
+            draw(chart);
+            assertEquals(1, dataset.views);
+        }
+    }
+
+    /**
+     * A downsampled dataset that counts the views created.
+     */
+    static class CountingDownsampledDataset extends DownsampledXYDataset {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 1L;
+
+        /** The number of views created. */
+        int views;
+
+        /**
+         * Creates a new dataset.
+         * 
+         * @param underlying  the underlying dataset.
+         */
+        CountingDownsampledDataset(XYDataset underlying) {
+            super(underlying, 50);
+        }
+
+        /**
+         * Returns a view, counting the call.
+         * 
+         * @param range  the range.
+         * @param length  the length.
+         * 
+         * @return The view.
+         */
+        public XYDataset createDomainView(Range range, double length) {
+            this.views++;
+            return super.createDomainView(range, length);
+        }
+
+    }
+
+    /**
+     * A category step chart drawn by several threads at different sizes 
+     * looks the same as the chart drawn by one thread.
+     */
+    public void testConcurrentDrawing() throws InterruptedException {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        for (int i = 0; i < 40; i++) {
+            dataset.addValue(i % 7 * 10.0, "S1", new Integer(i));
+            dataset.addValue(i % 5 * 12.0, "S2", new Integer(i));
+        }
+        final JFreeChart chart = ChartFactory.createLineChart("Title", "X", 
+                "Y", dataset, PlotOrientation.VERTICAL, true, false, false);
+        chart.setAntiAlias(false);
+        chart.getCategoryPlot().setRenderer(new CategoryStepRenderer(true));
+        final BufferedImage large = draw(chart, 400, 300);
+        final BufferedImage small = draw(chart, 250, 200);
+
+        chart.setConcurrentDrawingEnabled(true);
+        assertTrue(chart.isConcurrentDrawingEnabled());
+        final List failures = new ArrayList();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                public void run() {
+                    for (int j = 0; j < 20; j++) {
+                        if (!samePixels(large, draw(chart, 400, 300))
+                                || !samePixels(small, draw(chart, 250, 200))) {
+                            synchronized (failures) {
+                                failures.add(Thread.currentThread());
+                            }
+                        }
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+        }
+        assertEquals(0, failures.size());
+    }
+
+    /**
+     * Only a draw with an anchor point updates the crosshair values of an 
+     * XY plot, so concurrent draws (which have none) leave them alone.
+     */
+    public void testCrosshairUpdate() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 50; i++) {
+            series.add(i, i % 7 * 10.0);
+        }
+        JFreeChart chart = createXYChart(series);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.setDomainCrosshairValue(20.0);
+        plot.setRangeCrosshairValue(30.0);
+        draw(chart);
+        assertEquals(20.0, plot.getDomainCrosshairValue(), 0.0);
+        assertEquals(30.0, plot.getRangeCrosshairValue(), 0.0);
+
+        // the crosshair locks on to the item nearest to the anchor
+        Rectangle2D plotArea = new Rectangle2D.Double(0.0, 0.0, 400.0, 300.0);
+        BufferedImage image = new BufferedImage(400, 300, 
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        plot.draw(g2, plotArea, null, null, null);
+        Rectangle2D dataArea = plot.getLastDataArea();
+        double xx = plot.getDomainAxis().valueToJava2D(10.0, dataArea, 
+                plot.getDomainAxisEdge());
+        double yy = plot.getRangeAxis().valueToJava2D(30.0, dataArea, 
+                plot.getRangeAxisEdge());
+        assertEquals(20.0, plot.getDomainCrosshairValue(), 0.0);
+        plot.draw(g2, plotArea, new Point2D.Double(xx, yy), null, null);
+        g2.dispose();
+        assertEquals(10.0, plot.getDomainCrosshairValue(), 0.0);
+        assertEquals(30.0, plot.getRangeCrosshairValue(), 0.0);
+    }
+
+    /**
+     * Returns <code>true</code> if two images have the same pixels.
+     * 
+     * @param expected  the expected image.
+     * @param actual  the actual image.
+     * 
+     * @return A boolean.
+     */
+    private static boolean samePixels(BufferedImage expected, 
+                                      BufferedImage actual) {
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if (expected.getRGB(x, y) != actual.getRGB(x, y)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A collection that counts the y-values read.
+     */
+    static class CountingCollection extends XYSeriesCollection {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 1L;
+
+        /** The number of y-values read. */
+        int reads;
+
+        /**
+         * Creates a new collection.
+         * 
+         * @param series  the series.
+         */
+        CountingCollection(XYSeries series) {
+            super(series);
+        }
+
+        /**
+         * Returns a y-value.
+         * 
+         * @param series  the series index.
+         * @param item  the item index.
+         * 
+         * @return The y-value.
+         */
+        public double getYValue(int series, int item) {
+            this.reads++;
+            return super.getYValue(series, item);
+        }
+
+    }
+
+}
@@ -129,6 +129,7 @@
  * 09-Jun-2005 : Added setRenderers(), as per RFE 1183100 (DG);
  * 16-Jun-2005 : Added getDomainAxisCount() and getRangeAxisCount() methods, to
  *               match XYPlot (see RFE 1220495) (DG);
+ * 17-Oct-2026 : Added getDatasetCount() method, to match XYPlot (DG);
  * 
  */
 
@@ -1006,6 +1007,18 @@ public class CategoryPlot extends Plot
         return result;
     }
 
+    /**
+     * Returns the number of dataset slots in the plot (some of the slots may
+     * hold <code>null</code>).
+     *
+     * @return The dataset count.
+     * 
+     * @since 1.0.3
+     */
+    public int getDatasetCount() {
+        return this.datasets.size();
+    }
+
     /**
      * Sets the dataset for the plot, replacing the existing dataset, if there 
      * is one.  This method also calls the 
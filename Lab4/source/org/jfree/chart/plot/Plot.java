@@ -111,6 +111,9 @@
  * 05-May-2005 : Removed unused draw() method (DG);
  * 06-Jun-2005 : Fixed bugs in equals() method (DG);
  * 01-Sep-2005 : Moved dataAreaRatio from here to ContourPlot (DG);
+ * 17-Oct-2026 : Added beginUpdate() and endUpdate() (DG);
+ * 17-Oct-2026 : Keep the event type in the event sent by endUpdate() (DG);
+ * 18-Oct-2026 : Documented the use of try/finally with beginUpdate() (DG);
  *
  */
 
@@ -238,6 +241,18 @@ public abstract class Plot extends AbstractContentBlock
     /** Storage for registered change listeners. */
     private transient EventListenerList listenerList;
 
+    /** The number of nested {@link #beginUpdate()} calls still open. */
+    private transient int updateDepth;
+
+    /** A flag that records a change made during an update. */
+    private transient boolean updatePending;
+
+    /** 
+     * The type of the changes made during an update (GENERAL if the changes 
+     * were of different types).
+     */
+    private transient ChartChangeEventType updateType;
+
     /**
      * Creates a new plot with default settings.
      */
@@ -573,6 +588,55 @@ public abstract class Plot extends AbstractContentBlock
         this.listenerList.remove(PlotChangeListener.class, listener);
     }
 
+    /**
+     * Starts an update.  Until the matching call to {@link #endUpdate()}, 
+     * the plot does not send a {@link PlotChangeEvent} for each change to 
+     * the plot or to its axes, renderers and datasets.  Instead, one event 
+     * is sent when the update ends.  Updates can be nested.
+     * <p>
+     * Each call must be matched by a call to {@link #endUpdate()}, even if 
+     * an exception is thrown, otherwise the plot never sends another 
+     * change event.  Use a <code>try/finally</code> block:
+     * <pre>
+     * plot.beginUpdate();
+     * try {
+     *     ...
+     * }
+     * finally {
+     *     plot.endUpdate();
+     * }
+     * </pre>
+     * 
+     * @see JFreeChart#beginUpdate()
+     * 
+     * @since 1.0.3
+     */
+    public void beginUpdate() {
+        this.updateDepth++;
+    }
+
+    /**
+     * Ends an update started with {@link #beginUpdate()}, and sends a single
+     * {@link PlotChangeEvent} if the plot changed during the (outermost) 
+     * update.
+     * 
+     * @throws IllegalStateException if there is no update in progress.
+     * 
+     * @since 1.0.3
+     */
+    public void endUpdate() {
+        if (this.updateDepth == 0) {
+            throw new IllegalStateException("No update in progress.");
+        }
+        this.updateDepth--;
+        if (this.updateDepth == 0 && this.updatePending) {
+            this.updatePending = false;
+            PlotChangeEvent event = new PlotChangeEvent(this);
+            event.setType(this.updateType);
+            notifyListeners(event);
+        }
+    }
+
     /**
      * Notifies all registered listeners that the plot has been modified.
      *
@@ -580,6 +644,17 @@ public abstract class Plot extends AbstractContentBlock
      */
     public void notifyListeners(PlotChangeEvent event) {
 
+        if (this.updateDepth > 0) {
+            if (!this.updatePending) {
+                this.updateType = event.getType();
+            }
+            else if (this.updateType != event.getType()) {
+                this.updateType = ChartChangeEventType.GENERAL;
+            }
+            this.updatePending = true;
+            return;
+        }
+
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == PlotChangeListener.class) {
@@ -885,6 +960,9 @@ public abstract class Plot extends AbstractContentBlock
         clone.drawingSupplier 
             = (DrawingSupplier) ObjectUtilities.clone(this.drawingSupplier);
         clone.listenerList = new EventListenerList();
+        clone.updateDepth = 0;
+        clone.updatePending = false;
+        clone.updateType = null;
         return clone;
 
     }
@@ -156,6 +156,19 @@
  * 21-Apr-2005 : Added get/setSeriesRenderingOrder() methods (ET);
  * 06-Jul-2005 : Fixed crosshair bug (id = 1233336) (DG);
  * 26-Jan-2006 : Added getAnnotations() method (DG);
+ * 17-Oct-2026 : Only pass the visible items to the renderer when the dataset
+ *               is ordered by x-value (DG);
+ * 17-Oct-2026 : Pass the visible domain range to datasets that implement
+ *               DomainViewAware (DG);
+ * 17-Oct-2026 : Split the data layer out of the draw() method (DG);
+ * 17-Oct-2026 : Added a domain window for drawing part of the data
+ *               layer (DG);
+ * 18-Oct-2026 : Removed the per-draw domain window and crosshair state from
+ *               the plot attributes, and lock DomainViewAware datasets 
+ *               while they are rendered, for concurrent drawing (DG);
+ * 18-Oct-2026 : Render the view created by DomainViewAware datasets (DG);
+ * 18-Oct-2026 : Don't lock DomainViewAware datasets, and only update the 
+ *               crosshair values in draws with an anchor point (DG);
  *
  */
 
@@ -203,12 +216,14 @@ import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.event.RendererChangeListener;
+import org.jfree.chart.renderer.RendererUtilities;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRendererState;
 import org.jfree.data.Range;
 import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.xy.DomainViewAware;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.Layer;
@@ -435,6 +450,15 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     private LegendItemCollection fixedLegendItems;
 
+    /** 
+     * A flag that controls whether the draw() method skips the data layer 
+     * (see {@link #setStaticLayerOnly(boolean)}).
+     */
+    private transient boolean staticLayerOnly;
+
+    /** The data area from the last call to the draw() method. */
+    private transient Rectangle2D lastDataArea;
+
     /**
      * Default constructor.
      */
@@ -2050,6 +2074,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
         boolean b1 = (area.getWidth() <= MINIMUM_WIDTH_TO_DRAW);
         boolean b2 = (area.getHeight() <= MINIMUM_HEIGHT_TO_DRAW);
         if (b1 || b2) {
+            this.lastDataArea = null;
             return;
         }
 
@@ -2059,6 +2084,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
         }
 
         Rectangle2D dataArea = area; 
+        this.lastDataArea = (Rectangle2D) dataArea.clone();
 
         if (info != null) {
             info.setDataArea(dataArea);
@@ -2071,11 +2097,6 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
         if (anchor != null && !dataArea.contains(anchor)) {
             anchor = null;
         }
-        CrosshairState crosshairState = new CrosshairState();
-        crosshairState.setCrosshairDistance(Double.POSITIVE_INFINITY);
-        crosshairState.setAnchor(anchor);
-        crosshairState.setCrosshairX(getDomainCrosshairValue());
-        crosshairState.setCrosshairY(getRangeCrosshairValue());
         Shape originalClip = g2.getClip();
         Composite originalComposite = g2.getComposite();
 
@@ -2100,6 +2121,149 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             drawRangeMarkers(g2, dataArea, i, Layer.BACKGROUND);
         }
         
+        if (!this.staticLayerOnly) {
+            drawDataItems(g2, dataArea, anchor, info, null);
+        }
+        g2.setClip(originalClip);
+        g2.setComposite(originalComposite);
+
+    }
+
+    /**
+     * Draws the data layer of the plot, that is, everything that the 
+     * {@link #draw(Graphics2D, Rectangle2D, Point2D, PlotState, 
+     * PlotRenderingInfo)} method draws after the background, the gridlines 
+     * and the background markers.  The chart uses this method to draw the
+     * data over a cached image of the rest of the chart (see 
+     * {@link org.jfree.chart.JFreeChart#setLayerCacheEnabled(boolean)}).
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area (in Java2D space).
+     * @param anchor  an anchor point in Java2D space (<code>null</code>
+     *                permitted).
+     * @param info  collects chart drawing information (<code>null</code>
+     *              permitted).
+     *
+     * @see #setStaticLayerOnly(boolean)
+     * 
+     * @since 1.0.3
+     */
+    public void drawDataLayer(Graphics2D g2, Rectangle2D dataArea, 
+                              Point2D anchor, PlotRenderingInfo info) {
+        drawDataLayer(g2, dataArea, anchor, info, null);
+    }
+
+    /**
+     * Draws the data layer of the plot, rendering only the data items that 
+     * fall within the specified part of the domain (plus the neighbouring 
+     * items, so that connecting lines are drawn).  This is intended for 
+     * redrawing a narrow strip of the data area, with a clip set by the 
+     * caller, without processing all the items in the plot.  The window
+     * only reduces the number of items processed for datasets with ordered
+     * x-values, and all the other parts of the data layer are drawn in 
+     * full.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area (in Java2D space).
+     * @param anchor  an anchor point in Java2D space (<code>null</code>
+     *                permitted).
+     * @param info  collects chart drawing information (<code>null</code>
+     *              permitted).
+     * @param domainWindow  the part of the domain containing the items to 
+     *                      render (<code>null</code> for the visible range
+     *                      of the domain axis).
+     * 
+     * @since 1.0.3
+     */
+    public void drawDataLayer(Graphics2D g2, Rectangle2D dataArea, 
+                              Point2D anchor, PlotRenderingInfo info, 
+                              Range domainWindow) {
+        if (dataArea == null) {
+            throw new IllegalArgumentException("Null 'dataArea' argument.");
+        }
+        if (anchor != null && !dataArea.contains(anchor)) {
+            anchor = null;
+        }
+        Shape originalClip = g2.getClip();
+        Composite originalComposite = g2.getComposite();
+        g2.clip(dataArea);
+        g2.setComposite(
+            AlphaComposite.getInstance(
+                AlphaComposite.SRC_OVER, getForegroundAlpha()
+            )
+        );
+        drawDataItems(g2, dataArea, anchor, info, domainWindow);
+        g2.setClip(originalClip);
+        g2.setComposite(originalComposite);
+    }
+
+    /**
+     * Returns the flag that controls whether the draw() method skips the 
+     * data layer.
+     * 
+     * @return A boolean.
+     * 
+     * @see #setStaticLayerOnly(boolean)
+     * 
+     * @since 1.0.3
+     */
+    public boolean isStaticLayerOnly() {
+        return this.staticLayerOnly;
+    }
+
+    /**
+     * Sets the flag that controls whether the draw() method skips the data 
+     * layer (see {@link #drawDataLayer(Graphics2D, Rectangle2D, Point2D, 
+     * PlotRenderingInfo)}).  This is a drawing mode rather than a plot 
+     * attribute, so no change event is sent to registered listeners.
+     * 
+     * @param flag  the flag.
+     * 
+     * @since 1.0.3
+     */
+    public void setStaticLayerOnly(boolean flag) {
+        this.staticLayerOnly = flag;
+    }
+
+    /**
+     * Returns the data area from the most recent call to the draw() method.
+     * 
+     * @return The data area (possibly <code>null</code>).
+     * 
+     * @since 1.0.3
+     */
+    public Rectangle2D getLastDataArea() {
+        if (this.lastDataArea == null) {
+            return null;
+        }
+        return (Rectangle2D) this.lastDataArea.clone();
+    }
+
+    /**
+     * Draws the annotations, the data items, the crosshairs and the 
+     * foreground markers.  The caller is responsible for setting up (and 
+     * restoring) the clip and composite.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area (in Java2D space).
+     * @param anchor  an anchor point in Java2D space (<code>null</code>
+     *                permitted).
+     * @param info  collects chart drawing information (<code>null</code>
+     *              permitted).
+     * @param domainWindow  the part of the domain containing the items to 
+     *                      render (<code>null</code> for the visible range
+     *                      of the domain axis).
+     */
+    private void drawDataItems(Graphics2D g2, Rectangle2D dataArea, 
+                               Point2D anchor, PlotRenderingInfo info,
+                               Range domainWindow) {
+
+        CrosshairState crosshairState = new CrosshairState();
+        crosshairState.setCrosshairDistance(Double.POSITIVE_INFINITY);
+        crosshairState.setAnchor(anchor);
+        crosshairState.setCrosshairX(getDomainCrosshairValue());
+        crosshairState.setCrosshairY(getRangeCrosshairValue());
+
         // now draw annotations and render data items...
         boolean foundData = false;
         DatasetRenderingOrder order = getDatasetRenderingOrder();
@@ -2121,8 +2285,9 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
 
             // render data items...
             for (int i = 0; i < getDatasetCount(); i++) {
-                foundData = render(g2, dataArea, i, info, crosshairState)
-                    || foundData;
+                foundData = render(
+                    g2, dataArea, i, info, crosshairState, domainWindow
+                ) || foundData;
             }
 
             // draw foreground annotations
@@ -2156,8 +2321,9 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             }
 
             for (int i = getDatasetCount() - 1; i >= 0; i--) {
-                foundData = render(g2, dataArea, i, info, crosshairState)
-                    || foundData;
+                foundData = render(
+                    g2, dataArea, i, info, crosshairState, domainWindow
+                ) || foundData;
             }
 
             // draw foreground annotations
@@ -2184,9 +2350,15 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             );
             crosshairState.setCrosshairX(xx);
         }
-        setDomainCrosshairValue(crosshairState.getCrosshairX(), false);
+        // the crosshairs are drawn from the values found in this draw, and
+        // only a draw with an anchor point (from a single-threaded mouse 
+        // click) can move them, so draws without one never write the plot
+        // attributes that concurrent draws read...
+        double x = crosshairState.getCrosshairX();
+        if (anchor != null && x != getDomainCrosshairValue()) {
+            setDomainCrosshairValue(x, false);
+        }
         if (isDomainCrosshairVisible()) {
-            double x = getDomainCrosshairValue();
             Paint paint = getDomainCrosshairPaint();
             Stroke stroke = getDomainCrosshairStroke();
             if (orient == PlotOrientation.HORIZONTAL) {
@@ -2204,10 +2376,12 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             );
             crosshairState.setCrosshairY(yy);
         }
-        setRangeCrosshairValue(crosshairState.getCrosshairY(), false);
+        double y = crosshairState.getCrosshairY();
+        if (anchor != null && y != getRangeCrosshairValue()) {
+            setRangeCrosshairValue(y, false);
+        }
         if (isRangeCrosshairVisible()
-            && getRangeAxis().getRange().contains(getRangeCrosshairValue())) {
-            double y = getRangeCrosshairValue();
+            && getRangeAxis().getRange().contains(y)) {
             Paint paint = getRangeCrosshairPaint();
             Stroke stroke = getRangeCrosshairStroke();
             if (orient == PlotOrientation.HORIZONTAL) {
@@ -2229,8 +2403,6 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             drawRangeMarkers(g2, dataArea, i, Layer.FOREGROUND);
         }
         drawAnnotations(g2, dataArea, info);
-        g2.setClip(originalClip);
-        g2.setComposite(originalComposite);
 
     }
     
@@ -2443,6 +2615,14 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      * <P>
      * The <code>info</code> and <code>crosshairState</code> arguments may be
      * <code>null</code>.
+     * <P>
+     * If the dataset reports that its x-values are ordered (see 
+     * {@link XYDataset#getDomainOrder()}), only the items that fall within 
+     * the current domain axis range (plus one neighbour on each side) are 
+     * passed to the renderer, unless the renderer's state disables this.
+     * If the dataset implements {@link DomainViewAware}, the dataset it 
+     * creates for the visible domain range is rendered in its place.  Each
+     * draw renders its own view, so the dataset is not locked.
      *
      * @param g2  the graphics device.
      * @param dataArea  the region in which the data is to be drawn.
@@ -2458,9 +2638,70 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
                           int index,
                           PlotRenderingInfo info,
                           CrosshairState crosshairState) {
+        return render(g2, dataArea, index, info, crosshairState, null);
+    }
 
-        boolean foundData = false;
+    /**
+     * Draws a representation of the data within the dataArea region, 
+     * rendering only the items that fall within the domain window (if there
+     * is one).
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param index  the dataset index.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        (<code>null</code> permitted).
+     * @param domainWindow  the part of the domain containing the items to 
+     *                      render (<code>null</code> for the visible range
+     *                      of the domain axis).
+     *
+     * @return A flag that indicates whether any data was actually rendered.
+     */
+    private boolean render(Graphics2D g2, Rectangle2D dataArea, int index,
+                           PlotRenderingInfo info, 
+                           CrosshairState crosshairState, 
+                           Range domainWindow) {
         XYDataset dataset = getDataset(index);
+        if (dataset instanceof DomainViewAware) {
+            ValueAxis axis = getDomainAxisForDataset(index);
+            double length = dataArea.getHeight();
+            if (this.orientation == PlotOrientation.VERTICAL) {
+                length = dataArea.getWidth();
+            }
+            XYDataset view = ((DomainViewAware) dataset).createDomainView(
+                axis.getRange(), length
+            );
+            return renderItems(
+                g2, dataArea, index, view, info, crosshairState, domainWindow
+            );
+        }
+        return renderItems(
+            g2, dataArea, index, dataset, info, crosshairState, domainWindow
+        );
+    }
+
+    /**
+     * Passes the items in a dataset to the renderer.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param index  the dataset index.
+     * @param dataset  the dataset (<code>null</code> permitted).
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        (<code>null</code> permitted).
+     * @param domainWindow  the part of the domain containing the items to 
+     *                      render (<code>null</code> permitted).
+     *
+     * @return A flag that indicates whether any data was actually rendered.
+     */
+    private boolean renderItems(Graphics2D g2, Rectangle2D dataArea, 
+                                int index, XYDataset dataset, 
+                                PlotRenderingInfo info, 
+                                CrosshairState crosshairState, 
+                                Range domainWindow) {
+        boolean foundData = false;
         if (!DatasetUtilities.isEmptyOrNull(dataset)) {
             foundData = true;
             ValueAxis xAxis = getDomainAxisForDataset(index);
@@ -2474,6 +2715,12 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
                 g2, dataArea, this, dataset, info
             );
             int passCount = renderer.getPassCount();
+            double xLow = xAxis.getLowerBound();
+            double xHigh = xAxis.getUpperBound();
+            if (domainWindow != null) {
+                xLow = Math.max(xLow, domainWindow.getLowerBound());
+                xHigh = Math.min(xHigh, domainWindow.getUpperBound());
+            }
 
             SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
             if (seriesOrder == SeriesRenderingOrder.REVERSE) {
@@ -2481,8 +2728,23 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
                 for (int pass = 0; pass < passCount; pass++) {
                     int seriesCount = dataset.getSeriesCount();
                     for (int series = seriesCount-1; series >= 0 ; series--) {
-                        int itemCount = dataset.getItemCount(series);
-                        for (int item = 0; item < itemCount; item++) {
+                        int firstItem = 0;
+                        int lastItem = dataset.getItemCount(series) - 1;
+                        if (lastItem < 0) {
+                            continue;
+                        }
+                        if (state.getProcessVisibleItemsOnly()) {
+                            int[] itemBounds = RendererUtilities.findLiveItems(
+                                dataset, series, xLow, xHigh
+                            );
+                            firstItem = itemBounds[0];
+                            lastItem = itemBounds[1];
+                        }
+                        state.startSeriesPass(
+                            dataset, series, firstItem, lastItem, pass, 
+                            passCount
+                        );
+                        for (int item = firstItem; item <= lastItem; item++) {
                             renderer.drawItem(
                                 g2, state, dataArea, info,
                                 this, xAxis, yAxis, dataset, series, item,
@@ -2497,8 +2759,23 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
                 for (int pass = 0; pass < passCount; pass++) {
                     int seriesCount = dataset.getSeriesCount();
                     for (int series = 0; series < seriesCount; series++) {
-                        int itemCount = dataset.getItemCount(series);
-                        for (int item = 0; item < itemCount; item++) {
+                        int firstItem = 0;
+                        int lastItem = dataset.getItemCount(series) - 1;
+                        if (lastItem < 0) {
+                            continue;
+                        }
+                        if (state.getProcessVisibleItemsOnly()) {
+                            int[] itemBounds = RendererUtilities.findLiveItems(
+                                dataset, series, xLow, xHigh
+                            );
+                            firstItem = itemBounds[0];
+                            lastItem = itemBounds[1];
+                        }
+                        state.startSeriesPass(
+                            dataset, series, firstItem, lastItem, pass, 
+                            passCount
+                        );
+                        for (int item = firstItem; item <= lastItem; item++) {
                             renderer.drawItem(
                                 g2, state, dataArea, info,
                                 this, xAxis, yAxis, dataset, series, item,
@@ -0,0 +1,201 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * RendererUtilities.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes:
+ * --------
+ * 17-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Utility methods related to the rendering process.
+ * 
+ * @since 1.0.3
+ */
+public class RendererUtilities {
+    
+    /**
+     * Private constructor prevents object creation.
+     */
+    private RendererUtilities() {
+    }
+
+    /**
+     * Finds the lower index of the range of live items in the specified data
+     * series.  An item is "live" if it falls within the range 
+     * <code>xLow</code> to <code>xHigh</code>, or if it is the neighbour 
+     * immediately before the first such item (so that a line joining the 
+     * two items can be drawn).  When the dataset does not declare an 
+     * ordering for its x-values, all items are considered live.
+     * 
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param xLow  the lowest x-value in the live range.
+     * @param xHigh  the highest x-value in the live range.
+     * 
+     * @return The index of the lowest live item.
+     * 
+     * @see #findLiveItemsUpperBound(XYDataset, int, double, double)
+     */
+    public static int findLiveItemsLowerBound(XYDataset dataset, int series, 
+                                              double xLow, double xHigh) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        int itemCount = dataset.getItemCount(series);
+        if (itemCount <= 1) {
+            return 0;
+        }
+        DomainOrder order = dataset.getDomainOrder();
+        if (order == DomainOrder.ASCENDING) {
+            // find the first item with x >= xLow...
+            int low = 0;
+            int high = itemCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (dataset.getXValue(series, mid) < xLow) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return Math.min(Math.max(low - 1, 0), itemCount - 1);
+        }
+        else if (order == DomainOrder.DESCENDING) {
+            // find the first item with x <= xHigh...
+            int low = 0;
+            int high = itemCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (dataset.getXValue(series, mid) > xHigh) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return Math.min(Math.max(low - 1, 0), itemCount - 1);
+        }
+        return 0;
+    }
+
+    /**
+     * Finds the upper index of the range of live items in the specified data
+     * series.  An item is "live" if it falls within the range 
+     * <code>xLow</code> to <code>xHigh</code>, or if it is the neighbour 
+     * immediately after the last such item.  When the dataset does not 
+     * declare an ordering for its x-values, all items are considered live.
+     * 
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param xLow  the lowest x-value in the live range.
+     * @param xHigh  the highest x-value in the live range.
+     * 
+     * @return The index of the highest live item.
+     * 
+     * @see #findLiveItemsLowerBound(XYDataset, int, double, double)
+     */
+    public static int findLiveItemsUpperBound(XYDataset dataset, int series, 
+                                              double xLow, double xHigh) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        int itemCount = dataset.getItemCount(series);
+        if (itemCount <= 1) {
+            return itemCount - 1;
+        }
+        DomainOrder order = dataset.getDomainOrder();
+        if (order == DomainOrder.ASCENDING) {
+            // find the first item with x > xHigh...
+            int low = 0;
+            int high = itemCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (dataset.getXValue(series, mid) <= xHigh) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return Math.max(Math.min(low, itemCount - 1), 0);
+        }
+        else if (order == DomainOrder.DESCENDING) {
+            // find the first item with x < xLow...
+            int low = 0;
+            int high = itemCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (dataset.getXValue(series, mid) >= xLow) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return Math.max(Math.min(low, itemCount - 1), 0);
+        }
+        return itemCount - 1;
+    }
+
+    /**
+     * Finds a range of item indices that is guaranteed to contain all the
+     * x-values from <code>xLow</code> to <code>xHigh</code> (inclusive), plus
+     * one neighbouring item on each side.
+     * 
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param xLow  the lower bound of the x-value range.
+     * @param xHigh  the upper bound of the x-value range.
+     * 
+     * @return The indices of the boundary items (an array of length 2).
+     */
+    public static int[] findLiveItems(XYDataset dataset, int series, 
+                                      double xLow, double xHigh) {
+        int i0 = findLiveItemsLowerBound(dataset, series, xLow, xHigh);
+        int i1 = findLiveItemsUpperBound(dataset, series, xLow, xHigh);
+        if (i0 > i1) {
+            i0 = i1;
+        }
+        return new int[] {i0, i1};
+    }
+
+}
@@ -80,6 +80,8 @@
  * 09-Jun-2005 : Added utility method for adding an item entity (DG);
  * 01-Mar-2006 : Updated getLegendItems() to check seriesVisibleInLegend 
  *               flags (DG);
+ * 17-Oct-2026 : Record compact item entities in addItemEntity() when the
+ *               collection is a CompactEntityCollection (DG);
  *               
  */
 
@@ -101,6 +103,7 @@ import org.jfree.chart.LegendItemCollection;
 import org.jfree.chart.axis.CategoryAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.entity.CategoryItemEntity;
+import org.jfree.chart.entity.CompactEntityCollection;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.labels.CategoryItemLabelGenerator;
@@ -1435,6 +1438,12 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
                                  CategoryDataset dataset, int row, int column,
                                  Shape hotspot) {
 
+        if (entities instanceof CompactEntityCollection) {
+            // the collection decides when the tool tip and URL are generated
+            ((CompactEntityCollection) entities).addItem(this, dataset, row, 
+                    column, hotspot);
+            return;
+        }
         String tip = null;
         CategoryToolTipGenerator tipster = getToolTipGenerator(row, column);
         if (tipster != null) {
@@ -40,6 +40,8 @@
  * 22-Apr-2004 : Fixed Checkstyle complaints (DG);
  * 05-Nov-2004 : Modified drawItem() signature (DG);
  * 08-Mar-2005 : Added equals() method (DG);
+ * 18-Oct-2026 : Replaced the working line with a local line, so that charts
+ *               can be drawn concurrently (DG);
  * 
  */
 
@@ -80,9 +82,6 @@ public class CategoryStepRenderer extends AbstractCategoryItemRenderer
      * staggered. 
      */
     private boolean stagger = false;
-    
-    /** A working line - need to remove this. */
-    private transient Line2D line = new Line2D.Double(0.0, 0.0, 0.0, 0.0);
 
     /** 
      * Creates a new renderer (stagger defaults to <code>false</code>).
@@ -136,12 +135,10 @@ public class CategoryStepRenderer extends AbstractCategoryItemRenderer
                             double x0, double y0, double x1, double y1) {
      
         if (orientation == PlotOrientation.VERTICAL) {
-            this.line.setLine(x0, y0, x1, y1);
-            g2.draw(this.line);
+            g2.draw(new Line2D.Double(x0, y0, x1, y1));
         }
         else if (orientation == PlotOrientation.HORIZONTAL) {
-            this.line.setLine(y0, x0, y1, x1); // switch x and y
-            g2.draw(this.line);
+            g2.draw(new Line2D.Double(y0, x0, y1, x1)); // switch x and y
         }
         // else unknown orientation (complain?)
     }
@@ -52,6 +52,10 @@
  * 29-Oct-2003 : Added workaround for font alignment in PDF output (DG);
  * 05-Nov-2004 : Modified drawItem() signature (DG);
  * 17-Nov-2005 : Added change events and argument checks (DG);
+ * 18-Oct-2026 : Moved the minimum and maximum for the current category to 
+ *               the renderer state, and stopped the icons from modifying 
+ *               their shapes while painting, so that the renderer can be
+ *               shared by concurrent draws (DG);
  * 
  */
 
@@ -83,6 +87,7 @@ import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.labels.CategoryToolTipGenerator;
 import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.io.SerialUtilities;
 
@@ -125,14 +130,38 @@ public class MinMaxCategoryRenderer extends AbstractCategoryItemRenderer {
     private transient Icon objectIcon = getIcon(new Line2D.Double(-4, 0, 4, 0),
             false, true);
 
-    /** The last category. */
-    private int lastCategory = -1;
-
-    /** The minimum. */
-    private double min;
+    /** 
+     * The state used when the drawItem() method is called with a state that
+     * was not created by this renderer.
+     */
+    private transient MinMaxCategoryRendererState defaultState;
 
-    /** The maximum. */
-    private double max;
+    /**
+     * A state object used by this renderer, holding the minimum and maximum
+     * values for the category that is being drawn.
+     */
+    static class MinMaxCategoryRendererState 
+            extends CategoryItemRendererState {
+        
+        /** The last category. */
+        public int lastCategory = -1;
+
+        /** The minimum. */
+        public double min;
+
+        /** The maximum. */
+        public double max;
+
+        /**
+         * Creates a new state.
+         * 
+         * @param info  the plot rendering info.
+         */
+        public MinMaxCategoryRendererState(PlotRenderingInfo info) {
+            super(info);
+        }
+        
+    }
 
     /**
      * Default constructor.
@@ -305,6 +334,27 @@ public class MinMaxCategoryRenderer extends AbstractCategoryItemRenderer {
         notifyListeners(new RendererChangeEvent(this));
     }
 
+    /**
+     * Initialises the renderer and returns a new state object.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area in which the data is drawn.
+     * @param plot  the plot.
+     * @param rendererIndex  the renderer index.
+     * @param info  an object for returning information about the structure 
+     *              of the plot (<code>null</code> permitted).
+     *
+     * @return The renderer state.
+     */
+    public CategoryItemRendererState initialise(Graphics2D g2, 
+                                                Rectangle2D dataArea,
+                                                CategoryPlot plot, 
+                                                int rendererIndex,
+                                                PlotRenderingInfo info) {
+        super.initialise(g2, dataArea, plot, rendererIndex, info);
+        return new MinMaxCategoryRendererState(info);
+    }
+
     /**
      * Draw a single data item.
      *
@@ -324,6 +374,17 @@ public class MinMaxCategoryRenderer extends AbstractCategoryItemRenderer {
             ValueAxis rangeAxis, CategoryDataset dataset, int row, int column,
             int pass) {
 
+        MinMaxCategoryRendererState s;
+        if (state instanceof MinMaxCategoryRendererState) {
+            s = (MinMaxCategoryRendererState) state;
+        }
+        else {
+            if (this.defaultState == null) {
+                this.defaultState = new MinMaxCategoryRendererState(null);
+            }
+            s = this.defaultState;
+        }
+
         // first check the number we are plotting...
         Number value = dataset.getValue(row, column);
         if (value != null) {
@@ -337,19 +398,19 @@ public class MinMaxCategoryRenderer extends AbstractCategoryItemRenderer {
             Shape shape = null;
             shape = new Rectangle2D.Double(x1 - 4, y1 - 4, 8.0, 8.0);
             this.objectIcon.paintIcon(null, g2, (int) x1, (int) y1);
-            if (this.lastCategory == column) {
-                if (this.min > value.doubleValue()) {
-                    this.min = value.doubleValue();
+            if (s.lastCategory == column) {
+                if (s.min > value.doubleValue()) {
+                    s.min = value.doubleValue();
                 }
-                if (this.max < value.doubleValue()) {
-                    this.max = value.doubleValue();
+                if (s.max < value.doubleValue()) {
+                    s.max = value.doubleValue();
                 }
                 if (dataset.getRowCount() - 1 == row) {
                     g2.setPaint(this.groupPaint);
                     g2.setStroke(this.groupStroke);
-                    double minY = rangeAxis.valueToJava2D(this.min, dataArea, 
+                    double minY = rangeAxis.valueToJava2D(s.min, dataArea, 
                             plot.getRangeAxisEdge());
-                    double maxY = rangeAxis.valueToJava2D(this.max, dataArea, 
+                    double maxY = rangeAxis.valueToJava2D(s.max, dataArea, 
                             plot.getRangeAxisEdge());
                     g2.draw(new Line2D.Double(x1, minY, x1, maxY));
                     this.minIcon.paintIcon(null, g2, (int) x1, (int) minY);
@@ -357,9 +418,9 @@ public class MinMaxCategoryRenderer extends AbstractCategoryItemRenderer {
                 }
             }
             else {  // reset the min and max
-                this.lastCategory = column;
-                this.min = value.doubleValue();
-                this.max = value.doubleValue();
+                s.lastCategory = column;
+                s.min = value.doubleValue();
+                s.max = value.doubleValue();
             }
             // connect to the previous point
             if (this.plotLines) {
@@ -419,16 +480,16 @@ public class MinMaxCategoryRenderer extends AbstractCategoryItemRenderer {
       return new Icon() {
           public void paintIcon(Component c, Graphics g, int x, int y) {
               Graphics2D g2 = (Graphics2D) g;
-              path.transform(AffineTransform.getTranslateInstance(x, y));
+              Shape s = path.createTransformedShape(
+                      AffineTransform.getTranslateInstance(x, y));
               if (fillPaint != null) {
                   g2.setPaint(fillPaint);
-                  g2.fill(path);
+                  g2.fill(s);
               }
               if (outlinePaint != null) {
                   g2.setPaint(outlinePaint);
-                  g2.draw(path);
+                  g2.draw(s);
               }
-              path.transform(AffineTransform.getTranslateInstance(-x, -y));
         }
 
         public int getIconWidth() {
@@ -459,14 +520,14 @@ public class MinMaxCategoryRenderer extends AbstractCategoryItemRenderer {
         return new Icon() {
             public void paintIcon(Component c, Graphics g, int x, int y) {
                 Graphics2D g2 = (Graphics2D) g;
-                path.transform(AffineTransform.getTranslateInstance(x, y));
+                Shape s = path.createTransformedShape(
+                        AffineTransform.getTranslateInstance(x, y));
                 if (fill) {
-                    g2.fill(path);
+                    g2.fill(s);
                 }
                 if (outline) {
-                    g2.draw(path);
+                    g2.draw(s);
                 }
-                path.transform(AffineTransform.getTranslateInstance(-x, -y));
             }
 
             public int getIconWidth() {
@@ -0,0 +1,158 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * RendererUtilitiesTests.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.chart.renderer.junit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.renderer.RendererUtilities;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link RendererUtilities} class.
+ */
+public class RendererUtilitiesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(RendererUtilitiesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public RendererUtilitiesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a dataset with one sorted series with x-values 0, 1, ..., 9.
+     *
+     * @param autoSort  the auto sort flag for the series.
+     *
+     * @return The dataset.
+     */
+    private XYSeriesCollection createDataset(boolean autoSort) {
+        XYSeries s = new XYSeries("S", autoSort);
+        for (int i = 0; i < 10; i++) {
+            s.add(i, i);
+        }
+        return new XYSeriesCollection(s);
+    }
+
+    /**
+     * The live range includes one neighbour on each side of the visible 
+     * items.
+     */
+    public void testFindLiveItemsAscending() {
+        XYSeriesCollection d = createDataset(true);
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+        int[] r = RendererUtilities.findLiveItems(d, 0, 3.5, 6.5);
+        assertEquals(3, r[0]);
+        assertEquals(7, r[1]);
+        r = RendererUtilities.findLiveItems(d, 0, 3.0, 6.0);
+        assertEquals(2, r[0]);
+        assertEquals(7, r[1]);
+        r = RendererUtilities.findLiveItems(d, 0, -5.0, 20.0);
+        assertEquals(0, r[0]);
+        assertEquals(9, r[1]);
+    }
+
+    /**
+     * A range that lies entirely outside the data still returns valid 
+     * indices, so that a line crossing the plot can be drawn.
+     */
+    public void testFindLiveItemsOutside() {
+        XYSeriesCollection d = createDataset(true);
+        int[] r = RendererUtilities.findLiveItems(d, 0, 20.0, 30.0);
+        assertEquals(9, r[0]);
+        assertEquals(9, r[1]);
+        r = RendererUtilities.findLiveItems(d, 0, -30.0, -20.0);
+        assertEquals(0, r[0]);
+        assertEquals(0, r[1]);
+        r = RendererUtilities.findLiveItems(d, 0, 4.2, 4.8);
+        assertEquals(4, r[0]);
+        assertEquals(5, r[1]);
+    }
+
+    /**
+     * All items are live when the dataset has no declared order.
+     */
+    public void testFindLiveItemsUnordered() {
+        XYSeriesCollection d = createDataset(false);
+        assertEquals(DomainOrder.NONE, d.getDomainOrder());
+        int[] r = RendererUtilities.findLiveItems(d, 0, 3.5, 6.5);
+        assertEquals(0, r[0]);
+        assertEquals(9, r[1]);
+    }
+
+    /**
+     * An empty series has no live items.
+     */
+    public void testFindLiveItemsEmpty() {
+        XYSeriesCollection d = new XYSeriesCollection(new XYSeries("S"));
+        int[] r = RendererUtilities.findLiveItems(d, 0, 0.0, 1.0);
+        assertEquals(-1, r[1]);
+    }
+
+    /**
+     * A null dataset is rejected.
+     */
+    public void testNullDataset() {
+        try {
+            RendererUtilities.findLiveItems(null, 0, 0.0, 1.0);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -84,6 +84,8 @@
  *               added generators for legend labels, tooltips and URLs (DG);
  * 01-Jun-2005 : Handle one dimension of the marker label adjustment 
  *               automatically (DG);
+ * 17-Oct-2026 : Record compact item entities in addEntity() when the 
+ *               collection is a CompactEntityCollection (DG);
  *
  */
 
@@ -108,6 +110,7 @@ import org.jfree.chart.LegendItem;
 import org.jfree.chart.LegendItemCollection;
 import org.jfree.chart.annotations.XYAnnotation;
 import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.CompactEntityCollection;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.RendererChangeEvent;
@@ -1437,6 +1440,12 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
                 this.defaultEntityRadius * 2, this.defaultEntityRadius * 2
             );
         }
+        if (entities instanceof CompactEntityCollection) {
+            // the collection decides when the tool tip and URL are generated
+            ((CompactEntityCollection) entities).addItem(this, dataset, 
+                    series, item, area);
+            return;
+        }
         String tip = null;
         XYToolTipGenerator generator = getToolTipGenerator(series, item);
         if (generator != null) {
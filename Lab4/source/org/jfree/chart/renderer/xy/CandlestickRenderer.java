@@ -73,6 +73,9 @@
  * 25-Feb-2004 : Replaced CrosshairInfo with CrosshairState (DG);
  * 15-Jul-2004 : Switched getX() with getXValue() and getY() with 
  *               getYValue() (DG);
+ * 18-Oct-2026 : Moved the maximum candle width and volume to the renderer
+ *               state, so that the renderer can be shared by concurrent
+ *               draws (DG);
  * 
  */
 
@@ -154,9 +157,6 @@ public class CandlestickRenderer extends AbstractXYItemRenderer
     
     /** The maximum candlewidth in milliseconds. */
     private double maxCandleWidthInMilliseconds = 1000.0 * 60.0 * 60.0 * 20.0;
-    
-    /** Temporary storage for the maximum candle width. */
-    private double maxCandleWidth;
 
     /** 
      * The paint used to fill the candle when the price moved up from open to 
@@ -173,8 +173,28 @@ public class CandlestickRenderer extends AbstractXYItemRenderer
     /** A flag controlling whether or not volume bars are drawn on the chart. */
     private boolean drawVolume;
     
-    /** Temporary storage for the maximum volume. */
-    private transient double maxVolume;
+    /**
+     * A state object used by this renderer.  The values depend on the size
+     * of the data area, so they are kept here rather than in the renderer.
+     */
+    static class CandlestickRendererState extends XYItemRendererState {
+        
+        /** The maximum candle width (in Java2D units). */
+        public double maxCandleWidth;
+        
+        /** The maximum volume in the dataset. */
+        public double maxVolume;
+        
+        /**
+         * Creates a new state.
+         * 
+         * @param info  the plot rendering info.
+         */
+        public CandlestickRendererState(PlotRenderingInfo info) {
+            super(info);
+        }
+        
+    }
 
     /**
      * Creates a new renderer for candlestick charts.
@@ -459,7 +479,28 @@ public class CandlestickRenderer extends AbstractXYItemRenderer
                                           XYPlot plot,
                                           XYDataset dataset,
                                           PlotRenderingInfo info) {
+        return createState(dataArea, plot, dataset, info);
+    }
+
+    /**
+     * Creates a state object holding the maximum candle width for the data 
+     * area and (if volume bars are drawn) the maximum volume in the dataset.
+     *
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param dataset  the data.
+     * @param info  an optional info collection object to return data back to 
+     *              the caller.
+     *
+     * @return The state.
+     */
+    private CandlestickRendererState createState(Rectangle2D dataArea, 
+                                                 XYPlot plot, 
+                                                 XYDataset dataset,
+                                                 PlotRenderingInfo info) {
           
+        CandlestickRendererState state = new CandlestickRendererState(info);
+
         // calculate the maximum allowed candle width from the axis...
         ValueAxis axis = plot.getDomainAxis();
         double x1 = axis.getLowerBound();
@@ -467,28 +508,28 @@ public class CandlestickRenderer extends AbstractXYItemRenderer
         RectangleEdge edge = plot.getDomainAxisEdge();
         double xx1 = axis.valueToJava2D(x1, dataArea, edge);
         double xx2 = axis.valueToJava2D(x2, dataArea, edge);
-        this.maxCandleWidth = Math.abs(xx2 - xx1); 
+        state.maxCandleWidth = Math.abs(xx2 - xx1); 
             // Absolute value, since the relative x 
             // positions are reversed for horizontal orientation
         
         // calculate the highest volume in the dataset... 
         if (this.drawVolume) {
             OHLCDataset highLowDataset = (OHLCDataset) dataset;
-            this.maxVolume = 0.0;
+            state.maxVolume = 0.0;
             for (int series = 0; series < highLowDataset.getSeriesCount(); 
                  series++) {
                 for (int item = 0; item < highLowDataset.getItemCount(series); 
                      item++) {
                     double volume = highLowDataset.getVolumeValue(series, item);
-                    if (volume > this.maxVolume) {
-                        this.maxVolume = volume;
+                    if (volume > state.maxVolume) {
+                        state.maxVolume = volume;
                     }
                     
                 }    
             }
         }
         
-        return new XYItemRendererState(info);
+        return state;
     }
 
     /**
@@ -540,6 +581,15 @@ public class CandlestickRenderer extends AbstractXYItemRenderer
             entities = info.getOwner().getEntityCollection();
         }
 
+        CandlestickRendererState cs;
+        if (state instanceof CandlestickRendererState) {
+            cs = (CandlestickRendererState) state;
+        }
+        else {
+            // a state that was not created by this renderer
+            cs = createState(dataArea, plot, dataset, info);
+        }
+
         OHLCDataset highLowData = (OHLCDataset) dataset;
 
         Number x = highLowData.getX(series, item);
@@ -621,9 +671,9 @@ public class CandlestickRenderer extends AbstractXYItemRenderer
             }
             xxWidth -= 2 * this.autoWidthGap;
             xxWidth *= this.autoWidthFactor;
-            xxWidth = Math.min(xxWidth, this.maxCandleWidth);
-            volumeWidth = Math.max(Math.min(1, this.maxCandleWidth), xxWidth);
-            stickWidth = Math.max(Math.min(3, this.maxCandleWidth), xxWidth);
+            xxWidth = Math.min(xxWidth, cs.maxCandleWidth);
+            volumeWidth = Math.max(Math.min(1, cs.maxCandleWidth), xxWidth);
+            stickWidth = Math.max(Math.min(3, cs.maxCandleWidth), xxWidth);
         }
 
         Paint p = getItemPaint(series, item);
@@ -633,7 +683,7 @@ public class CandlestickRenderer extends AbstractXYItemRenderer
 
         if (this.drawVolume) {
             int volume = (int) highLowData.getVolumeValue(series, item);
-            double volumeHeight = volume / this.maxVolume;
+            double volumeHeight = volume / cs.maxVolume;
 
             double min, max;
             if (horiz) {
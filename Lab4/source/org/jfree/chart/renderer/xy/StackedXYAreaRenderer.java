@@ -54,6 +54,8 @@
  * 06-Jan-2005 : Override equals() (DG);
  * 07-Jan-2005 : Update for method name changes in DatasetUtilities (DG);
  * 28-Mar-2005 : Use getXValue() and getYValue() from dataset (DG);
+ * 17-Oct-2026 : Process all items, since the area is built from the whole
+ *               series (DG);
  * 
  */
 
@@ -302,7 +304,10 @@ public class StackedXYAreaRenderer extends XYAreaRenderer
                                           XYDataset data,
                                           PlotRenderingInfo info) {
 
-        return new StackedXYAreaRendererState(info);
+        XYItemRendererState state = new StackedXYAreaRendererState(info);
+        // the area polygon is built from every item in the series...
+        state.setProcessVisibleItemsOnly(false);
+        return state;
 
     }
 
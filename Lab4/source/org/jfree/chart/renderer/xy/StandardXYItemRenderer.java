@@ -92,6 +92,10 @@
  * 10-Apr-2005 : Fixed item label positioning with horizontal orientation (DG);
  * 20-Apr-2005 : Use generators for legend tooltips and URLs (DG);
  * 27-Apr-2005 : Use generator for series label in legend (DG);
+ * 17-Oct-2026 : Use the item range from the renderer state when drawing the
+ *               series line as a path (DG);
+ * 17-Oct-2026 : Added decimateSeriesLine flag (DG);
+ * 18-Oct-2026 : Made the decimator in the State class private (DG);
  *
  */
 
@@ -202,6 +206,12 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
      */
     private boolean drawSeriesLineAsPath;
 
+    /** 
+     * A flag that controls whether or not each series line is reduced to at
+     * most four points per pixel column before it is drawn. 
+     */
+    private boolean decimateSeriesLine;
+
     /** 
      * The shape that is used to represent a line in the legend. 
      * This should never be set to <code>null</code>. 
@@ -278,6 +288,7 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
         this.baseShapesFilled = true;
         this.legendLine = new Line2D.Double(-7.0, 0.0, 7.0, 0.0);
         this.drawSeriesLineAsPath = false;
+        this.decimateSeriesLine = false;
     }
 
     /**
@@ -510,6 +521,42 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
         this.drawSeriesLineAsPath = flag;
     }
     
+    /**
+     * Returns a flag that controls whether or not each series line is 
+     * decimated before it is drawn.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.0.3
+     */
+    public boolean getDecimateSeriesLine() {
+        return this.decimateSeriesLine;
+    }
+    
+    /**
+     * Sets the flag that controls whether or not each series line is 
+     * decimated before it is drawn, and sends a {@link RendererChangeEvent} 
+     * to all registered listeners.  When this flag is set, only the first, 
+     * minimum, maximum and last points in each pixel column are joined (as a 
+     * single path drawn with the series paint and stroke), and chart 
+     * entities are created for those points only.  Shapes, images and item 
+     * labels are drawn for every item, as usual.
+     * <P>
+     * The output is not guaranteed to be pixel-identical to the undecimated
+     * line: the antialiased edges and joins of the segments that are 
+     * dropped inside a pixel column can differ slightly.
+     * 
+     * @param flag  the flag.
+     * 
+     * @since 1.0.3
+     */
+    public void setDecimateSeriesLine(boolean flag) {
+        if (this.decimateSeriesLine != flag) {
+            this.decimateSeriesLine = flag;
+            notifyListeners(new RendererChangeEvent(this));
+        }
+    }
+    
     /**
      * Returns the shape used to represent a line in the legend.
      * 
@@ -605,6 +652,14 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
          */
         private boolean lastPointGood;
         
+        /** 
+         * The decimator for the current series (<code>null</code> unless the
+         * renderer is decimating the series lines). 
+         * 
+         * @since 1.0.3
+         */
+        private XYLineDecimator decimator;
+        
         /**
          * Creates a new state instance.
          * 
@@ -633,6 +688,31 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
         public void setLastPointGood(boolean good) {
             this.lastPointGood = good;
         }
+        
+        /**
+         * Returns the decimator for the current series.
+         * 
+         * @return The decimator (possibly <code>null</code>).
+         * 
+         * @see #setDecimator(XYLineDecimator)
+         * @since 1.0.3
+         */
+        public XYLineDecimator getDecimator() {
+            return this.decimator;
+        }
+        
+        /**
+         * Sets the decimator for the current series.
+         * 
+         * @param decimator  the decimator (<code>null</code> permitted, in 
+         *                   which case the series lines are not decimated).
+         * 
+         * @see #getDecimator()
+         * @since 1.0.3
+         */
+        public void setDecimator(XYLineDecimator decimator) {
+            this.decimator = decimator;
+        }
     }
     
     /**
@@ -659,6 +739,9 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
 
         State state = new State(info);
         state.seriesPath = new GeneralPath();
+        if (this.decimateSeriesLine) {
+            state.setDecimator(new XYLineDecimator());
+        }
         return state;
 
     }
@@ -694,6 +777,15 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
                          CrosshairState crosshairState,
                          int pass) {
 
+        if (state instanceof State
+                && ((State) state).getDecimator() != null) {
+            drawItemDecimated(
+                g2, (State) state, dataArea, info, plot, domainAxis, 
+                rangeAxis, dataset, series, item, crosshairState
+            );
+            return;
+        }
+
         if (!getItemVisible(series, item)) {
             return;   
         }
@@ -723,7 +815,7 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
         double transY1 = rangeAxis.valueToJava2D(y1, dataArea, yAxisLocation);
 
         if (getPlotLines()) {
-            if (item == 0) {
+            if (item == state.getFirstItemIndex()) {
                 if (this.drawSeriesLineAsPath) {
                     State s = (State) state;        
                     s.seriesPath.reset();
@@ -753,7 +845,7 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
                 else {
                     s.setLastPointGood(false);
                 }
-                if (item == dataset.getItemCount(series) - 1) {
+                if (state.isLastItem(dataset, series, item)) {
                     // draw path
                     g2.setStroke(getSeriesStroke(series));
                     g2.setPaint(getSeriesPaint(series));
@@ -814,6 +906,217 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
             }
         }
 
+        entityArea = drawItemDecorations(
+            g2, dataArea, plot, dataset, series, item, y1, transX1, transY1
+        );
+
+        updateCrosshairValues(
+            crosshairState, x1, y1, transX1, transY1, orientation
+        );
+
+        // add an entity for the item...
+        if (entities != null) {
+            addEntity(
+                entities, entityArea, dataset, series, item, transX1, transY1
+            );
+        }
+
+    }
+
+    /**
+     * Draws an item when the series line is being decimated.  Each visible 
+     * point is passed to the state's decimator, and the points it retains
+     * are added to the series path (which is drawn after the last item) and
+     * to the entity collection.  Shapes, images and labels are drawn for 
+     * every visible item.
+     *
+     * @param g2  the graphics device.
+     * @param state  the renderer state.
+     * @param dataArea  the area within which the data is being drawn.
+     * @param info  collects information about the drawing.
+     * @param plot  the plot.
+     * @param domainAxis  the domain axis.
+     * @param rangeAxis  the range axis.
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * @param crosshairState  crosshair information for the plot 
+     *                        (<code>null</code> permitted).
+     */
+    private void drawItemDecimated(Graphics2D g2, State state, 
+                                   Rectangle2D dataArea,
+                                   PlotRenderingInfo info, XYPlot plot, 
+                                   ValueAxis domainAxis, ValueAxis rangeAxis,
+                                   XYDataset dataset, int series, int item, 
+                                   CrosshairState crosshairState) {
+
+        XYLineDecimator decimator = state.getDecimator();
+        if (item == state.getFirstItemIndex()) {
+            decimator.reset();
+            state.seriesPath.reset();
+        }
+        EntityCollection entities = null;
+        if (info != null) {
+            entities = info.getOwner().getEntityCollection();
+        }
+
+        boolean completed = false;
+        double x1 = dataset.getXValue(series, item);
+        double y1 = dataset.getYValue(series, item);
+        if (getItemVisible(series, item) && !Double.isNaN(x1) 
+                && !Double.isNaN(y1)) {
+            RectangleEdge xAxisLocation = plot.getDomainAxisEdge();
+            RectangleEdge yAxisLocation = plot.getRangeAxisEdge();
+            double transX1 = domainAxis.valueToJava2D(
+                x1, dataArea, xAxisLocation
+            );
+            double transY1 = rangeAxis.valueToJava2D(
+                y1, dataArea, yAxisLocation
+            );
+            g2.setPaint(getItemPaint(series, item));
+            g2.setStroke(getItemStroke(series, item));
+            drawItemDecorations(
+                g2, dataArea, plot, dataset, series, item, y1, transX1, 
+                transY1
+            );
+            updateCrosshairValues(
+                crosshairState, x1, y1, transX1, transY1, 
+                plot.getOrientation()
+            );
+            if (getPlotDiscontinuous() && item > 0) {
+                // break the line if the gap to the previous item is too big
+                double x0 = dataset.getXValue(series, item - 1);
+                double threshold = this.gapThreshold;
+                if (this.gapThresholdType != UnitType.ABSOLUTE) {
+                    int numX = dataset.getItemCount(series);
+                    double minX = dataset.getXValue(series, 0);
+                    double maxX = dataset.getXValue(series, numX - 1);
+                    threshold = (maxX - minX) / numX * this.gapThreshold;
+                }
+                if (Math.abs(x1 - x0) > threshold && decimator.breakLine()) {
+                    processRetainedPoints(
+                        state, plot, dataset, series, entities
+                    );
+                }
+            }
+            if (!Double.isNaN(transX1) && !Double.isNaN(transY1)) {
+                completed = decimator.add(item, transX1, transY1);
+            }
+            else {
+                completed = decimator.breakLine();
+            }
+        }
+        else {
+            completed = decimator.breakLine();
+        }
+        if (completed) {
+            processRetainedPoints(state, plot, dataset, series, entities);
+        }
+        if (state.isLastItem(dataset, series, item)) {
+            if (decimator.finish()) {
+                processRetainedPoints(state, plot, dataset, series, entities);
+            }
+            if (getPlotLines()) {
+                g2.setStroke(getSeriesStroke(series));
+                g2.setPaint(getSeriesPaint(series));
+                g2.draw(state.seriesPath);
+            }
+        }
+
+    }
+
+    /**
+     * Adds the points retained by the decimator for a completed pixel column 
+     * to the series path, and adds an entity for each point if 
+     * <code>entities</code> is not <code>null</code>.
+     *
+     * @param state  the renderer state.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param entities  the entity collection (<code>null</code> permitted).
+     */
+    private void processRetainedPoints(State state, XYPlot plot, 
+                                       XYDataset dataset, int series,
+                                       EntityCollection entities) {
+        XYLineDecimator decimator = state.getDecimator();
+        PlotOrientation orientation = plot.getOrientation();
+        for (int i = 0; i < decimator.getRetainedCount(); i++) {
+            int item = decimator.getRetainedItem(i);
+            double transX1 = decimator.getRetainedX(i);
+            double transY1 = decimator.getRetainedY(i);
+            float x = (float) transX1;
+            float y = (float) transY1;
+            if (orientation == PlotOrientation.HORIZONTAL) {
+                x = (float) transY1;
+                y = (float) transX1;
+            }
+            if (i == 0 && !decimator.isRetainedConnected()) {
+                state.seriesPath.moveTo(x, y);
+            }
+            else {
+                state.seriesPath.lineTo(x, y);
+            }
+            if (entities != null) {
+                Shape entityArea = null;
+                if (getBaseShapesVisible()) {
+                    Shape shape = getItemShape(series, item);
+                    if (orientation == PlotOrientation.HORIZONTAL) {
+                        entityArea = ShapeUtilities.createTranslatedShape(
+                            shape, transY1, transX1
+                        );
+                    }
+                    else {
+                        entityArea = ShapeUtilities.createTranslatedShape(
+                            shape, transX1, transY1
+                        );
+                    }
+                }
+                if (getPlotImages()) {
+                    Image image = getImage(plot, series, item, transX1, 
+                            transY1);
+                    if (image != null) {
+                        Point hotspot = getImageHotspot(
+                            plot, series, item, transX1, transY1, image
+                        );
+                        entityArea = new Rectangle2D.Double(
+                            transX1 - hotspot.getX(), 
+                            transY1 - hotspot.getY(),
+                            image.getWidth(null), image.getHeight(null)
+                        );
+                    }
+                }
+                addEntity(
+                    entities, entityArea, dataset, series, item, transX1, 
+                    transY1
+                );
+            }
+        }
+    }
+
+    /**
+     * Draws the shape, image and item label (if any) for an item.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area within which the data is being drawn.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * @param y1  the y-value for the item.
+     * @param transX1  the x-coordinate for the item (in Java2D space).
+     * @param transY1  the y-coordinate for the item (in Java2D space).
+     *
+     * @return The area for the item's entity (possibly <code>null</code>).
+     */
+    private Shape drawItemDecorations(Graphics2D g2, Rectangle2D dataArea, 
+                                      XYPlot plot, XYDataset dataset, 
+                                      int series, int item, double y1,
+                                      double transX1, double transY1) {
+
+        Shape entityArea = null;
+        PlotOrientation orientation = plot.getOrientation();
+
         if (getBaseShapesVisible()) {
 
             Shape shape = getItemShape(series, item);
@@ -869,17 +1172,7 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
                 g2, orientation, dataset, series, item, xx, yy, (y1 < 0.0)
             );
         }
-
-        updateCrosshairValues(
-            crosshairState, x1, y1, transX1, transY1, orientation
-        );
-
-        // add an entity for the item...
-        if (entities != null) {
-            addEntity(
-                entities, entityArea, dataset, series, item, transX1, transY1
-            );
-        }
+        return entityArea;
 
     }
 
@@ -926,6 +1219,9 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
         if (!ShapeUtilities.equal(this.legendLine, that.legendLine)) {
             return false;   
         }
+        if (this.decimateSeriesLine != that.decimateSeriesLine) {
+            return false;
+        }
         return true;
 
     }
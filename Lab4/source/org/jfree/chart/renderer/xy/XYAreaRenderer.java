@@ -68,6 +68,8 @@
  * 19-Jan-2005 : Now accesses primitives only from dataset (DG);
  * 21-Mar-2005 : Override getLegendItem() and equals() methods (DG);
  * 20-Apr-2005 : Use generators for legend tooltips and URLs (DG);
+ * 17-Oct-2026 : Process all items, since the area is built from the whole
+ *               series (DG);
  * 
  */
 
@@ -329,6 +331,8 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
                                           XYDataset data,
                                           PlotRenderingInfo info) {
         XYAreaRendererState state = new XYAreaRendererState(info);
+        // the area polygon is built from every item in the series...
+        state.setProcessVisibleItemsOnly(false);
         return state;
     }
 
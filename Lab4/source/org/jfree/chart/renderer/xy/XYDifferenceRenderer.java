@@ -56,6 +56,8 @@
  * 04-May-2005 : Override equals() method, renamed get/setPlotShapes() -->
  *               get/setShapesVisible (DG);
  * 09-Jun-2005 : Updated equals() to handle GradientPaint (DG);
+ * 17-Oct-2026 : Process all items, since the two series are compared item
+ *               by item (DG);
  * 
  */
 
@@ -265,7 +267,12 @@ public class XYDifferenceRenderer extends AbstractXYItemRenderer
                                           XYDataset data,
                                           PlotRenderingInfo info) {
 
-        return super.initialise(g2, dataArea, plot, data, info);
+        XYItemRendererState state = super.initialise(
+            g2, dataArea, plot, data, info
+        );
+        // the two series are compared item by item...
+        state.setProcessVisibleItemsOnly(false);
+        return state;
 
     }
 
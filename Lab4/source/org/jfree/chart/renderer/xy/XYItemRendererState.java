@@ -37,6 +37,8 @@
  * --------
  * 07-Oct-2003 : Version 1 (DG);
  * 27-Jan-2004 : Added workingLine attribute (DG);
+ * 17-Oct-2026 : Added processVisibleItemsOnly flag and the first and last
+ *               item indices for the current series pass (DG);
  * 
  */
 
@@ -46,6 +48,7 @@ import java.awt.geom.Line2D;
 
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.renderer.RendererState;
+import org.jfree.data.xy.XYDataset;
 
 /**
  * The state for an {@link XYItemRenderer}.
@@ -58,6 +61,19 @@ public class XYItemRendererState extends RendererState {
      */
     public Line2D workingLine;
     
+    /** 
+     * A flag that indicates whether the plot may skip items that fall 
+     * outside the visible domain range (see 
+     * {@link #getProcessVisibleItemsOnly()}).
+     */
+    private boolean processVisibleItemsOnly;
+    
+    /** The index of the first item in the current series pass. */
+    private int firstItemIndex;
+    
+    /** The index of the last item in the current series pass. */
+    private int lastItemIndex;
+    
     /**
      * Creates a new state.
      * 
@@ -66,6 +82,101 @@ public class XYItemRendererState extends RendererState {
     public XYItemRendererState(PlotRenderingInfo info) {
         super(info);
         this.workingLine = new Line2D.Double();
+        this.processVisibleItemsOnly = true;
+        this.firstItemIndex = 0;
+        this.lastItemIndex = -1;
+    }
+    
+    /**
+     * Returns the flag that controls whether or not the plot passes only the
+     * visible items (plus one neighbour on each side) to the renderer.  
+     * Renderers that build a shape from all the items in a series (for 
+     * example, an area polygon) should set this flag to <code>false</code> 
+     * in their <code>initialise()</code> method.  The default value is 
+     * <code>true</code>.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.0.3
+     */
+    public boolean getProcessVisibleItemsOnly() {
+        return this.processVisibleItemsOnly;
+    }
+    
+    /**
+     * Sets the flag that controls whether or not the plot passes only the
+     * visible items to the renderer.
+     * 
+     * @param flag  the new flag value.
+     * 
+     * @since 1.0.3
+     */
+    public void setProcessVisibleItemsOnly(boolean flag) {
+        this.processVisibleItemsOnly = flag;
+    }
+    
+    /**
+     * Returns the index of the first item that will be passed to the renderer
+     * in the current series pass.
+     * 
+     * @return The item index.
+     * 
+     * @since 1.0.3
+     */
+    public int getFirstItemIndex() {
+        return this.firstItemIndex;
+    }
+    
+    /**
+     * Returns the index of the last item that will be passed to the renderer
+     * in the current series pass.  If no series pass has been started, this
+     * method returns <code>-1</code>.
+     * 
+     * @return The item index.
+     * 
+     * @since 1.0.3
+     */
+    public int getLastItemIndex() {
+        return this.lastItemIndex;
+    }
+    
+    /**
+     * Returns <code>true</code> if the specified item is the last item in the
+     * current series pass.  If no series pass has been started, the last item
+     * in the series is used.
+     * 
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.0.3
+     */
+    public boolean isLastItem(XYDataset dataset, int series, int item) {
+        if (this.lastItemIndex < 0) {
+            return item == dataset.getItemCount(series) - 1;
+        }
+        return item == this.lastItemIndex;
+    }
+    
+    /**
+     * This method is called by the {@link org.jfree.chart.plot.XYPlot} when 
+     * it starts a pass through the (visible) items in a series.
+     * 
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param firstItem  the index of the first item in the pass.
+     * @param lastItem  the index of the last item in the pass.
+     * @param pass  the pass index.
+     * @param passCount  the number of passes.
+     * 
+     * @since 1.0.3
+     */
+    public void startSeriesPass(XYDataset dataset, int series, int firstItem, 
+                                int lastItem, int pass, int passCount) {
+        this.firstItemIndex = firstItem;
+        this.lastItemIndex = lastItem;
     }
     
 }
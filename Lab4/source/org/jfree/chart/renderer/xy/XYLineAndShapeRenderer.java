@@ -54,6 +54,10 @@
  *               defaultShapesVisible --> baseShapesVisible and
  *               defaultShapesFilled --> baseShapesFilled (DG);
  * 29-Jul-2005 : Added code to draw item labels (DG);
+ * 17-Oct-2026 : Use the item range from the renderer state when drawing the
+ *               series line as a path (DG);
+ * 17-Oct-2026 : Added decimateSeriesLine flag (DG);
+ * 18-Oct-2026 : Made the decimator in the State class private (DG);
  *
  */
 
@@ -164,6 +168,12 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
      */
     private boolean drawSeriesLineAsPath;
 
+    /** 
+     * A flag that controls whether or not each series line is reduced to at
+     * most four points per pixel column before it is drawn. 
+     */
+    private boolean decimateSeriesLine;
+
     /**
      * Creates a new renderer with both lines and shapes visible.
      */
@@ -197,6 +207,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                                        // default, not outline paint
         
         this.drawSeriesLineAsPath = false;
+        this.decimateSeriesLine = false;
     }
     
     /**
@@ -226,6 +237,47 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         }
     }
     
+    /**
+     * Returns a flag that controls whether or not each series line is 
+     * decimated before it is drawn.
+     * 
+     * @return A boolean.
+     * 
+     * @see #setDecimateSeriesLine(boolean)
+     * 
+     * @since 1.0.3
+     */
+    public boolean getDecimateSeriesLine() {
+        return this.decimateSeriesLine;
+    }
+    
+    /**
+     * Sets the flag that controls whether or not each series line is 
+     * decimated before it is drawn, and sends a {@link RendererChangeEvent} 
+     * to all registered listeners.  When this flag is set, only the first, 
+     * minimum, maximum and last points in each pixel column are joined (as a 
+     * single path drawn with the series paint and stroke), and chart 
+     * entities are created for those points only.  For opaque lines the 
+     * output looks the same, but charts with many more items than pixels 
+     * are drawn much faster.  Shapes and item labels are not affected.
+     * <P>
+     * The output is not guaranteed to be pixel-identical to the undecimated
+     * line: the antialiased edges and joins of the segments that are 
+     * dropped inside a pixel column can differ slightly.
+     * 
+     * @param flag  the flag.
+     * 
+     * @see #getDecimateSeriesLine()
+     * 
+     * @since 1.0.3
+     */
+    public void setDecimateSeriesLine(boolean flag) {
+        if (this.decimateSeriesLine != flag) {
+            this.decimateSeriesLine = flag;
+            notifyListeners(new RendererChangeEvent(this));
+        }
+    }
+    
     /**
      * Returns the number of passes through the data that the renderer requires 
      * in order to draw the chart.  Most charts will require a single pass, but 
@@ -672,6 +724,14 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
          */
         private boolean lastPointGood;
         
+        /** 
+         * The decimator for the current series (<code>null</code> unless the
+         * renderer is decimating the series lines). 
+         * 
+         * @since 1.0.3
+         */
+        private XYLineDecimator decimator;
+        
         /**
          * Creates a new state instance.
          * 
@@ -700,6 +760,31 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         public void setLastPointGood(boolean good) {
             this.lastPointGood = good;
         }
+        
+        /**
+         * Returns the decimator for the current series.
+         * 
+         * @return The decimator (possibly <code>null</code>).
+         * 
+         * @see #setDecimator(XYLineDecimator)
+         * @since 1.0.3
+         */
+        public XYLineDecimator getDecimator() {
+            return this.decimator;
+        }
+        
+        /**
+         * Sets the decimator for the current series.
+         * 
+         * @param decimator  the decimator (<code>null</code> permitted, in 
+         *                   which case the series lines are not decimated).
+         * 
+         * @see #getDecimator()
+         * @since 1.0.3
+         */
+        public void setDecimator(XYLineDecimator decimator) {
+            this.decimator = decimator;
+        }
     }
     
     /**
@@ -726,6 +811,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
 
         State state = new State(info);
         state.seriesPath = new GeneralPath();
+        if (this.decimateSeriesLine) {
+            state.setDecimator(new XYLineDecimator());
+        }
         return state;
 
     }
@@ -761,6 +849,17 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                          CrosshairState crosshairState,
                          int pass) {
 
+        // the decimated line checks the item visibility itself, so that the
+        // series path is drawn even if the last item is not visible...
+        if (state instanceof State
+                && ((State) state).getDecimator() != null) {
+            drawItemDecimated(
+                g2, (State) state, info, plot, domainAxis, rangeAxis, 
+                dataset, series, item, crosshairState, pass, dataArea
+            );
+            return;
+        }
+
         // do nothing if item is not visible
         if (!getItemVisible(series, item)) {
             return;   
@@ -768,7 +867,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
 
         // first pass draws the background (lines, for instance)
         if (isLinePass(pass)) {
-            if (item == 0) {
+            if (item == state.getFirstItemIndex()) {
                 if (this.drawSeriesLineAsPath) {
                     State s = (State) state;
                     s.seriesPath.reset();
@@ -807,6 +906,152 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Draws an item when the series line is being decimated.  In the line 
+     * pass, each visible point is passed to the state's decimator and the 
+     * points it retains are added to the series path, which is drawn after 
+     * the last item.  In the item pass, shapes and labels are drawn as 
+     * usual, but entities are added only for the retained points.
+     *
+     * @param g2  the graphics device.
+     * @param state  the renderer state.
+     * @param info  collects information about the drawing.
+     * @param plot  the plot.
+     * @param domainAxis  the domain axis.
+     * @param rangeAxis  the range axis.
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * @param crosshairState  crosshair information for the plot 
+     *                        (<code>null</code> permitted).
+     * @param pass  the pass index.
+     * @param dataArea  the area within which the data is being drawn.
+     */
+    private void drawItemDecimated(Graphics2D g2, State state, 
+                                   PlotRenderingInfo info, XYPlot plot, 
+                                   ValueAxis domainAxis, ValueAxis rangeAxis, 
+                                   XYDataset dataset, int series, int item, 
+                                   CrosshairState crosshairState, int pass,
+                                   Rectangle2D dataArea) {
+        XYLineDecimator decimator = state.getDecimator();
+        if (item == state.getFirstItemIndex()) {
+            decimator.reset();
+            if (isLinePass(pass)) {
+                state.seriesPath.reset();
+            }
+        }
+        boolean visible = getItemVisible(series, item);
+        EntityCollection entities = null;
+        if (isLinePass(pass)) {
+            visible = visible && getItemLineVisible(series, item);
+        }
+        else if (isItemPass(pass)) {
+            if (visible) {
+                drawSecondaryPass(
+                    g2, plot, dataset, pass, series, item, domainAxis, 
+                    dataArea, rangeAxis, crosshairState, null
+                );
+            }
+            if (info != null) {
+                entities = info.getOwner().getEntityCollection();
+            }
+            if (entities == null) {
+                return;
+            }
+        }
+        else {
+            return;
+        }
+
+        double transX1 = Double.NaN;
+        double transY1 = Double.NaN;
+        if (visible) {
+            double x1 = dataset.getXValue(series, item);
+            double y1 = dataset.getYValue(series, item);
+            transX1 = domainAxis.valueToJava2D(
+                x1, dataArea, plot.getDomainAxisEdge()
+            );
+            transY1 = rangeAxis.valueToJava2D(
+                y1, dataArea, plot.getRangeAxisEdge()
+            );
+        }
+        boolean completed;
+        if (!Double.isNaN(transX1) && !Double.isNaN(transY1)) {
+            completed = decimator.add(item, transX1, transY1);
+        }
+        else {
+            completed = decimator.breakLine();
+        }
+        if (completed) {
+            processRetainedPoints(state, plot, dataset, series, entities);
+        }
+        if (state.isLastItem(dataset, series, item)) {
+            if (decimator.finish()) {
+                processRetainedPoints(state, plot, dataset, series, entities);
+            }
+            if (isLinePass(pass)) {
+                drawFirstPassShape(g2, pass, series, item, state.seriesPath);
+            }
+        }
+    }
+
+    /**
+     * Processes the points retained by the decimator for a completed pixel 
+     * column.  If <code>entities</code> is <code>null</code>, the points are
+     * added to the series path, otherwise an entity is added for each point.
+     *
+     * @param state  the renderer state.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param entities  the entity collection (<code>null</code> permitted).
+     */
+    private void processRetainedPoints(State state, XYPlot plot, 
+                                       XYDataset dataset, int series, 
+                                       EntityCollection entities) {
+        XYLineDecimator decimator = state.getDecimator();
+        PlotOrientation orientation = plot.getOrientation();
+        for (int i = 0; i < decimator.getRetainedCount(); i++) {
+            int item = decimator.getRetainedItem(i);
+            double transX1 = decimator.getRetainedX(i);
+            double transY1 = decimator.getRetainedY(i);
+            if (entities == null) {
+                float x = (float) transX1;
+                float y = (float) transY1;
+                if (orientation == PlotOrientation.HORIZONTAL) {
+                    x = (float) transY1;
+                    y = (float) transX1;
+                }
+                if (i == 0 && !decimator.isRetainedConnected()) {
+                    state.seriesPath.moveTo(x, y);
+                }
+                else {
+                    state.seriesPath.lineTo(x, y);
+                }
+            }
+            else {
+                Shape entityArea = null;
+                if (getItemShapeVisible(series, item)) {
+                    Shape shape = getItemShape(series, item);
+                    if (orientation == PlotOrientation.HORIZONTAL) {
+                        entityArea = ShapeUtilities.createTranslatedShape(
+                            shape, transY1, transX1
+                        );
+                    }
+                    else {
+                        entityArea = ShapeUtilities.createTranslatedShape(
+                            shape, transX1, transY1
+                        );
+                    }
+                }
+                addEntity(
+                    entities, entityArea, dataset, series, item, transX1, 
+                    transY1
+                );
+            }
+        }
+    }
+
     /**
      * Returns <code>true</code> if the specified pass is the one for drawing 
      * lines.
@@ -982,7 +1227,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
             s.setLastPointGood(false);
         }
         // if this is the last item, draw the path ...
-        if (item == dataset.getItemCount(series) - 1) {
+        if (s.isLastItem(dataset, series, item)) {
             // draw path
             drawFirstPassShape(g2, pass, series, item, s.seriesPath);
         }
@@ -1231,6 +1476,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         if (this.useOutlinePaint != that.useOutlinePaint) {
             return false;
         }
+        if (this.decimateSeriesLine != that.decimateSeriesLine) {
+            return false;
+        }
 
         return true;
 
@@ -0,0 +1,301 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * XYLineDecimator.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes:
+ * --------
+ * 17-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+/**
+ * A helper class that reduces the number of points in a series line to at 
+ * most four per pixel column (the first, minimum, maximum and last points 
+ * in the column).  For an opaque line the result is visually identical to
+ * drawing every segment (although it is not guaranteed to be pixel-identical,
+ * since the antialiased edges of the dropped segments can differ slightly), 
+ * but the amount of work done by Java2D is bounded by the width of the data
+ * area rather than the number of items.
+ * <P>
+ * Points (in Java2D space, before any adjustment for the plot orientation)
+ * are passed in item order to the {@link #add(int, double, double)} method.  
+ * Each time a pixel column is completed, the points retained from it become 
+ * available through the <code>getRetainedXXX()</code> methods, until the
+ * next call to <code>add()</code>, {@link #breakLine()} or {@link #finish()}.
+ *
+ * @since 1.0.3
+ */
+public class XYLineDecimator {
+
+    /** The maximum number of points retained per column. */
+    private static final int MAX_RETAINED = 4;
+
+    /** A flag that indicates whether a column is currently open. */
+    private boolean open;
+
+    /** The index of the open column. */
+    private int column;
+
+    /** 
+     * A flag that indicates whether the open column joins on to the last 
+     * point of the previous column. 
+     */
+    private boolean connected;
+
+    /** 
+     * A flag that indicates whether the next column to be opened will join 
+     * on to the previous column. 
+     */
+    private boolean connectNext;
+
+    /** The item indices for the first, minimum, maximum and last points. */
+    private int[] bucketItems;
+
+    /** The x-coordinates for the first, minimum, maximum and last points. */
+    private double[] bucketX;
+
+    /** The y-coordinates for the first, minimum, maximum and last points. */
+    private double[] bucketY;
+
+    /** The item indices of the retained points (in item order). */
+    private int[] retainedItems;
+
+    /** The x-coordinates of the retained points. */
+    private double[] retainedX;
+
+    /** The y-coordinates of the retained points. */
+    private double[] retainedY;
+
+    /** The number of retained points. */
+    private int retainedCount;
+
+    /** 
+     * A flag that indicates whether the first retained point joins on to the
+     * last point retained from the previous column. 
+     */
+    private boolean retainedConnected;
+
+    /**
+     * Creates a new decimator.
+     */
+    public XYLineDecimator() {
+        this.bucketItems = new int[MAX_RETAINED];
+        this.bucketX = new double[MAX_RETAINED];
+        this.bucketY = new double[MAX_RETAINED];
+        this.retainedItems = new int[MAX_RETAINED];
+        this.retainedX = new double[MAX_RETAINED];
+        this.retainedY = new double[MAX_RETAINED];
+        reset();
+    }
+
+    /**
+     * Resets the decimator, ready for a new series.
+     */
+    public void reset() {
+        this.open = false;
+        this.connected = false;
+        this.connectNext = false;
+        this.retainedCount = 0;
+        this.retainedConnected = false;
+    }
+
+    /**
+     * Adds a point to the decimator.  The column for the point is 
+     * <code>floor(x)</code>.
+     *
+     * @param item  the item index.
+     * @param x  the x-coordinate (in Java2D space, along the domain axis).
+     * @param y  the y-coordinate (in Java2D space, along the range axis).
+     *
+     * @return <code>true</code> if adding the point completed the previous 
+     *         column (in which case the retained points are available).
+     */
+    public boolean add(int item, double x, double y) {
+        int c = (int) Math.floor(x);
+        boolean completed = false;
+        this.retainedCount = 0;
+        if (this.open && c != this.column) {
+            close();
+            this.connectNext = true;
+            completed = true;
+        }
+        if (!this.open) {
+            this.open = true;
+            this.column = c;
+            this.connected = this.connectNext;
+            for (int i = 0; i < MAX_RETAINED; i++) {
+                this.bucketItems[i] = item;
+                this.bucketX[i] = x;
+                this.bucketY[i] = y;
+            }
+        }
+        else {
+            if (y < this.bucketY[1]) {
+                this.bucketItems[1] = item;
+                this.bucketX[1] = x;
+                this.bucketY[1] = y;
+            }
+            if (y > this.bucketY[2]) {
+                this.bucketItems[2] = item;
+                this.bucketX[2] = x;
+                this.bucketY[2] = y;
+            }
+            this.bucketItems[3] = item;
+            this.bucketX[3] = x;
+            this.bucketY[3] = y;
+        }
+        return completed;
+    }
+
+    /**
+     * Breaks the line (for example, because the next item has no y-value).  
+     * The open column, if there is one, is completed and the next point 
+     * added will not be joined to it.
+     *
+     * @return <code>true</code> if a column was completed.
+     */
+    public boolean breakLine() {
+        this.retainedCount = 0;
+        this.connectNext = false;
+        if (this.open) {
+            close();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Completes the open column (if any) at the end of a series.
+     *
+     * @return <code>true</code> if a column was completed.
+     */
+    public boolean finish() {
+        return breakLine();
+    }
+
+    /**
+     * Returns the number of points retained from the last completed column.
+     *
+     * @return The point count (between zero and four).
+     */
+    public int getRetainedCount() {
+        return this.retainedCount;
+    }
+
+    /**
+     * Returns the item index for a retained point.
+     *
+     * @param index  the index of the retained point.
+     *
+     * @return The item index.
+     */
+    public int getRetainedItem(int index) {
+        return this.retainedItems[index];
+    }
+
+    /**
+     * Returns the x-coordinate for a retained point.
+     *
+     * @param index  the index of the retained point.
+     *
+     * @return The x-coordinate (in Java2D space).
+     */
+    public double getRetainedX(int index) {
+        return this.retainedX[index];
+    }
+
+    /**
+     * Returns the y-coordinate for a retained point.
+     *
+     * @param index  the index of the retained point.
+     *
+     * @return The y-coordinate (in Java2D space).
+     */
+    public double getRetainedY(int index) {
+        return this.retainedY[index];
+    }
+
+    /**
+     * Returns <code>true</code> if the first retained point should be joined
+     * to the last point retained from the previous column, and 
+     * <code>false</code> if it starts a new line.
+     *
+     * @return A boolean.
+     */
+    public boolean isRetainedConnected() {
+        return this.retainedConnected;
+    }
+
+    /**
+     * Closes the open column, copying its first, minimum, maximum and last
+     * points (in item order, without duplicates) to the retained arrays.
+     */
+    private void close() {
+        int count = 0;
+        for (int i = 0; i < MAX_RETAINED; i++) {
+            int item = this.bucketItems[i];
+            // insertion sort by item index, skipping duplicates...
+            int pos = count;
+            boolean duplicate = false;
+            for (int j = 0; j < count; j++) {
+                if (this.retainedItems[j] == item) {
+                    duplicate = true;
+                    break;
+                }
+                if (this.retainedItems[j] > item) {
+                    pos = j;
+                    break;
+                }
+            }
+            if (duplicate) {
+                continue;
+            }
+            for (int j = count; j > pos; j--) {
+                this.retainedItems[j] = this.retainedItems[j - 1];
+                this.retainedX[j] = this.retainedX[j - 1];
+                this.retainedY[j] = this.retainedY[j - 1];
+            }
+            this.retainedItems[pos] = item;
+            this.retainedX[pos] = this.bucketX[i];
+            this.retainedY[pos] = this.bucketY[i];
+            count++;
+        }
+        this.retainedCount = count;
+        this.retainedConnected = this.connected;
+        this.open = false;
+    }
+
+}
@@ -43,6 +43,10 @@
  *               getYValue() (DG);
  * 11-Nov-2004 : Now uses ShapeUtilities to translate shapes (DG);
  * 06-Jul-2005 : Renamed get/setPlotShapes() --> get/setShapesVisible() (DG);
+ * 17-Oct-2026 : Process all items, since the area is built from the whole
+ *               series (DG);
+ * 18-Oct-2026 : The area for the series is now built in the renderer 
+ *               state (DG);
  * 
  */
 
@@ -105,7 +109,12 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
     /** A flag that controls whether or not the outline is shown. */
     private boolean showOutline;
 
-    /** Area of the complete series */
+    /** 
+     * Area of the complete series.  The area is normally built in the 
+     * renderer state returned by the initialise() method, this field is only
+     * used if the drawItem() method is called with some other state (in 
+     * which case the renderer cannot be used to draw concurrently).
+     */
     protected transient Polygon pArea = null;
 
     /** 
@@ -114,6 +123,25 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
      */
     private double rangeBase;
 
+    /**
+     * A state object used by this renderer.
+     */
+    static class XYStepAreaRendererState extends XYItemRendererState {
+        
+        /** The area for the current series (<code>null</code> if none). */
+        public Polygon area;
+        
+        /**
+         * Creates a new state.
+         * 
+         * @param info  the plot rendering info.
+         */
+        public XYStepAreaRendererState(PlotRenderingInfo info) {
+            super(info);
+        }
+        
+    }
+
     /**
      * Constructs a new renderer.
      */
@@ -287,7 +315,10 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
                                           XYDataset data,
                                           PlotRenderingInfo info) {
 
-        return super.initialise(g2, dataArea, plot, data, info);
+        XYItemRendererState state = new XYStepAreaRendererState(info);
+        // the area polygon is built from every item in the series...
+        state.setProcessVisibleItemsOnly(false);
+        return state;
 
     }
 
@@ -324,6 +355,12 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
                          int pass) {
                              
         PlotOrientation orientation = plot.getOrientation();
+        XYStepAreaRendererState areaState = null;
+        Polygon pArea = this.pArea;
+        if (state instanceof XYStepAreaRendererState) {
+            areaState = (XYStepAreaRendererState) state;
+            pArea = areaState.area;
+        }
         
         // Get the item count for the series, so that we can know which is the 
         // end of the series.
@@ -349,10 +386,11 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
         // avoid possible sun.dc.pr.PRException: endPath: bad path
         transY1 = restrictValueToDataArea(transY1, plot, dataArea);         
 
-        if (this.pArea == null && y1 != null) {
+        if (pArea == null && y1 != null) {
 
             // Create a new Area for the series
-            this.pArea = new Polygon();
+            pArea = new Polygon();
+            storeArea(areaState, pArea);
         
             // start from Y = rangeBase
             double transY2 = rangeAxis.valueToJava2D(
@@ -364,10 +402,10 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
         
             // The first point is (x, this.baseYValue)
             if (orientation == PlotOrientation.VERTICAL) {
-                this.pArea.addPoint((int) transX1, (int) transY2);
+                pArea.addPoint((int) transX1, (int) transY2);
             }
             else if (orientation == PlotOrientation.HORIZONTAL) {
-                this.pArea.addPoint((int) transY2, (int) transX1);
+                pArea.addPoint((int) transY2, (int) transX1);
             }
         }
 
@@ -404,10 +442,10 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
             if (transY0 != transY1) {
                 // not just a horizontal bar but need to perform a 'step'.
                 if (orientation == PlotOrientation.VERTICAL) {
-                    this.pArea.addPoint((int) transX1, (int) transY0);
+                    pArea.addPoint((int) transX1, (int) transY0);
                 }
                 else if (orientation == PlotOrientation.HORIZONTAL) {
-                    this.pArea.addPoint((int) transY0, (int) transX1);
+                    pArea.addPoint((int) transY0, (int) transX1);
                 }
             }
         }           
@@ -416,10 +454,10 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
         if (y1 != null) {
             // Add each point to Area (x, y)
             if (orientation == PlotOrientation.VERTICAL) {
-                this.pArea.addPoint((int) transX1, (int) transY1);
+                pArea.addPoint((int) transX1, (int) transY1);
             }
             else if (orientation == PlotOrientation.HORIZONTAL) {
-                this.pArea.addPoint((int) transY1, (int) transX1);
+                pArea.addPoint((int) transY1, (int) transX1);
             }
 
             if (getShapesVisible()) {
@@ -458,7 +496,7 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
         // Check if the item is the last item for the series or if it
         // is a NULL value and number of items > 0.  We can't draw an area for 
         // a single point.
-        if (getPlotArea() && item > 0 && this.pArea != null 
+        if (getPlotArea() && item > 0 && pArea != null 
                           && (item == (itemCount - 1) || y1 == null)) {
 
             double transY2 = rangeAxis.valueToJava2D(
@@ -470,25 +508,25 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
 
             if (orientation == PlotOrientation.VERTICAL) {
                 // Add the last point (x,0)
-                this.pArea.addPoint((int) transX1, (int) transY2);
+                pArea.addPoint((int) transX1, (int) transY2);
             }
             else if (orientation == PlotOrientation.HORIZONTAL) {
                 // Add the last point (x,0)
-                this.pArea.addPoint((int) transY2, (int) transX1);
+                pArea.addPoint((int) transY2, (int) transX1);
             }
 
             // fill the polygon
-            g2.fill(this.pArea);
+            g2.fill(pArea);
 
             // draw an outline around the Area.
             if (isOutline()) {
                 g2.setStroke(getSeriesOutlineStroke(series));
                 g2.setPaint(getSeriesOutlinePaint(series));
-                g2.draw(this.pArea);
+                g2.draw(pArea);
             }
 
             // start new area when needed (see above)
-            this.pArea = null;
+            storeArea(areaState, null);
         }
 
         // do we need to update the crosshair values?
@@ -522,6 +560,22 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Stores the area for the current series in the renderer state or, if
+     * there is no state created by this renderer, in the renderer itself.
+     * 
+     * @param state  the state (<code>null</code> permitted).
+     * @param area  the area (<code>null</code> permitted).
+     */
+    private void storeArea(XYStepAreaRendererState state, Polygon area) {
+        if (state != null) {
+            state.area = area;
+        }
+        else {
+            this.pArea = area;
+        }
+    }
+
     /**
      * Returns a clone of the renderer.
      * 
@@ -0,0 +1,192 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * XYLineDecimatorTests.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.chart.renderer.xy.junit;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.renderer.xy.XYLineDecimator;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link XYLineDecimator} class.
+ */
+public class XYLineDecimatorTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(XYLineDecimatorTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public XYLineDecimatorTests(String name) {
+        super(name);
+    }
+
+    /**
+     * The first, minimum, maximum and last points of a column are retained,
+     * in item order.
+     */
+    public void testColumn() {
+        XYLineDecimator d = new XYLineDecimator();
+        assertFalse(d.add(0, 10.1, 5.0));
+        assertFalse(d.add(1, 10.2, 9.0));
+        assertFalse(d.add(2, 10.3, 1.0));
+        assertFalse(d.add(3, 10.4, 4.0));
+        assertFalse(d.add(4, 10.5, 3.0));
+        assertTrue(d.add(5, 11.0, 2.0));
+        assertEquals(4, d.getRetainedCount());
+        assertEquals(0, d.getRetainedItem(0));
+        assertEquals(1, d.getRetainedItem(1));
+        assertEquals(2, d.getRetainedItem(2));
+        assertEquals(4, d.getRetainedItem(3));
+        assertEquals(9.0, d.getRetainedY(1), 0.0);
+        assertEquals(1.0, d.getRetainedY(2), 0.0);
+        assertFalse(d.isRetainedConnected());
+        assertTrue(d.finish());
+        assertEquals(1, d.getRetainedCount());
+        assertEquals(5, d.getRetainedItem(0));
+        assertTrue(d.isRetainedConnected());
+    }
+
+    /**
+     * A point that is the first, minimum, maximum and last point of its 
+     * column is retained once only.
+     */
+    public void testSinglePoint() {
+        XYLineDecimator d = new XYLineDecimator();
+        d.add(7, 3.5, 2.0);
+        assertTrue(d.finish());
+        assertEquals(1, d.getRetainedCount());
+        assertEquals(7, d.getRetainedItem(0));
+        assertEquals(3.5, d.getRetainedX(0), 0.0);
+        assertFalse(d.finish());
+        assertEquals(0, d.getRetainedCount());
+    }
+
+    /**
+     * A column that follows a break is not joined to the previous column.
+     */
+    public void testBreakLine() {
+        XYLineDecimator d = new XYLineDecimator();
+        d.add(0, 1.0, 1.0);
+        assertTrue(d.breakLine());
+        assertFalse(d.breakLine());
+        d.add(2, 2.0, 1.0);
+        d.add(3, 3.0, 1.0);
+        assertFalse(d.isRetainedConnected());
+        d.add(4, 4.0, 1.0);
+        assertTrue(d.isRetainedConnected());
+    }
+
+    /**
+     * The retained points never exceed four per column.
+     */
+    public void testBounded() {
+        XYLineDecimator d = new XYLineDecimator();
+        int total = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (d.add(i, i / 100.0, Math.sin(i))) {
+                assertTrue(d.getRetainedCount() <= 4);
+                total += d.getRetainedCount();
+            }
+        }
+        d.finish();
+        total += d.getRetainedCount();
+        assertTrue(total <= 400);
+    }
+
+    /**
+     * Draws a chart with a large decimated series using both renderers.
+     */
+    public void testDrawWithRenderers() {
+        XYSeries s = new XYSeries("S");
+        for (int i = 0; i < 5000; i++) {
+            s.add(i, Math.sin(i / 10.0));
+        }
+        s.add(5000, null);
+        s.add(5001, 1.0);
+        JFreeChart chart = ChartFactory.createXYLineChart("T", "X", "Y", 
+                new XYSeriesCollection(s), PlotOrientation.VERTICAL, false, 
+                false, false);
+        XYLineAndShapeRenderer r1 = new XYLineAndShapeRenderer(true, false);
+        r1.setDecimateSeriesLine(true);
+        chart.getXYPlot().setRenderer(r1);
+        draw(chart);
+        StandardXYItemRenderer r2 = new StandardXYItemRenderer();
+        r2.setDecimateSeriesLine(true);
+        chart.getXYPlot().setRenderer(r2);
+        draw(chart);
+    }
+
+    /**
+     * Draws a chart into an image.
+     *
+     * @param chart  the chart.
+     */
+    private void draw(JFreeChart chart) {
+        BufferedImage image = new BufferedImage(200, 100, 
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, null);
+        g2.dispose();
+    }
+
+}
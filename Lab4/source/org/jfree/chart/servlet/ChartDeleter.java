@@ -37,6 +37,7 @@
  * -------
  * 19-Aug-2002 : Version 1;
  * 17-Oct-2002 : Fixed errors reported by Checkstyle (DG);
+ * 17-Oct-2026 : Also remove charts from the chart store (DG);
  *
  */
 package org.jfree.chart.servlet;
@@ -49,8 +50,8 @@ import javax.servlet.http.HttpSessionBindingEvent;
 import javax.servlet.http.HttpSessionBindingListener;
 
 /**
- * Used for deleting charts from the temporary directory when the users session
- * expires.
+ * Used for deleting charts from the temporary directory (or removing them from
+ * the chart store) when the users session expires.
  *
  * @author Richard Atkinson
  */
@@ -100,15 +101,20 @@ public class ChartDeleter implements HttpSessionBindingListener {
     /**
      * When this object is unbound from the session (including upon session
      * expiry) the files that have been added to the ArrayList are iterated
-     * and deleted.
+     * and deleted, and the charts with the same names are removed from the
+     * chart store.
      *
      * @param event  the session unbind event.
      */
     public void valueUnbound(HttpSessionBindingEvent event) {
 
+        ChartStore store = ServletUtilities.getChartStore();
         Iterator iter = this.chartNames.listIterator();
         while (iter.hasNext()) {
             String filename = (String) iter.next();
+            if (store != null) {
+                store.remove(filename);
+            }
             File file = new File(
                 System.getProperty("java.io.tmpdir"), filename
             );
@@ -0,0 +1,698 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ---------------
+ * ChartStore.java
+ * ---------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Write and delete spill files outside the lock, and added a
+ *               budget for spilled images (DG);
+ *
+ */
+
+package org.jfree.chart.servlet;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * An in-memory store for the chart images generated by the 
+ * {@link ServletUtilities} class and served by the {@link DisplayChart} 
+ * servlet, used in place of files in the temporary directory (see 
+ * {@link ServletUtilities#setChartStore(ChartStore)}).
+ * <p>
+ * The store has a byte budget: when the images held in memory go over the 
+ * budget, the least recently used images are removed or, if a spill 
+ * directory has been set, written out to files in that directory (and read 
+ * back from there when requested).  The spilled images have a budget of 
+ * their own, so the spill directory does not grow without limit when there 
+ * is no time to live.  Images can also be given a time to live, after which
+ * they are removed whether or not they have been requested.  Images that 
+ * belong to a session are removed by the {@link ChartDeleter} when the 
+ * session ends, as for the files in the temporary directory.
+ * <p>
+ * One store can be shared by the threads of a servlet container.  Spill 
+ * files are written, read and deleted without holding the lock on the 
+ * store, so a slow disk does not hold up requests for other images.
+ *
+ * @since 1.0.3
+ */
+public class ChartStore {
+
+    /** The default maximum number of bytes held in memory (16 megabytes). */
+    public static final long DEFAULT_MAXIMUM_BYTE_COUNT = 16L * 1024 * 1024;
+
+    /** 
+     * The default maximum number of bytes in the spill directory (64 
+     * megabytes). 
+     */
+    public static final long DEFAULT_MAXIMUM_SPILL_BYTE_COUNT 
+            = 64L * 1024 * 1024;
+
+    /** The default time to live (30 minutes, in milliseconds). */
+    public static final long DEFAULT_TIME_TO_LIVE = 30L * 60 * 1000;
+
+    /** The minimum interval (in milliseconds) between expiry sweeps. */
+    private static final long SWEEP_INTERVAL = 1000L;
+
+    /** The entries (keyed by name), in least-recently-used order. */
+    private LinkedHashMap entries;
+
+    /** The maximum number of bytes held in memory. */
+    private long maximumByteCount;
+
+    /** The maximum number of bytes in the spill directory. */
+    private long maximumSpillByteCount;
+
+    /** The time to live in milliseconds (zero for no expiry). */
+    private long timeToLive;
+
+    /** The spill directory (<code>null</code> if images are not spilled). */
+    private File spillDirectory;
+
+    /** The number of bytes held in memory. */
+    private long byteCount;
+
+    /** The number of bytes in the spill directory. */
+    private long spillByteCount;
+
+    /** The time of the last expiry sweep. */
+    private long lastSweep;
+
+    /**
+     * Creates a new store with the default byte budget and time to live, and 
+     * no spill directory.
+     */
+    public ChartStore() {
+        this(DEFAULT_MAXIMUM_BYTE_COUNT, DEFAULT_TIME_TO_LIVE, null);
+    }
+
+    /**
+     * Creates a new store.
+     * 
+     * @param maximumByteCount  the maximum number of bytes held in memory 
+     *                          (requires &gt; 0).
+     * @param timeToLive  the time to live in milliseconds (zero for no 
+     *                    expiry, negative values not permitted).
+     * @param spillDirectory  the directory that images are written to when
+     *                        they are pushed out of memory (<code>null</code>
+     *                        permitted, in which case the images are 
+     *                        discarded).
+     */
+    public ChartStore(long maximumByteCount, long timeToLive, 
+                      File spillDirectory) {
+        if (maximumByteCount <= 0L) {
+            throw new IllegalArgumentException(
+                    "Requires 'maximumByteCount' > 0.");
+        }
+        if (timeToLive < 0L) {
+            throw new IllegalArgumentException("Requires 'timeToLive' >= 0.");
+        }
+        this.entries = new LinkedHashMap(16, 0.75f, true);
+        this.maximumByteCount = maximumByteCount;
+        this.maximumSpillByteCount = DEFAULT_MAXIMUM_SPILL_BYTE_COUNT;
+        this.timeToLive = timeToLive;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Returns the maximum number of bytes held in memory.
+     * 
+     * @return The maximum number of bytes.
+     */
+    public synchronized long getMaximumByteCount() {
+        return this.maximumByteCount;
+    }
+
+    /**
+     * Sets the maximum number of bytes held in memory, spilling or removing 
+     * the least recently used images if necessary.
+     * 
+     * @param count  the count (requires &gt; 0).
+     */
+    public void setMaximumByteCount(long count) {
+        if (count <= 0L) {
+            throw new IllegalArgumentException("Requires 'count' > 0.");
+        }
+        List spills = new ArrayList();
+        List files = new ArrayList();
+        File directory;
+        synchronized (this) {
+            this.maximumByteCount = count;
+            directory = trim(spills);
+        }
+        finish(spills, directory, files);
+    }
+
+    /**
+     * Returns the maximum number of bytes in the spill directory.
+     * 
+     * @return The maximum number of bytes.
+     */
+    public synchronized long getMaximumSpillByteCount() {
+        return this.maximumSpillByteCount;
+    }
+
+    /**
+     * Sets the maximum number of bytes in the spill directory, removing the
+     * least recently used spilled images if necessary.
+     * 
+     * @param count  the count (requires &gt; 0).
+     */
+    public void setMaximumSpillByteCount(long count) {
+        if (count <= 0L) {
+            throw new IllegalArgumentException("Requires 'count' > 0.");
+        }
+        List files = new ArrayList();
+        synchronized (this) {
+            this.maximumSpillByteCount = count;
+            trimSpilled(files);
+        }
+        delete(files);
+    }
+
+    /**
+     * Returns the time to live for images in the store.
+     * 
+     * @return The time to live in milliseconds (zero for no expiry).
+     */
+    public synchronized long getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * Sets the time to live for images in the store.  The time is measured
+     * from when the image is added.
+     * 
+     * @param millis  the time to live in milliseconds (zero for no expiry, 
+     *                negative values not permitted).
+     */
+    public synchronized void setTimeToLive(long millis) {
+        if (millis < 0L) {
+            throw new IllegalArgumentException("Requires 'millis' >= 0.");
+        }
+        this.timeToLive = millis;
+    }
+
+    /**
+     * Returns the directory that images are written to when they are pushed
+     * out of memory.
+     * 
+     * @return The directory (possibly <code>null</code>).
+     */
+    public synchronized File getSpillDirectory() {
+        return this.spillDirectory;
+    }
+
+    /**
+     * Sets the directory that images are written to when they are pushed 
+     * out of memory.  Images already spilled stay where they are.
+     * 
+     * @param directory  the directory (<code>null</code> permitted, in which 
+     *                   case images are discarded when they are pushed out 
+     *                   of memory).
+     */
+    public synchronized void setSpillDirectory(File directory) {
+        this.spillDirectory = directory;
+    }
+
+    /**
+     * Returns the number of images in the store (including any that have
+     * been spilled to disk).
+     * 
+     * @return The image count.
+     */
+    public synchronized int getEntryCount() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the number of bytes held in memory (not including images that
+     * are being written to the spill directory).
+     * 
+     * @return The byte count.
+     */
+    public synchronized long getByteCount() {
+        return this.byteCount;
+    }
+
+    /**
+     * Returns the number of bytes in the spill directory.
+     * 
+     * @return The byte count.
+     */
+    public synchronized long getSpillByteCount() {
+        return this.spillByteCount;
+    }
+
+    /**
+     * Adds an image to the store, replacing any image with the same name.
+     * The store keeps a reference to the array, so the caller must not 
+     * modify it afterwards.  If the store goes over its byte budget, the 
+     * least recently used images are written to the spill directory by the
+     * calling thread before this method returns.
+     * 
+     * @param name  the name (<code>null</code> not permitted).
+     * @param data  the encoded image (<code>null</code> not permitted).
+     * @param mimeType  the MIME type (<code>null</code> permitted).
+     */
+    public void put(String name, byte[] data, String mimeType) {
+        if (name == null) {
+            throw new IllegalArgumentException("Null 'name' argument.");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Null 'data' argument.");
+        }
+        List spills = new ArrayList();
+        List files = new ArrayList();
+        File directory;
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            removeExpired(now, files);
+            removeEntry(name, files);
+            this.entries.put(name, new Entry(name, data, mimeType, now));
+            this.byteCount += data.length;
+            directory = trim(spills);
+        }
+        finish(spills, directory, files);
+    }
+
+    /**
+     * Returns <code>true</code> if the store holds an image with the 
+     * specified name, and <code>false</code> otherwise.
+     * 
+     * @param name  the name (<code>null</code> permitted).
+     * 
+     * @return A boolean.
+     */
+    public boolean contains(String name) {
+        return get(name) != null;
+    }
+
+    /**
+     * Removes an image from the store (if it is there), deleting its spill 
+     * file if it has one.
+     * 
+     * @param name  the name (<code>null</code> permitted).
+     */
+    public void remove(String name) {
+        List files = new ArrayList();
+        synchronized (this) {
+            removeEntry(name, files);
+        }
+        delete(files);
+    }
+
+    /**
+     * Removes all images from the store.
+     */
+    public void clear() {
+        List files = new ArrayList();
+        synchronized (this) {
+            Iterator iterator = this.entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = (Entry) iterator.next();
+                if (entry.file != null) {
+                    files.add(entry.file);
+                }
+            }
+            this.entries.clear();
+            this.byteCount = 0L;
+            this.spillByteCount = 0L;
+        }
+        delete(files);
+    }
+
+    /**
+     * Removes the images that have outlived the time to live.
+     */
+    public void removeExpired() {
+        List files = new ArrayList();
+        synchronized (this) {
+            this.lastSweep = 0L;
+            removeExpired(System.currentTimeMillis(), files);
+        }
+        delete(files);
+    }
+
+    /**
+     * Returns the entry for an image, marking it as recently used, or 
+     * <code>null</code> if there is no (unexpired) image with the specified 
+     * name.
+     * 
+     * @param name  the name (<code>null</code> permitted).
+     * 
+     * @return The entry (possibly <code>null</code>).
+     */
+    Entry get(String name) {
+        List files = new ArrayList();
+        Entry entry;
+        synchronized (this) {
+            entry = (Entry) this.entries.get(name);
+            if (entry != null 
+                    && isExpired(entry, System.currentTimeMillis())) {
+                removeEntry(name, files);
+                entry = null;
+            }
+        }
+        delete(files);
+        return entry;
+    }
+
+    /**
+     * Returns <code>true</code> if an entry has outlived the time to live.
+     * 
+     * @param entry  the entry.
+     * @param now  the current time.
+     * 
+     * @return A boolean.
+     */
+    private boolean isExpired(Entry entry, long now) {
+        return this.timeToLive > 0L && now - entry.created >= this.timeToLive;
+    }
+
+    /**
+     * Removes an entry (if it is there).  The caller must hold the lock on 
+     * the store.
+     * 
+     * @param name  the name (<code>null</code> permitted).
+     * @param files  a list that the spill file (if any) is added to, for 
+     *               deletion once the lock is released.
+     */
+    private void removeEntry(String name, List files) {
+        Entry entry = (Entry) this.entries.remove(name);
+        if (entry != null) {
+            release(entry, files);
+        }
+    }
+
+    /**
+     * Updates the byte counts for an entry that has been removed from the 
+     * map.  The caller must hold the lock on the store.
+     * 
+     * @param entry  the entry.
+     * @param files  a list that the spill file (if any) is added to, for 
+     *               deletion once the lock is released.
+     */
+    private void release(Entry entry, List files) {
+        if (entry.spilling) {
+            // the bytes have already been taken off the memory count, and 
+            // the spilling thread deletes the file when it finds the entry 
+            // gone
+            return;
+        }
+        if (entry.file != null) {
+            this.spillByteCount -= entry.size;
+            files.add(entry.file);
+        }
+        else {
+            this.byteCount -= entry.size;
+        }
+    }
+
+    /**
+     * Removes the expired entries, unless the last sweep was less than a 
+     * second ago.  The caller must hold the lock on the store.
+     * 
+     * @param now  the current time.
+     * @param files  a list that the spill files are added to, for deletion 
+     *               once the lock is released.
+     */
+    private void removeExpired(long now, List files) {
+        if (this.timeToLive == 0L || now - this.lastSweep < SWEEP_INTERVAL) {
+            return;
+        }
+        this.lastSweep = now;
+        Iterator iterator = this.entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = (Entry) iterator.next();
+            if (isExpired(entry, now)) {
+                iterator.remove();
+                release(entry, files);
+            }
+        }
+    }
+
+    /**
+     * Selects the least recently used images held in memory to bring the
+     * store within its byte budget.  If there is no spill directory, the 
+     * images are removed, otherwise they are marked as spilling and added to
+     * a list to be written out once the lock is released.  The caller must 
+     * hold the lock on the store.
+     * 
+     * @param spills  the list that the entries to spill are added to.
+     * 
+     * @return The spill directory (possibly <code>null</code>).
+     */
+    private File trim(List spills) {
+        Iterator iterator = this.entries.values().iterator();
+        while (this.byteCount > this.maximumByteCount && iterator.hasNext()) {
+            Entry entry = (Entry) iterator.next();
+            if (entry.file != null || entry.spilling) {
+                continue;
+            }
+            this.byteCount -= entry.size;
+            if (this.spillDirectory == null) {
+                iterator.remove();
+            }
+            else {
+                entry.spilling = true;
+                spills.add(entry);
+            }
+        }
+        return this.spillDirectory;
+    }
+
+    /**
+     * Removes the least recently used spilled images until the spill 
+     * directory is within its budget.  The caller must hold the lock on the 
+     * store.
+     * 
+     * @param files  a list that the spill files are added to, for deletion 
+     *               once the lock is released.
+     */
+    private void trimSpilled(List files) {
+        Iterator iterator = this.entries.values().iterator();
+        while (this.spillByteCount > this.maximumSpillByteCount 
+                && iterator.hasNext()) {
+            Entry entry = (Entry) iterator.next();
+            if (entry.file != null && !entry.spilling) {
+                iterator.remove();
+                release(entry, files);
+            }
+        }
+    }
+
+    /**
+     * Writes the entries selected by {@link #trim(List)} to the spill 
+     * directory, then deletes the files in a list.  The caller must 
+     * <i>not</i> hold the lock on the store.
+     * 
+     * @param spills  the entries to write.
+     * @param directory  the spill directory.
+     * @param files  the files to delete.
+     */
+    private void finish(List spills, File directory, List files) {
+        for (int i = 0; i < spills.size(); i++) {
+            Entry entry = (Entry) spills.get(i);
+            File file = write(entry, directory);
+            synchronized (this) {
+                spilled(entry, file, files);
+            }
+        }
+        delete(files);
+    }
+
+    /**
+     * Writes an entry to a new file in the spill directory.
+     * 
+     * @param entry  the entry.
+     * @param directory  the spill directory.
+     * 
+     * @return The file, or <code>null</code> if the write failed.
+     */
+    private static File write(Entry entry, File directory) {
+        File file = null;
+        try {
+            file = File.createTempFile("chart", null, directory);
+            OutputStream out = new FileOutputStream(file);
+            try {
+                out.write(entry.data);
+            }
+            finally {
+                out.close();
+            }
+            return file;
+        }
+        catch (IOException e) {
+            if (file != null) {
+                file.delete();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Records the outcome of writing an entry to the spill directory.  The 
+     * entry is dropped if the write failed, and the file is deleted if the 
+     * entry was removed or replaced while it was being written.  The caller
+     * must hold the lock on the store.
+     * 
+     * @param entry  the entry.
+     * @param file  the spill file (<code>null</code> if the write failed).
+     * @param files  a list that unused spill files are added to, for 
+     *               deletion once the lock is released.
+     */
+    private void spilled(Entry entry, File file, List files) {
+        entry.spilling = false;
+        if (this.entries.get(entry.name) != entry) {
+            if (file != null) {
+                files.add(file);
+            }
+            return;
+        }
+        if (file == null) {
+            this.entries.remove(entry.name);
+            return;
+        }
+        synchronized (entry) {
+            entry.file = file;
+            entry.data = null;
+        }
+        this.spillByteCount += entry.size;
+        trimSpilled(files);
+    }
+
+    /**
+     * Deletes the files in a list.
+     * 
+     * @param files  the files.
+     */
+    private static void delete(List files) {
+        for (int i = 0; i < files.size(); i++) {
+            ((File) files.get(i)).delete();
+        }
+    }
+
+    /**
+     * An image in the store.
+     */
+    static class Entry {
+
+        /** The name. */
+        String name;
+
+        /** The encoded image (<code>null</code> once spilled). */
+        byte[] data;
+
+        /** The number of bytes in the encoded image. */
+        int size;
+
+        /** The spill file (<code>null</code> until spilled). */
+        File file;
+
+        /** A flag that is set while the image is written to a spill file. */
+        boolean spilling;
+
+        /** The MIME type (possibly <code>null</code>). */
+        String mimeType;
+
+        /** The time the image was added. */
+        long created;
+
+        /**
+         * Creates a new entry.
+         * 
+         * @param name  the name.
+         * @param data  the encoded image.
+         * @param mimeType  the MIME type.
+         * @param created  the time the image was added.
+         */
+        Entry(String name, byte[] data, String mimeType, long created) {
+            this.name = name;
+            this.data = data;
+            this.size = data.length;
+            this.mimeType = mimeType;
+            this.created = created;
+        }
+
+        /**
+         * Returns the encoded image, reading it from the spill file if 
+         * necessary.
+         * 
+         * @return The encoded image.
+         * 
+         * @throws IOException if the spill file cannot be read.
+         */
+        byte[] getData() throws IOException {
+            byte[] result;
+            File f;
+            synchronized (this) {
+                result = this.data;
+                f = this.file;
+            }
+            if (result != null) {
+                return result;
+            }
+            InputStream in = new FileInputStream(f);
+            try {
+                result = new byte[(int) f.length()];
+                int offset = 0;
+                while (offset < result.length) {
+                    int count = in.read(result, offset, 
+                            result.length - offset);
+                    if (count < 0) {
+                        throw new IOException("Unexpected end of file: " 
+                                + f.getAbsolutePath());
+                    }
+                    offset += count;
+                }
+            }
+            finally {
+                in.close();
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -38,6 +38,9 @@
  * 19-Aug-2002 : Version 1;
  * 09-Mar-2005 : Added facility to serve up "one time" charts - see 
  *               ServletUtilities.java (DG);
+ * 17-Oct-2026 : Serve charts from the chart store, falling back to the 
+ *               temporary directory (DG);
+ * 18-Oct-2026 : Look up the chart store entry once (DG);
  *
  */
 
@@ -53,7 +56,8 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 /**
- * Servlet used for streaming charts to the client browser from the temporary
+ * Servlet used for streaming charts to the client browser from the chart 
+ * store (see {@link ServletUtilities#getChartStore()}) or the temporary
  * directory.  You need to add this servlet and mapping to your deployment 
  * descriptor (web.xml) in order to get it to work.  The syntax is as follows:
  * <xmp>
@@ -111,9 +115,14 @@ public class DisplayChart extends HttpServlet {
         //  This is to prevent access to the rest of the file system
         filename = ServletUtilities.searchReplace(filename, "..", "");
 
-        //  Check the file exists
+        //  Check the chart is in the store or the file exists
+        ChartStore store = ServletUtilities.getChartStore();
+        ChartStore.Entry entry = null;
+        if (store != null) {
+            entry = store.get(filename);
+        }
         File file = new File(System.getProperty("java.io.tmpdir"), filename);
-        if (!file.exists()) {
+        if (entry == null && !file.exists()) {
             throw new ServletException(
                 "File '" + file.getAbsolutePath() + "' does not exist"
             );
@@ -143,9 +152,17 @@ public class DisplayChart extends HttpServlet {
 
         if (isChartInUserList || isChartPublic || isOneTimeChart) {
             //  Serve it up
-            ServletUtilities.sendTempFile(file, response);
-            if (isOneTimeChart) {
-                file.delete();   
+            if (entry != null) {
+                ServletUtilities.sendStoredChart(entry, response);
+                if (isOneTimeChart) {
+                    store.remove(filename);
+                }
+            }
+            else {
+                ServletUtilities.sendTempFile(file, response);
+                if (isOneTimeChart) {
+                    file.delete();   
+                }
             }
         }
         else {
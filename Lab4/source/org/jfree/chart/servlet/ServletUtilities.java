@@ -50,6 +50,11 @@
  * 24-Mar-2004 : Added temp filename prefix attribute (DG);
  * 09-Mar-2005 : Added "one time" file option (DG);
  * 10-Jan-2006 : Updated API docs and reformatted (DG);
+ * 17-Oct-2026 : Added chart store option, so that charts can be held in 
+ *               memory rather than in the temporary directory (DG);
+ * 18-Oct-2026 : Added sendStoredChart() for a store entry (DG);
+ * 18-Oct-2026 : Save charts to files in the temporary directory unless a
+ *               chart store has been set (DG);
  *
  */
 
@@ -57,10 +62,13 @@ package org.jfree.chart.servlet;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.security.SecureRandom;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.TimeZone;
@@ -74,6 +82,15 @@ import org.jfree.chart.JFreeChart;
 
 /**
  * Utility class used for servlet related JFreeChart operations.
+ * <p>
+ * By default, the <code>saveChartAsXXX()</code> methods write charts to 
+ * files in the temporary directory.  To hold the charts in memory instead, 
+ * set an in-memory {@link ChartStore} (see 
+ * {@link #setChartStore(ChartStore)}) that the {@link DisplayChart} servlet
+ * serves from directly.  Since the store removes images when it goes over 
+ * its byte budget or their time to live expires, pages that are kept open 
+ * for a long time may then refer to charts that are no longer available, 
+ * unless the store has a spill directory.
  */
 public class ServletUtilities {
 
@@ -83,6 +100,46 @@ public class ServletUtilities {
     /** A prefix for "one time" charts. */
     private static String tempOneTimeFilePrefix = "jfreechart-onetime-";
     
+    /** 
+     * The store for saved charts (<code>null</code> to use files in the 
+     * temporary directory). 
+     */
+    private static ChartStore chartStore = null;
+    
+    /** The source of random numbers for chart names. */
+    private static SecureRandom random;
+    
+    /** A counter that keeps chart names unique. */
+    private static long nameCounter;
+    
+    /**
+     * Returns the store that charts are saved to.  The default is 
+     * <code>null</code>.
+     * 
+     * @return The store (<code>null</code> if charts are saved to files in 
+     *         the temporary directory).
+     *         
+     * @since 1.0.3
+     */
+    public static ChartStore getChartStore() {
+        return ServletUtilities.chartStore;
+    }
+    
+    /**
+     * Sets the store that charts are saved to.  Charts already saved to 
+     * files in the temporary directory can still be served by the 
+     * {@link DisplayChart} servlet, but charts held in the previous store 
+     * cannot.
+     * 
+     * @param store  the store (<code>null</code> permitted, in which case
+     *               charts are saved to files in the temporary directory).
+     *               
+     * @since 1.0.3
+     */
+    public static void setChartStore(ChartStore store) {
+        ServletUtilities.chartStore = store;
+    }
+    
     /**
      * Returns the prefix for the temporary file names generated by this class.
      * 
@@ -138,7 +195,8 @@ public class ServletUtilities {
      *                 the {@link DisplayChart} servlet right after it is
      *                 streamed to the client).
      *
-     * @return The filename of the chart saved in the temporary directory.
+     * @return The name of the chart (a filename in the temporary directory
+     *         or a name in the chart store).
      *
      * @throws IOException if there is a problem saving the file.
      */
@@ -165,7 +223,8 @@ public class ServletUtilities {
      *                 the {@link DisplayChart} servlet right after it is
      *                 streamed to the client).
      *
-     * @return The filename of the chart saved in the temporary directory.
+     * @return The name of the chart (a filename in the temporary directory
+     *         or a name in the chart store).
      *
      * @throws IOException if there is a problem saving the file.
      */
@@ -175,11 +234,22 @@ public class ServletUtilities {
         if (chart == null) {
             throw new IllegalArgumentException("Null 'chart' argument.");   
         }
-        ServletUtilities.createTempDir();
         String prefix = ServletUtilities.tempFilePrefix;
         if (session == null) {
             prefix = ServletUtilities.tempOneTimeFilePrefix;
         }
+        ChartStore store = ServletUtilities.chartStore;
+        if (store != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ChartUtilities.writeChartAsPNG(out, chart, width, height, info);
+            String name = ServletUtilities.createChartName(prefix, ".png");
+            store.put(name, out.toByteArray(), "image/png");
+            if (session != null) {
+                ServletUtilities.registerChartForDeletion(name, session);
+            }
+            return name;
+        }
+        ServletUtilities.createTempDir();
         File tempFile = File.createTempFile(prefix, ".png", 
                 new File(System.getProperty("java.io.tmpdir")));
         ChartUtilities.saveChartAsPNG(tempFile, chart, width, height, info);
@@ -206,7 +276,8 @@ public class ServletUtilities {
      *                 the {@link DisplayChart} servlet right after it is
      *                 streamed to the client).
      *
-     * @return The filename of the chart saved in the temporary directory.
+     * @return The name of the chart (a filename in the temporary directory
+     *         or a name in the chart store).
      *
      * @throws IOException if there is a problem saving the file.
      */
@@ -238,7 +309,8 @@ public class ServletUtilities {
      *                 the {@link DisplayChart} servlet right after it is
      *                 streamed to the client).
      *
-     * @return The filename of the chart saved in the temporary directory
+     * @return The name of the chart (a filename in the temporary directory
+     *         or a name in the chart store).
      *
      * @throws IOException if there is a problem saving the file.
      */
@@ -250,11 +322,22 @@ public class ServletUtilities {
             throw new IllegalArgumentException("Null 'chart' argument.");   
         }
         
-        ServletUtilities.createTempDir();
         String prefix = ServletUtilities.tempFilePrefix;
         if (session == null) {
             prefix = ServletUtilities.tempOneTimeFilePrefix;   
         }
+        ChartStore store = ServletUtilities.chartStore;
+        if (store != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ChartUtilities.writeChartAsJPEG(out, chart, width, height, info);
+            String name = ServletUtilities.createChartName(prefix, ".jpeg");
+            store.put(name, out.toByteArray(), "image/jpeg");
+            if (session != null) {
+                ServletUtilities.registerChartForDeletion(name, session);
+            }
+            return name;
+        }
+        ServletUtilities.createTempDir();
         File tempFile = File.createTempFile(prefix, ".jpeg", 
                 new File(System.getProperty("java.io.tmpdir")));
         ChartUtilities.saveChartAsJPEG(tempFile, chart, width, height, info);
@@ -265,6 +348,27 @@ public class ServletUtilities {
 
     }
 
+    /**
+     * Creates a new name for a chart in the chart store.  The name includes
+     * a random part, so that it cannot be guessed from the names of other 
+     * charts.
+     * 
+     * @param prefix  the prefix.
+     * @param suffix  the suffix (the file extension).
+     * 
+     * @return The name.
+     */
+    private static synchronized String createChartName(String prefix, 
+            String suffix) {
+        if (ServletUtilities.random == null) {
+            ServletUtilities.random = new SecureRandom();
+        }
+        long n = ServletUtilities.random.nextLong() & Long.MAX_VALUE;
+        ServletUtilities.nameCounter++;
+        return prefix + Long.toString(n, 36) 
+                + Long.toString(ServletUtilities.nameCounter, 36) + suffix;
+    }
+
     /**
      * Creates the temporary directory if it does not exist.  Throws a 
      * <code>RuntimeException</code> if the temporary directory is 
@@ -298,6 +402,22 @@ public class ServletUtilities {
      */
     protected static void registerChartForDeletion(File tempFile, 
             HttpSession session) {
+        registerChartForDeletion(tempFile.getName(), session);
+    }
+
+    /**
+     * Adds a {@link ChartDeleter} object to the session object with the name 
+     * <code>JFreeChart_Deleter</code> if there is not already one bound to the 
+     * session and adds the chart name to the list of charts to be deleted.
+     *
+     * @param name  the name of the chart (a filename in the temporary 
+     *              directory or a name in the chart store).
+     * @param session  the HTTP session of the client.
+     * 
+     * @since 1.0.3
+     */
+    protected static void registerChartForDeletion(String name, 
+            HttpSession session) {
 
         //  Add chart to deletion list in session
         if (session != null) {
@@ -307,13 +427,68 @@ public class ServletUtilities {
                 chartDeleter = new ChartDeleter();
                 session.setAttribute("JFreeChart_Deleter", chartDeleter);
             }
-            chartDeleter.addChart(tempFile.getName());
+            chartDeleter.addChart(name);
         }
         else {
             System.out.println("Session is null - chart will not be deleted");
         }
     }
 
+    /**
+     * Writes the specified chart from the chart store to the HTTP response.
+     * 
+     * @param name  the name of the chart in the chart store.
+     * @param response  the HTTP response object.
+     * 
+     * @throws IOException if there is an I/O problem (including a 
+     *         <code>FileNotFoundException</code> if the chart is not in the
+     *         store).
+     *         
+     * @since 1.0.3
+     */
+    public static void sendStoredChart(String name, 
+            HttpServletResponse response) throws IOException {
+
+        ChartStore store = ServletUtilities.chartStore;
+        ChartStore.Entry entry = null;
+        if (store != null) {
+            entry = store.get(name);
+        }
+        if (entry == null) {
+            throw new FileNotFoundException(name);
+        }
+        sendStoredChart(entry, response);
+    }
+
+    /**
+     * Writes a chart from the chart store to the HTTP response.
+     * 
+     * @param entry  the chart store entry.
+     * @param response  the HTTP response object.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    static void sendStoredChart(ChartStore.Entry entry, 
+            HttpServletResponse response) throws IOException {
+
+        byte[] data = entry.getData();
+
+        //  Set HTTP headers
+        if (entry.mimeType != null) {
+            response.setHeader("Content-Type", entry.mimeType);
+        }
+        response.setHeader("Content-Length", String.valueOf(data.length));
+        SimpleDateFormat sdf = new SimpleDateFormat(
+                "EEE, dd MMM yyyy HH:mm:ss z");
+        sdf.setTimeZone(TimeZone.getTimeZone("GMT"));
+        response.setHeader("Last-Modified", 
+                sdf.format(new Date(entry.created)));
+
+        OutputStream out = response.getOutputStream();
+        out.write(data);
+        out.flush();
+    }
+
     /**
      * Binary streams the specified file in the temporary directory to the
      * HTTP response in 1KB chunks.
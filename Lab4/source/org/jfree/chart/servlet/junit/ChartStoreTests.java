@@ -0,0 +1,226 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * ChartStoreTests.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.chart.servlet.junit;
+
+import java.io.File;
+import java.io.IOException;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.servlet.ChartStore;
+
+/**
+ * Tests for the {@link ChartStore} class.
+ */
+public class ChartStoreTests extends TestCase {
+
+    /** A directory for spill files. */
+    private File directory;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ChartStoreTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ChartStoreTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates an empty spill directory.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    protected void setUp() throws IOException {
+        this.directory = File.createTempFile("ChartStoreTests", "");
+        this.directory.delete();
+        this.directory.mkdir();
+    }
+
+    /**
+     * Deletes the spill directory.
+     */
+    protected void tearDown() {
+        File[] files = this.directory.listFiles();
+        for (int i = 0; i < files.length; i++) {
+            files[i].delete();
+        }
+        this.directory.delete();
+    }
+
+    /**
+     * Some checks for the put(), contains() and remove() methods.
+     */
+    public void testPut() {
+        ChartStore store = new ChartStore(100L, 0L, null);
+        store.put("A", new byte[10], "image/png");
+        store.put("B", new byte[20], "image/png");
+        assertTrue(store.contains("A"));
+        assertTrue(store.contains("B"));
+        assertFalse(store.contains("C"));
+        assertEquals(30L, store.getByteCount());
+        store.put("A", new byte[5], "image/png");
+        assertEquals(25L, store.getByteCount());
+        store.remove("B");
+        assertFalse(store.contains("B"));
+        assertEquals(5L, store.getByteCount());
+        assertEquals(1, store.getEntryCount());
+    }
+
+    /**
+     * Without a spill directory, the least recently used images should be 
+     * removed when the store goes over its budget.
+     */
+    public void testTrim() {
+        ChartStore store = new ChartStore(100L, 0L, null);
+        store.put("A", new byte[40], null);
+        store.put("B", new byte[40], null);
+        assertTrue(store.contains("A"));
+        store.put("C", new byte[40], null);
+        assertTrue(store.contains("A"));
+        assertFalse(store.contains("B"));
+        assertTrue(store.contains("C"));
+        assertEquals(80L, store.getByteCount());
+    }
+
+    /**
+     * With a spill directory, the least recently used images should be 
+     * written to files, and the files should be deleted when the images are
+     * removed.
+     */
+    public void testSpill() {
+        ChartStore store = new ChartStore(100L, 0L, this.directory);
+        store.put("A", new byte[40], null);
+        store.put("B", new byte[40], null);
+        store.put("C", new byte[40], null);
+        assertEquals(3, store.getEntryCount());
+        assertEquals(80L, store.getByteCount());
+        assertEquals(40L, store.getSpillByteCount());
+        File[] files = this.directory.listFiles();
+        assertEquals(1, files.length);
+        assertEquals(40L, files[0].length());
+        assertTrue(store.contains("A"));
+
+        store.remove("A");
+        assertEquals(0L, store.getSpillByteCount());
+        assertEquals(0, this.directory.listFiles().length);
+
+        store.put("D", new byte[40], null);
+        store.clear();
+        assertEquals(0, store.getEntryCount());
+        assertEquals(0L, store.getByteCount());
+        assertEquals(0L, store.getSpillByteCount());
+        assertEquals(0, this.directory.listFiles().length);
+    }
+
+    /**
+     * The spilled images should be kept within their own budget, even if 
+     * there is no time to live.
+     */
+    public void testSpillBudget() {
+        ChartStore store = new ChartStore(50L, 0L, this.directory);
+        store.setMaximumSpillByteCount(100L);
+        for (int i = 0; i < 10; i++) {
+            store.put("Chart" + i, new byte[40], null);
+        }
+        assertEquals(80L, store.getSpillByteCount());
+        assertEquals(2, this.directory.listFiles().length);
+        assertEquals(3, store.getEntryCount());
+        assertTrue(store.contains("Chart7"));
+        assertTrue(store.contains("Chart9"));
+        assertFalse(store.contains("Chart6"));
+
+        store.setMaximumSpillByteCount(40L);
+        assertEquals(1, this.directory.listFiles().length);
+        assertEquals(2, store.getEntryCount());
+    }
+
+    /**
+     * Images should be removed once they outlive the time to live.
+     * 
+     * @throws InterruptedException if the test is interrupted.
+     */
+    public void testTimeToLive() throws InterruptedException {
+        ChartStore store = new ChartStore(100L, 50L, this.directory);
+        store.put("A", new byte[60], null);
+        store.put("B", new byte[60], null);
+        assertEquals(1, this.directory.listFiles().length);
+        Thread.sleep(100L);
+        assertFalse(store.contains("B"));
+        store.removeExpired();
+        assertEquals(0, store.getEntryCount());
+        assertEquals(0L, store.getByteCount());
+        assertEquals(0L, store.getSpillByteCount());
+        assertEquals(0, this.directory.listFiles().length);
+    }
+
+    /**
+     * Check that the constructor rejects invalid arguments.
+     */
+    public void testConstructor() {
+        try {
+            new ChartStore(0L, 0L, null);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new ChartStore(100L, -1L, null);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * ServletUtilitiesTests.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.chart.servlet.junit;
+
+import java.io.File;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.servlet.ChartStore;
+import org.jfree.chart.servlet.ServletUtilities;
+import org.jfree.data.general.DefaultPieDataset;
+
+/**
+ * Tests for the {@link ServletUtilities} class.
+ */
+public class ServletUtilitiesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ServletUtilitiesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ServletUtilitiesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a chart.
+     * 
+     * @return The chart.
+     */
+    private JFreeChart createChart() {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        dataset.setValue("A", 1.0);
+        dataset.setValue("B", 2.0);
+        return ChartFactory.createPieChart("Title", dataset, true, false, 
+                false);
+    }
+
+    /**
+     * By default, charts are saved to files in the temporary directory.
+     */
+    public void testSaveToFile() throws Exception {
+        assertNull(ServletUtilities.getChartStore());
+        String name = ServletUtilities.saveChartAsPNG(createChart(), 100, 
+                80, null);
+        File file = new File(System.getProperty("java.io.tmpdir"), name);
+        try {
+            assertTrue(file.exists());
+            assertTrue(file.length() > 0);
+        }
+        finally {
+            file.delete();
+        }
+    }
+
+    /**
+     * When a chart store is set, charts are saved to the store.
+     */
+    public void testSaveToStore() throws Exception {
+        ChartStore store = new ChartStore();
+        ServletUtilities.setChartStore(store);
+        try {
+            String name = ServletUtilities.saveChartAsPNG(createChart(), 100,
+                    80, null);
+            assertTrue(store.contains(name));
+            assertFalse(new File(System.getProperty("java.io.tmpdir"), 
+                    name).exists());
+        }
+        finally {
+            ServletUtilities.setChartStore(null);
+        }
+    }
+
+}
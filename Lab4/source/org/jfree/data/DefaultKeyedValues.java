@@ -48,14 +48,21 @@
  * 25-Nov-2004 : Small update to the clone() implementation (DG);
  * 24-Feb-2005 : Added methods addValue(Comparable, double) and 
  *               setValue(Comparable, double) for convenience (DG);
+ * 17-Oct-2026 : Added a key to index map so that getIndex() doesn't need to
+ *               search the list (DG);
+ * 18-Oct-2026 : Made the key to index map transient, it is rebuilt when
+ *               the object is deserialized (DG);
  *
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 
@@ -77,11 +84,15 @@ public class DefaultKeyedValues implements KeyedValues,
     /** Storage for the data. */
     private List data;
 
+    /** Maps each key to its index in the data list. */
+    private transient HashMap indexMap;
+
     /**
      * Creates a new collection (initially empty).
      */
     public DefaultKeyedValues() {
         this.data = new java.util.ArrayList();
+        this.indexMap = new HashMap();
     }
 
     /**
@@ -137,16 +148,11 @@ public class DefaultKeyedValues implements KeyedValues,
      * @return The index, or <code>-1</code> if the key is unrecognised.
      */
     public int getIndex(Comparable key) {
-        int i = 0;
-        Iterator iterator = this.data.iterator();
-        while (iterator.hasNext()) {
-            KeyedValue kv = (KeyedValue) iterator.next();
-            if (kv.getKey().equals(key)) {
-                return i;
-            }
-            i++;
+        Integer i = (Integer) this.indexMap.get(key);
+        if (i == null) {
+            return -1;  // key not found
         }
-        return -1;  // key not found
+        return i.intValue();
     }
 
     /**
@@ -231,6 +237,7 @@ public class DefaultKeyedValues implements KeyedValues,
         else {
             KeyedValue kv = new DefaultKeyedValue(key, value);
             this.data.add(kv);
+            this.indexMap.put(key, new Integer(this.data.size() - 1));
         }
     }
 
@@ -241,6 +248,7 @@ public class DefaultKeyedValues implements KeyedValues,
      */
     public void removeValue(int index) {
         this.data.remove(index);
+        rebuildIndex();
     }
 
     /**
@@ -266,6 +274,7 @@ public class DefaultKeyedValues implements KeyedValues,
             KeyedValueComparatorType.BY_KEY, order
         );
         Collections.sort(this.data, comparator);
+        rebuildIndex();
     }
 
     /**
@@ -280,6 +289,19 @@ public class DefaultKeyedValues implements KeyedValues,
             KeyedValueComparatorType.BY_VALUE, order
         );
         Collections.sort(this.data, comparator);
+        rebuildIndex();
+    }
+
+    /**
+     * Rebuilds the key to index mapping after items have been removed or
+     * reordered.
+     */
+    private void rebuildIndex() {
+        this.indexMap.clear();
+        for (int i = 0; i < this.data.size(); i++) {
+            KeyedValue kv = (KeyedValue) this.data.get(i);
+            this.indexMap.put(kv.getKey(), new Integer(i));
+        }
     }
 
     /**
@@ -335,6 +357,22 @@ public class DefaultKeyedValues implements KeyedValues,
         return (this.data != null ? this.data.hashCode() : 0);
     }
 
+    /**
+     * Provides serialization support.  The key to index map is not 
+     * serialized, so it is rebuilt here.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream) 
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.indexMap = new HashMap();
+        rebuildIndex();
+    }
+
     /**
      * Returns a clone.
      * 
@@ -346,6 +384,7 @@ public class DefaultKeyedValues implements KeyedValues,
     public Object clone() throws CloneNotSupportedException {
         DefaultKeyedValues clone = (DefaultKeyedValues) super.clone();
         clone.data = (List) ObjectUtilities.deepClone(this.data);
+        clone.indexMap = (HashMap) this.indexMap.clone();
         return clone;    
     }
     
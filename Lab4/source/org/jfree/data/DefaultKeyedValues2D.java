@@ -47,13 +47,19 @@
  * 23-Mar-2005 : Implemented PublicCloneable (DG);
  * 09-Jun-2005 : Modified getValue() method to throw exception for unknown
  *               keys (DG);
+ * 17-Oct-2026 : Added key to index maps for the row and column keys (DG);
+ * 18-Oct-2026 : Made the key to index maps transient, they are rebuilt
+ *               when the object is deserialized (DG);
  *
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 
@@ -78,6 +84,12 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
     /** The column keys. */
     private List columnKeys;
 
+    /** Maps each row key to its index in the rowKeys list. */
+    private transient HashMap rowIndexMap;
+
+    /** Maps each column key to its index in the columnKeys list. */
+    private transient HashMap columnIndexMap;
+
     /** The row data. */
     private List rows;
     
@@ -99,6 +111,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
     public DefaultKeyedValues2D(boolean sortRowKeys) {
         this.rowKeys = new java.util.ArrayList();
         this.columnKeys = new java.util.ArrayList();
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
         this.rows = new java.util.ArrayList();
         this.sortRowKeys = sortRowKeys;
     }
@@ -156,7 +170,9 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
     }
 
     /**
-     * Returns the row index for a given key.
+     * Returns the row index for a given key.  If the row keys are sorted and
+     * the key is not found, the result is the negative value returned by 
+     * <code>Collections.binarySearch()</code>, otherwise <code>-1</code>.
      *
      * @param key  the key (<code>null</code> not permitted).
      *
@@ -166,11 +182,15 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         if (key == null) {
             throw new IllegalArgumentException("Null 'key' argument.");
         }
+        Integer index = (Integer) this.rowIndexMap.get(key);
+        if (index != null) {
+            return index.intValue();
+        }
         if (this.sortRowKeys) {
             return Collections.binarySearch(this.rowKeys, key);
         }
         else {
-            return this.rowKeys.indexOf(key);
+            return -1;
         }
     }
 
@@ -205,7 +225,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         if (key == null) {
             throw new IllegalArgumentException("Null 'key' argument.");
         }
-        return this.columnKeys.indexOf(key);
+        Integer index = (Integer) this.columnIndexMap.get(key);
+        return (index != null ? index.intValue() : -1);
     }
 
     /**
@@ -281,17 +302,21 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
                 rowIndex = -rowIndex - 1;
                 this.rowKeys.add(rowIndex, rowKey);
                 this.rows.add(rowIndex, row);
+                rebuildIndex(this.rowKeys, this.rowIndexMap, rowIndex);
             }
             else {
                 this.rowKeys.add(rowKey);
                 this.rows.add(row);
+                this.rowIndexMap.put(rowKey, 
+                        new Integer(this.rowKeys.size() - 1));
             }
         }
         row.setValue(columnKey, value);
         
-        int columnIndex = this.columnKeys.indexOf(columnKey);
-        if (columnIndex < 0) {
+        if (!this.columnIndexMap.containsKey(columnKey)) {
             this.columnKeys.add(columnKey);
+            this.columnIndexMap.put(columnKey, 
+                    new Integer(this.columnKeys.size() - 1));
         }
     }
 
@@ -320,6 +345,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         if (allNull) {
             this.rowKeys.remove(rowIndex);
             this.rows.remove(rowIndex);
+            rebuildIndex(this.rowKeys, this.rowIndexMap, 0);
         }
         
         // 2. check whether the column is now empty.
@@ -342,6 +368,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
                 row.removeValue(columnIndex);
             }
             this.columnKeys.remove(columnIndex);
+            rebuildIndex(this.columnKeys, this.columnIndexMap, 0);
         }
     }
 
@@ -353,6 +380,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
     public void removeRow(int rowIndex) {
         this.rowKeys.remove(rowIndex);
         this.rows.remove(rowIndex);
+        rebuildIndex(this.rowKeys, this.rowIndexMap, 0);
     }
 
     /**
@@ -386,6 +414,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
             rowData.removeValue(columnKey);
         }
         this.columnKeys.remove(columnKey);
+        rebuildIndex(this.columnKeys, this.columnIndexMap, 0);
     }
 
     /**
@@ -394,9 +423,29 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
     public void clear() {
         this.rowKeys.clear();
         this.columnKeys.clear();
+        this.rowIndexMap.clear();
+        this.columnIndexMap.clear();
         this.rows.clear();
     }
     
+    /**
+     * Updates a key to index map for the keys from the specified position 
+     * onwards (all keys are re-mapped if <code>start</code> is zero).
+     * 
+     * @param keys  the keys.
+     * @param indexMap  the key to index map.
+     * @param start  the index of the first key that may have moved.
+     */
+    private static void rebuildIndex(List keys, HashMap indexMap, 
+                                     int start) {
+        if (start == 0) {
+            indexMap.clear();
+        }
+        for (int i = start; i < keys.size(); i++) {
+            indexMap.put(keys.get(i), new Integer(i));
+        }
+    }
+    
     /**
      * Tests if this object is equal to another.
      *
@@ -465,6 +514,24 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         return result;
     }
 
+    /**
+     * Provides serialization support.  The key to index maps are not 
+     * serialized, so they are rebuilt here.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream) 
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
+        rebuildIndex(this.rowKeys, this.rowIndexMap, 0);
+        rebuildIndex(this.columnKeys, this.columnIndexMap, 0);
+    }
+
     /**
      * Returns a clone.
      * 
@@ -479,6 +546,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         // should be immutable...
         clone.columnKeys = new java.util.ArrayList(this.columnKeys);
         clone.rowKeys = new java.util.ArrayList(this.rowKeys);
+        clone.columnIndexMap = (HashMap) this.columnIndexMap.clone();
+        clone.rowIndexMap = (HashMap) this.rowIndexMap.clone();
         
         // but the row data requires a deep copy
         clone.rows = (List) ObjectUtilities.deepClone(this.rows);
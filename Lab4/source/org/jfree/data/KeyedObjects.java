@@ -37,12 +37,19 @@
  * --------
  * 31-Oct-2002 : Version 1 (DG);
  * 11-Jan-2005 : Minor tidy up (DG);
+ * 17-Oct-2026 : Added a key to index map so that getIndex() doesn't need to
+ *               search the list (DG);
+ * 18-Oct-2026 : Made the key to index map transient, it is rebuilt when
+ *               the object is deserialized (DG);
  * 
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 
@@ -59,11 +66,15 @@ public class KeyedObjects  implements Cloneable, PublicCloneable, Serializable {
     /** Storage for the data. */
     private List data;
 
+    /** Maps each key to its index in the data list. */
+    private transient HashMap indexMap;
+
     /**
      * Creates a new collection (initially empty).
      */
     public KeyedObjects() {
         this.data = new java.util.ArrayList();
+        this.indexMap = new HashMap();
     }
 
     /**
@@ -121,17 +132,11 @@ public class KeyedObjects  implements Cloneable, PublicCloneable, Serializable {
      * @return The index, or <code>-1</code> if the key is unrecognised.
      */
     public int getIndex(Comparable key) {
-        int result = -1;
-        int i = 0;
-        Iterator iterator = this.data.iterator();
-        while (iterator.hasNext()) {
-            KeyedObject ko = (KeyedObject) iterator.next();
-            if (ko.getKey().equals(key)) {
-                result = i;
-            }
-            i++;
+        Integer i = (Integer) this.indexMap.get(key);
+        if (i == null) {
+            return -1;
         }
-        return result;
+        return i.intValue();
     }
 
     /**
@@ -189,6 +194,7 @@ public class KeyedObjects  implements Cloneable, PublicCloneable, Serializable {
         else {
             KeyedObject ko = new KeyedObject(key, object);
             this.data.add(ko);
+            this.indexMap.put(key, new Integer(this.data.size() - 1));
         }
     }
 
@@ -199,6 +205,7 @@ public class KeyedObjects  implements Cloneable, PublicCloneable, Serializable {
      */
     public void removeValue(int index) {
         this.data.remove(index);
+        rebuildIndex();
     }
 
     /**
@@ -210,6 +217,33 @@ public class KeyedObjects  implements Cloneable, PublicCloneable, Serializable {
         removeValue(getIndex(key));
     }
     
+    /**
+     * Rebuilds the key to index mapping after items have been removed.
+     */
+    private void rebuildIndex() {
+        this.indexMap.clear();
+        for (int i = 0; i < this.data.size(); i++) {
+            KeyedObject ko = (KeyedObject) this.data.get(i);
+            this.indexMap.put(ko.getKey(), new Integer(i));
+        }
+    }
+    
+    /**
+     * Provides serialization support.  The key to index map is not 
+     * serialized, so it is rebuilt here.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream) 
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.indexMap = new HashMap();
+        rebuildIndex();
+    }
+
     /**
      * Returns a clone of this object.
      * 
@@ -225,6 +259,7 @@ public class KeyedObjects  implements Cloneable, PublicCloneable, Serializable {
             KeyedObject ko = (KeyedObject) iterator.next();
             clone.data.add(ko.clone());
         }
+        clone.indexMap = (HashMap) this.indexMap.clone();
         return clone;      
     }
     
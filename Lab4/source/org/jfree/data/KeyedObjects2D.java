@@ -38,13 +38,20 @@
  * 05-Feb-2003 : Version 1 (DG);
  * 01-Mar-2004 : Added equals() and clone() methods and implemented 
  *               Serializable (DG);
+ * 17-Oct-2026 : Added key to index maps for the row and column keys, and 
+ *               fixed clone() so the clone doesn't share its lists (DG);
+ * 18-Oct-2026 : Made the key to index maps transient, they are rebuilt
+ *               when the object is deserialized (DG);
  *
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 
@@ -64,6 +71,12 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     /** The column keys. */
     private List columnKeys;
 
+    /** Maps each row key to its index in the rowKeys list. */
+    private transient HashMap rowIndexMap;
+
+    /** Maps each column key to its index in the columnKeys list. */
+    private transient HashMap columnIndexMap;
+
     /** The row data. */
     private List rows;
 
@@ -73,6 +86,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     public KeyedObjects2D() {
         this.rowKeys = new java.util.ArrayList();
         this.columnKeys = new java.util.ArrayList();
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
         this.rows = new java.util.ArrayList();
     }
 
@@ -135,7 +150,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
      * @return The row index.
      */
     public int getRowIndex(Comparable key) {
-        return this.rowKeys.indexOf(key);
+        Integer index = (Integer) this.rowIndexMap.get(key);
+        return (index != null ? index.intValue() : -1);
     }
 
     /**
@@ -166,7 +182,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
      * @return The column index.
      */
     public int getColumnIndex(Comparable key) {
-        return this.columnKeys.indexOf(key);
+        Integer index = (Integer) this.columnIndexMap.get(key);
+        return (index != null ? index.intValue() : -1);
     }
 
     /**
@@ -189,7 +206,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     public Object getObject(Comparable rowKey, Comparable columnKey) {
 
         Object result = null;
-        int row = this.rowKeys.indexOf(rowKey);
+        int row = getRowIndex(rowKey);
         if (row >= 0) {
             KeyedObjects rowData = (KeyedObjects) this.rows.get(row);
             result = rowData.getObject(columnKey);
@@ -223,19 +240,22 @@ public class KeyedObjects2D implements Cloneable, Serializable {
                           Comparable columnKey) {
 
         KeyedObjects row;
-        int rowIndex = this.rowKeys.indexOf(rowKey);
+        int rowIndex = getRowIndex(rowKey);
         if (rowIndex >= 0) {
             row = (KeyedObjects) this.rows.get(rowIndex);
         }
         else {
             this.rowKeys.add(rowKey);
+            this.rowIndexMap.put(rowKey, new Integer(this.rowKeys.size() - 1));
             row = new KeyedObjects();
             this.rows.add(row);
         }
         row.setObject(columnKey, object);
-        int columnIndex = this.columnKeys.indexOf(columnKey);
+        int columnIndex = getColumnIndex(columnKey);
         if (columnIndex < 0) {
             this.columnKeys.add(columnKey);
+            this.columnIndexMap.put(columnKey, 
+                    new Integer(this.columnKeys.size() - 1));
         }
 
     }
@@ -260,6 +280,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     public void removeRow(int rowIndex) {
         this.rowKeys.remove(rowIndex);
         this.rows.remove(rowIndex);
+        rebuildIndex(this.rowKeys, this.rowIndexMap);
     }
 
     /**
@@ -293,6 +314,20 @@ public class KeyedObjects2D implements Cloneable, Serializable {
             rowData.removeValue(columnKey);
         }
         this.columnKeys.remove(columnKey);
+        rebuildIndex(this.columnKeys, this.columnIndexMap);
+    }
+
+    /**
+     * Rebuilds a key to index map after keys have been removed.
+     * 
+     * @param keys  the keys.
+     * @param indexMap  the key to index map.
+     */
+    private static void rebuildIndex(List keys, HashMap indexMap) {
+        indexMap.clear();
+        for (int i = 0; i < keys.size(); i++) {
+            indexMap.put(keys.get(i), new Integer(i));
+        }
     }
 
     /**
@@ -365,6 +400,24 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         return result;
     }
 
+    /**
+     * Provides serialization support.  The key to index maps are not 
+     * serialized, so they are rebuilt here.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream) 
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
+        rebuildIndex(this.rowKeys, this.rowIndexMap);
+        rebuildIndex(this.columnKeys, this.columnIndexMap);
+    }
+
     /**
      * Returns a clone.
      * 
@@ -374,7 +427,19 @@ public class KeyedObjects2D implements Cloneable, Serializable {
      *         exception, but subclasses (if any) might.
      */
     public Object clone() throws CloneNotSupportedException {
-        return super.clone();
+        KeyedObjects2D clone = (KeyedObjects2D) super.clone();
+        // the keys should be immutable, so a shallow copy is fine...
+        clone.rowKeys = new java.util.ArrayList(this.rowKeys);
+        clone.columnKeys = new java.util.ArrayList(this.columnKeys);
+        clone.rowIndexMap = (HashMap) this.rowIndexMap.clone();
+        clone.columnIndexMap = (HashMap) this.columnIndexMap.clone();
+        clone.rows = new java.util.ArrayList(this.rows.size());
+        Iterator iterator = this.rows.iterator();
+        while (iterator.hasNext()) {
+            KeyedObjects row = (KeyedObjects) iterator.next();
+            clone.rows.add(row.clone());
+        }
+        return clone;
     }
 
 }
@@ -53,6 +53,11 @@
  * 08-Sep-2003 : Serialization fixes (NB);
  * 11-Sep-2003 : Cloning Fixes (NB);
  * 01-Jun-2005 : Added hasListener() method for unit testing (DG);
+ * 17-Oct-2026 : Added an optional change dispatcher that merges bursts of 
+ *               change events (DG);
+ *               Added beginUpdate() and endUpdate() (DG);
+ *               Implemented Versioned (DG);
+ * 18-Oct-2026 : Documented the use of try/finally with beginUpdate() (DG);
  * 
  */
 
@@ -75,6 +80,7 @@ import javax.swing.event.EventListenerList;
  * mechanism for registering change listeners.
  */
 public abstract class AbstractDataset implements Dataset, 
+                                                 Versioned,
                                                  Cloneable, 
                                                  Serializable,
                                                  ObjectInputValidation {
@@ -87,6 +93,21 @@ public abstract class AbstractDataset implements Dataset,
 
     /** Storage for registered change listeners. */
     private transient EventListenerList listenerList;
+    
+    /** 
+     * The dispatcher that delivers change events (<code>null</code> to 
+     * notify the listeners directly). 
+     */
+    private transient DatasetChangeDispatcher changeDispatcher;
+
+    /** The number of nested {@link #beginUpdate()} calls still open. */
+    private transient int updateDepth;
+
+    /** A flag that records a change made during an update. */
+    private transient boolean updatePending;
+
+    /** The modification version (see {@link #getVersion()}). */
+    private transient long version;
 
     /**
      * Constructs a dataset. By default, the dataset is assigned to its own 
@@ -164,12 +185,138 @@ public abstract class AbstractDataset implements Dataset,
     }
 
     /**
-     * Notifies all registered listeners that the dataset has changed.
+     * Returns the dispatcher that delivers change events for this dataset.
+     * 
+     * @return The dispatcher (possibly <code>null</code>).
+     * 
+     * @see #setChangeDispatcher(DatasetChangeDispatcher)
+     * 
+     * @since 1.0.3
+     */
+    public DatasetChangeDispatcher getChangeDispatcher() {
+        return this.changeDispatcher;
+    }
+    
+    /**
+     * Sets the dispatcher that delivers change events for this dataset.  With
+     * a dispatcher, bursts of changes are merged and the listeners are 
+     * notified at most once per frame interval (on the Swing event dispatch
+     * thread, unless the dispatcher delivers the events elsewhere).
+     * 
+     * @param dispatcher  the dispatcher (<code>null</code> permitted, to 
+     *                    notify the listeners directly).
+     * 
+     * @see #getChangeDispatcher()
+     * 
+     * @since 1.0.3
+     */
+    public void setChangeDispatcher(DatasetChangeDispatcher dispatcher) {
+        this.changeDispatcher = dispatcher;
+    }
+    
+    /**
+     * Starts an update.  Until the matching call to {@link #endUpdate()}, 
+     * the dataset does not notify its listeners of each change.  Instead, a
+     * single {@link DatasetChangeEvent} is sent when the update ends, so that
+     * (for example) a plot reconfigures its axes once rather than once per 
+     * change.  Updates can be nested.
+     * <p>
+     * Each call must be matched by a call to {@link #endUpdate()}, even if 
+     * an exception is thrown, otherwise the dataset never sends another 
+     * change event.  Use a <code>try/finally</code> block:
+     * <pre>
+     * dataset.beginUpdate();
+     * try {
+     *     ...
+     * }
+     * finally {
+     *     dataset.endUpdate();
+     * }
+     * </pre>
+     * 
+     * @see #endUpdate()
+     * 
+     * @since 1.0.3
+     */
+    public void beginUpdate() {
+        this.updateDepth++;
+    }
+    
+    /**
+     * Ends an update started with {@link #beginUpdate()}.  If the dataset 
+     * changed during the (outermost) update, one change event is sent to the
+     * registered listeners (through the change dispatcher, if there is one).
+     * 
+     * @throws IllegalStateException if there is no update in progress.
+     * 
+     * @since 1.0.3
+     */
+    public void endUpdate() {
+        if (this.updateDepth == 0) {
+            throw new IllegalStateException("No update in progress.");
+        }
+        this.updateDepth--;
+        if (this.updateDepth == 0 && this.updatePending) {
+            this.updatePending = false;
+            fireDatasetChanged();
+        }
+    }
+    
+    /**
+     * Notifies all registered listeners that the dataset has changed.  If the
+     * dataset has a change dispatcher, the event is passed to the dispatcher
+     * instead, and the listeners are notified later.
      *
      * @param event  contains information about the event that triggered the 
      *               notification.
      */
     protected void notifyListeners(DatasetChangeEvent event) {
+        this.version++;
+        if (this.updateDepth > 0) {
+            this.updatePending = true;
+            return;
+        }
+        DatasetChangeDispatcher dispatcher = this.changeDispatcher;
+        if (dispatcher != null) {
+            dispatcher.dispatch(this, event);
+        }
+        else {
+            deliverEvent(event);
+        }
+    }
+    
+    /**
+     * Returns the modification version of the dataset.  The version is 
+     * incremented each time a change event is raised (even if the event is 
+     * held back by an update or a change dispatcher), and by subclasses 
+     * that change their data without raising an event (see 
+     * {@link #incrementVersion()}).
+     * 
+     * @return The version.
+     * 
+     * @since 1.0.3
+     */
+    public long getVersion() {
+        return this.version;
+    }
+    
+    /**
+     * Increments the modification version.  Subclasses should call this 
+     * method when the data changes but no change event is sent (for example, 
+     * when the caller has asked for no notification).
+     * 
+     * @since 1.0.3
+     */
+    protected void incrementVersion() {
+        this.version++;
+    }
+    
+    /**
+     * Sends an event to all registered listeners.
+     * 
+     * @param event  the event.
+     */
+    void deliverEvent(DatasetChangeEvent event) {
 
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
@@ -195,6 +342,8 @@ public abstract class AbstractDataset implements Dataset,
     public Object clone() throws CloneNotSupportedException {
         AbstractDataset clone = (AbstractDataset) super.clone();
         clone.listenerList = new EventListenerList();
+        clone.updateDepth = 0;
+        clone.updatePending = false;
         return clone;    
     }
     
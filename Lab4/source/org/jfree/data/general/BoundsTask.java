@@ -0,0 +1,421 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ---------------
+ * BoundsTask.java
+ * ---------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Run the slices on the shared WorkerPool, and pass any 
+ *               error back to the calling thread (DG);
+ *
+ */
+
+package org.jfree.data.general;
+
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.IntervalCategoryDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.OHLCDataset;
+import org.jfree.data.xy.TableXYDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A task that finds the minimum and maximum values in a slice of a dataset.
+ * The items in a dataset are numbered in series order, and a slice is a run
+ * of items that may span several series.  {@link DatasetUtilities} uses 
+ * these tasks to split the iteration over large datasets between several 
+ * threads.
+ * <p>
+ * The dataset is read, but never modified, by the worker threads.  Any lazy
+ * state in the dataset should be initialised by the caller (asking for the 
+ * item count of each series is usually enough) before the tasks are run.
+ */
+final class BoundsTask implements Runnable {
+
+    /** Find the x-values of an {@link XYDataset}. */
+    static final int DOMAIN = 0;
+
+    /** Find the x-intervals of an {@link IntervalXYDataset}. */
+    static final int DOMAIN_INTERVAL = 1;
+
+    /** Find the y-values of an {@link XYDataset}. */
+    static final int XY_RANGE = 2;
+
+    /** Find the y-intervals of an {@link IntervalXYDataset}. */
+    static final int XY_INTERVAL_RANGE = 3;
+
+    /** Find the low and high values of an {@link OHLCDataset}. */
+    static final int OHLC_RANGE = 4;
+
+    /** Find the values of a {@link CategoryDataset}. */
+    static final int CATEGORY_RANGE = 5;
+
+    /** Find the intervals of an {@link IntervalCategoryDataset}. */
+    static final int CATEGORY_INTERVAL_RANGE = 6;
+
+    /** 
+     * Find the stacked totals of a {@link CategoryDataset} (each item is a 
+     * column). 
+     */
+    static final int CATEGORY_STACKED_RANGE = 7;
+
+    /** 
+     * Find the stacked totals of a {@link TableXYDataset} (each item is an 
+     * x-value). 
+     */
+    static final int TABLE_XY_STACKED_RANGE = 8;
+
+    /** The smallest number of items that is worth a thread of its own. */
+    private static final int MIN_ITEMS_PER_TASK = 10000;
+
+    /** The task type. */
+    private int type;
+
+    /** The dataset. */
+    private Object dataset;
+
+    /** The base value for stacked totals. */
+    private double base;
+
+    /** The item count for each series. */
+    private int[] itemCounts;
+
+    /** The position of the first item in the slice. */
+    private long start;
+
+    /** The position after the last item in the slice. */
+    private long end;
+
+    /** The minimum value found. */
+    private double minimum;
+
+    /** The maximum value found. */
+    private double maximum;
+
+    /** An exception or error thrown while running the task. */
+    private Throwable error;
+
+    /** A flag that indicates whether the task has finished. */
+    private boolean done;
+
+    /**
+     * Creates a new task.
+     *
+     * @param type  the task type.
+     * @param dataset  the dataset.
+     * @param base  the base value for stacked totals.
+     * @param itemCounts  the item count for each series.
+     * @param start  the position of the first item in the slice.
+     * @param end  the position after the last item in the slice.
+     */
+    private BoundsTask(int type, Object dataset, double base, 
+                       int[] itemCounts, long start, long end) {
+        this.type = type;
+        this.dataset = dataset;
+        this.base = base;
+        this.itemCounts = itemCounts;
+        this.start = start;
+        this.end = end;
+        this.minimum = Double.POSITIVE_INFINITY;
+        this.maximum = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Finds the minimum and maximum values in a dataset.  If the total work
+     * is less than the threshold, or there is only one processor, the items
+     * are processed on the calling thread.  Otherwise the items are split 
+     * into one slice per processor, and all but one of the slices are 
+     * handed to the shared {@link WorkerPool}.  Any slice that the pool has 
+     * not started by the time the calling thread has finished its own slice
+     * is taken back and processed on the calling thread.  An exception or 
+     * error thrown by any slice is rethrown on the calling thread.
+     *
+     * @param type  the task type.
+     * @param dataset  the dataset.
+     * @param base  the base value for stacked totals.
+     * @param itemCounts  the item count for each series.
+     * @param work  the number of values to be read.
+     * @param threshold  the smallest amount of work that is split between 
+     *                   threads.
+     *
+     * @return An array containing the minimum and maximum values found 
+     *         (<code>Double.POSITIVE_INFINITY</code> and 
+     *         <code>Double.NEGATIVE_INFINITY</code> if there are no values).
+     */
+    static double[] execute(int type, Object dataset, double base, 
+                            int[] itemCounts, long work, int threshold) {
+        long total = 0;
+        for (int i = 0; i < itemCounts.length; i++) {
+            total += itemCounts[i];
+        }
+        int taskCount = 1;
+        if (work >= threshold) {
+            taskCount = (int) Math.min(
+                    Runtime.getRuntime().availableProcessors(), 
+                    Math.max(1, total / MIN_ITEMS_PER_TASK));
+        }
+        BoundsTask[] tasks = new BoundsTask[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            tasks[i] = new BoundsTask(type, dataset, base, itemCounts, 
+                    total * i / taskCount, total * (i + 1) / taskCount);
+        }
+        WorkerPool pool = WorkerPool.getSharedInstance();
+        for (int i = 1; i < taskCount; i++) {
+            pool.execute(tasks[i]);
+        }
+        tasks[0].run();
+        boolean interrupted = false;
+        for (int i = 1; i < taskCount; i++) {
+            if (pool.remove(tasks[i])) {
+                tasks[i].run();
+            }
+            else {
+                interrupted = tasks[i].waitUntilDone() || interrupted;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < taskCount; i++) {
+            Throwable error = tasks[i].error;
+            if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            }
+            else if (error instanceof Error) {
+                throw (Error) error;
+            }
+            else if (error != null) {
+                throw new RuntimeException(error.toString());
+            }
+            minimum = Math.min(minimum, tasks[i].minimum);
+            maximum = Math.max(maximum, tasks[i].maximum);
+        }
+        return new double[] {minimum, maximum};
+    }
+
+    /**
+     * Waits until the task has finished.
+     *
+     * @return <code>true</code> if the calling thread was interrupted while 
+     *         it was waiting.
+     */
+    private synchronized boolean waitUntilDone() {
+        boolean interrupted = false;
+        while (!this.done) {
+            try {
+                wait();
+            }
+            catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        return interrupted;
+    }
+
+    /**
+     * Processes the items in the slice.
+     */
+    public void run() {
+        try {
+            long position = 0;
+            for (int s = 0; s < this.itemCounts.length && position < this.end;
+                    s++) {
+                long next = position + this.itemCounts[s];
+                if (next > this.start) {
+                    int first = (int) Math.max(0, this.start - position);
+                    int last = (int) (Math.min(this.end, next) - position);
+                    iterate(s, first, last);
+                }
+                position = next;
+            }
+        }
+        catch (Throwable t) {
+            this.error = t;
+        }
+        finally {
+            synchronized (this) {
+                this.done = true;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Processes a run of items in one series.
+     *
+     * @param series  the series (or row) index.
+     * @param first  the index of the first item.
+     * @param last  the index after the last item.
+     */
+    private void iterate(int series, int first, int last) {
+        double min = this.minimum;
+        double max = this.maximum;
+        switch (this.type) {
+            case DOMAIN: {
+                XYDataset d = (XYDataset) this.dataset;
+                for (int item = first; item < last; item++) {
+                    double x = d.getXValue(series, item);
+                    min = Math.min(min, x);
+                    max = Math.max(max, x);
+                }
+                break;
+            }
+            case DOMAIN_INTERVAL: {
+                IntervalXYDataset d = (IntervalXYDataset) this.dataset;
+                for (int item = first; item < last; item++) {
+                    min = Math.min(min, d.getStartXValue(series, item));
+                    max = Math.max(max, d.getEndXValue(series, item));
+                }
+                break;
+            }
+            case XY_RANGE: {
+                XYDataset d = (XYDataset) this.dataset;
+                for (int item = first; item < last; item++) {
+                    double y = d.getYValue(series, item);
+                    if (!Double.isNaN(y)) {
+                        min = Math.min(min, y);
+                        max = Math.max(max, y);
+                    }
+                }
+                break;
+            }
+            case XY_INTERVAL_RANGE: {
+                IntervalXYDataset d = (IntervalXYDataset) this.dataset;
+                for (int item = first; item < last; item++) {
+                    double lvalue = d.getStartYValue(series, item);
+                    double uvalue = d.getEndYValue(series, item);
+                    if (!Double.isNaN(lvalue)) {
+                        min = Math.min(min, lvalue);
+                    }
+                    if (!Double.isNaN(uvalue)) {
+                        max = Math.max(max, uvalue);
+                    }
+                }
+                break;
+            }
+            case OHLC_RANGE: {
+                OHLCDataset d = (OHLCDataset) this.dataset;
+                for (int item = first; item < last; item++) {
+                    double lvalue = d.getLowValue(series, item);
+                    double uvalue = d.getHighValue(series, item);
+                    if (!Double.isNaN(lvalue)) {
+                        min = Math.min(min, lvalue);
+                    }
+                    if (!Double.isNaN(uvalue)) {
+                        max = Math.max(max, uvalue);
+                    }
+                }
+                break;
+            }
+            case CATEGORY_RANGE: {
+                CategoryDataset d = (CategoryDataset) this.dataset;
+                for (int column = first; column < last; column++) {
+                    Number value = d.getValue(series, column);
+                    if (value != null) {
+                        min = Math.min(min, value.doubleValue());
+                        max = Math.max(max, value.doubleValue());
+                    }
+                }
+                break;
+            }
+            case CATEGORY_INTERVAL_RANGE: {
+                IntervalCategoryDataset d 
+                        = (IntervalCategoryDataset) this.dataset;
+                for (int column = first; column < last; column++) {
+                    Number lvalue = d.getStartValue(series, column);
+                    Number uvalue = d.getEndValue(series, column);
+                    if (lvalue != null) {
+                        min = Math.min(min, lvalue.doubleValue());
+                    }
+                    if (uvalue != null) {
+                        max = Math.max(max, uvalue.doubleValue());
+                    }
+                }
+                break;
+            }
+            case CATEGORY_STACKED_RANGE: {
+                CategoryDataset d = (CategoryDataset) this.dataset;
+                int rowCount = d.getRowCount();
+                for (int column = first; column < last; column++) {
+                    double positive = this.base;
+                    double negative = this.base;
+                    for (int row = 0; row < rowCount; row++) {
+                        Number number = d.getValue(row, column);
+                        if (number != null) {
+                            double value = number.doubleValue();
+                            if (value > 0.0) {
+                                positive = positive + value;
+                            }
+                            if (value < 0.0) {
+                                negative = negative + value;
+                            }
+                        }
+                    }
+                    min = Math.min(min, negative);
+                    max = Math.max(max, positive);
+                }
+                break;
+            }
+            case TABLE_XY_STACKED_RANGE: {
+                TableXYDataset d = (TableXYDataset) this.dataset;
+                int seriesCount = d.getSeriesCount();
+                for (int item = first; item < last; item++) {
+                    double positive = this.base;
+                    double negative = this.base;
+                    for (int s = 0; s < seriesCount; s++) {
+                        double y = d.getYValue(s, item);
+                        if (!Double.isNaN(y)) {
+                            if (y > 0.0) {
+                                positive += y;
+                            }
+                            else {
+                                negative += y;
+                            }
+                        }
+                    }
+                    min = Math.min(min, negative);
+                    max = Math.max(max, positive);
+                }
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unknown task type.");
+        }
+        this.minimum = min;
+        this.maximum = max;
+    }
+
+}
@@ -0,0 +1,343 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2006, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * CircularArrayList.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Move items in blocks, added removeRange() and a copy 
+ *               constructor (DG);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A list backed by a circular array.  Items can be added to or removed from
+ * either end of the list in constant time, which makes this a good fit for
+ * series that have a maximum item count (the oldest item is removed each
+ * time a new item is appended).  Indexed access is also constant time, so
+ * binary searches on sorted data work as they do for an
+ * <code>ArrayList</code>.  Inserting or removing an item in the middle of the
+ * list moves the items on whichever side of the index is shorter.
+ *
+ * @since 1.0.3
+ */
+public class CircularArrayList extends AbstractList
+                               implements RandomAccess, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1487375611870542405L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Storage for the items in the list. */
+    private Object[] elements;
+
+    /** The index in the array of the first item in the list. */
+    private int head;
+
+    /** The number of items in the list. */
+    private int size;
+
+    /**
+     * Creates a new empty list.
+     */
+    public CircularArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty list with the specified initial capacity.
+     *
+     * @param initialCapacity  the initial capacity (must be positive).
+     */
+    public CircularArrayList(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'initialCapacity' > 0.");
+        }
+        this.elements = new Object[initialCapacity];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Creates a new list containing the items in the specified collection,
+     * in the order they are returned by the collection's iterator.
+     *
+     * @param c  the collection (<code>null</code> not permitted).
+     */
+    public CircularArrayList(Collection c) {
+        if (c == null) {
+            throw new IllegalArgumentException("Null 'c' argument.");
+        }
+        Object[] items = c.toArray();
+        this.elements = new Object[Math.max(items.length, DEFAULT_CAPACITY)];
+        System.arraycopy(items, 0, this.elements, 0, items.length);
+        this.head = 0;
+        this.size = items.length;
+    }
+
+    /**
+     * Returns the number of items in the list.
+     *
+     * @return The item count.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the item at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The item (possibly <code>null</code>).
+     */
+    public Object get(int index) {
+        checkIndex(index, this.size);
+        return this.elements[physicalIndex(index)];
+    }
+
+    /**
+     * Replaces the item at the specified index.
+     *
+     * @param index  the index (zero-based).
+     * @param element  the new item (<code>null</code> permitted).
+     *
+     * @return The item previously at the specified index.
+     */
+    public Object set(int index, Object element) {
+        checkIndex(index, this.size);
+        int i = physicalIndex(index);
+        Object result = this.elements[i];
+        this.elements[i] = element;
+        return result;
+    }
+
+    /**
+     * Inserts an item at the specified index.  Appending to the end of the
+     * list or inserting at the start of the list are constant time
+     * operations.
+     *
+     * @param index  the index (zero-based).
+     * @param element  the item (<code>null</code> permitted).
+     */
+    public void add(int index, Object element) {
+        checkIndex(index, this.size + 1);
+        this.modCount++;
+        if (this.size == this.elements.length) {
+            grow();
+        }
+        if (index < this.size / 2) {
+            // move the items before the index one place towards the front
+            this.head = (this.head == 0 ? this.elements.length : this.head) 
+                    - 1;
+            move(1, 0, index);
+        }
+        else {
+            // move the items after the index one place towards the back
+            move(index, index + 1, this.size - index);
+        }
+        this.elements[physicalIndex(index)] = element;
+        this.size++;
+    }
+
+    /**
+     * Removes the item at the specified index.  Removing the first or last
+     * item in the list is a constant time operation.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The item removed.
+     */
+    public Object remove(int index) {
+        checkIndex(index, this.size);
+        Object result = this.elements[physicalIndex(index)];
+        removeRange(index, index + 1);
+        return result;
+    }
+
+    /**
+     * Removes the items from <code>fromIndex</code> (inclusive) to 
+     * <code>toIndex</code> (exclusive).  The items on whichever side of the
+     * range is shorter are moved, so removing items from either end of the 
+     * list takes time proportional to the number of items removed.  This 
+     * method is called by <code>subList(fromIndex, toIndex).clear()</code>.
+     *
+     * @param fromIndex  the index of the first item to remove.
+     * @param toIndex  the index after the last item to remove.
+     */
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > this.size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex 
+                    + ", To: " + toIndex);
+        }
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+        this.modCount++;
+        if (fromIndex < this.size - toIndex) {
+            // move the items before the range towards the back
+            move(0, count, fromIndex);
+            fill(0, count);
+            this.head = physicalIndex(count);
+        }
+        else {
+            // move the items after the range towards the front
+            move(toIndex, fromIndex, this.size - toIndex);
+            fill(this.size - count, count);
+        }
+        this.size -= count;
+        if (this.size == 0) {
+            this.head = 0;
+        }
+    }
+
+    /**
+     * Removes all items from the list.
+     */
+    public void clear() {
+        this.modCount++;
+        fill(0, this.size);
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Moves a run of items within the backing array, copying the contiguous
+     * parts of the run (at most three) in blocks.
+     *
+     * @param from  the list index of the first item to move.
+     * @param to  the list index that the first item is moved to.
+     * @param count  the number of items to move.
+     */
+    private void move(int from, int to, int count) {
+        int capacity = this.elements.length;
+        if (to < from) {
+            // copy from the front of the run, so that no item is overwritten
+            // before it has been moved
+            while (count > 0) {
+                int src = physicalIndex(from);
+                int dst = physicalIndex(to);
+                int n = Math.min(count, Math.min(capacity - src, 
+                        capacity - dst));
+                System.arraycopy(this.elements, src, this.elements, dst, n);
+                from += n;
+                to += n;
+                count -= n;
+            }
+        }
+        else if (to > from) {
+            // copy from the back of the run
+            while (count > 0) {
+                int src = physicalIndex(from + count - 1);
+                int dst = physicalIndex(to + count - 1);
+                int n = Math.min(count, Math.min(src + 1, dst + 1));
+                System.arraycopy(this.elements, src - n + 1, this.elements, 
+                        dst - n + 1, n);
+                count -= n;
+            }
+        }
+    }
+
+    /**
+     * Clears a run of slots in the backing array, so that the items that 
+     * were held there can be garbage collected.
+     *
+     * @param from  the list index of the first slot.
+     * @param count  the number of slots.
+     */
+    private void fill(int from, int count) {
+        int capacity = this.elements.length;
+        while (count > 0) {
+            int start = physicalIndex(from);
+            int n = Math.min(count, capacity - start);
+            Arrays.fill(this.elements, start, start + n, null);
+            from += n;
+            count -= n;
+        }
+    }
+
+    /**
+     * Converts a list index to an index in the backing array.
+     *
+     * @param index  the list index.
+     *
+     * @return The array index.
+     */
+    private int physicalIndex(int index) {
+        int i = this.head + index;
+        int capacity = this.elements.length;
+        return (i >= capacity ? i - capacity : i);
+    }
+
+    /**
+     * Doubles the capacity of the backing array, moving the items so that
+     * the first item is at array index zero.
+     */
+    private void grow() {
+        Object[] larger = new Object[this.elements.length * 2];
+        int firstPart = Math.min(this.size, this.elements.length - this.head);
+        System.arraycopy(this.elements, this.head, larger, 0, firstPart);
+        System.arraycopy(this.elements, 0, larger, firstPart,
+                this.size - firstPart);
+        this.elements = larger;
+        this.head = 0;
+    }
+
+    /**
+     * Checks that an index falls in the range <code>0</code> to
+     * <code>limit - 1</code>.
+     *
+     * @param index  the index.
+     * @param limit  the exclusive upper limit.
+     */
+    private static void checkIndex(int index, int limit) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
+}
@@ -0,0 +1,456 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * DatasetChangeDispatcher.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Deliver the events through deliver() (on the event 
+ *               dispatch thread by default) and report listener exceptions
+ *               through handleException() (DG);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.List;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Merges bursts of dataset change events, so that listeners (usually plots,
+ * and through them charts and chart panels) are notified at most once per 
+ * frame interval.  A dataset that has a dispatcher (see 
+ * {@link AbstractDataset#setChangeDispatcher(DatasetChangeDispatcher)}) 
+ * hands its change events to the dispatcher instead of notifying its 
+ * listeners directly.  If the dataset already has an event waiting, the new
+ * event replaces it (the event is <i>coalesced</i>).  A background thread 
+ * delivers the waiting events, one per dataset, no more often than once per
+ * frame interval.  An event that arrives after a quiet period is delivered 
+ * straight away.
+ * <p>
+ * One dispatcher can be shared by all the datasets in a dashboard, so that 
+ * all the charts are updated together and the total redraw rate is capped.
+ * <p>
+ * The dispatcher thread hands each batch of waiting events to the 
+ * {@link #deliver(Runnable)} method, which runs it on the Swing event 
+ * dispatch thread by default (so listeners such as chart panels are 
+ * notified on the thread that owns them).  Subclasses can override this 
+ * method to notify the listeners on another thread.  A new batch is not 
+ * handed over until the previous one has finished, so events continue to 
+ * be coalesced when the listeners are slow.  An exception thrown by a 
+ * listener is passed to {@link #handleException(Throwable)} and does not 
+ * stop the delivery of the other events.
+ * <p>
+ * The dispatcher keeps counts of the events received, coalesced, delivered
+ * and dropped (events that were waiting when the dispatcher was shut 
+ * down).
+ *
+ * @since 1.0.3
+ */
+public class DatasetChangeDispatcher implements Runnable {
+
+    /** The default frame interval (in milliseconds). */
+    public static final long DEFAULT_FRAME_INTERVAL = 40L;
+
+    /** The minimum time between deliveries (in milliseconds). */
+    private long frameInterval;
+
+    /** The datasets with events waiting to be delivered. */
+    private List pendingDatasets;
+
+    /** The waiting events (one per dataset). */
+    private List pendingEvents;
+
+    /** The time of the last delivery. */
+    private long lastDelivery;
+
+    /** The dispatcher thread (<code>null</code> if not running). */
+    private Thread thread;
+
+    /** A flag that indicates that a batch of events is being delivered. */
+    private boolean delivering;
+
+    /** The number of events received. */
+    private long receivedCount;
+
+    /** The number of events replaced by a later event. */
+    private long coalescedCount;
+
+    /** The number of events delivered to listeners. */
+    private long deliveredCount;
+
+    /** The number of events discarded by {@link #shutdown()}. */
+    private long droppedCount;
+
+    /**
+     * Creates a new dispatcher with the default frame interval.
+     */
+    public DatasetChangeDispatcher() {
+        this(DEFAULT_FRAME_INTERVAL);
+    }
+
+    /**
+     * Creates a new dispatcher.
+     *
+     * @param frameInterval  the minimum time between deliveries, in 
+     *                       milliseconds (must be non-negative).
+     */
+    public DatasetChangeDispatcher(long frameInterval) {
+        setFrameInterval(frameInterval);
+        this.pendingDatasets = new java.util.ArrayList();
+        this.pendingEvents = new java.util.ArrayList();
+    }
+
+    /**
+     * Returns the minimum time between deliveries.
+     *
+     * @return The frame interval (in milliseconds).
+     */
+    public synchronized long getFrameInterval() {
+        return this.frameInterval;
+    }
+
+    /**
+     * Sets the minimum time between deliveries.
+     *
+     * @param frameInterval  the frame interval, in milliseconds (must be
+     *                       non-negative).
+     */
+    public synchronized void setFrameInterval(long frameInterval) {
+        if (frameInterval < 0L) {
+            throw new IllegalArgumentException(
+                    "Requires 'frameInterval' >= 0.");
+        }
+        this.frameInterval = frameInterval;
+        notifyAll();
+    }
+
+    /**
+     * Accepts a change event from a dataset.  The event is delivered to the
+     * dataset's listeners later, on the dispatcher thread.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param event  the event (<code>null</code> not permitted).
+     */
+    public synchronized void dispatch(AbstractDataset dataset, 
+                                      DatasetChangeEvent event) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        if (event == null) {
+            throw new IllegalArgumentException("Null 'event' argument.");
+        }
+        this.receivedCount++;
+        int index = indexOf(dataset);
+        if (index >= 0) {
+            this.pendingEvents.set(index, event);
+            this.coalescedCount++;
+        }
+        else {
+            this.pendingDatasets.add(dataset);
+            this.pendingEvents.add(event);
+        }
+        if (this.thread == null) {
+            this.thread = new Thread(this, "DatasetChangeDispatcher");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+        notifyAll();
+    }
+
+    /**
+     * Delivers all the waiting events now, on the calling thread.  If a 
+     * listener throws an exception, the other events are still delivered 
+     * and then the first exception is rethrown.
+     */
+    public void flush() {
+        AbstractDataset[] datasets;
+        DatasetChangeEvent[] events;
+        synchronized (this) {
+            datasets = takeDatasets();
+            events = takeEvents();
+        }
+        RuntimeException error = null;
+        for (int i = 0; i < datasets.length; i++) {
+            try {
+                datasets[i].deliverEvent(events[i]);
+            }
+            catch (RuntimeException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Stops the dispatcher thread and discards any waiting events (they are
+     * counted as dropped).  The dispatcher can still be used afterwards, a 
+     * new thread is started when the next event arrives.
+     */
+    public synchronized void shutdown() {
+        this.droppedCount += this.pendingDatasets.size();
+        this.pendingDatasets.clear();
+        this.pendingEvents.clear();
+        this.thread = null;
+        notifyAll();
+    }
+
+    /**
+     * Returns the number of events received.
+     *
+     * @return The event count.
+     */
+    public synchronized long getReceivedEventCount() {
+        return this.receivedCount;
+    }
+
+    /**
+     * Returns the number of events that were replaced by a later event for 
+     * the same dataset before they were delivered.
+     *
+     * @return The event count.
+     */
+    public synchronized long getCoalescedEventCount() {
+        return this.coalescedCount;
+    }
+
+    /**
+     * Returns the number of events delivered to listeners.
+     *
+     * @return The event count.
+     */
+    public synchronized long getDeliveredEventCount() {
+        return this.deliveredCount;
+    }
+
+    /**
+     * Returns the number of events that were discarded because the 
+     * dispatcher was shut down before they were delivered.
+     *
+     * @return The event count.
+     */
+    public synchronized long getDroppedEventCount() {
+        return this.droppedCount;
+    }
+
+    /**
+     * Returns the number of events waiting to be delivered.
+     *
+     * @return The event count.
+     */
+    public synchronized int getPendingEventCount() {
+        return this.pendingDatasets.size();
+    }
+
+    /**
+     * Resets the received, coalesced, delivered and dropped event counts to
+     * zero.
+     */
+    public synchronized void resetCounts() {
+        this.receivedCount = 0L;
+        this.coalescedCount = 0L;
+        this.deliveredCount = 0L;
+        this.droppedCount = 0L;
+    }
+
+    /**
+     * Delivers the waiting events, once per frame interval, until the 
+     * dispatcher is shut down.
+     */
+    public void run() {
+        Thread current = Thread.currentThread();
+        while (true) {
+            synchronized (this) {
+                while (this.thread == current) {
+                    long delay = this.lastDelivery + this.frameInterval 
+                            - System.currentTimeMillis();
+                    if (!this.pendingDatasets.isEmpty() && delay <= 0L 
+                            && !this.delivering) {
+                        break;
+                    }
+                    try {
+                        if (this.pendingDatasets.isEmpty() 
+                                || this.delivering) {
+                            wait();
+                        }
+                        else {
+                            wait(delay);
+                        }
+                    }
+                    catch (InterruptedException e) {
+                        // check the state again
+                    }
+                }
+                if (this.thread != current) {
+                    return;
+                }
+            }
+            final AbstractDataset[] datasets;
+            final DatasetChangeEvent[] events;
+            synchronized (this) {
+                datasets = takeDatasets();
+                events = takeEvents();
+                this.delivering = true;
+            }
+            try {
+                deliver(new Runnable() {
+                    public void run() {
+                        try {
+                            deliverEvents(datasets, events);
+                        }
+                        finally {
+                            deliveryFinished();
+                        }
+                    }
+                });
+            }
+            catch (Throwable t) {
+                deliveryFinished();
+                handleException(t);
+            }
+        }
+    }
+
+    /**
+     * Runs a task that notifies the listeners for a batch of events.  By 
+     * default, the task is run on the Swing event dispatch thread (see 
+     * <code>SwingUtilities.invokeLater()</code>).  Subclasses can override
+     * this method to run the task on another thread, or (by calling 
+     * <code>task.run()</code>) on the dispatcher thread.  The task must be 
+     * run exactly once, since no further events are delivered until it has
+     * finished.
+     *
+     * @param task  the task (never <code>null</code>).
+     */
+    protected void deliver(Runnable task) {
+        SwingUtilities.invokeLater(task);
+    }
+
+    /**
+     * Handles an exception thrown by a listener during a delivery from the 
+     * dispatcher thread.  By default, the exception is passed to the 
+     * <code>uncaughtException()</code> method of the current thread's group
+     * (which prints the stack trace), in the same way as an exception that 
+     * is not caught by a thread.  Subclasses can override this method to log 
+     * the exception.
+     *
+     * @param t  the exception (never <code>null</code>).
+     */
+    protected void handleException(Throwable t) {
+        Thread current = Thread.currentThread();
+        current.getThreadGroup().uncaughtException(current, t);
+    }
+
+    /**
+     * Notifies the listeners for a batch of events, passing any exception 
+     * to {@link #handleException(Throwable)}.
+     *
+     * @param datasets  the datasets.
+     * @param events  the events.
+     */
+    private void deliverEvents(AbstractDataset[] datasets, 
+                               DatasetChangeEvent[] events) {
+        for (int i = 0; i < datasets.length; i++) {
+            try {
+                datasets[i].deliverEvent(events[i]);
+            }
+            catch (RuntimeException e) {
+                // keep going for the other datasets
+                handleException(e);
+            }
+        }
+    }
+
+    /**
+     * Records that a batch of events has been delivered, so that the next 
+     * batch can be handed over.
+     */
+    private synchronized void deliveryFinished() {
+        this.delivering = false;
+        notifyAll();
+    }
+
+    /**
+     * Removes the waiting datasets from the pending list, and counts their 
+     * events as delivered.  This method must be called (while holding the 
+     * lock) before {@link #takeEvents()}.
+     *
+     * @return The datasets.
+     */
+    private AbstractDataset[] takeDatasets() {
+        AbstractDataset[] datasets 
+                = new AbstractDataset[this.pendingDatasets.size()];
+        this.pendingDatasets.toArray(datasets);
+        this.pendingDatasets.clear();
+        this.lastDelivery = System.currentTimeMillis();
+        this.deliveredCount += datasets.length;
+        return datasets;
+    }
+
+    /**
+     * Removes the waiting events from the pending list.
+     *
+     * @return The events.
+     */
+    private DatasetChangeEvent[] takeEvents() {
+        DatasetChangeEvent[] events 
+                = new DatasetChangeEvent[this.pendingEvents.size()];
+        this.pendingEvents.toArray(events);
+        this.pendingEvents.clear();
+        return events;
+    }
+
+    /**
+     * Returns the index of a dataset in the pending list (comparing 
+     * references, not using <code>equals()</code>).
+     *
+     * @param dataset  the dataset.
+     *
+     * @return The index, or <code>-1</code>.
+     */
+    private int indexOf(AbstractDataset dataset) {
+        for (int i = this.pendingDatasets.size() - 1; i >= 0; i--) {
+            if (this.pendingDatasets.get(i) == dataset) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
@@ -99,12 +99,17 @@
  *               from DatasetUtilities --> DataUtilities (DG);
  * 22-Sep-2005 : Added new findStackedRangeBounds() method that takes base
  *               argument (DG);
+ * 17-Oct-2026 : The iterate...Bounds() and findStackedRangeBounds() methods 
+ *               now split large datasets between several threads, see
+ *               setParallelThreshold() (DG);
+ * 18-Oct-2026 : Use the shared WorkerPool for the bounds calculations (DG);
  * 
  */
 
 package org.jfree.data.general;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -130,6 +135,12 @@ import org.jfree.util.ArrayUtilities;
  */
 public final class DatasetUtilities {
     
+    /** 
+     * The number of values that a bounds calculation must read before the 
+     * work is split between several threads. 
+     */
+    private static int parallelThreshold = 100000;
+    
     /**
      * Private constructor for non-instanceability.
      */
@@ -137,6 +148,77 @@ public final class DatasetUtilities {
         // now try to instantiate this ;-)
     }
 
+    /**
+     * Returns the number of values that the methods that iterate over a
+     * dataset to find its bounds must read before the work is split between 
+     * the calling thread and the threads of the shared {@link WorkerPool} 
+     * (one per available processor).
+     * 
+     * @return The threshold.
+     * 
+     * @see #setParallelThreshold(int)
+     * 
+     * @since 1.0.3
+     */
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+    
+    /**
+     * Sets the number of values that the methods that iterate over a dataset
+     * to find its bounds must read before the work is split between several
+     * threads.  Use <code>Integer.MAX_VALUE</code> to always iterate on the
+     * calling thread.  The worker threads only read from the dataset, so the 
+     * dataset must not be modified while its bounds are calculated (which is
+     * the usual case, since the bounds are found while a chart is drawn).  
+     * Any exception or error thrown while reading the dataset is rethrown on 
+     * the calling thread.
+     * 
+     * @param threshold  the threshold (must be positive).
+     * 
+     * @see #getParallelThreshold()
+     * 
+     * @since 1.0.3
+     */
+    public static void setParallelThreshold(int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Requires 'threshold' > 0.");
+        }
+        parallelThreshold = threshold;
+    }
+    
+    /**
+     * Returns the item count for each series in a dataset.  This is done on
+     * the calling thread before any work is handed to other threads, so that 
+     * datasets that compute their items lazily are ready to be read.
+     * 
+     * @param dataset  the dataset.
+     * 
+     * @return The item counts.
+     */
+    private static int[] getItemCounts(XYDataset dataset) {
+        int[] result = new int[dataset.getSeriesCount()];
+        for (int series = 0; series < result.length; series++) {
+            result[series] = dataset.getItemCount(series);
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the total of an array of item counts.
+     * 
+     * @param itemCounts  the item counts.
+     * 
+     * @return The total.
+     */
+    private static long getTotal(int[] itemCounts) {
+        long result = 0;
+        for (int i = 0; i < itemCounts.length; i++) {
+            result += itemCounts[i];
+        }
+        return result;
+    }
+
     /**
      * Calculates the total of all the values in a {@link PieDataset}.  If 
      * the dataset contains negative or <code>null</code> values, they are 
@@ -674,34 +756,15 @@ public final class DatasetUtilities {
         if (dataset == null) {
             throw new IllegalArgumentException("Null 'dataset' argument.");   
         }
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
-        int seriesCount = dataset.getSeriesCount();
-        double lvalue;
-        double uvalue;
+        int type = BoundsTask.DOMAIN;
         if (includeInterval && dataset instanceof IntervalXYDataset) {
-            IntervalXYDataset intervalXYData = (IntervalXYDataset) dataset;
-            for (int series = 0; series < seriesCount; series++) {
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    lvalue = intervalXYData.getStartXValue(series, item);
-                    uvalue = intervalXYData.getEndXValue(series, item);
-                    minimum = Math.min(minimum, lvalue);
-                    maximum = Math.max(maximum, uvalue);
-                }
-            }
-        }
-        else {
-            for (int series = 0; series < seriesCount; series++) {
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    lvalue = dataset.getXValue(series, item);
-                    uvalue = lvalue;
-                    minimum = Math.min(minimum, lvalue);
-                    maximum = Math.max(maximum, uvalue);
-                }
-            }
+            type = BoundsTask.DOMAIN_INTERVAL;
         }
+        int[] itemCounts = getItemCounts(dataset);
+        double[] bounds = BoundsTask.execute(type, dataset, 0.0, itemCounts, 
+                getTotal(itemCounts), parallelThreshold);
+        double minimum = bounds[0];
+        double maximum = bounds[1];
         if (minimum > maximum) {
             return null;
         }
@@ -799,34 +862,16 @@ public final class DatasetUtilities {
      */
     public static Range iterateCategoryRangeBounds(CategoryDataset dataset, 
             boolean includeInterval) {
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
-        boolean interval = includeInterval 
-                           && dataset instanceof IntervalCategoryDataset;
-        int rowCount = dataset.getRowCount();
-        int columnCount = dataset.getColumnCount();
-        for (int row = 0; row < rowCount; row++) {
-            for (int column = 0; column < columnCount; column++) {
-                Number lvalue;
-                Number uvalue;
-                if (interval) {
-                    IntervalCategoryDataset icd 
-                        = (IntervalCategoryDataset) dataset;
-                    lvalue = icd.getStartValue(row, column);
-                    uvalue = icd.getEndValue(row, column);
-                }
-                else {
-                    lvalue = dataset.getValue(row, column);
-                    uvalue = lvalue;
-                }
-                if (lvalue != null) {
-                    minimum = Math.min(minimum, lvalue.doubleValue());
-                }
-                if (uvalue != null) {
-                    maximum = Math.max(maximum, uvalue.doubleValue());
-                }
-            }
-        }
+        int type = BoundsTask.CATEGORY_RANGE;
+        if (includeInterval && dataset instanceof IntervalCategoryDataset) {
+            type = BoundsTask.CATEGORY_INTERVAL_RANGE;
+        }
+        int[] itemCounts = new int[dataset.getRowCount()];
+        Arrays.fill(itemCounts, dataset.getColumnCount());
+        double[] bounds = BoundsTask.execute(type, dataset, 0.0, itemCounts, 
+                getTotal(itemCounts), parallelThreshold);
+        double minimum = bounds[0];
+        double maximum = bounds[1];
         if (minimum == Double.POSITIVE_INFINITY) {
             return null;
         }
@@ -844,37 +889,18 @@ public final class DatasetUtilities {
      * @return The range (possibly <code>null</code>).
      */
     public static Range iterateXYRangeBounds(XYDataset dataset) {
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
-        int seriesCount = dataset.getSeriesCount();
-        for (int series = 0; series < seriesCount; series++) {
-            int itemCount = dataset.getItemCount(series);
-            for (int item = 0; item < itemCount; item++) {
-                double lvalue;
-                double uvalue;
-                if (dataset instanceof IntervalXYDataset) {
-                    IntervalXYDataset intervalXYData 
-                        = (IntervalXYDataset) dataset;
-                    lvalue = intervalXYData.getStartYValue(series, item);
-                    uvalue = intervalXYData.getEndYValue(series, item);
-                }
-                else if (dataset instanceof OHLCDataset) {
-                    OHLCDataset highLowData = (OHLCDataset) dataset;
-                    lvalue = highLowData.getLowValue(series, item);
-                    uvalue = highLowData.getHighValue(series, item);
-                }
-                else {
-                    lvalue = dataset.getYValue(series, item);
-                    uvalue = lvalue;
-                }
-                if (!Double.isNaN(lvalue)) {
-                    minimum = Math.min(minimum, lvalue);
-                }
-                if (!Double.isNaN(uvalue)) {     
-                    maximum = Math.max(maximum, uvalue);
-                }
-            }
-        }
+        int type = BoundsTask.XY_RANGE;
+        if (dataset instanceof IntervalXYDataset) {
+            type = BoundsTask.XY_INTERVAL_RANGE;
+        }
+        else if (dataset instanceof OHLCDataset) {
+            type = BoundsTask.OHLC_RANGE;
+        }
+        int[] itemCounts = getItemCounts(dataset);
+        double[] bounds = BoundsTask.execute(type, dataset, 0.0, itemCounts, 
+                getTotal(itemCounts), parallelThreshold);
+        double minimum = bounds[0];
+        double maximum = bounds[1];
         if (minimum == Double.POSITIVE_INFINITY) {
             return null;
         }
@@ -1257,29 +1283,13 @@ public final class DatasetUtilities {
             throw new IllegalArgumentException("Null 'dataset' argument.");
         }
         Range result = null;
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
-        int categoryCount = dataset.getColumnCount();
-        for (int item = 0; item < categoryCount; item++) {
-            double positive = base;
-            double negative = base;
-            int seriesCount = dataset.getRowCount();
-            for (int series = 0; series < seriesCount; series++) {
-                Number number = dataset.getValue(series, item);
-                if (number != null) {
-                    double value = number.doubleValue();
-                    if (value > 0.0) {
-                        positive = positive + value;
-                    }
-                    if (value < 0.0) {
-                        negative = negative + value;  
-                        // '+', remember value is negative
-                    }
-                }
-            }
-            minimum = Math.min(minimum, negative);
-            maximum = Math.max(maximum, positive);
-        }
+        int[] itemCounts = new int[] {dataset.getColumnCount()};
+        double[] bounds = BoundsTask.execute(
+                BoundsTask.CATEGORY_STACKED_RANGE, dataset, base, itemCounts,
+                (long) itemCounts[0] * dataset.getRowCount(), 
+                parallelThreshold);
+        double minimum = bounds[0];
+        double maximum = bounds[1];
         if (minimum <= maximum) {
             result = new Range(minimum, maximum);
         }
@@ -1450,30 +1460,13 @@ public final class DatasetUtilities {
         if (dataset == null) {
             throw new IllegalArgumentException("Null 'dataset' argument.");
         }
-        double minimum = base;
-        double maximum = base;
-        for (int itemNo = 0; itemNo < dataset.getItemCount(); itemNo++) {
-            double positive = base;
-            double negative = base;
-            int seriesCount = dataset.getSeriesCount();
-            for (int seriesNo = 0; seriesNo < seriesCount; seriesNo++) {
-                double y = dataset.getYValue(seriesNo, itemNo);
-                if (!Double.isNaN(y)) {
-                    if (y > 0.0) {
-                        positive += y;
-                    }
-                    else {
-                        negative += y;
-                    }
-                }
-            }
-            if (positive > maximum) {
-                maximum = positive;
-            } 
-            if (negative < minimum) {
-                minimum = negative;
-            } 
-        }
+        int[] itemCounts = new int[] {dataset.getItemCount()};
+        double[] bounds = BoundsTask.execute(
+                BoundsTask.TABLE_XY_STACKED_RANGE, dataset, base, itemCounts,
+                (long) itemCounts[0] * dataset.getSeriesCount(), 
+                parallelThreshold);
+        double minimum = Math.min(base, bounds[0]);
+        double maximum = Math.max(base, bounds[1]);
         if (minimum <= maximum) {
             return new Range(minimum, maximum);
         }
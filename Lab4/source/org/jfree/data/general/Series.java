@@ -47,6 +47,9 @@
  * 15-Oct-2003 : Added a flag to control whether or not change events are sent 
  *               to registered listeners (DG);
  * 19-May-2005 : Made abstract (DG);
+ * 17-Oct-2026 : Added beginUpdate() and endUpdate() (DG);
+ * 18-Oct-2026 : Documented the use of try/finally with beginUpdate() (DG);
+ *               Implemented Versioned (DG);
  *
  */
 
@@ -70,7 +73,7 @@ import org.jfree.util.ObjectUtilities;
  * You can also register a {@link SeriesChangeListener} to receive notification 
  * of changes to the series data.
  */
-public abstract class Series implements Cloneable, Serializable {
+public abstract class Series implements Versioned, Cloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -6906561437538683581L;
@@ -90,6 +93,15 @@ public abstract class Series implements Cloneable, Serializable {
     /** A flag that controls whether or not changes are notified. */
     private boolean notify;
 
+    /** The number of nested {@link #beginUpdate()} calls still open. */
+    private transient int updateDepth;
+
+    /** A flag that records a change made during an update. */
+    private transient boolean updatePending;
+
+    /** The modification version (see {@link #getVersion()}). */
+    private transient long version;
+
     /**
      * Creates a new series.
      *
@@ -207,6 +219,8 @@ public abstract class Series implements Cloneable, Serializable {
         Series clone = (Series) super.clone();
         clone.listeners = new EventListenerList();
         clone.propertyChangeSupport = new PropertyChangeSupport(clone);
+        clone.updateDepth = 0;
+        clone.updatePending = false;
         return clone;
 
     }
@@ -280,11 +294,85 @@ public abstract class Series implements Cloneable, Serializable {
      * has been changed.
      */
     public void fireSeriesChanged() {
+        this.version++;
         if (this.notify) {
             notifyListeners(new SeriesChangeEvent(this));
         }
     }
 
+    /**
+     * Returns the modification version of the series.  The version is 
+     * incremented by {@link #fireSeriesChanged()} (whether or not the 
+     * notify flag is set), and by subclasses that change their data without
+     * calling that method (see {@link #incrementVersion()}).
+     * 
+     * @return The version.
+     * 
+     * @since 1.0.3
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Increments the modification version.  Subclasses should call this 
+     * method when the data changes but {@link #fireSeriesChanged()} is not
+     * called (for example, when the caller has asked for no notification).
+     * 
+     * @since 1.0.3
+     */
+    protected void incrementVersion() {
+        this.version++;
+    }
+
+    /**
+     * Starts an update.  Until the matching call to {@link #endUpdate()}, 
+     * changes to the series are collected and one 
+     * {@link SeriesChangeEvent} is sent when the update ends.  This is 
+     * similar to switching the notify flag off and on again, but updates can
+     * be nested and no event is sent if nothing changed.
+     * <p>
+     * Each call must be matched by a call to {@link #endUpdate()}, even if 
+     * an exception is thrown, otherwise the series never sends another 
+     * change event.  Use a <code>try/finally</code> block:
+     * <pre>
+     * series.beginUpdate();
+     * try {
+     *     ...
+     * }
+     * finally {
+     *     series.endUpdate();
+     * }
+     * </pre>
+     * 
+     * @see #endUpdate()
+     * 
+     * @since 1.0.3
+     */
+    public void beginUpdate() {
+        this.updateDepth++;
+    }
+
+    /**
+     * Ends an update started with {@link #beginUpdate()}.  If the series 
+     * changed during the (outermost) update, a single change event is sent 
+     * to the registered listeners.
+     * 
+     * @throws IllegalStateException if there is no update in progress.
+     * 
+     * @since 1.0.3
+     */
+    public void endUpdate() {
+        if (this.updateDepth == 0) {
+            throw new IllegalStateException("No update in progress.");
+        }
+        this.updateDepth--;
+        if (this.updateDepth == 0 && this.updatePending) {
+            this.updatePending = false;
+            fireSeriesChanged();
+        }
+    }
+
     /**
      * Sends a change event to all registered listeners.
      *
@@ -293,6 +381,11 @@ public abstract class Series implements Cloneable, Serializable {
      */
     protected void notifyListeners(SeriesChangeEvent event) {
 
+        if (this.updateDepth > 0) {
+            this.updatePending = true;
+            return;
+        }
+
         Object[] listenerList = this.listeners.getListenerList();
         for (int i = listenerList.length - 2; i >= 0; i -= 2) {
             if (listenerList[i] == SeriesChangeListener.class) {
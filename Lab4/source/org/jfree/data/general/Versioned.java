@@ -0,0 +1,69 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * --------------
+ * Versioned.java
+ * --------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * An object (usually a dataset or a series) that carries a modification 
+ * version.  The version is a number that increases every time the content 
+ * of the object changes, whether or not change events are being sent, so 
+ * code that derives results from the object (bounds, reduced views, 
+ * rendered images and so on) can cache those results along with the 
+ * version and reuse them for as long as the version is unchanged.
+ * <p>
+ * The version says nothing about <i>what</i> changed, and it may increase 
+ * when nothing changed at all (for example, when a change event is sent 
+ * without a change to the data).  Versions can only be compared for the 
+ * same object.
+ *
+ * @since 1.0.3
+ */
+public interface Versioned {
+
+    /**
+     * Returns the modification version.  The version never decreases, and
+     * increases whenever the content of the object changes.
+     * 
+     * @return The version.
+     */
+    public long getVersion();
+
+}
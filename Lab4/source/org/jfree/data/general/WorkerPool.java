@@ -0,0 +1,233 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ---------------
+ * WorkerPool.java
+ * ---------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.LinkedList;
+
+/**
+ * A small, bounded pool of daemon threads that run short tasks for the 
+ * library (for example, the slices of a bounds calculation in 
+ * {@link DatasetUtilities}).  Threads are started as they are needed, up to
+ * the maximum thread count, and stop after they have been idle for a while.
+ * Tasks that arrive while all the threads are busy wait in a queue.
+ * <P>
+ * A caller that waits for its tasks should first try to take back the tasks
+ * that have not started with {@link #remove(Runnable)} and run them itself,
+ * so that it never waits for a task that is stuck behind other work in the 
+ * queue.
+ *
+ * @since 1.0.3
+ */
+public final class WorkerPool {
+
+    /** The time (in milliseconds) that an idle thread waits for work. */
+    private static final long IDLE_TIMEOUT = 30000L;
+
+    /** The shared pool. */
+    private static WorkerPool sharedInstance;
+
+    /** The name prefix for the threads. */
+    private String name;
+
+    /** The maximum number of threads. */
+    private int maxThreadCount;
+
+    /** The number of running threads. */
+    private int threadCount;
+
+    /** The number of threads waiting for a task. */
+    private int idleCount;
+
+    /** The tasks waiting to be run. */
+    private LinkedList queue;
+
+    /**
+     * Returns a pool that is shared by the library, with one thread for each 
+     * available processor.
+     *
+     * @return The shared pool.
+     */
+    public static synchronized WorkerPool getSharedInstance() {
+        if (sharedInstance == null) {
+            sharedInstance = new WorkerPool("WorkerPool", 
+                    Runtime.getRuntime().availableProcessors());
+        }
+        return sharedInstance;
+    }
+
+    /**
+     * Creates a new pool.
+     *
+     * @param name  the name prefix for the threads (<code>null</code> not 
+     *              permitted).
+     * @param maxThreadCount  the maximum number of threads (at least 1).
+     */
+    public WorkerPool(String name, int maxThreadCount) {
+        if (name == null) {
+            throw new IllegalArgumentException("Null 'name' argument.");
+        }
+        if (maxThreadCount < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'maxThreadCount' >= 1.");
+        }
+        this.name = name;
+        this.maxThreadCount = maxThreadCount;
+        this.queue = new LinkedList();
+    }
+
+    /**
+     * Returns the maximum number of threads in the pool.
+     *
+     * @return The maximum thread count.
+     */
+    public int getMaxThreadCount() {
+        return this.maxThreadCount;
+    }
+
+    /**
+     * Queues a task to be run by one of the threads in the pool.  The task 
+     * should catch its own exceptions, since the pool can only discard them.
+     *
+     * @param task  the task (<code>null</code> not permitted).
+     */
+    public synchronized void execute(Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Null 'task' argument.");
+        }
+        this.queue.addLast(task);
+        if (this.idleCount > 0) {
+            notify();
+        }
+        else if (this.threadCount < this.maxThreadCount) {
+            Thread thread = new Thread(new Worker(), 
+                    this.name + "-" + this.threadCount);
+            thread.setDaemon(true);
+            this.threadCount++;
+            thread.start();
+        }
+    }
+
+    /**
+     * Removes a task from the queue, if it has not been started yet.
+     *
+     * @param task  the task.
+     *
+     * @return <code>true</code> if the task was removed (and will not be run
+     *         by the pool).
+     */
+    public synchronized boolean remove(Runnable task) {
+        return this.queue.remove(task);
+    }
+
+    /**
+     * Returns the next task for a worker thread, waiting for one if 
+     * necessary.
+     *
+     * @return The task, or <code>null</code> if the thread has been idle for
+     *         too long and should stop.
+     */
+    private synchronized Runnable nextTask() {
+        long deadline = System.currentTimeMillis() + IDLE_TIMEOUT;
+        while (this.queue.isEmpty()) {
+            long wait = deadline - System.currentTimeMillis();
+            if (wait <= 0L) {
+                this.threadCount--;
+                return null;
+            }
+            this.idleCount++;
+            try {
+                wait(wait);
+            }
+            catch (InterruptedException e) {
+                // the pool threads are never interrupted deliberately, so
+                // just check the queue again
+            }
+            finally {
+                this.idleCount--;
+            }
+        }
+        return (Runnable) this.queue.removeFirst();
+    }
+
+    /**
+     * Called when a worker thread dies from an unexpected error, so that a
+     * new thread can be started for the queued tasks.
+     */
+    private synchronized void workerDied() {
+        this.threadCount--;
+        if (!this.queue.isEmpty() && this.idleCount == 0) {
+            Thread thread = new Thread(new Worker(), 
+                    this.name + "-" + this.threadCount);
+            thread.setDaemon(true);
+            this.threadCount++;
+            thread.start();
+        }
+    }
+
+    /**
+     * The loop run by each thread in the pool.
+     */
+    private class Worker implements Runnable {
+
+        /**
+         * Runs tasks until the thread has been idle for too long.
+         */
+        public void run() {
+            boolean finished = false;
+            try {
+                Runnable task = nextTask();
+                while (task != null) {
+                    task.run();
+                    task = nextTask();
+                }
+                finished = true;
+            }
+            finally {
+                if (!finished) {
+                    workerDied();
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,206 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * CircularArrayListTests.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.data.general.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.CircularArrayList;
+
+/**
+ * Tests for the {@link CircularArrayList} class.
+ */
+public class CircularArrayListTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(CircularArrayListTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public CircularArrayListTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Items removed from the front of a full list make room at the back.
+     */
+    public void testWrapAround() {
+        CircularArrayList list = new CircularArrayList(4);
+        for (int i = 0; i < 100; i++) {
+            list.add(new Integer(i));
+            if (list.size() > 3) {
+                assertEquals(new Integer(i - 3), list.remove(0));
+            }
+        }
+        assertEquals(Arrays.asList(new Integer[] {new Integer(97), 
+                new Integer(98), new Integer(99)}), list);
+    }
+
+    /**
+     * Inserts and removes items at random positions, and checks that the 
+     * list always matches an <code>ArrayList</code> that has the same 
+     * changes applied.
+     */
+    public void testRandomChanges() {
+        Random random = new Random(437L);
+        for (int capacity = 1; capacity < 10; capacity++) {
+            CircularArrayList list = new CircularArrayList(capacity);
+            List expected = new ArrayList();
+            for (int step = 0; step < 2000; step++) {
+                int action = random.nextInt(10);
+                Integer item = new Integer(step);
+                if (action < 5 || expected.isEmpty()) {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, item);
+                    expected.add(index, item);
+                }
+                else if (action < 8) {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), list.remove(index));
+                }
+                else if (action < 9) {
+                    int from = random.nextInt(expected.size() + 1);
+                    int to = from + random.nextInt(expected.size() - from + 1);
+                    list.subList(from, to).clear();
+                    expected.subList(from, to).clear();
+                }
+                else {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.set(index, item), 
+                            list.set(index, item));
+                }
+                assertEquals(expected, list);
+            }
+        }
+    }
+
+    /**
+     * Some checks for the clear() method.
+     */
+    public void testClear() {
+        CircularArrayList list = new CircularArrayList(2);
+        list.add("A");
+        list.add("B");
+        list.remove(0);
+        list.add("C");
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.add("D");
+        assertEquals("D", list.get(0));
+    }
+
+    /**
+     * Some checks for the index range checks.
+     */
+    public void testBadIndex() {
+        CircularArrayList list = new CircularArrayList();
+        list.add("A");
+        try {
+            list.get(1);
+            fail("Should have thrown an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            list.add(2, "B");
+            fail("Should have thrown an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The copy constructor keeps the order of the items.
+     */
+    public void testCopyConstructor() {
+        List source = Arrays.asList(new String[] {"A", "B", "C"});
+        CircularArrayList list = new CircularArrayList(source);
+        assertEquals(source, list);
+        list.add(0, "Z");
+        assertEquals("Z", list.get(0));
+        assertEquals(4, list.size());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() throws Exception {
+        CircularArrayList l1 = new CircularArrayList(3);
+        l1.add("A");
+        l1.add("B");
+        l1.add("C");
+        l1.remove(0);
+        l1.add("D");
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(l1);
+        out.close();
+        ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(
+                buffer.toByteArray()));
+        List l2 = (List) in.readObject();
+        in.close();
+        assertEquals(l1, l2);
+    }
+
+}
@@ -0,0 +1,219 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ---------------------------------
+ * DatasetChangeDispatcherTests.java
+ * ---------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.data.general.junit;
+
+import java.util.List;
+
+import javax.swing.SwingUtilities;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.DatasetChangeDispatcher;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DefaultPieDataset;
+
+/**
+ * Tests for the {@link DatasetChangeDispatcher} class.
+ */
+public class DatasetChangeDispatcherTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DatasetChangeDispatcherTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DatasetChangeDispatcherTests(String name) {
+        super(name);
+    }
+
+    /**
+     * By default, the listeners are notified on the event dispatch thread.
+     */
+    public void testDeliverOnEventDispatchThread() throws Exception {
+        DatasetChangeDispatcher dispatcher = new DatasetChangeDispatcher(0L);
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        dataset.setChangeDispatcher(dispatcher);
+        final List threads = new java.util.ArrayList();
+        dataset.addChangeListener(new DatasetChangeListener() {
+            public void datasetChanged(DatasetChangeEvent event) {
+                synchronized (threads) {
+                    threads.add(Boolean.valueOf(
+                            SwingUtilities.isEventDispatchThread()));
+                    threads.notifyAll();
+                }
+            }
+        });
+        dataset.setValue("A", 1.0);
+        synchronized (threads) {
+            if (threads.isEmpty()) {
+                threads.wait(10000L);
+            }
+            assertEquals(1, threads.size());
+            assertEquals(Boolean.TRUE, threads.get(0));
+        }
+        dispatcher.shutdown();
+    }
+
+    /**
+     * A listener exception is passed to handleException(), and the other
+     * listeners are still notified.
+     */
+    public void testHandleException() throws Exception {
+        final List errors = new java.util.ArrayList();
+        DatasetChangeDispatcher dispatcher = new DatasetChangeDispatcher(0L) {
+            protected void deliver(Runnable task) {
+                task.run();
+            }
+            protected void handleException(Throwable t) {
+                synchronized (errors) {
+                    errors.add(t);
+                }
+            }
+        };
+        final RuntimeException error = new RuntimeException("Test.");
+        DefaultPieDataset d1 = new DefaultPieDataset();
+        d1.setChangeDispatcher(dispatcher);
+        d1.addChangeListener(new DatasetChangeListener() {
+            public void datasetChanged(DatasetChangeEvent event) {
+                throw error;
+            }
+        });
+        DefaultPieDataset d2 = new DefaultPieDataset();
+        d2.setChangeDispatcher(dispatcher);
+        final int[] count = new int[1];
+        d2.addChangeListener(new DatasetChangeListener() {
+            public void datasetChanged(DatasetChangeEvent event) {
+                synchronized (count) {
+                    count[0]++;
+                    count.notifyAll();
+                }
+            }
+        });
+        synchronized (dispatcher) {
+            // hold the dispatcher until both events are waiting
+            d1.setValue("A", 1.0);
+            d2.setValue("A", 1.0);
+        }
+        synchronized (count) {
+            if (count[0] == 0) {
+                count.wait(10000L);
+            }
+            assertEquals(1, count[0]);
+        }
+        synchronized (errors) {
+            assertEquals(1, errors.size());
+            assertSame(error, errors.get(0));
+        }
+        dispatcher.shutdown();
+    }
+
+    /**
+     * Events are coalesced while a batch is being delivered.
+     */
+    public void testCoalesceDuringDelivery() throws Exception {
+        final Object gate = new Object();
+        final boolean[] open = new boolean[1];
+        DatasetChangeDispatcher dispatcher = new DatasetChangeDispatcher(0L) {
+            protected void deliver(Runnable task) {
+                synchronized (gate) {
+                    while (!open[0]) {
+                        try {
+                            gate.wait();
+                        }
+                        catch (InterruptedException e) {
+                            // check again
+                        }
+                    }
+                }
+                task.run();
+            }
+        };
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        dataset.setChangeDispatcher(dispatcher);
+        final int[] count = new int[1];
+        dataset.addChangeListener(new DatasetChangeListener() {
+            public void datasetChanged(DatasetChangeEvent event) {
+                synchronized (count) {
+                    count[0]++;
+                    count.notifyAll();
+                }
+            }
+        });
+        dataset.setValue("A", 1.0);
+
+        // wait for the first batch to be handed over
+        for (int i = 0; i < 200 && dispatcher.getPendingEventCount() > 0; 
+                i++) {
+            Thread.sleep(50L);
+        }
+        for (int i = 0; i < 10; i++) {
+            dataset.setValue("A", i);
+        }
+        assertEquals(1, dispatcher.getPendingEventCount());
+        assertEquals(9, dispatcher.getCoalescedEventCount());
+        synchronized (gate) {
+            open[0] = true;
+            gate.notifyAll();
+        }
+        synchronized (count) {
+            for (int i = 0; i < 200 && count[0] < 2; i++) {
+                count.wait(50L);
+            }
+            assertEquals(2, count[0]);
+        }
+        assertEquals(11, dispatcher.getReceivedEventCount());
+        assertEquals(2, dispatcher.getDeliveredEventCount());
+        dispatcher.shutdown();
+    }
+
+}
@@ -0,0 +1,180 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * DatasetUtilitiesTests.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.data.general.junit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the bounds calculations in the {@link DatasetUtilities} class.
+ */
+public class DatasetUtilitiesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DatasetUtilitiesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DatasetUtilitiesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * A dataset that throws an error when a particular item is read.
+     */
+    static class FailingDataset extends XYSeriesCollection {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 1L;
+
+        /** The item that fails. */
+        private int failItem;
+
+        /**
+         * Creates a new dataset.
+         *
+         * @param series  the series.
+         * @param failItem  the item that fails.
+         */
+        FailingDataset(XYSeries series, int failItem) {
+            super(series);
+            this.failItem = failItem;
+        }
+
+        /**
+         * Returns a y-value, or throws an error for the failing item.
+         *
+         * @param series  the series index.
+         * @param item  the item index.
+         *
+         * @return The y-value.
+         */
+        public double getYValue(int series, int item) {
+            if (item == this.failItem) {
+                throw new Error("Test.");
+            }
+            return super.getYValue(series, item);
+        }
+
+        /**
+         * Returns an ending y-value, or throws an error for the failing item.
+         *
+         * @param series  the series index.
+         * @param item  the item index.
+         *
+         * @return The y-value.
+         */
+        public double getEndYValue(int series, int item) {
+            return getYValue(series, item);
+        }
+    }
+
+    /**
+     * Creates a series with 50000 items.
+     *
+     * @return The series.
+     */
+    private XYSeries createSeries() {
+        XYSeries s = new XYSeries("S");
+        for (int i = 0; i < 50000; i++) {
+            s.add(i, Math.sin(i / 100.0) * i);
+        }
+        return s;
+    }
+
+    /**
+     * The bounds are the same whether or not the work is split.
+     */
+    public void testSplitBounds() {
+        XYSeriesCollection d = new XYSeriesCollection(createSeries());
+        d.addSeries(new XYSeries("Empty"));
+        int threshold = DatasetUtilities.getParallelThreshold();
+        try {
+            DatasetUtilities.setParallelThreshold(Integer.MAX_VALUE);
+            Range r1 = DatasetUtilities.iterateXYRangeBounds(d);
+            Range d1 = DatasetUtilities.iterateDomainBounds(d, false);
+            DatasetUtilities.setParallelThreshold(1);
+            assertEquals(r1, DatasetUtilities.iterateXYRangeBounds(d));
+            assertEquals(d1, DatasetUtilities.iterateDomainBounds(d, false));
+            assertEquals(new Range(0.0, 49999.0), d1);
+        }
+        finally {
+            DatasetUtilities.setParallelThreshold(threshold);
+        }
+    }
+
+    /**
+     * An error thrown while reading the dataset reaches the caller.
+     */
+    public void testError() {
+        FailingDataset d = new FailingDataset(createSeries(), 45000);
+        int threshold = DatasetUtilities.getParallelThreshold();
+        Error error = null;
+        try {
+            DatasetUtilities.setParallelThreshold(1);
+            DatasetUtilities.iterateXYRangeBounds(d);
+        }
+        catch (Error e) {
+            error = e;
+        }
+        finally {
+            DatasetUtilities.setParallelThreshold(threshold);
+        }
+        assertNotNull(error);
+        assertEquals("Test.", error.getMessage());
+    }
+
+}
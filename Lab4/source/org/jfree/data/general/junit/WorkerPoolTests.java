@@ -0,0 +1,216 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * WorkerPoolTests.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.data.general.junit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.WorkerPool;
+
+/**
+ * Tests for the {@link WorkerPool} class.
+ */
+public class WorkerPoolTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(WorkerPoolTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public WorkerPoolTests(String name) {
+        super(name);
+    }
+
+    /**
+     * A task that records the threads that run at the same time.
+     */
+    static class CountingTask implements Runnable {
+
+        /** The number of tasks running. */
+        static int running;
+
+        /** The largest number of tasks running at once. */
+        static int peak;
+
+        /** The number of tasks finished. */
+        static int finished;
+
+        /** Throw an error from the task? */
+        private boolean fail;
+
+        /**
+         * Creates a new task.
+         *
+         * @param fail  throw an error from the task?
+         */
+        CountingTask(boolean fail) {
+            this.fail = fail;
+        }
+
+        /**
+         * Runs the task.
+         */
+        public void run() {
+            synchronized (CountingTask.class) {
+                running++;
+                peak = Math.max(peak, running);
+            }
+            try {
+                Thread.sleep(5);
+            }
+            catch (InterruptedException e) {
+                // ignore
+            }
+            synchronized (CountingTask.class) {
+                running--;
+                finished++;
+                CountingTask.class.notifyAll();
+            }
+            if (this.fail) {
+                throw new Error("Test.");
+            }
+        }
+
+        /**
+         * Waits until a number of tasks have finished.
+         *
+         * @param count  the number of tasks.
+         */
+        static void waitFor(int count) {
+            long deadline = System.currentTimeMillis() + 10000L;
+            synchronized (CountingTask.class) {
+                while (finished < count 
+                        && System.currentTimeMillis() < deadline) {
+                    try {
+                        CountingTask.class.wait(100L);
+                    }
+                    catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Resets the counters.
+         */
+        static synchronized void reset() {
+            running = 0;
+            peak = 0;
+            finished = 0;
+        }
+    }
+
+    /**
+     * All the tasks are run, by no more than the maximum number of threads.
+     */
+    public void testBounded() {
+        CountingTask.reset();
+        WorkerPool pool = new WorkerPool("Test", 2);
+        for (int i = 0; i < 20; i++) {
+            pool.execute(new CountingTask(false));
+        }
+        CountingTask.waitFor(20);
+        assertEquals(20, CountingTask.finished);
+        assertTrue(CountingTask.peak <= 2);
+    }
+
+    /**
+     * The queued tasks are still run after a task throws an error.
+     */
+    public void testFailingTask() {
+        CountingTask.reset();
+        WorkerPool pool = new WorkerPool("Test", 1);
+        pool.execute(new CountingTask(true));
+        for (int i = 0; i < 5; i++) {
+            pool.execute(new CountingTask(false));
+        }
+        CountingTask.waitFor(6);
+        assertEquals(6, CountingTask.finished);
+    }
+
+    /**
+     * A task that has not started can be removed from the queue.
+     */
+    public void testRemove() {
+        CountingTask.reset();
+        WorkerPool pool = new WorkerPool("Test", 1);
+        Runnable first = new CountingTask(false);
+        Runnable second = new CountingTask(false);
+        pool.execute(first);
+        pool.execute(second);
+        assertTrue(pool.remove(second));
+        assertFalse(pool.remove(second));
+        CountingTask.waitFor(1);
+        assertFalse(pool.remove(first));
+    }
+
+    /**
+     * Checks the argument validation.
+     */
+    public void testArguments() {
+        try {
+            new WorkerPool("Test", 0);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            WorkerPool.getSharedInstance().execute(null);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
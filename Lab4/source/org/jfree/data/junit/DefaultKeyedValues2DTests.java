@@ -0,0 +1,147 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * DefaultKeyedValues2DTests.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.data.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.DefaultKeyedValues2D;
+
+/**
+ * Tests for the {@link DefaultKeyedValues2D} class.
+ */
+public class DefaultKeyedValues2DTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DefaultKeyedValues2DTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DefaultKeyedValues2DTests(String name) {
+        super(name);
+    }
+
+    /**
+     * The row and column indices are kept up to date as rows and columns 
+     * are added and removed.
+     */
+    public void testIndices() {
+        DefaultKeyedValues2D d = new DefaultKeyedValues2D();
+        d.addValue(new Double(1.0), "R1", "C1");
+        d.addValue(new Double(2.0), "R2", "C2");
+        d.addValue(new Double(3.0), "R3", "C3");
+        assertEquals(2, d.getRowIndex("R3"));
+        assertEquals(1, d.getColumnIndex("C2"));
+        d.removeRow("R1");
+        d.removeColumn("C2");
+        assertEquals(-1, d.getRowIndex("R1"));
+        assertEquals(1, d.getRowIndex("R3"));
+        assertEquals(1, d.getColumnIndex("C3"));
+        assertEquals(new Double(3.0), d.getValue("R3", "C3"));
+    }
+
+    /**
+     * Rows inserted into a sorted table shift the indices of later rows.
+     */
+    public void testSortedRows() {
+        DefaultKeyedValues2D d = new DefaultKeyedValues2D(true);
+        d.addValue(new Double(1.0), "B", "C1");
+        d.addValue(new Double(2.0), "D", "C1");
+        d.addValue(new Double(3.0), "A", "C1");
+        d.addValue(new Double(4.0), "C", "C1");
+        assertEquals(0, d.getRowIndex("A"));
+        assertEquals(2, d.getRowIndex("C"));
+        assertEquals(3, d.getRowIndex("D"));
+        assertEquals(new Double(2.0), d.getValue("D", "C1"));
+    }
+
+    /**
+     * The indices are rebuilt when an instance is deserialized.
+     */
+    public void testSerialization() throws Exception {
+        DefaultKeyedValues2D d1 = new DefaultKeyedValues2D();
+        d1.addValue(new Double(1.0), "R1", "C1");
+        d1.addValue(new Double(2.0), "R2", "C2");
+        DefaultKeyedValues2D d2 = (DefaultKeyedValues2D) roundTrip(d1);
+        assertEquals(d1, d2);
+        assertEquals(1, d2.getRowIndex("R2"));
+        assertEquals(1, d2.getColumnIndex("C2"));
+        d2.setValue(new Double(5.0), "R2", "C2");
+        assertEquals(2, d2.getRowCount());
+    }
+
+    /**
+     * Serializes and restores an object.
+     *
+     * @param obj  the object.
+     *
+     * @return The restored object.
+     */
+    private static Object roundTrip(Object obj) throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(obj);
+        out.close();
+        ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(
+                buffer.toByteArray()));
+        Object result = in.readObject();
+        in.close();
+        return result;
+    }
+
+}
@@ -0,0 +1,163 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * DefaultKeyedValuesTests.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.data.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.DefaultKeyedValues;
+import org.jfree.util.SortOrder;
+
+/**
+ * Tests for the {@link DefaultKeyedValues} class.
+ */
+public class DefaultKeyedValuesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DefaultKeyedValuesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DefaultKeyedValuesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * The key index is kept up to date as items are added and removed.
+     */
+    public void testGetIndex() {
+        DefaultKeyedValues v = new DefaultKeyedValues();
+        v.addValue("A", 1.0);
+        v.addValue("B", 2.0);
+        v.addValue("C", 3.0);
+        assertEquals(1, v.getIndex("B"));
+        assertEquals(-1, v.getIndex("X"));
+        v.removeValue("A");
+        assertEquals(0, v.getIndex("B"));
+        assertEquals(1, v.getIndex("C"));
+        assertEquals(-1, v.getIndex("A"));
+        v.setValue("B", 5.0);
+        assertEquals(0, v.getIndex("B"));
+        assertEquals(2, v.getItemCount());
+    }
+
+    /**
+     * The key index follows the items when they are sorted.
+     */
+    public void testSort() {
+        DefaultKeyedValues v = new DefaultKeyedValues();
+        v.addValue("C", 1.0);
+        v.addValue("A", 3.0);
+        v.addValue("B", 2.0);
+        v.sortByKeys(SortOrder.ASCENDING);
+        assertEquals(0, v.getIndex("A"));
+        assertEquals(2, v.getIndex("C"));
+        v.sortByValues(SortOrder.ASCENDING);
+        assertEquals(0, v.getIndex("C"));
+        assertEquals(2, v.getIndex("A"));
+        assertEquals(new Double(3.0), v.getValue("A"));
+    }
+
+    /**
+     * A clone has its own key index.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        DefaultKeyedValues v1 = new DefaultKeyedValues();
+        v1.addValue("A", 1.0);
+        v1.addValue("B", 2.0);
+        DefaultKeyedValues v2 = (DefaultKeyedValues) v1.clone();
+        assertEquals(v1, v2);
+        v2.removeValue(0);
+        assertEquals(0, v1.getIndex("A"));
+        assertEquals(0, v2.getIndex("B"));
+    }
+
+    /**
+     * The key index is rebuilt when an instance is deserialized.
+     */
+    public void testSerialization() throws Exception {
+        DefaultKeyedValues v1 = new DefaultKeyedValues();
+        v1.addValue("A", 1.0);
+        v1.addValue("B", 2.0);
+        DefaultKeyedValues v2 = (DefaultKeyedValues) roundTrip(v1);
+        assertEquals(v1, v2);
+        assertEquals(1, v2.getIndex("B"));
+        v2.addValue("C", 3.0);
+        assertEquals(2, v2.getIndex("C"));
+    }
+
+    /**
+     * Serializes and restores an object.
+     *
+     * @param obj  the object.
+     *
+     * @return The restored object.
+     */
+    private static Object roundTrip(Object obj) throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(obj);
+        out.close();
+        ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(
+                buffer.toByteArray()));
+        Object result = in.readObject();
+        in.close();
+        return result;
+    }
+
+}
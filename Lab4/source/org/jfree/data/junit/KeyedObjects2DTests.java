@@ -0,0 +1,145 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * KeyedObjects2DTests.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.data.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.KeyedObjects2D;
+
+/**
+ * Tests for the {@link KeyedObjects2D} class.
+ */
+public class KeyedObjects2DTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(KeyedObjects2DTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public KeyedObjects2DTests(String name) {
+        super(name);
+    }
+
+    /**
+     * The row and column indices are kept up to date as rows and columns 
+     * are added and removed.
+     */
+    public void testIndices() {
+        KeyedObjects2D ko = new KeyedObjects2D();
+        for (int r = 1; r <= 3; r++) {
+            for (int c = 1; c <= 3; c++) {
+                ko.addObject(r + "," + c, "R" + r, "C" + c);
+            }
+        }
+        ko.removeRow(0);
+        ko.removeColumn("C1");
+        assertEquals(0, ko.getRowIndex("R2"));
+        assertEquals(-1, ko.getRowIndex("R1"));
+        assertEquals(1, ko.getColumnIndex("C3"));
+        assertEquals("3,3", ko.getObject("R3", "C3"));
+    }
+
+    /**
+     * A clone has its own lists and indices.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        KeyedObjects2D ko1 = new KeyedObjects2D();
+        ko1.addObject("1", "R1", "C1");
+        ko1.addObject("2", "R2", "C2");
+        KeyedObjects2D ko2 = (KeyedObjects2D) ko1.clone();
+        assertEquals(ko1, ko2);
+        ko2.removeRow("R1");
+        assertEquals(2, ko1.getRowCount());
+        assertEquals(1, ko1.getRowIndex("R2"));
+        assertEquals(0, ko2.getRowIndex("R2"));
+    }
+
+    /**
+     * The indices are rebuilt when an instance is deserialized.
+     */
+    public void testSerialization() throws Exception {
+        KeyedObjects2D ko1 = new KeyedObjects2D();
+        ko1.addObject("1", "R1", "C1");
+        ko1.addObject("2", "R2", "C2");
+        KeyedObjects2D ko2 = (KeyedObjects2D) roundTrip(ko1);
+        assertEquals(ko1, ko2);
+        assertEquals(1, ko2.getRowIndex("R2"));
+        assertEquals("2", ko2.getObject("R2", "C2"));
+    }
+
+    /**
+     * Serializes and restores an object.
+     *
+     * @param obj  the object.
+     *
+     * @return The restored object.
+     */
+    private static Object roundTrip(Object obj) throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(obj);
+        out.close();
+        ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(
+                buffer.toByteArray()));
+        Object result = in.readObject();
+        in.close();
+        return result;
+    }
+
+}
@@ -0,0 +1,142 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * KeyedObjectsTests.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.data.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.KeyedObjects;
+
+/**
+ * Tests for the {@link KeyedObjects} class.
+ */
+public class KeyedObjectsTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(KeyedObjectsTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public KeyedObjectsTests(String name) {
+        super(name);
+    }
+
+    /**
+     * The key index is kept up to date as items are added and removed.
+     */
+    public void testGetIndex() {
+        KeyedObjects ko = new KeyedObjects();
+        ko.addObject("A", "1");
+        ko.addObject("B", "2");
+        ko.addObject("C", "3");
+        assertEquals(2, ko.getIndex("C"));
+        ko.removeValue(1);
+        assertEquals(1, ko.getIndex("C"));
+        assertEquals(-1, ko.getIndex("B"));
+        ko.setObject("A", "4");
+        assertEquals("4", ko.getObject("A"));
+        assertEquals(2, ko.getItemCount());
+    }
+
+    /**
+     * A clone has its own key index.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        KeyedObjects ko1 = new KeyedObjects();
+        ko1.addObject("A", "1");
+        ko1.addObject("B", "2");
+        KeyedObjects ko2 = (KeyedObjects) ko1.clone();
+        assertEquals(ko1, ko2);
+        ko2.removeValue("A");
+        assertEquals(1, ko1.getIndex("B"));
+        assertEquals(0, ko2.getIndex("B"));
+    }
+
+    /**
+     * The key index is rebuilt when an instance is deserialized.
+     */
+    public void testSerialization() throws Exception {
+        KeyedObjects ko1 = new KeyedObjects();
+        ko1.addObject("A", "1");
+        ko1.addObject("B", "2");
+        KeyedObjects ko2 = (KeyedObjects) roundTrip(ko1);
+        assertEquals(ko1, ko2);
+        assertEquals(1, ko2.getIndex("B"));
+        assertEquals("2", ko2.getObject("B"));
+    }
+
+    /**
+     * Serializes and restores an object.
+     *
+     * @param obj  the object.
+     *
+     * @return The restored object.
+     */
+    private static Object roundTrip(Object obj) throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(obj);
+        out.close();
+        ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(
+                buffer.toByteArray()));
+        Object result = in.readObject();
+        in.close();
+        return result;
+    }
+
+}
@@ -206,6 +206,9 @@ public class SimpleHistogramDataset extends AbstractIntervalXYDataset
         if (notify) {
             notifyListeners(new DatasetChangeEvent(this, this)); 
         }
+        else {
+            incrementVersion();
+        }
     }
     
     /**
@@ -54,6 +54,9 @@
  *               getYValue() (DG);
  * 11-Jan-2004 : Removed deprecated code in preparation for the 1.0.0 
  *               release (DG);
+ * 17-Oct-2026 : Added getDomainOrder() override (DG);
+ * 17-Oct-2026 : Increment the version when data is appended without 
+ *               notification (DG);
  * 
  */
 
@@ -63,6 +66,7 @@ import java.util.Calendar;
 import java.util.TimeZone;
 
 import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.RangeInfo;
 import org.jfree.data.general.SeriesChangeEvent;
@@ -707,8 +711,23 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
              insertionIndex++;
              if (insertionIndex % refresh == 0) {
                  fireSeriesChanged();
+                 return;
              }
          }
+         incrementVersion();
+    }
+
+    /**
+     * Returns the order of the domain (x-) values in the dataset.  The items
+     * are always returned from the oldest to the newest time period, so this
+     * method returns {@link DomainOrder#ASCENDING}.
+     * 
+     * @return The domain order (never <code>null</code>).
+     * 
+     * @since 1.0.3
+     */
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
     }
 
     /**
@@ -63,16 +63,33 @@
  * 15-Jun-2004 : Fixed NullPointerException in equals() method (DG);
  * 29-Nov-2004 : Fixed bug 1075255 (DG);
  * 17-Nov-2005 : Renamed historyCount --> maximumItemAge (DG);
+ * 17-Oct-2026 : Changed data storage to CircularArrayList, so that items are
+ *               removed from the start of a capped series in constant 
+ *               time (DG);
+ * 17-Oct-2026 : Added add(TimeSeriesDataItem, boolean) and addAll() methods
+ *               (DG);
+ * 17-Oct-2026 : Added an optional TimeSeriesPyramid that is updated as the
+ *               series changes (DG);
+ * 18-Oct-2026 : Only use a CircularArrayList once a maximum item count or
+ *               age is set (DG);
+ * 18-Oct-2026 : Create the time periods in addAll() with next() and
+ *               RegularTimePeriod.createInstance() rather than a 
+ *               constructor found by reflection (DG);
  * 
  */
 
 package org.jfree.data.time;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.TimeZone;
 
+import org.jfree.data.general.CircularArrayList;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
@@ -110,6 +127,12 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     /** The maximum age of items for the series. */
     private int maximumItemAge;
     
+    /** 
+     * A summary of the series at multiple resolutions (<code>null</code> 
+     * unless enabled). 
+     */
+    private TimeSeriesPyramid pyramid;
+    
     /**
      * Creates a new (empty) time series.  By default, a daily time series is 
      * created.  Use one of the other constructors if you require a different 
@@ -243,7 +266,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * If you add a new item to the series such that the number of items will 
      * exceed the maximum item count, then the FIRST element in the series is 
      * automatically removed, ensuring that the maximum item count is not 
-     * exceeded.
+     * exceeded.  Once a maximum is set, the items are held in a 
+     * {@link CircularArrayList}, so this removal takes constant time however
+     * large the series is.
      *
      * @param maximum  the maximum (requires >= 0).
      * 
@@ -254,6 +279,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Negative 'maximum' argument.");
         }
         this.maximumItemCount = maximum;
+        if (maximum < Integer.MAX_VALUE) {
+            useCircularList();
+        }
         int count = this.data.size();
         if (count > maximum) {
             delete(0, count - maximum - 1);
@@ -288,9 +316,56 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Negative 'periods' argument.");
         }
         this.maximumItemAge = periods;
+        if (periods < Integer.MAX_VALUE) {
+            useCircularList();
+        }
         removeAgedItems(true);  // remove old items and notify if necessary
     }
 
+    /**
+     * Moves the items into a {@link CircularArrayList}, if they are not 
+     * already held in one, so that items can be removed from the start of
+     * the series in constant time.
+     */
+    private void useCircularList() {
+        if (!(this.data instanceof CircularArrayList)) {
+            this.data = new CircularArrayList(this.data);
+        }
+    }
+
+    /**
+     * Returns the multi-resolution summary of this series.
+     * 
+     * @return The pyramid (<code>null</code> if it is not enabled).
+     * 
+     * @see #setPyramidEnabled(boolean)
+     * 
+     * @since 1.0.3
+     */
+    public TimeSeriesPyramid getPyramid() {
+        return this.pyramid;
+    }
+    
+    /**
+     * Enables or disables the multi-resolution summary of this series (see 
+     * {@link TimeSeriesPyramid}), and sends a {@link SeriesChangeEvent} to 
+     * all registered listeners.  A {@link TimeSeriesCollection} uses the 
+     * pyramid, when there is one, to create views with fewer items when the
+     * series is viewed at a low resolution.
+     * 
+     * @param enabled  the new flag value.
+     * 
+     * @see #getPyramid()
+     * 
+     * @since 1.0.3
+     */
+    public void setPyramidEnabled(boolean enabled) {
+        if (enabled != (this.pyramid != null)) {
+            this.pyramid = (enabled ? new TimeSeriesPyramid(this) : null);
+            fireSeriesChanged();
+        }
+    }
+
     /**
      * Returns the time period class for this series.
      * <p>
@@ -469,6 +544,22 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      *              permitted).
      */
     public void add(TimeSeriesDataItem item) {
+        add(item, true);
+    }
+    
+    /**
+     * Adds a data item to the series and, if requested, sends a 
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the (timeperiod, value) pair (<code>null</code> not 
+     *              permitted).
+     * @param notify  a flag that controls whether or not a 
+     *                {@link SeriesChangeEvent} is sent to all registered 
+     *                listeners.
+     *                
+     * @since 1.0.3
+     */
+    public void add(TimeSeriesDataItem item, boolean notify) {
         if (item == null) {
             throw new IllegalArgumentException("Null 'item' argument.");
         }
@@ -486,6 +577,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         // make the change (if it's not a duplicate time period)...
         boolean added = false;
         int count = getItemCount();
+        int index = count;
         if (count == 0) {
             this.data.add(item);
             added = true;
@@ -497,35 +589,208 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 added = true;
             }
             else {
-                int index = Collections.binarySearch(this.data, item);
+                index = Collections.binarySearch(this.data, item);
                 if (index < 0) {
-                    this.data.add(-index - 1, item);
+                    index = -index - 1;
+                    this.data.add(index, item);
                     added = true;
                 }
                 else {
-                    StringBuffer b = new StringBuffer();
-                    b.append("You are attempting to add an observation for ");
-                    b.append("the time period ");
-                    b.append(item.getPeriod().toString());
-                    b.append(" but the series already contains an observation");
-                    b.append(" for that time period. Duplicates are not ");
-                    b.append("permitted.  Try using the addOrUpdate() method.");
-                    throw new SeriesException(b.toString());
+                    throw duplicatePeriodException(item.getPeriod());
                 }
             }
         }
         if (added) {
+            if (this.pyramid != null) {
+                this.pyramid.itemAdded(index);
+            }
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 this.data.remove(0);
+                if (this.pyramid != null) {
+                    this.pyramid.itemsRemoved(0, 1);
+                }
             }
 
             removeAgedItems(false);  // remove old items if necessary, but
                                      // don't notify anyone, because that
                                      // happens next anyway...
+            if (notify) {
+                fireSeriesChanged();
+            }
+            else {
+                incrementVersion();
+            }
+        }
+
+    }
+
+    /**
+     * Creates the exception thrown when an item is added for a time period
+     * that is already in the series.
+     * 
+     * @param period  the time period.
+     * 
+     * @return The exception.
+     */
+    private SeriesException duplicatePeriodException(RegularTimePeriod period) {
+        StringBuffer b = new StringBuffer();
+        b.append("You are attempting to add an observation for ");
+        b.append("the time period ");
+        b.append(period.toString());
+        b.append(" but the series already contains an observation");
+        b.append(" for that time period. Duplicates are not ");
+        b.append("permitted.  Try using the addOrUpdate() method.");
+        return new SeriesException(b.toString());
+    }
+
+    /**
+     * Adds a block of data items to the series and sends a single 
+     * {@link SeriesChangeEvent} to all registered listeners.  Each time is
+     * converted to a time period of the series' time period class (using the
+     * default time zone).  The new items are sorted and then merged with the
+     * existing items in one pass, after which the maximum item count and 
+     * maximum item age are applied once.
+     * 
+     * @param millis  the times, in milliseconds since 1-Jan-1970 
+     *                (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, must have 
+     *                the same length as <code>millis</code>).
+     *                
+     * @throws SeriesException if two items fall in the same time period, or
+     *         an item falls in a time period that is already in the series
+     *         (in which case the series is not changed).
+     * 
+     * @since 1.0.3
+     */
+    public void addAll(long[] millis, double[] values) {
+        addAll(millis, values, true);
+    }
+
+    /**
+     * Adds a block of data items to the series and, if requested, sends a 
+     * single {@link SeriesChangeEvent} to all registered listeners.
+     * 
+     * @param millis  the times, in milliseconds since 1-Jan-1970 
+     *                (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, must have 
+     *                the same length as <code>millis</code>).
+     * @param notify  a flag that controls whether or not a 
+     *                {@link SeriesChangeEvent} is sent to all registered 
+     *                listeners.
+     *                
+     * @throws SeriesException if two items fall in the same time period, or
+     *         an item falls in a time period that is already in the series
+     *         (in which case the series is not changed).
+     * 
+     * @since 1.0.3
+     */
+    public void addAll(long[] millis, double[] values, boolean notify) {
+        if (millis == null) {
+            throw new IllegalArgumentException("Null 'millis' argument.");
+        }
+        if (values == null) {
+            throw new IllegalArgumentException("Null 'values' argument.");
+        }
+        if (millis.length != values.length) {
+            throw new IllegalArgumentException(
+                    "The 'millis' and 'values' arrays have different lengths.");
+        }
+        RegularTimePeriod[] periods = createTimePeriods(millis);
+        TimeSeriesDataItem[] items = new TimeSeriesDataItem[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            items[i] = new TimeSeriesDataItem(periods[i], values[i]);
+        }
+        Arrays.sort(items);
+    
+        List merged = new java.util.ArrayList(this.data.size() 
+                + items.length);
+        int i = 0;
+        int j = 0;
+        while (i < this.data.size() || j < items.length) {
+            TimeSeriesDataItem next;
+            if (j == items.length) {
+                next = (TimeSeriesDataItem) this.data.get(i++);
+            }
+            else if (i == this.data.size() 
+                    || items[j].compareTo(this.data.get(i)) < 0) {
+                next = items[j++];
+            }
+            else {
+                next = (TimeSeriesDataItem) this.data.get(i++);
+            }
+            if (merged.size() > 0 && next.compareTo(
+                    merged.get(merged.size() - 1)) == 0) {
+                throw duplicatePeriodException(next.getPeriod());
+            }
+            merged.add(next);
+        }
+        int excess = Math.max(merged.size() - this.maximumItemCount, 0);
+        this.data.clear();
+        this.data.addAll(merged.subList(excess, merged.size()));
+        if (this.pyramid != null) {
+            this.pyramid.invalidate();
+        }
+        removeAgedItems(false);
+        if (notify) {
             fireSeriesChanged();
         }
+        else {
+            incrementVersion();
+        }
+    }
 
+    /**
+     * Creates a time period of the series' time period class for each of 
+     * the specified times.
+     * 
+     * @param millis  the times, in milliseconds since 1-Jan-1970.
+     * 
+     * @return The time periods.
+     */
+    private RegularTimePeriod[] createTimePeriods(long[] millis) {
+        RegularTimePeriod[] result = new RegularTimePeriod[millis.length];
+        if (FixedMillisecond.class.equals(this.timePeriodClass)) {
+            for (int i = 0; i < millis.length; i++) {
+                result[i] = new FixedMillisecond(millis[i]);
+            }
+            return result;
+        }
+        // consecutive times (the usual case) often fall in the same time 
+        // period or the next one, which can be found without creating a
+        // new period through RegularTimePeriod.createInstance()...
+        TimeZone zone = RegularTimePeriod.DEFAULT_TIME_ZONE;
+        Calendar calendar = Calendar.getInstance(zone);
+        RegularTimePeriod last = null;
+        long lastStart = 0L;
+        long lastEnd = -1L;
+        for (int i = 0; i < millis.length; i++) {
+            long t = millis[i];
+            if (t < lastStart || t > lastEnd) {
+                RegularTimePeriod period = null;
+                if (last != null && t > lastEnd) {
+                    period = last.next();
+                    if (period != null && t > period.getLastMillisecond(
+                            calendar)) {
+                        period = null;
+                    }
+                }
+                if (period == null) {
+                    period = RegularTimePeriod.createInstance(
+                            this.timePeriodClass, new Date(t), zone);
+                    if (period == null) {
+                        throw new SeriesException(
+                                "Cannot create time periods of class " 
+                                + this.timePeriodClass.getName() + ".");
+                    }
+                }
+                last = period;
+                lastStart = period.getFirstMillisecond(calendar);
+                lastEnd = period.getLastMillisecond(calendar);
+            }
+            result[i] = last;
+        }
+        return result;
     }
 
     /**
@@ -569,6 +834,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (index >= 0) {
             TimeSeriesDataItem pair = (TimeSeriesDataItem) this.data.get(index);
             pair.setValue(value);
+            if (this.pyramid != null) {
+                this.pyramid.itemUpdated(index);
+            }
             fireSeriesChanged();
         }
         else {
@@ -588,6 +856,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public void update(int index, Number value) {
         TimeSeriesDataItem item = getDataItem(index);
         item.setValue(value);
+        if (this.pyramid != null) {
+            this.pyramid.itemUpdated(index);
+        }
         fireSeriesChanged();
     }
 
@@ -659,6 +930,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 = (TimeSeriesDataItem) this.data.get(index);
             overwritten = (TimeSeriesDataItem) existing.clone();
             existing.setValue(value);
+            if (this.pyramid != null) {
+                this.pyramid.itemUpdated(index);
+            }
             removeAgedItems(false);  // remove old items if necessary, but
                                      // don't notify anyone, because that
                                      // happens next anyway...
@@ -666,10 +940,16 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         else {
             this.data.add(-index - 1, new TimeSeriesDataItem(period, value));
+            if (this.pyramid != null) {
+                this.pyramid.itemAdded(-index - 1);
+            }
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 this.data.remove(0);
+                if (this.pyramid != null) {
+                    this.pyramid.itemsRemoved(0, 1);
+                }
             }
 
             removeAgedItems(false);  // remove old items if necessary, but
@@ -694,15 +974,21 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         // count...
         if (getItemCount() > 1) {
             long latest = getTimePeriod(getItemCount() - 1).getSerialIndex();
-            boolean removed = false;
+            int removed = 0;
             while ((latest - getTimePeriod(0).getSerialIndex()) 
                     >= this.maximumItemAge) {
                 this.data.remove(0);
-                removed = true;
+                removed++;
+            }
+            if (removed > 0 && this.pyramid != null) {
+                this.pyramid.itemsRemoved(0, removed);
             }
-            if (removed && notify) {
+            if (removed > 0 && notify) {
                 fireSeriesChanged();
             }
+            else if (removed > 0) {
+                incrementVersion();
+            }
         }
     }
 
@@ -719,9 +1005,17 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         // check if there are any values earlier than specified by the history 
         // count...
         if (getItemCount() > 1) {
+            int removed = 0;
             while ((latest - getTimePeriod(0).getSerialIndex()) 
                     >= this.maximumItemAge) {
                 this.data.remove(0);
+                removed++;
+            }
+            if (removed > 0 && this.pyramid != null) {
+                this.pyramid.itemsRemoved(0, removed);
+            }
+            if (removed > 0) {
+                incrementVersion();
             }
         }
     }
@@ -734,6 +1028,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            if (this.pyramid != null) {
+                this.pyramid.invalidate();
+            }
             fireSeriesChanged();
         }
     }
@@ -749,6 +1046,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public void delete(RegularTimePeriod period) {
         int index = getIndex(period);
         this.data.remove(index);
+        if (this.pyramid != null) {
+            this.pyramid.itemsRemoved(index, 1);
+        }
         fireSeriesChanged();
     }
 
@@ -759,8 +1059,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * @param end  the index of the last period to delete.
      */
     public void delete(int start, int end) {
-        for (int i = 0; i <= (end - start); i++) {
-            this.data.remove(start);
+        this.data.subList(start, end + 1).clear();
+        if (this.pyramid != null) {
+            this.pyramid.itemsRemoved(start, end - start + 1);
         }
         fireSeriesChanged();
     }
@@ -802,7 +1103,15 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
 
         TimeSeries copy = (TimeSeries) super.clone();
 
-        copy.data = new java.util.ArrayList();
+        if (this.data instanceof CircularArrayList) {
+            copy.data = new CircularArrayList();
+        }
+        else {
+            copy.data = new java.util.ArrayList();
+        }
+        if (this.pyramid != null) {
+            copy.pyramid = new TimeSeriesPyramid(copy);
+        }
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 TimeSeriesDataItem item 
@@ -71,6 +71,15 @@
  * 11-Jan-2005 : Removed deprecated code in preparation for the 1.0.0 
  *               release (DG);
  * 28-Mar-2005 : Fixed bug in getSeries(int) method (1170825) (DG);
+ * 17-Oct-2026 : Override getDomainOrder() (DG);
+ * 17-Oct-2026 : Implemented DomainViewAware, and serve a pyramid tier for
+ *               series that have one (DG);
+ * 17-Oct-2026 : Include the series versions in the collection version (DG);
+ * 18-Oct-2026 : Serve the pyramid tiers from a separate view dataset, with 
+ *               the minimum and maximum of each bucket (DG);
+ * 18-Oct-2026 : Build views with their own calendar instead of locking the
+ *               collection (DG);
+ * 18-Oct-2026 : Added isViewed() method (DG);
  * 
  */
 
@@ -85,9 +94,11 @@ import java.util.List;
 import java.util.TimeZone;
 
 import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.DomainViewAware;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.util.ObjectUtilities;
@@ -102,6 +113,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
                                   implements XYDataset,
                                              IntervalXYDataset,
                                              DomainInfo,
+                                             DomainViewAware,
                                              Serializable {
 
     /** For serialization. */
@@ -120,6 +132,12 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     private TimePeriodAnchor xPosition;
 
+    /** 
+     * The sum of the versions of the series removed from the collection 
+     * (this keeps the collection version increasing).
+     */
+    private transient long removedSeriesVersion;
+
     /**
      * Constructs an empty dataset, tied to the default timezone.
      */
@@ -204,6 +222,23 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return Collections.unmodifiableList(this.data);
     }
 
+    /**
+     * Returns the modification version of the collection.  This includes 
+     * the versions of the series in the collection, so it also increases 
+     * when a series is changed without notification.
+     * 
+     * @return The version.
+     * 
+     * @since 1.0.3
+     */
+    public long getVersion() {
+        long result = super.getVersion() + this.removedSeriesVersion;
+        for (int i = 0; i < this.data.size(); i++) {
+            result += ((TimeSeries) this.data.get(i)).getVersion();
+        }
+        return result;
+    }
+
     /**
      * Returns the number of series in the collection.
      *
@@ -213,6 +248,19 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return this.data.size();
     }
 
+    /**
+     * Returns the order of the domain (x-) values in the dataset.  The items
+     * in a {@link TimeSeries} are always sorted by time period, so this 
+     * method returns {@link DomainOrder#ASCENDING}.
+     * 
+     * @return The domain order (never <code>null</code>).
+     * 
+     * @since 1.0.3
+     */
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
     /**
      * Returns a series.
      *
@@ -287,7 +335,9 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         if (series == null) {
             throw new IllegalArgumentException("Null 'series' argument.");
         }
-        this.data.remove(series);
+        if (this.data.remove(series)) {
+            this.removedSeriesVersion += series.getVersion();
+        }
         series.removeChangeListener(this);
         fireDatasetChanged();
     }
@@ -315,6 +365,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         for (int i = 0; i < this.data.size(); i++) {
             TimeSeries series = (TimeSeries) this.data.get(i);
             series.removeChangeListener(this);
+            this.removedSeriesVersion += series.getVersion();
         }
 
         // remove all the series from the collection and notify listeners.
@@ -335,6 +386,195 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return getSeries(series).getItemCount();
     }
     
+    /**
+     * Returns the dataset to render for a view of this collection.  For 
+     * each series that has a {@link TimeSeriesPyramid}, the view serves the
+     * lowest tier of the pyramid that has no more than one bucket per unit 
+     * of length (usually a pixel) in the visible range.  Each bucket is 
+     * reduced to its minimum and maximum values (in that order, or the 
+     * reverse if that joins up better with the previous bucket) at the 
+     * x-value of the bucket, so that spikes are not lost.  The view holds 
+     * a copy of the visible items only, and does not change when the 
+     * collection changes.  If no series needs a pyramid tier, this 
+     * collection is returned.
+     * <P>
+     * The view is built with its own calendar, so this method does not 
+     * share the working calendar of the collection (which is why 
+     * {@link #getStartX(int, int)} and {@link #getEndX(int, int)} are 
+     * synchronized).  As with the other methods, the series must not be 
+     * changed while the view is being built.
+     * 
+     * @param range  the visible range (<code>null</code> permitted, in which
+     *               case this collection is returned).
+     * @param length  the length of the data area.
+     * 
+     * @return The dataset to render.
+     * 
+     * @since 1.0.3
+     */
+    public XYDataset createDomainView(Range range, double length) {
+        int seriesCount = this.data.size();
+        if (range == null || length <= 0.0) {
+            return this;
+        }
+        int[] tiers = new int[seriesCount];
+        boolean reduced = false;
+        for (int i = 0; i < seriesCount; i++) {
+            tiers[i] = findTier(getSeries(i), range, length);
+            reduced = reduced || tiers[i] > 0;
+        }
+        if (!reduced) {
+            return this;
+        }
+        Calendar calendar = Calendar.getInstance(
+                this.workingCalendar.getTimeZone());
+        PyramidView view = new PyramidView(seriesCount);
+        for (int i = 0; i < seriesCount; i++) {
+            TimeSeries s = getSeries(i);
+            int last = s.getItemCount() - 1;
+            int i0 = Math.max(findItem(s, range.getLowerBound(), false) - 1, 
+                    0);
+            int i1 = Math.min(findItem(s, range.getUpperBound(), true), last);
+            if (tiers[i] == 0) {
+                view.startSeries(i, s.getKey(), i1 - i0 + 1);
+                for (int item = i0; item <= i1; item++) {
+                    RegularTimePeriod period = s.getTimePeriod(item);
+                    Number y = s.getValue(item);
+                    view.add(getX(period), 
+                            period.getFirstMillisecond(calendar),
+                            period.getLastMillisecond(calendar),
+                            (y != null ? y.doubleValue() : Double.NaN));
+                }
+            }
+            else {
+                addBuckets(view, i, s, tiers[i], i0, i1, calendar);
+            }
+        }
+        return view;
+    }
+    
+    /**
+     * Returns <code>true</code> if {@link #createDomainView(Range, double)} 
+     * returns a separate view, which is the case when at least one series 
+     * needs a pyramid tier for the range and length.  This only searches 
+     * for the ends of the range in each series, so it is much cheaper than
+     * creating the view.
+     * 
+     * @param range  the visible range (<code>null</code> permitted).
+     * @param length  the length of the data area.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.0.3
+     */
+    public boolean isViewed(Range range, double length) {
+        if (range == null || length <= 0.0) {
+            return false;
+        }
+        for (int i = 0; i < this.data.size(); i++) {
+            if (findTier(getSeries(i), range, length) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Adds the minimum and maximum values for the pyramid buckets that hold
+     * a run of items to a view.
+     * 
+     * @param view  the view.
+     * @param series  the series index.
+     * @param s  the series.
+     * @param tier  the pyramid tier.
+     * @param i0  the index of the first item in the run.
+     * @param i1  the index of the last item in the run.
+     * @param calendar  the calendar used to find the bucket periods.
+     */
+    private void addBuckets(PyramidView view, int series, TimeSeries s, 
+                            int tier, int i0, int i1, Calendar calendar) {
+        TimeSeriesPyramid p = s.getPyramid();
+        int b0 = p.getBucket(tier, i0);
+        int b1 = (i1 >= i0 ? p.getBucket(tier, i1) : b0 - 1);
+        view.startSeries(series, s.getKey(), 2 * (b1 - b0 + 1));
+        double previous = Double.NaN;
+        for (int b = b0; b <= b1; b++) {
+            long start = s.getTimePeriod(p.getFirstItem(tier, b))
+                    .getFirstMillisecond(calendar);
+            long end = s.getTimePeriod(p.getLastItem(tier, b))
+                    .getLastMillisecond(calendar);
+            long x = start + (end - start) / 2;
+            if (this.xPosition == TimePeriodAnchor.START) {
+                x = start;
+            }
+            else if (this.xPosition == TimePeriodAnchor.END) {
+                x = end;
+            }
+            double min = p.getMinimum(tier, b);
+            double max = p.getMaximum(tier, b);
+            if (Double.isNaN(min) || min == max) {
+                view.add(x, start, end, min);
+                previous = min;
+            }
+            else if (Math.abs(previous - max) < Math.abs(previous - min)) {
+                view.add(x, start, end, max);
+                view.add(x, start, end, min);
+                previous = min;
+            }
+            else {
+                view.add(x, start, end, min);
+                view.add(x, start, end, max);
+                previous = max;
+            }
+        }
+    }
+    
+    /**
+     * Chooses the pyramid tier to use for a series in a view.
+     * 
+     * @param s  the series.
+     * @param range  the visible range.
+     * @param length  the length of the data area.
+     * 
+     * @return The tier (zero if the items in the series are used directly).
+     */
+    private int findTier(TimeSeries s, Range range, double length) {
+        TimeSeriesPyramid pyramid = s.getPyramid();
+        if (pyramid == null || s.getItemCount() == 0) {
+            return 0;
+        }
+        int i0 = findItem(s, range.getLowerBound(), false);
+        int i1 = findItem(s, range.getUpperBound(), true);
+        return pyramid.findTier(i1 - i0, length);
+    }
+    
+    /**
+     * Returns the index of the first item in a series with an x-value 
+     * greater than (or, if <code>strict</code> is <code>false</code>, equal 
+     * to) <code>x</code>, or the item count if there is no such item.
+     * 
+     * @param s  the series.
+     * @param x  the x-value.
+     * @param strict  exclude items with an x-value equal to <code>x</code>?
+     * 
+     * @return The item index.
+     */
+    private int findItem(TimeSeries s, double x, boolean strict) {
+        int low = 0;
+        int high = s.getItemCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long xx = getX(s.getTimePeriod(mid));
+            if (xx < x || (strict && xx == x)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
     /**
      * Returns the x-value (as a double primitive) for an item within a series.
      * 
@@ -589,4 +829,222 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return result;
     }
     
+    /**
+     * A dataset that holds a copy of the items (or the minimum and maximum 
+     * values of the pyramid buckets) that are visible in one view of the 
+     * collection.
+     */
+    private static class PyramidView extends AbstractIntervalXYDataset {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 6402165733219470914L;
+
+        /** The series keys. */
+        private Comparable[] keys;
+
+        /** The x-values for each series. */
+        private long[][] x;
+
+        /** The starting x-values for each series. */
+        private long[][] startX;
+
+        /** The ending x-values for each series. */
+        private long[][] endX;
+
+        /** The y-values (<code>Double.NaN</code> for none) for each series. */
+        private double[][] y;
+
+        /** The number of items in each series. */
+        private int[] count;
+
+        /** The series that items are being added to. */
+        private int current;
+
+        /**
+         * Creates a new view.
+         *
+         * @param seriesCount  the number of series.
+         */
+        PyramidView(int seriesCount) {
+            this.keys = new Comparable[seriesCount];
+            this.x = new long[seriesCount][];
+            this.startX = new long[seriesCount][];
+            this.endX = new long[seriesCount][];
+            this.y = new double[seriesCount][];
+            this.count = new int[seriesCount];
+        }
+
+        /**
+         * Starts adding the items for a series.
+         *
+         * @param series  the series index.
+         * @param key  the series key.
+         * @param capacity  the maximum number of items that will be added.
+         */
+        void startSeries(int series, Comparable key, int capacity) {
+            capacity = Math.max(capacity, 0);
+            this.current = series;
+            this.keys[series] = key;
+            this.x[series] = new long[capacity];
+            this.startX[series] = new long[capacity];
+            this.endX[series] = new long[capacity];
+            this.y[series] = new double[capacity];
+        }
+
+        /**
+         * Adds an item to the current series.
+         *
+         * @param xx  the x-value.
+         * @param start  the starting x-value.
+         * @param end  the ending x-value.
+         * @param yy  the y-value (<code>Double.NaN</code> for none).
+         */
+        void add(long xx, long start, long end, double yy) {
+            int s = this.current;
+            int i = this.count[s]++;
+            this.x[s][i] = xx;
+            this.startX[s][i] = start;
+            this.endX[s][i] = end;
+            this.y[s][i] = yy;
+        }
+
+        /**
+         * Returns the number of series in the dataset.
+         *
+         * @return The series count.
+         */
+        public int getSeriesCount() {
+            return this.keys.length;
+        }
+
+        /**
+         * Returns the key for a series.
+         *
+         * @param series  the series index (zero-based).
+         *
+         * @return The series key.
+         */
+        public Comparable getSeriesKey(int series) {
+            return this.keys[series];
+        }
+
+        /**
+         * Returns the order of the domain values.
+         *
+         * @return The domain order.
+         */
+        public DomainOrder getDomainOrder() {
+            return DomainOrder.ASCENDING;
+        }
+
+        /**
+         * Returns the number of items in a series.
+         *
+         * @param series  the series index (zero-based).
+         *
+         * @return The item count.
+         */
+        public int getItemCount(int series) {
+            return this.count[series];
+        }
+
+        /**
+         * Returns the x-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The x-value.
+         */
+        public double getXValue(int series, int item) {
+            return this.x[series][item];
+        }
+
+        /**
+         * Returns the x-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The x-value.
+         */
+        public Number getX(int series, int item) {
+            return new Long(this.x[series][item]);
+        }
+
+        /**
+         * Returns the starting x-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The x-value.
+         */
+        public Number getStartX(int series, int item) {
+            return new Long(this.startX[series][item]);
+        }
+
+        /**
+         * Returns the ending x-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The x-value.
+         */
+        public Number getEndX(int series, int item) {
+            return new Long(this.endX[series][item]);
+        }
+
+        /**
+         * Returns the y-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The y-value (possibly <code>Double.NaN</code>).
+         */
+        public double getYValue(int series, int item) {
+            return this.y[series][item];
+        }
+
+        /**
+         * Returns the y-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The y-value (possibly <code>null</code>).
+         */
+        public Number getY(int series, int item) {
+            double value = this.y[series][item];
+            return (Double.isNaN(value) ? null : new Double(value));
+        }
+
+        /**
+         * Returns the starting y-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The y-value (possibly <code>null</code>).
+         */
+        public Number getStartY(int series, int item) {
+            return getY(series, item);
+        }
+
+        /**
+         * Returns the ending y-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The y-value (possibly <code>null</code>).
+         */
+        public Number getEndY(int series, int item) {
+            return getY(series, item);
+        }
+
+    }
+
 }
@@ -0,0 +1,568 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * TimeSeriesPyramid.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Added getBucket() (DG);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+
+/**
+ * A multi-resolution summary of the values in a {@link TimeSeries}.  Tier 
+ * <code>k</code> of the pyramid divides the items in the series into 
+ * buckets of <code>2^k</code> consecutive items and records the minimum, 
+ * maximum, sum and count of the (non-<code>null</code>) values in each 
+ * bucket.  Tier 0 is the series itself.
+ * <P>
+ * A pyramid is obtained from {@link TimeSeries#getPyramid()} once it has 
+ * been enabled with {@link TimeSeries#setPyramidEnabled(boolean)}.  The 
+ * series keeps the pyramid up to date: appending an item, updating an item 
+ * or removing items from the start of the series (as happens when a maximum 
+ * item count or age is set) costs <code>O(log n)</code>.  Other changes (for
+ * example, inserting an item in the middle of the series) cause the pyramid
+ * to be rebuilt the next time it is accessed.  Changes made directly to a 
+ * {@link TimeSeriesDataItem} are not seen by the pyramid.
+ *
+ * @since 1.0.3
+ */
+public class TimeSeriesPyramid implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4619617426416253421L;
+
+    /** The maximum number of tiers (including tier 0). */
+    private static final int MAX_TIERS = 31;
+
+    /** The minimum capacity of the bucket arrays. */
+    private static final int MIN_CAPACITY = 8;
+
+    /** The series. */
+    private TimeSeries series;
+
+    /** A flag that indicates whether the tiers reflect the series. */
+    private boolean valid;
+
+    /** 
+     * The absolute index of the first item in the series.  Buckets are 
+     * aligned to absolute indices, so that removing items from the start of
+     * the series does not move the bucket boundaries. 
+     */
+    private int base;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /** The number of tiers (including tier 0). */
+    private int tierCount;
+
+    /** The absolute bucket number of the first array slot in each tier. */
+    private int[] offset;
+
+    /** The minimum value in each bucket, for each tier. */
+    private double[][] min;
+
+    /** The maximum value in each bucket, for each tier. */
+    private double[][] max;
+
+    /** The sum of the values in each bucket, for each tier. */
+    private double[][] sum;
+
+    /** The number of non-<code>null</code> values in each bucket. */
+    private int[][] count;
+
+    /**
+     * Creates a new pyramid for a series.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     */
+    TimeSeriesPyramid(TimeSeries series) {
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        this.series = series;
+        this.offset = new int[MAX_TIERS];
+        this.min = new double[MAX_TIERS][];
+        this.max = new double[MAX_TIERS][];
+        this.sum = new double[MAX_TIERS][];
+        this.count = new int[MAX_TIERS][];
+        this.valid = false;
+    }
+
+    /**
+     * Returns the series that this pyramid summarises.
+     *
+     * @return The series.
+     */
+    public TimeSeries getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the number of tiers, including tier 0 (the items in the series).
+     *
+     * @return The tier count.
+     */
+    public int getTierCount() {
+        ensureValid();
+        return this.tierCount;
+    }
+
+    /**
+     * Returns the number of items in each (full) bucket of a tier.
+     *
+     * @param tier  the tier.
+     *
+     * @return The bucket width (<code>2^tier</code>).
+     */
+    public int getBucketWidth(int tier) {
+        return 1 << tier;
+    }
+
+    /**
+     * Returns the number of buckets in a tier.  The first and last buckets
+     * may hold fewer than {@link #getBucketWidth(int)} items.
+     *
+     * @param tier  the tier.
+     *
+     * @return The bucket count.
+     */
+    public int getBucketCount(int tier) {
+        ensureValid();
+        checkTier(tier);
+        if (this.itemCount == 0) {
+            return 0;
+        }
+        int lastAbs = this.base + this.itemCount - 1;
+        return (lastAbs >> tier) - (this.base >> tier) + 1;
+    }
+
+    /**
+     * Returns the index of the bucket in a tier that holds an item.
+     *
+     * @param tier  the tier.
+     * @param item  the item index (zero-based).
+     *
+     * @return The bucket index.
+     */
+    public int getBucket(int tier, int item) {
+        ensureValid();
+        checkTier(tier);
+        return ((this.base + item) >> tier) - (this.base >> tier);
+    }
+
+    /**
+     * Returns the index (in the series) of the first item in a bucket.
+     *
+     * @param tier  the tier.
+     * @param bucket  the bucket index (zero-based).
+     *
+     * @return The item index.
+     */
+    public int getFirstItem(int tier, int bucket) {
+        ensureValid();
+        checkTier(tier);
+        int b = (this.base >> tier) + bucket;
+        return Math.max(b << tier, this.base) - this.base;
+    }
+
+    /**
+     * Returns the index (in the series) of the last item in a bucket.
+     *
+     * @param tier  the tier.
+     * @param bucket  the bucket index (zero-based).
+     *
+     * @return The item index.
+     */
+    public int getLastItem(int tier, int bucket) {
+        ensureValid();
+        checkTier(tier);
+        int b = (this.base >> tier) + bucket;
+        int last = ((b + 1) << tier) - 1;
+        return Math.min(last, this.base + this.itemCount - 1) - this.base;
+    }
+
+    /**
+     * Returns the minimum value in a bucket.
+     *
+     * @param tier  the tier.
+     * @param bucket  the bucket index (zero-based).
+     *
+     * @return The minimum value (<code>Double.NaN</code> if the bucket has no
+     *         values).
+     */
+    public double getMinimum(int tier, int bucket) {
+        ensureValid();
+        checkTier(tier);
+        if (tier == 0) {
+            return getItemValue(bucket);
+        }
+        return this.min[tier][slot(tier, bucket)];
+    }
+
+    /**
+     * Returns the maximum value in a bucket.
+     *
+     * @param tier  the tier.
+     * @param bucket  the bucket index (zero-based).
+     *
+     * @return The maximum value (<code>Double.NaN</code> if the bucket has no
+     *         values).
+     */
+    public double getMaximum(int tier, int bucket) {
+        ensureValid();
+        checkTier(tier);
+        if (tier == 0) {
+            return getItemValue(bucket);
+        }
+        return this.max[tier][slot(tier, bucket)];
+    }
+
+    /**
+     * Returns the mean of the values in a bucket.
+     *
+     * @param tier  the tier.
+     * @param bucket  the bucket index (zero-based).
+     *
+     * @return The mean value (<code>Double.NaN</code> if the bucket has no
+     *         values).
+     */
+    public double getMean(int tier, int bucket) {
+        ensureValid();
+        checkTier(tier);
+        if (tier == 0) {
+            return getItemValue(bucket);
+        }
+        int s = slot(tier, bucket);
+        int n = this.count[tier][s];
+        return (n > 0 ? this.sum[tier][s] / n : Double.NaN);
+    }
+
+    /**
+     * Returns the number of non-<code>null</code> values in a bucket.
+     *
+     * @param tier  the tier.
+     * @param bucket  the bucket index (zero-based).
+     *
+     * @return The value count.
+     */
+    public int getCount(int tier, int bucket) {
+        ensureValid();
+        checkTier(tier);
+        if (tier == 0) {
+            return (Double.isNaN(getItemValue(bucket)) ? 0 : 1);
+        }
+        return this.count[tier][slot(tier, bucket)];
+    }
+
+    /**
+     * Returns the lowest tier that summarises <code>items</code> consecutive
+     * items in at most <code>buckets</code> buckets.
+     *
+     * @param items  the number of items.
+     * @param buckets  the maximum number of buckets.
+     *
+     * @return The tier.
+     */
+    public int findTier(int items, double buckets) {
+        ensureValid();
+        int tier = 0;
+        while (tier < this.tierCount - 1 
+                && ((double) items / (1 << tier)) > buckets) {
+            tier++;
+        }
+        return tier;
+    }
+
+    /**
+     * Called by the series after an item is added.
+     *
+     * @param index  the index of the new item.
+     */
+    void itemAdded(int index) {
+        if (!this.valid || index != this.itemCount 
+                || this.series.getItemCount() != this.itemCount + 1) {
+            this.valid = false;
+            return;
+        }
+        this.itemCount++;
+        if (this.tierCount < MAX_TIERS 
+                && (1 << this.tierCount) <= this.itemCount) {
+            addTier();
+        }
+        updatePath(this.base + index);
+    }
+
+    /**
+     * Called by the series after the value of an item is changed.
+     *
+     * @param index  the index of the item.
+     */
+    void itemUpdated(int index) {
+        if (this.valid) {
+            updatePath(this.base + index);
+        }
+    }
+
+    /**
+     * Called by the series after items are removed.
+     *
+     * @param start  the index of the first item removed.
+     * @param removed  the number of items removed.
+     */
+    void itemsRemoved(int start, int removed) {
+        if (!this.valid || start != 0 || removed > this.itemCount 
+                || this.base > Integer.MAX_VALUE / 2) {
+            this.valid = false;
+            return;
+        }
+        this.base += removed;
+        this.itemCount -= removed;
+        while (this.tierCount > 1 
+                && (1 << (this.tierCount - 1)) > this.itemCount) {
+            this.tierCount--;
+            this.min[this.tierCount] = null;
+            this.max[this.tierCount] = null;
+            this.sum[this.tierCount] = null;
+            this.count[this.tierCount] = null;
+        }
+        if (this.itemCount > 0) {
+            updatePath(this.base);
+        }
+    }
+
+    /**
+     * Marks the pyramid for rebuilding the next time it is accessed.
+     */
+    void invalidate() {
+        this.valid = false;
+    }
+
+    /**
+     * Rebuilds the pyramid if it does not reflect the series.
+     */
+    private void ensureValid() {
+        if (this.valid && this.itemCount == this.series.getItemCount()) {
+            return;
+        }
+        this.base = 0;
+        this.itemCount = this.series.getItemCount();
+        this.tierCount = 1;
+        for (int k = 1; k < MAX_TIERS; k++) {
+            this.min[k] = null;
+            this.max[k] = null;
+            this.sum[k] = null;
+            this.count[k] = null;
+        }
+        while (this.tierCount < MAX_TIERS 
+                && (1 << this.tierCount) <= this.itemCount) {
+            addTier();
+        }
+        this.valid = true;
+    }
+
+    /**
+     * Adds a tier on top of the existing tiers and computes all its buckets.
+     */
+    private void addTier() {
+        int k = this.tierCount;
+        this.tierCount++;
+        int first = this.base >> k;
+        int last = (this.base + this.itemCount - 1) >> k;
+        int capacity = Math.max(last - first + 1, MIN_CAPACITY);
+        this.offset[k] = first;
+        this.min[k] = new double[capacity];
+        this.max[k] = new double[capacity];
+        this.sum[k] = new double[capacity];
+        this.count[k] = new int[capacity];
+        for (int b = first; b <= last; b++) {
+            computeBucket(k, b);
+        }
+    }
+
+    /**
+     * Recomputes the buckets (in tiers 1 and above) that contain the item 
+     * with the specified absolute index.
+     *
+     * @param abs  the absolute item index.
+     */
+    private void updatePath(int abs) {
+        for (int k = 1; k < this.tierCount; k++) {
+            computeBucket(k, abs >> k);
+        }
+    }
+
+    /**
+     * Computes a bucket from its two children in the tier below.
+     *
+     * @param k  the tier (1 or higher).
+     * @param b  the absolute bucket number.
+     */
+    private void computeBucket(int k, int b) {
+        double mn = Double.NaN;
+        double mx = Double.NaN;
+        double sm = 0.0;
+        int n = 0;
+        int lo = this.base;
+        int hi = this.base + this.itemCount;
+        for (int c = 2 * b; c <= 2 * b + 1; c++) {
+            if (k == 1) {
+                if (c < lo || c >= hi) {
+                    continue;
+                }
+                double v = getItemValue(c - this.base);
+                if (!Double.isNaN(v)) {
+                    mn = (n == 0 || v < mn ? v : mn);
+                    mx = (n == 0 || v > mx ? v : mx);
+                    sm += v;
+                    n++;
+                }
+            }
+            else {
+                int w = k - 1;
+                if (((c + 1) << w) <= lo || (c << w) >= hi) {
+                    continue;
+                }
+                int s = c - this.offset[w];
+                int cn = this.count[w][s];
+                if (cn > 0) {
+                    double cmn = this.min[w][s];
+                    double cmx = this.max[w][s];
+                    mn = (n == 0 || cmn < mn ? cmn : mn);
+                    mx = (n == 0 || cmx > mx ? cmx : mx);
+                    sm += this.sum[w][s];
+                    n += cn;
+                }
+            }
+        }
+        int s = ensureSlot(k, b);
+        this.min[k][s] = mn;
+        this.max[k][s] = mx;
+        this.sum[k][s] = sm;
+        this.count[k][s] = n;
+    }
+
+    /**
+     * Returns the array slot for an absolute bucket number, growing or 
+     * compacting the arrays for the tier if necessary.
+     *
+     * @param k  the tier.
+     * @param b  the absolute bucket number.
+     *
+     * @return The array slot.
+     */
+    private int ensureSlot(int k, int b) {
+        int s = b - this.offset[k];
+        int capacity = this.min[k].length;
+        if (s < capacity) {
+            return s;
+        }
+        // drop the buckets that lie entirely before the first item...
+        int first = this.base >> k;
+        int live = b - first + 1;
+        int newCapacity = capacity;
+        if (live > capacity / 2) {
+            newCapacity = Math.max(capacity * 2, live);
+        }
+        int keep = Math.min(capacity - (first - this.offset[k]), live);
+        int from = first - this.offset[k];
+        this.min[k] = copy(this.min[k], from, keep, newCapacity);
+        this.max[k] = copy(this.max[k], from, keep, newCapacity);
+        this.sum[k] = copy(this.sum[k], from, keep, newCapacity);
+        int[] c = new int[newCapacity];
+        System.arraycopy(this.count[k], from, c, 0, keep);
+        this.count[k] = c;
+        this.offset[k] = first;
+        return b - first;
+    }
+
+    /**
+     * Copies part of an array into a new array.
+     *
+     * @param source  the source array.
+     * @param from  the index of the first element to copy.
+     * @param length  the number of elements to copy.
+     * @param capacity  the length of the new array.
+     *
+     * @return The new array.
+     */
+    private static double[] copy(double[] source, int from, int length, 
+                                 int capacity) {
+        double[] result = new double[capacity];
+        System.arraycopy(source, from, result, 0, length);
+        return result;
+    }
+
+    /**
+     * Returns the array slot for a bucket index.
+     *
+     * @param tier  the tier.
+     * @param bucket  the bucket index (zero-based).
+     *
+     * @return The array slot.
+     */
+    private int slot(int tier, int bucket) {
+        return (this.base >> tier) + bucket - this.offset[tier];
+    }
+
+    /**
+     * Returns the value of an item in the series.
+     *
+     * @param index  the item index.
+     *
+     * @return The value (<code>Double.NaN</code> if the value is 
+     *         <code>null</code>).
+     */
+    private double getItemValue(int index) {
+        Number n = this.series.getValue(index);
+        return (n != null ? n.doubleValue() : Double.NaN);
+    }
+
+    /**
+     * Checks that a tier index is valid.
+     *
+     * @param tier  the tier.
+     */
+    private void checkTier(int tier) {
+        if (tier < 0 || tier >= this.tierCount) {
+            throw new IllegalArgumentException("Invalid 'tier' argument.");
+        }
+    }
+
+}
@@ -219,6 +219,9 @@ public class TimeTableXYDataset extends AbstractIntervalXYDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            incrementVersion();
+        }
     }
 
     /**
@@ -247,6 +250,9 @@ public class TimeTableXYDataset extends AbstractIntervalXYDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            incrementVersion();
+        }
     }
 
     /**
@@ -0,0 +1,222 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * TimeSeriesCollectionTests.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Added testIsViewed() (DG);
+ *
+ */
+package org.jfree.data.time.junit;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.data.Range;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Tests for the {@link TimeSeriesCollection} class.
+ */
+public class TimeSeriesCollectionTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(TimeSeriesCollectionTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public TimeSeriesCollectionTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a series of 10000 items, with a flat line and two spikes.
+     *
+     * @param pyramid  enable the pyramid?
+     *
+     * @return The series.
+     */
+    private TimeSeries createSeries(boolean pyramid) {
+        TimeSeries s = new TimeSeries("S", Millisecond.class);
+        s.setPyramidEnabled(pyramid);
+        Millisecond t = new Millisecond(0, 0, 0, 0, 1, 1, 2006);
+        for (int i = 0; i < 10000; i++) {
+            double y = 1.0;
+            if (i == 4321) {
+                y = 50.0;
+            }
+            else if (i == 7777) {
+                y = -50.0;
+            }
+            s.add(t, y);
+            t = (Millisecond) t.next();
+        }
+        return s;
+    }
+
+    /**
+     * A collection without pyramids is rendered directly.
+     */
+    public void testCreateDomainViewNoPyramid() {
+        TimeSeriesCollection c = new TimeSeriesCollection(createSeries(false));
+        Range r = new Range(c.getXValue(0, 0), c.getXValue(0, 9999));
+        assertSame(c, c.createDomainView(r, 100.0));
+        assertSame(c, c.createDomainView(null, 100.0));
+    }
+
+    /**
+     * A view of a series with a pyramid holds the minimum and maximum of 
+     * each bucket, and does not change the collection.
+     */
+    public void testCreateDomainView() {
+        TimeSeriesCollection c = new TimeSeriesCollection(createSeries(true));
+        Range r = new Range(c.getXValue(0, 0), c.getXValue(0, 9999));
+        XYDataset view = c.createDomainView(r, 100.0);
+        assertNotSame(c, view);
+        assertEquals(10000, c.getItemCount(0));
+        assertEquals(50.0, c.getYValue(0, 4321), 0.0);
+        int n = view.getItemCount(0);
+        assertTrue(n > 0);
+        assertTrue(n <= 2 * 100 + 4);
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            min = Math.min(min, view.getYValue(0, i));
+            max = Math.max(max, view.getYValue(0, i));
+            if (i > 0) {
+                assertTrue(view.getXValue(0, i) >= view.getXValue(0, i - 1));
+            }
+        }
+        assertEquals(-50.0, min, 0.0);
+        assertEquals(50.0, max, 0.0);
+    }
+
+    /**
+     * A view of a small part of the series uses the items directly.
+     */
+    public void testCreateDomainViewZoomed() {
+        TimeSeriesCollection c = new TimeSeriesCollection(createSeries(true));
+        Range r = new Range(c.getXValue(0, 4300), c.getXValue(0, 4340));
+        XYDataset view = c.createDomainView(r, 100.0);
+        assertSame(c, view);
+    }
+
+    /**
+     * The isViewed() method agrees with createDomainView().
+     */
+    public void testIsViewed() {
+        TimeSeriesCollection c = new TimeSeriesCollection(createSeries(true));
+        Range all = new Range(c.getXValue(0, 0), c.getXValue(0, 9999));
+        Range zoomed = new Range(c.getXValue(0, 4300), c.getXValue(0, 4340));
+        assertTrue(c.isViewed(all, 100.0));
+        assertNotSame(c, c.createDomainView(all, 100.0));
+        assertFalse(c.isViewed(zoomed, 100.0));
+        assertFalse(c.isViewed(null, 100.0));
+        assertFalse(c.isViewed(all, 0.0));
+        c = new TimeSeriesCollection(createSeries(false));
+        assertFalse(c.isViewed(all, 100.0));
+    }
+
+    /**
+     * Two views of the same collection are independent.
+     */
+    public void testTwoViews() {
+        TimeSeriesCollection c = new TimeSeriesCollection(createSeries(true));
+        XYDataset v1 = c.createDomainView(
+            new Range(c.getXValue(0, 0), c.getXValue(0, 9999)), 50.0
+        );
+        XYDataset v2 = c.createDomainView(
+            new Range(c.getXValue(0, 0), c.getXValue(0, 4999)), 500.0
+        );
+        int n1 = v1.getItemCount(0);
+        assertTrue(v2.getItemCount(0) > n1);
+        assertEquals(n1, v1.getItemCount(0));
+        assertEquals(10000, c.getItemCount(0));
+    }
+
+    /**
+     * The collection version includes the series versions.
+     */
+    public void testVersion() {
+        TimeSeries s = new TimeSeries("S", Millisecond.class);
+        TimeSeriesCollection c = new TimeSeriesCollection(s);
+        long v0 = c.getVersion();
+        s.add(new Millisecond(0, 0, 0, 0, 1, 1, 2006), 1.0);
+        long v1 = c.getVersion();
+        assertTrue(v1 > v0);
+        assertTrue(s.getVersion() > 0L);
+        s.delete(0, 0);
+        long v2 = c.getVersion();
+        assertTrue(v2 > v1);
+        c.removeSeries(s);
+        assertTrue(c.getVersion() > v2);
+    }
+
+    /**
+     * Draws a chart for a series with a pyramid.
+     */
+    public void testDrawChart() {
+        TimeSeriesCollection c = new TimeSeriesCollection(createSeries(true));
+        JFreeChart chart = ChartFactory.createTimeSeriesChart(
+            "T", "X", "Y", c, false, false, false
+        );
+        BufferedImage image = new BufferedImage(200, 100, 
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, null);
+        g2.dispose();
+        assertEquals(10000, c.getItemCount(0));
+    }
+
+}
@@ -0,0 +1,151 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * TimeSeriesPyramidTests.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.data.time.junit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesPyramid;
+
+/**
+ * Tests for the {@link TimeSeriesPyramid} class.
+ */
+public class TimeSeriesPyramidTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(TimeSeriesPyramidTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public TimeSeriesPyramidTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Checks every bucket of every tier against the items in the series.
+     *
+     * @param s  the series.
+     */
+    private void checkPyramid(TimeSeries s) {
+        TimeSeriesPyramid p = s.getPyramid();
+        for (int tier = 1; tier < p.getTierCount(); tier++) {
+            int total = 0;
+            for (int b = 0; b < p.getBucketCount(tier); b++) {
+                double min = Double.NaN;
+                double max = Double.NaN;
+                int n = 0;
+                int first = p.getFirstItem(tier, b);
+                int last = p.getLastItem(tier, b);
+                assertEquals(first, total);
+                for (int i = first; i <= last; i++) {
+                    assertEquals(b, p.getBucket(tier, i));
+                    Number v = s.getValue(i);
+                    if (v != null) {
+                        double d = v.doubleValue();
+                        min = (n == 0 || d < min ? d : min);
+                        max = (n == 0 || d > max ? d : max);
+                        n++;
+                    }
+                }
+                total += last - first + 1;
+                assertEquals(n, p.getCount(tier, b));
+                if (n > 0) {
+                    assertEquals(min, p.getMinimum(tier, b), 0.0);
+                    assertEquals(max, p.getMaximum(tier, b), 0.0);
+                }
+            }
+            assertEquals(s.getItemCount(), total);
+        }
+    }
+
+    /**
+     * The pyramid follows items that are appended, updated and evicted.
+     */
+    public void testIncrementalUpdates() {
+        TimeSeries s = new TimeSeries("S", Millisecond.class);
+        s.setPyramidEnabled(true);
+        s.setMaximumItemCount(100);
+        Millisecond t = new Millisecond();
+        for (int i = 0; i < 250; i++) {
+            s.add(t, (i % 7 == 0 ? null : new Double((i * 37) % 101)));
+            t = (Millisecond) t.next();
+            if (i % 50 == 0) {
+                checkPyramid(s);
+            }
+        }
+        s.update(10, new Double(-5.0));
+        s.update(11, new Double(500.0));
+        checkPyramid(s);
+        s.delete(0, 9);
+        checkPyramid(s);
+    }
+
+    /**
+     * The lowest tier with no more buckets than requested is found.
+     */
+    public void testFindTier() {
+        TimeSeries s = new TimeSeries("S", Millisecond.class);
+        s.setPyramidEnabled(true);
+        Millisecond t = new Millisecond();
+        for (int i = 0; i < 1024; i++) {
+            s.add(t, i);
+            t = (Millisecond) t.next();
+        }
+        TimeSeriesPyramid p = s.getPyramid();
+        assertEquals(0, p.findTier(1024, 2000.0));
+        assertEquals(2, p.findTier(1024, 256.0));
+        assertEquals(3, p.findTier(1024, 200.0));
+        assertEquals(256, p.getBucketCount(2));
+    }
+
+}
@@ -0,0 +1,168 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * TimeSeriesTests.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.data.time.junit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.util.Calendar;
+
+import org.jfree.data.general.SeriesException;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.Hour;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+
+/**
+ * Tests for the {@link TimeSeries} class.
+ */
+public class TimeSeriesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(TimeSeriesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public TimeSeriesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * The oldest items are dropped once the maximum item count is reached.
+     */
+    public void testMaximumItemCount() {
+        TimeSeries s = new TimeSeries("S", Day.class);
+        Day day = new Day(1, 1, 2006);
+        for (int i = 0; i < 10; i++) {
+            s.add(day, i);
+            day = (Day) day.next();
+        }
+        s.setMaximumItemCount(3);
+        assertEquals(3, s.getItemCount());
+        assertEquals(new Day(8, 1, 2006), s.getTimePeriod(0));
+        for (int i = 10; i < 50; i++) {
+            s.add(day, i);
+            day = (Day) day.next();
+        }
+        assertEquals(3, s.getItemCount());
+        assertEquals(47.0, s.getValue(0).doubleValue(), 0.0);
+    }
+
+    /**
+     * Items older than the maximum age are dropped.
+     */
+    public void testMaximumItemAge() {
+        TimeSeries s = new TimeSeries("S", Day.class);
+        s.setMaximumItemAge(5);
+        Day day = new Day(1, 1, 2006);
+        for (int i = 0; i < 20; i++) {
+            s.add(day, i);
+            day = (Day) day.next();
+        }
+        assertEquals(5, s.getItemCount());
+        assertEquals(15.0, s.getValue(0).doubleValue(), 0.0);
+    }
+
+    /**
+     * The addAll() method creates time periods of the series' class for the
+     * specified times, including times that are out of order or far apart.
+     */
+    public void testAddAll() {
+        TimeSeries s = new TimeSeries("S", Hour.class);
+        Calendar calendar = Calendar.getInstance(
+                RegularTimePeriod.DEFAULT_TIME_ZONE);
+        calendar.clear();
+        calendar.set(2006, Calendar.MARCH, 1, 10, 30);
+        long t = calendar.getTimeInMillis();
+        long hour = 60L * 60L * 1000L;
+        s.addAll(new long[] {t, t + hour, t + 2 * hour, t + 500 * hour, 
+                t - hour}, new double[] {1.0, 2.0, 3.0, 4.0, 5.0});
+        assertEquals(5, s.getItemCount());
+        assertEquals(new Hour(9, new Day(1, 3, 2006)), s.getTimePeriod(0));
+        assertEquals(5.0, s.getValue(0).doubleValue(), 0.0);
+        assertEquals(new Hour(12, new Day(1, 3, 2006)), s.getTimePeriod(3));
+        assertEquals(4.0, s.getValue(4).doubleValue(), 0.0);
+    }
+
+    /**
+     * Two times in the same time period are rejected, and the series is not
+     * changed.
+     */
+    public void testAddAllDuplicatePeriod() {
+        TimeSeries s = new TimeSeries("S", Day.class);
+        s.add(new Day(1, 1, 2006), 1.0);
+        long t = new Day(2, 1, 2006).getFirstMillisecond();
+        try {
+            s.addAll(new long[] {t, t + 1000L}, new double[] {2.0, 3.0});
+            fail("Should have thrown a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(1, s.getItemCount());
+    }
+
+    /**
+     * Some checks for the delete() method.
+     */
+    public void testDelete() {
+        TimeSeries s = new TimeSeries("S", Day.class);
+        Day day = new Day(1, 1, 2006);
+        for (int i = 0; i < 10; i++) {
+            s.add(day, i);
+            day = (Day) day.next();
+        }
+        s.delete(0, 8);
+        assertEquals(1, s.getItemCount());
+        assertEquals(9.0, s.getValue(0).doubleValue(), 0.0);
+    }
+
+}
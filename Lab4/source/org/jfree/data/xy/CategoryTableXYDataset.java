@@ -116,6 +116,9 @@ public class CategoryTableXYDataset extends AbstractIntervalXYDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            incrementVersion();
+        }
     }
 
     /**
@@ -140,6 +143,9 @@ public class CategoryTableXYDataset extends AbstractIntervalXYDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            incrementVersion();
+        }
     }
 
 
@@ -0,0 +1,99 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * DomainViewAware.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Replaced setDomainView() with createDomainView(), so that
+ *               the dataset does not hold the state of a view (DG);
+ * 18-Oct-2026 : Added isViewed() method (DG);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.data.Range;
+
+/**
+ * An optional interface for datasets whose content can be reduced to suit 
+ * the part of the domain that is currently visible (for example, a dataset 
+ * that serves fewer items when the display resolution is low).  The 
+ * {@link org.jfree.chart.plot.XYPlot} class calls the 
+ * {@link #createDomainView(Range, double)} method just before it renders a 
+ * dataset that implements this interface, and renders the dataset that is
+ * returned instead.
+ * <P>
+ * Since the view is a separate object that is used for one drawing only, 
+ * the dataset itself (and so every other plot or piece of code that uses 
+ * it) is not affected by the view.
+ *
+ * @since 1.0.3
+ */
+public interface DomainViewAware {
+
+    /**
+     * Returns the dataset to render for a view with the given domain range 
+     * and length (in Java2D units, which for most output devices are 
+     * pixels) of the data area along the domain axis.  Implementations must
+     * not change the state of this dataset or send a 
+     * {@link org.jfree.data.general.DatasetChangeEvent} from this method, 
+     * since it is called while the plot is being drawn.
+     *
+     * @param range  the visible domain range (<code>null</code> not 
+     *               permitted).
+     * @param length  the length of the data area along the domain axis.
+     * 
+     * @return The dataset to render (possibly this dataset, if no reduction 
+     *         is required, but never <code>null</code>).
+     */
+    public XYDataset createDomainView(Range range, double length);
+
+    /**
+     * Returns <code>true</code> if the 
+     * {@link #createDomainView(Range, double)} method would return a dataset 
+     * other than this one for the given range and length.  This method is 
+     * called by code that only needs to know whether the items rendered 
+     * depend on the view (for example, to decide whether a chart's data 
+     * layer can be scrolled), so it should be much cheaper than creating 
+     * the view.
+     *
+     * @param range  the visible domain range (<code>null</code> permitted).
+     * @param length  the length of the data area along the domain axis.
+     * 
+     * @return A boolean.
+     */
+    public boolean isViewed(Range range, double length);
+
+}
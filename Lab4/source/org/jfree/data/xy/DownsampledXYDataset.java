@@ -0,0 +1,774 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * DownsampledXYDataset.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Sample the visible range in a separate view dataset, and 
+ *               added dispose() and serialVersionUID (DG);
+ * 18-Oct-2026 : The view reports the version of the underlying dataset (DG);
+ * 18-Oct-2026 : Reuse the last view while the range and the underlying 
+ *               dataset are unchanged (DG);
+ * 18-Oct-2026 : Added isViewed() method (DG);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.Versioned;
+
+/**
+ * A dataset wrapper that presents a reduced view of an underlying 
+ * {@link XYDataset}, with at most <code>maxItemCount</code> items per series.
+ * The items are chosen with the Largest-Triangle-Three-Buckets (LTTB) 
+ * algorithm, which keeps the first and last items and, for each bucket of 
+ * items in between, the item that forms the largest triangle with the item 
+ * chosen from the previous bucket and the average of the next bucket.  This
+ * preserves the visual shape of the data (peaks and troughs in particular)
+ * far better than taking every n-th item.
+ * <P>
+ * Because the wrapper is itself an {@link XYDataset}, it works with any 
+ * renderer.  The items presented by this dataset are sampled from all the
+ * items in the underlying dataset, and are recomputed lazily after the 
+ * underlying dataset changes.  If the underlying dataset is sorted by 
+ * x-value (see {@link XYDataset#getDomainOrder()}), the 
+ * {@link #createDomainView(Range, double)} method returns a separate 
+ * dataset that samples only the items in the visible domain range (plus one
+ * neighbour on each side), so that zooming in reveals more detail.  The 
+ * {@link org.jfree.chart.plot.XYPlot} class renders that view in place of 
+ * this dataset, so several plots can show the same dataset at different 
+ * ranges.
+ * <P>
+ * The domain and range bounds reported by this dataset are those of the 
+ * underlying dataset, so that axis auto-ranging is not affected by the 
+ * sampling.
+ *
+ * @since 1.0.3
+ */
+public class DownsampledXYDataset extends AbstractXYDataset 
+                                  implements XYDataset, DomainInfo, RangeInfo, 
+                                             DomainViewAware, 
+                                             DatasetChangeListener {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4511270914137046313L;
+
+    /** The underlying dataset. */
+    private XYDataset underlying;
+
+    /** The maximum number of items per series. */
+    private int maxItemCount;
+
+    /** 
+     * The indices (in the underlying dataset) of the sampled items for each 
+     * series, or <code>null</code> if the samples need to be recomputed. 
+     */
+    private int[][] samples;
+
+    /** 
+     * The last view created by {@link #createDomainView(Range, double)}, 
+     * which is reused while the range and the underlying dataset are 
+     * unchanged (<code>null</code> if there is none).  Since plots can be 
+     * drawn concurrently, this field is only accessed while holding the 
+     * lock of this dataset (see {@link #getLastView()}).
+     */
+    private transient View lastView;
+
+    /**
+     * Creates a new dataset.
+     *
+     * @param underlying  the underlying dataset (<code>null</code> not 
+     *                    permitted).
+     * @param maxItemCount  the maximum number of items per series (at least 
+     *                      3).
+     */
+    public DownsampledXYDataset(XYDataset underlying, int maxItemCount) {
+        if (underlying == null) {
+            throw new IllegalArgumentException("Null 'underlying' argument.");
+        }
+        if (maxItemCount < 3) {
+            throw new IllegalArgumentException("Requires 'maxItemCount' >= 3.");
+        }
+        this.underlying = underlying;
+        this.underlying.addChangeListener(this);
+        this.maxItemCount = maxItemCount;
+        this.samples = null;
+    }
+
+    /**
+     * Returns the underlying dataset.
+     *
+     * @return The underlying dataset (never <code>null</code>).
+     */
+    public XYDataset getUnderlyingDataset() {
+        return this.underlying;
+    }
+
+    /**
+     * Returns the maximum number of items per series.
+     *
+     * @return The maximum item count.
+     */
+    public int getMaxItemCount() {
+        return this.maxItemCount;
+    }
+
+    /**
+     * Sets the maximum number of items per series and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param count  the maximum item count (at least 3).
+     */
+    public void setMaxItemCount(int count) {
+        if (count < 3) {
+            throw new IllegalArgumentException("Requires 'count' >= 3.");
+        }
+        if (this.maxItemCount != count) {
+            this.maxItemCount = count;
+            this.samples = null;
+            setLastView(null);
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Returns a dataset with at most <code>maxItemCount</code> items per 
+     * series, sampled from the items of the underlying dataset that lie in 
+     * the given range (plus one neighbour on each side).  The view does not
+     * track later changes to the underlying dataset, and this dataset is not
+     * changed.  If the underlying dataset is not sorted in ascending order of
+     * x-value, this dataset is returned.
+     * <P>
+     * The last view is returned again (without sampling the items) if the 
+     * range is the same and the underlying dataset has not changed since 
+     * it was created, so that repainting a chart that hasn't changed is 
+     * cheap.  The length is not part of this check, since the sample does 
+     * not depend on it.
+     *
+     * @param range  the visible range (<code>null</code> permitted, in which
+     *               case this dataset is returned).
+     * @param length  the length of the data area along the domain axis (not
+     *                used by this class).
+     *
+     * @return The dataset to render.
+     */
+    public XYDataset createDomainView(Range range, double length) {
+        if (!isViewed(range, length)) {
+            return this;
+        }
+        long version = getUnderlyingVersion();
+        View view = getLastView();
+        // the bounds are compared directly, since Range.equals() ignores 
+        // the upper bound...
+        if (view != null && view.version == version
+                && view.range.getLowerBound() == range.getLowerBound()
+                && view.range.getUpperBound() == range.getUpperBound()) {
+            return view;
+        }
+        int seriesCount = this.underlying.getSeriesCount();
+        int[][] viewSamples = new int[seriesCount][];
+        for (int series = 0; series < seriesCount; series++) {
+            viewSamples[series] = createSample(series, range);
+        }
+        view = new View(this.underlying, viewSamples, range, version);
+        setLastView(view);
+        return view;
+    }
+
+    /**
+     * Returns the last view created by 
+     * {@link #createDomainView(Range, double)}.
+     * 
+     * @return The view (possibly <code>null</code>).
+     */
+    private synchronized View getLastView() {
+        return this.lastView;
+    }
+
+    /**
+     * Sets the last view.
+     * 
+     * @param view  the view (<code>null</code> permitted).
+     */
+    private synchronized void setLastView(View view) {
+        this.lastView = view;
+    }
+
+    /**
+     * Returns <code>true</code> if {@link #createDomainView(Range, double)} 
+     * returns a separate view, which is the case when there is a range and 
+     * the underlying dataset is sorted in ascending order of x-value.
+     *
+     * @param range  the visible range (<code>null</code> permitted).
+     * @param length  the length of the data area along the domain axis (not
+     *                used by this class).
+     *
+     * @return A boolean.
+     */
+    public boolean isViewed(Range range, double length) {
+        return range != null 
+                && this.underlying.getDomainOrder() == DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the modification version of the underlying dataset, or 
+     * <code>-1</code> if it doesn't have one (in which case the last view is
+     * only discarded when the dataset sends a change event).
+     * 
+     * @return The version.
+     */
+    private long getUnderlyingVersion() {
+        if (this.underlying instanceof Versioned) {
+            return ((Versioned) this.underlying).getVersion();
+        }
+        return -1L;
+    }
+
+    /**
+     * Deregisters this dataset as a listener of the underlying dataset, so
+     * that it can be garbage collected independently.  This dataset should 
+     * not be used after this method has been called.
+     */
+    public void dispose() {
+        this.underlying.removeChangeListener(this);
+        this.samples = null;
+        setLastView(null);
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.underlying.getSeriesCount();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series key.
+     */
+    public Comparable getSeriesKey(int series) {
+        return this.underlying.getSeriesKey(series);
+    }
+
+    /**
+     * Returns the order of the domain values, which is the same as for the
+     * underlying dataset.
+     *
+     * @return The domain order.
+     */
+    public DomainOrder getDomainOrder() {
+        return this.underlying.getDomainOrder();
+    }
+
+    /**
+     * Returns the number of (sampled) items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        return getSample(series).length;
+    }
+
+    /**
+     * Returns the index in the underlying dataset of a sampled item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The item index in the underlying dataset.
+     */
+    public int getUnderlyingItem(int series, int item) {
+        return getSample(series)[item];
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public Number getX(int series, int item) {
+        return this.underlying.getX(series, getSample(series)[item]);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        return this.underlying.getXValue(series, getSample(series)[item]);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    public Number getY(int series, int item) {
+        return this.underlying.getY(series, getSample(series)[item]);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly <code>Double.NaN</code>).
+     */
+    public double getYValue(int series, int item) {
+        return this.underlying.getYValue(series, getSample(series)[item]);
+    }
+
+    /**
+     * Returns the minimum x-value in the underlying dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value.
+     */
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum x-value in the underlying dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value.
+     */
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the x-values in the underlying dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (possibly <code>null</code>).
+     */
+    public Range getDomainBounds(boolean includeInterval) {
+        return DatasetUtilities.findDomainBounds(
+            this.underlying, includeInterval
+        );
+    }
+
+    /**
+     * Returns the minimum y-value in the underlying dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The minimum value.
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum y-value in the underlying dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The maximum value.
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the y-values in the underlying dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The range (possibly <code>null</code>).
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        return DatasetUtilities.findRangeBounds(
+            this.underlying, includeInterval
+        );
+    }
+
+    /**
+     * Receives notification of a change to the underlying dataset.  The 
+     * samples and the last view are discarded, and an event is sent to all 
+     * registered listeners.
+     *
+     * @param event  information about the event.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.samples = null;
+        setLastView(null);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the sample for a series, computing it if necessary.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The indices of the sampled items in the underlying dataset.
+     */
+    private int[] getSample(int series) {
+        int seriesCount = this.underlying.getSeriesCount();
+        if (this.samples == null || this.samples.length != seriesCount) {
+            this.samples = new int[seriesCount][];
+        }
+        int[] result = this.samples[series];
+        if (result == null) {
+            result = createSample(series, null);
+            this.samples[series] = result;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the sample for a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param range  the range of x-values to sample (<code>null</code> for 
+     *               all items).
+     *
+     * @return The indices of the sampled items in the underlying dataset.
+     */
+    private int[] createSample(int series, Range range) {
+        int first = 0;
+        int last = this.underlying.getItemCount(series) - 1;
+        if (range != null && last > 0 
+                && this.underlying.getDomainOrder() == DomainOrder.ASCENDING) {
+            first = Math.max(
+                findFirstAbove(series, range.getLowerBound(), false, 
+                        last + 1) - 1, 0
+            );
+            last = Math.min(
+                findFirstAbove(series, range.getUpperBound(), true, 
+                        last + 1), last
+            );
+            if (last < first) {
+                last = first;
+            }
+        }
+        int count = last - first + 1;
+        if (count <= this.maxItemCount) {
+            int[] result = new int[Math.max(count, 0)];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = first + i;
+            }
+            return result;
+        }
+        return largestTriangleThreeBuckets(series, first, count);
+    }
+
+    /**
+     * Returns the index of the first item in a series (which must be sorted
+     * in ascending order of x-value) with an x-value greater than (or, if
+     * <code>strict</code> is <code>false</code>, equal to) <code>x</code>, or
+     * <code>itemCount</code> if there is no such item.
+     *
+     * @param series  the series index (zero-based).
+     * @param x  the x-value.
+     * @param strict  exclude items with an x-value equal to <code>x</code>?
+     * @param itemCount  the number of items in the series.
+     *
+     * @return The item index.
+     */
+    private int findFirstAbove(int series, double x, boolean strict, 
+                               int itemCount) {
+        int low = 0;
+        int high = itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            double xx = this.underlying.getXValue(series, mid);
+            if (xx < x || (strict && xx == x)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Selects <code>maxItemCount</code> items from a run of items using the 
+     * Largest-Triangle-Three-Buckets algorithm.
+     *
+     * @param series  the series index (zero-based).
+     * @param first  the index of the first item in the run.
+     * @param count  the number of items in the run (greater than 
+     *               <code>maxItemCount</code>).
+     *
+     * @return The indices of the selected items.
+     */
+    private int[] largestTriangleThreeBuckets(int series, int first, 
+                                              int count) {
+        XYDataset d = this.underlying;
+        int m = this.maxItemCount;
+        int[] result = new int[m];
+        double bucketSize = (double) (count - 2) / (m - 2);
+        int a = first;
+        result[0] = first;
+        for (int i = 0; i < m - 2; i++) {
+            // the average of the next bucket is the third triangle vertex...
+            int avgStart = first + (int) Math.floor((i + 1) * bucketSize) + 1;
+            int avgEnd = Math.min(
+                first + (int) Math.floor((i + 2) * bucketSize) + 1, 
+                first + count
+            );
+            double avgX = 0.0;
+            double avgY = 0.0;
+            int avgCount = 0;
+            for (int j = avgStart; j < avgEnd; j++) {
+                double x = d.getXValue(series, j);
+                double y = d.getYValue(series, j);
+                if (!Double.isNaN(x) && !Double.isNaN(y)) {
+                    avgX += x;
+                    avgY += y;
+                    avgCount++;
+                }
+            }
+            if (avgCount > 0) {
+                avgX = avgX / avgCount;
+                avgY = avgY / avgCount;
+            }
+            else {
+                avgX = d.getXValue(series, avgStart);
+                avgY = d.getYValue(series, a);
+            }
+
+            // choose the item in this bucket with the largest triangle...
+            int start = first + (int) Math.floor(i * bucketSize) + 1;
+            int end = first + (int) Math.floor((i + 1) * bucketSize) + 1;
+            double ax = d.getXValue(series, a);
+            double ay = d.getYValue(series, a);
+            double maxArea = -1.0;
+            int selected = start;
+            for (int j = start; j < end; j++) {
+                double area = Math.abs(
+                    (ax - avgX) * (d.getYValue(series, j) - ay) 
+                    - (ax - d.getXValue(series, j)) * (avgY - ay)
+                );
+                if (area > maxArea) {
+                    maxArea = area;
+                    selected = j;
+                }
+            }
+            result[i + 1] = selected;
+            a = selected;
+        }
+        result[m - 1] = first + count - 1;
+        return result;
+    }
+
+    /**
+     * A dataset that presents the items sampled from the underlying dataset
+     * for one view.
+     */
+    private static class View extends AbstractXYDataset {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -2092335814436571094L;
+
+        /** The underlying dataset. */
+        private XYDataset underlying;
+
+        /** The indices of the sampled items for each series. */
+        private int[][] samples;
+
+        /** The range that was sampled. */
+        private Range range;
+
+        /** The version of the underlying dataset that was sampled. */
+        private long version;
+
+        /**
+         * Creates a new view.
+         *
+         * @param underlying  the underlying dataset.
+         * @param samples  the indices of the sampled items for each series.
+         * @param range  the range that was sampled.
+         * @param version  the version of the underlying dataset that was 
+         *                 sampled.
+         */
+        View(XYDataset underlying, int[][] samples, Range range, 
+             long version) {
+            this.underlying = underlying;
+            this.samples = samples;
+            this.range = range;
+            this.version = version;
+        }
+
+        /**
+         * Returns the number of series in the dataset.
+         *
+         * @return The series count.
+         */
+        public int getSeriesCount() {
+            return this.samples.length;
+        }
+
+        /**
+         * Returns the key for a series.
+         *
+         * @param series  the series index (zero-based).
+         *
+         * @return The series key.
+         */
+        public Comparable getSeriesKey(int series) {
+            return this.underlying.getSeriesKey(series);
+        }
+
+        /**
+         * Returns the order of the domain values.
+         *
+         * @return The domain order.
+         */
+        public DomainOrder getDomainOrder() {
+            return DomainOrder.ASCENDING;
+        }
+
+        /**
+         * Returns the number of (sampled) items in a series.
+         *
+         * @param series  the series index (zero-based).
+         *
+         * @return The item count.
+         */
+        public int getItemCount(int series) {
+            return this.samples[series].length;
+        }
+
+        /**
+         * Returns the x-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The x-value.
+         */
+        public Number getX(int series, int item) {
+            return this.underlying.getX(series, this.samples[series][item]);
+        }
+
+        /**
+         * Returns the x-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The x-value.
+         */
+        public double getXValue(int series, int item) {
+            return this.underlying.getXValue(
+                series, this.samples[series][item]
+            );
+        }
+
+        /**
+         * Returns the y-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The y-value (possibly <code>null</code>).
+         */
+        public Number getY(int series, int item) {
+            return this.underlying.getY(series, this.samples[series][item]);
+        }
+
+        /**
+         * Returns the y-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The y-value (possibly <code>Double.NaN</code>).
+         */
+        public double getYValue(int series, int item) {
+            return this.underlying.getYValue(
+                series, this.samples[series][item]
+            );
+        }
+
+        /**
+         * Returns the modification version of the underlying dataset, since
+         * the view reads its values from that dataset.
+         *
+         * @return The version.
+         */
+        public long getVersion() {
+            if (this.underlying instanceof Versioned) {
+                return ((Versioned) this.underlying).getVersion();
+            }
+            return super.getVersion();
+        }
+
+    }
+
+}
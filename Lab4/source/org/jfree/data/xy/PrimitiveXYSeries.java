@@ -0,0 +1,874 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2006, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * PrimitiveXYSeries.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DG);
+ * 17-Oct-2026 : Remove items from the start of the series in constant 
+ *               time (DG);
+ * 17-Oct-2026 : Added addAll() override that works on the arrays 
+ *               directly (DG);
+ * 17-Oct-2026 : Keep the series bounds up to date (DG);
+ * 18-Oct-2026 : Don't allocate the unused item list, and override 
+ *               updateByIndex() rather than the deprecated update() (DG);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * An {@link XYSeries} that stores its x and y values in two growable
+ * <code>double[]</code> columns rather than as a list of {@link XYDataItem}
+ * objects.  This uses 16 bytes per item, compared with roughly 80 bytes per
+ * item for the standard series, which matters for series containing millions
+ * of items.
+ * <P>
+ * The auto-sort, duplicate x-value and maximum item count semantics are the
+ * same as for {@link XYSeries}, with the following differences:
+ * <ul>
+ * <li><code>null</code> y-values are stored as <code>Double.NaN</code>, so
+ *     {@link #getY(int)} returns <code>null</code> for any item with a
+ *     <code>NaN</code> y-value;</li>
+ * <li>the {@link XYDataItem} objects returned by {@link #getDataItem(int)}
+ *     and {@link #getItems()} are created on demand, so changing them has no
+ *     effect on the series (use {@link #updateByIndex(int, Number)}
+ *     instead);</li>
+ * <li>x-values are compared as <code>double</code> primitives, so
+ *     {@link #indexOf(Number)} will find an item regardless of the
+ *     <code>Number</code> subclass used to specify the x-value.</li>
+ * </ul>
+ *
+ * @since 1.0.3
+ */
+public class PrimitiveXYSeries extends XYSeries
+                               implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3276284389232719485L;
+
+    /** The initial capacity of the value arrays. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Storage for the x-values. */
+    private double[] xValues;
+
+    /** Storage for the y-values (<code>Double.NaN</code> for null). */
+    private double[] yValues;
+
+    /** 
+     * The array index of the first item in the series (items removed from
+     * the start of the series just advance this index). 
+     */
+    private int offset;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /**
+     * Creates a new empty series.  By default, items added to the series will
+     * be sorted into ascending order by x-value, and duplicate x-values will
+     * be allowed (these defaults can be modified with another constructor).
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     */
+    public PrimitiveXYSeries(Comparable key) {
+        this(key, true, true);
+    }
+
+    /**
+     * Constructs a new empty series, with the auto-sort flag set as requested,
+     * and duplicate values allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     */
+    public PrimitiveXYSeries(Comparable key, boolean autoSort) {
+        this(key, autoSort, true);
+    }
+
+    /**
+     * Constructs a new series that contains no data.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     */
+    public PrimitiveXYSeries(Comparable key,
+                             boolean autoSort,
+                             boolean allowDuplicateXValues) {
+        // the values are held in the arrays, so the superclass doesn't need 
+        // a list for the items...
+        super(key, autoSort, allowDuplicateXValues, Collections.EMPTY_LIST);
+        this.xValues = new double[INITIAL_CAPACITY];
+        this.yValues = new double[INITIAL_CAPACITY];
+        this.offset = 0;
+        this.itemCount = 0;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns an unmodifiable list view of the data items in the series.  The
+     * {@link XYDataItem} objects in the list are created on demand.
+     *
+     * @return The list of data items.
+     */
+    public List getItems() {
+        return Collections.unmodifiableList(new AbstractList() {
+            public Object get(int index) {
+                return getDataItem(index);
+            }
+            public int size() {
+                return PrimitiveXYSeries.this.itemCount;
+            }
+        });
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If the series currently contains more items than this, the excess
+     * items are removed from the start of the series and a
+     * {@link SeriesChangeEvent} is sent to all registered listeners.
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    public void setMaximumItemCount(int maximum) {
+        super.setMaximumItemCount(maximum);
+        if (this.itemCount > maximum) {
+            removeItems(0, this.itemCount - maximum);
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x value.
+     * @param y  the y value.
+     */
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  No
+     * <code>Number</code> or {@link XYDataItem} objects are created.
+     *
+     * @param x  the x value.
+     * @param y  the y value.
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    public void add(double x, double y, boolean notify) {
+        addValue(x, y);
+        if (notify) {
+            fireSeriesChanged();
+        }
+        else {
+            incrementVersion();
+        }
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  The item
+     * itself is not retained, only its x and y values.
+     *
+     * @param item  the (x, y) item (<code>null</code> not permitted).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    public void add(XYDataItem item, boolean notify) {
+        if (item == null) {
+            throw new IllegalArgumentException("Null 'item' argument.");
+        }
+        add(item.getX().doubleValue(), toDouble(item.getY()), notify);
+    }
+
+    /**
+     * Adds an (x, y) pair to the series without sending a change event.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     */
+    private void addValue(double x, double y) {
+        if (getAutoSort()) {
+            int index = binarySearch(x);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            else {
+                if (getAllowDuplicateXValues()) {
+                    // need to make sure we are adding *after* any duplicates
+                    while (index < this.itemCount
+                            && this.xValues[this.offset + index] == x) {
+                        index++;
+                    }
+                }
+                else {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+            insertValue(index, x, y);
+        }
+        else {
+            if (!getAllowDuplicateXValues()) {
+                if (indexOf(x) >= 0) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+            insertValue(this.itemCount, x, y);
+        }
+        if (this.itemCount > getMaximumItemCount()) {
+            removeItems(0, 1);
+        }
+    }
+
+    /**
+     * Adds a block of data items to the series and, if requested, sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  The new
+     * values are copied straight into the value arrays, no objects are 
+     * created for them.
+     *
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, must have the
+     *           same length as <code>x</code>).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if duplicate x-values are not allowed and the
+     *         new items contain a duplicate x-value (in which case the series
+     *         is not changed).
+     */
+    public void addAll(double[] x, double[] y, boolean notify) {
+        checkArrays(x, y);
+        int count = x.length;
+        int total = this.itemCount + count;
+        int excess = Math.max(total - getMaximumItemCount(), 0);
+        if (getAutoSort()) {
+            int[] order = sortOrder(x);
+            double[] newX = new double[Math.max(total, INITIAL_CAPACITY)];
+            double[] newY = new double[newX.length];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < this.itemCount || j < count) {
+                double nextX;
+                double nextY;
+                if (j == count || (i < this.itemCount 
+                        && getXValue(i) <= x[order[j]])) {
+                    nextX = getXValue(i);
+                    nextY = getYValue(i);
+                    i++;
+                }
+                else {
+                    nextX = x[order[j]];
+                    nextY = y[order[j]];
+                    j++;
+                }
+                if (!getAllowDuplicateXValues() && k > 0 
+                        && newX[k - 1] == nextX) {
+                    throw new SeriesException("X-value already exists.");
+                }
+                newX[k] = nextX;
+                newY[k] = nextY;
+                k++;
+            }
+            this.xValues = newX;
+            this.yValues = newY;
+            this.offset = 0;
+            this.itemCount = total;
+        }
+        else {
+            if (!getAllowDuplicateXValues()) {
+                double[] all = new double[total];
+                System.arraycopy(this.xValues, this.offset, all, 0, 
+                        this.itemCount);
+                System.arraycopy(x, 0, all, this.itemCount, count);
+                Arrays.sort(all);
+                for (int i = 1; i < total; i++) {
+                    if (all[i - 1] == all[i]) {
+                        throw new SeriesException("X-value already exists.");
+                    }
+                }
+            }
+            ensureCapacity(total);
+            System.arraycopy(x, 0, this.xValues, this.offset + this.itemCount,
+                    count);
+            System.arraycopy(y, 0, this.yValues, this.offset + this.itemCount,
+                    count);
+            this.itemCount = total;
+        }
+        for (int i = 0; i < count; i++) {
+            updateBoundsForAddedItem(x[i], y[i]);
+        }
+        if (excess > 0) {
+            removeItems(0, excess);
+        }
+        if (notify) {
+            fireSeriesChanged();
+        }
+        else {
+            incrementVersion();
+        }
+    }
+
+    /**
+     * Returns the indices of the specified values in ascending order of 
+     * value.  The sort is stable, so equal values keep their original order.
+     *
+     * @param values  the values.
+     *
+     * @return The sorted indices.
+     */
+    private static int[] sortOrder(double[] values) {
+        int[] order = new int[values.length];
+        boolean sorted = true;
+        for (int i = 0; i < values.length; i++) {
+            order[i] = i;
+            if (i > 0 && values[i - 1] > values[i]) {
+                sorted = false;
+            }
+        }
+        if (!sorted) {
+            mergeSort(values, order, new int[order.length], 0, order.length);
+        }
+        return order;
+    }
+
+    /**
+     * Sorts part of an index array into ascending order of the values that
+     * the indices refer to.
+     *
+     * @param values  the values.
+     * @param order  the indices to sort.
+     * @param work  a work array the same length as <code>order</code>.
+     * @param start  the first index (inclusive).
+     * @param end  the last index (exclusive).
+     */
+    private static void mergeSort(double[] values, int[] order, int[] work,
+                                  int start, int end) {
+        if (end - start < 2) {
+            return;
+        }
+        int middle = (start + end) >>> 1;
+        mergeSort(values, order, work, start, middle);
+        mergeSort(values, order, work, middle, end);
+        if (values[order[middle - 1]] <= values[order[middle]]) {
+            return;
+        }
+        System.arraycopy(order, start, work, start, end - start);
+        int i = start;
+        int j = middle;
+        for (int k = start; k < end; k++) {
+            if (j == end || (i < middle 
+                    && values[work[i]] <= values[work[j]])) {
+                order[k] = work[i++];
+            }
+            else {
+                order[k] = work[j++];
+            }
+        }
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based).
+     */
+    public void delete(int start, int end) {
+        checkIndex(start);
+        checkIndex(end);
+        removeItems(start, end - start + 1);
+        fireSeriesChanged();
+    }
+
+    /**
+     * Removes the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index.
+     *
+     * @return The item removed.
+     */
+    public XYDataItem remove(int index) {
+        XYDataItem result = getDataItem(index);
+        removeItems(index, 1);
+        fireSeriesChanged();
+        return result;
+    }
+
+    /**
+     * Removes all data items from the series and, unless the series is
+     * already empty, sends a {@link SeriesChangeEvent} to all registered
+     * listeners.
+     */
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.offset = 0;
+            this.itemCount = 0;
+            resetBounds();
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    public XYDataItem getDataItem(int index) {
+        return new XYDataItem(getX(index), getY(index));
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value (never <code>null</code>).
+     */
+    public Number getX(int index) {
+        return new Double(getXValue(index));
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    public Number getY(int index) {
+        double y = getYValue(index);
+        return Double.isNaN(y) ? null : new Double(y);
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xValues[this.offset + index];
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a missing value).
+     */
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.yValues[this.offset + index];
+    }
+
+    /**
+     * Updates the value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value (<code>null</code> permitted).
+     */
+    public void updateByIndex(int index, Number y) {
+        checkIndex(index);
+        setYValue(index, toDouble(y));
+        fireSeriesChanged();
+    }
+
+    /**
+     * Updates an item in the series.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     * @param y  the y-value (<code>null</code> permitted).
+     *
+     * @throws SeriesException if there is no existing item with the specified
+     *         x-value.
+     */
+    public void update(Number x, Number y) {
+        int index = indexOf(x);
+        if (index < 0) {
+            throw new SeriesException("No observation for x = " + x);
+        }
+        setYValue(index, toDouble(y));
+        fireSeriesChanged();
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     * @param y  the y-value (<code>null</code> permitted).
+     *
+     * @return A copy of the overwritten data item, or <code>null</code> if no
+     *         item was overwritten.
+     */
+    public XYDataItem addOrUpdate(Number x, Number y) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        XYDataItem overwritten = null;
+        int index = indexOf(x);
+        if (index >= 0) {
+            overwritten = getDataItem(index);
+            setYValue(index, toDouble(y));
+        }
+        else {
+            // for a sorted series the negative index tells us where to
+            // insert the new item, otherwise we just append it...
+            if (getAutoSort()) {
+                insertValue(-index - 1, x.doubleValue(), toDouble(y));
+            }
+            else {
+                insertValue(this.itemCount, x.doubleValue(), toDouble(y));
+            }
+            if (this.itemCount > getMaximumItemCount()) {
+                removeItems(0, 1);
+            }
+        }
+        fireSeriesChanged();
+        return overwritten;
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.  For
+     * an unsorted series, the index is found by iterating through all items
+     * in the series.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     *
+     * @return The index.
+     */
+    public int indexOf(Number x) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        return indexOf(x.doubleValue());
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if there is no such item.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    private int indexOf(double x) {
+        if (getAutoSort()) {
+            return binarySearch(x);
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (this.xValues[this.offset + i] == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Searches the (sorted) x-values for the specified value, with the same
+     * return value conventions as <code>Collections.binarySearch()</code>.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index of an item with the specified x-value, or
+     *         <code>(-(insertion point) - 1)</code>.
+     */
+    private int binarySearch(double x) {
+        int low = 0;
+        int high = this.itemCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            double midValue = this.xValues[this.offset + mid];
+            if (midValue < x) {
+                low = mid + 1;
+            }
+            else if (midValue > x) {
+                high = mid - 1;
+            }
+            else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Inserts an (x, y) pair at the specified index, making room in the value
+     * arrays if necessary.
+     *
+     * @param index  the index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void insertValue(int index, double x, double y) {
+        ensureCapacity(this.itemCount + 1);
+        int i = this.offset + index;
+        if (index < this.itemCount) {
+            int count = this.itemCount - index;
+            System.arraycopy(this.xValues, i, this.xValues, i + 1, count);
+            System.arraycopy(this.yValues, i, this.yValues, i + 1, count);
+        }
+        this.xValues[i] = x;
+        this.yValues[i] = y;
+        this.itemCount++;
+        updateBoundsForAddedItem(x, y);
+    }
+
+    /**
+     * Changes the y-value of an item (no change event is sent).
+     *
+     * @param index  the index.
+     * @param y  the new y-value (<code>Double.NaN</code> for a missing 
+     *           value).
+     */
+    private void setYValue(int index, double y) {
+        int i = this.offset + index;
+        updateBoundsForRemovedItem(this.xValues[i], this.yValues[i]);
+        this.yValues[i] = y;
+        updateBoundsForAddedItem(this.xValues[i], y);
+    }
+
+    /**
+     * Removes a block of items from the series (no change event is sent).
+     * Removing items from the start of the series is a constant time 
+     * operation, which is the common case for a series with a maximum item
+     * count.
+     *
+     * @param start  the index of the first item to remove.
+     * @param count  the number of items to remove.
+     */
+    private void removeItems(int start, int count) {
+        for (int i = this.offset + start; i < this.offset + start + count; 
+                i++) {
+            updateBoundsForRemovedItem(this.xValues[i], this.yValues[i]);
+        }
+        if (start == 0) {
+            this.offset += count;
+        }
+        else {
+            int tail = this.itemCount - start - count;
+            if (tail > 0) {
+                int i = this.offset + start;
+                System.arraycopy(this.xValues, i + count, this.xValues, i, 
+                        tail);
+                System.arraycopy(this.yValues, i + count, this.yValues, i, 
+                        tail);
+            }
+        }
+        this.itemCount -= count;
+        if (this.itemCount == 0) {
+            this.offset = 0;
+        }
+    }
+
+    /**
+     * Ensures that the value arrays have room for at least the specified 
+     * number of items, starting from the current offset.  Space freed at 
+     * the start of the arrays is reclaimed when it amounts to at least half 
+     * of the arrays, so appending to a full series with a maximum item count
+     * costs amortised constant time.
+     *
+     * @param capacity  the required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        int length = this.xValues.length;
+        if (this.offset + capacity <= length) {
+            return;
+        }
+        if (capacity <= length / 2) {
+            System.arraycopy(this.xValues, this.offset, this.xValues, 0, 
+                    this.itemCount);
+            System.arraycopy(this.yValues, this.offset, this.yValues, 0, 
+                    this.itemCount);
+        }
+        else {
+            int newCapacity = Math.max(capacity, length * 2);
+            double[] x = new double[newCapacity];
+            double[] y = new double[newCapacity];
+            System.arraycopy(this.xValues, this.offset, x, 0, this.itemCount);
+            System.arraycopy(this.yValues, this.offset, y, 0, this.itemCount);
+            this.xValues = x;
+            this.yValues = y;
+        }
+        this.offset = 0;
+    }
+
+    /**
+     * Checks that an item index is valid for this series.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: "
+                    + this.itemCount);
+        }
+    }
+
+    /**
+     * Converts a y-value to a <code>double</code>, mapping <code>null</code>
+     * to <code>Double.NaN</code>.
+     *
+     * @param y  the y-value (<code>null</code> permitted).
+     *
+     * @return The value.
+     */
+    private static double toDouble(Number y) {
+        return (y != null ? y.doubleValue() : Double.NaN);
+    }
+
+    /**
+     * Creates a new series by copying a subset of the data in this series.
+     *
+     * @param start  the index of the first item to copy.
+     * @param end  the index of the last item to copy.
+     *
+     * @return A series containing a copy of this series from start until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    public XYSeries createCopy(int start, int end)
+        throws CloneNotSupportedException {
+        PrimitiveXYSeries copy = (PrimitiveXYSeries) super.createCopy(start,
+                end);
+        copy.data = Collections.EMPTY_LIST;
+        int count = (this.itemCount > 0 ? Math.max(end - start + 1, 0) : 0);
+        copy.xValues = new double[Math.max(count, INITIAL_CAPACITY)];
+        copy.yValues = new double[Math.max(count, INITIAL_CAPACITY)];
+        if (count > 0) {
+            checkIndex(start);
+            checkIndex(end);
+            System.arraycopy(this.xValues, this.offset + start, copy.xValues, 
+                    0, count);
+            System.arraycopy(this.yValues, this.offset + start, copy.yValues, 
+                    0, count);
+        }
+        copy.offset = 0;
+        copy.itemCount = count;
+        copy.invalidateBounds();
+        return copy;
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against for equality
+     *             (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof PrimitiveXYSeries)) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        PrimitiveXYSeries that = (PrimitiveXYSeries) obj;
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (Double.doubleToLongBits(getXValue(i))
+                    != Double.doubleToLongBits(that.getXValue(i))) {
+                return false;
+            }
+            if (Double.doubleToLongBits(getYValue(i))
+                    != Double.doubleToLongBits(that.getYValue(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 29 * result + this.itemCount;
+        if (this.itemCount > 0) {
+            long bits = Double.doubleToLongBits(getXValue(0));
+            result = 29 * result + (int) (bits ^ (bits >>> 32));
+            bits = Double.doubleToLongBits(getXValue(this.itemCount - 1));
+            result = 29 * result + (int) (bits ^ (bits >>> 32));
+        }
+        return result;
+    }
+
+}
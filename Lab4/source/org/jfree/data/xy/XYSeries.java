@@ -65,15 +65,38 @@
  *               fixed the add() and addOrUpdate() methods to handle unsorted 
  *               series (DG);
  * 11-Jan-2005 : Renamed update(int, Number) --> updateByIndex() (DG);
+ * 17-Oct-2026 : Added getXValue(int) and getYValue(int) methods (DG);
+ * 17-Oct-2026 : Changed data storage to CircularArrayList, so that items are
+ *               removed from the start of a capped series in constant 
+ *               time (DG);
+ * 17-Oct-2026 : Added addAll() methods for adding a block of items with a
+ *               single change event (DG);
+ * 17-Oct-2026 : Added getMinX(), getMaxX(), getMinY() and getMaxY() methods,
+ *               backed by bounds that are updated as items are added and 
+ *               removed (DG);
+ * 18-Oct-2026 : Made the recalculation of stale bounds thread-safe (DG);
+ * 18-Oct-2026 : Moved the implementation of update(int, Number) to 
+ *               updateByIndex(), and added a constructor that accepts the 
+ *               list for the items (DG);
+ * 18-Oct-2026 : Only use a CircularArrayList once a maximum item count is 
+ *               set, and remove blocks of items in one step (DG);
+ * 18-Oct-2026 : Removed the synchronization of updateBounds(), and documented
+ *               that the class is not thread-safe (DG);
+ * 18-Oct-2026 : Only series of the same class are equal, so that equals() is
+ *               symmetric with subclasses (DG);
  * 
  */
 
 package org.jfree.data.xy;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.jfree.data.general.CircularArrayList;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
@@ -85,6 +108,12 @@ import org.jfree.util.ObjectUtilities;
  * and duplicate x-values are permitted.  Both the sorting and duplicate 
  * defaults can be changed in the constructor.  Y-values can be 
  * <code>null</code> to represent missing values.
+ * <p>
+ * This class is not thread-safe.  The bounds returned by {@link #getMinX()}
+ * and the related methods are cached, and are recalculated on demand after
+ * items have been removed, so a series that is changed by one thread must 
+ * not be read by another thread (for example, while a chart is drawn) 
+ * without external synchronization.
  */
 public class XYSeries extends Series implements Cloneable, Serializable {
 
@@ -106,6 +135,24 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     
     /** A flag that controls whether or not duplicate x-values are allowed. */
     private boolean allowDuplicateXValues;
+    
+    /** The smallest x-value in the series (NaN if there are no items). */
+    private double minX = Double.NaN;
+    
+    /** The largest x-value in the series (NaN if there are no items). */
+    private double maxX = Double.NaN;
+    
+    /** The smallest y-value in the series (NaN if there are no y-values). */
+    private double minY = Double.NaN;
+    
+    /** The largest y-value in the series (NaN if there are no y-values). */
+    private double maxY = Double.NaN;
+    
+    /** 
+     * A flag that indicates that an item holding one of the bounds has been
+     * removed, so the bounds must be recalculated before they are used. 
+     */
+    private boolean boundsStale = false;
 
     /**
      * Creates a new empty series.  By default, items added to the series will 
@@ -143,8 +190,25 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public XYSeries(Comparable key, 
                     boolean autoSort, 
                     boolean allowDuplicateXValues) {
+        this(key, autoSort, allowDuplicateXValues, new java.util.ArrayList());
+    }
+
+    /**
+     * Constructs a new xy-series that holds its items in the specified list.
+     * This is used by subclasses that store their items in some other way,
+     * and so don't need a list.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the 
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate 
+     *                               x-values are allowed.
+     * @param data  the (empty) list for the items.
+     */
+    XYSeries(Comparable key, boolean autoSort, boolean allowDuplicateXValues,
+             List data) {
         super(key);
-        this.data = new java.util.ArrayList();
+        this.data = data;
         this.autoSort = autoSort;
         this.allowDuplicateXValues = allowDuplicateXValues;
     }
@@ -205,7 +269,9 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * If you add a new item to the series such that the number of items will 
      * exceed the maximum item count, then the first element in the series is 
      * automatically removed, ensuring that the maximum item count is not 
-     * exceeded.
+     * exceeded.  Once a maximum is set, the items are held in a 
+     * {@link CircularArrayList}, so this removal takes constant time however 
+     * large the series is.
      * <p>
      * Typically this value is set before the series is populated with data,
      * but if it is applied later, it may cause some items to be removed from
@@ -216,12 +282,15 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void setMaximumItemCount(int maximum) {
         this.maximumItemCount = maximum;
-        boolean dataRemoved = false;
-        while (this.data.size() > maximum) {
-            this.data.remove(0);   
-            dataRemoved = true;
+        // subclasses that don't use the list pass in some other kind of 
+        // list, so only a standard list is replaced...
+        if (maximum < Integer.MAX_VALUE 
+                && this.data instanceof java.util.ArrayList) {
+            this.data = new CircularArrayList(this.data);
         }
-        if (dataRemoved) {
+        int excess = this.data.size() - Math.max(maximum, 0);
+        if (excess > 0) {
+            removeFirstItems(excess);
             fireSeriesChanged();
         }
     }
@@ -376,12 +445,140 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             }
             this.data.add(item);
         }
+        updateBoundsForAddedItem(item);
         if (getItemCount() > this.maximumItemCount) {
-            this.data.remove(0);
+            updateBoundsForRemovedItem((XYDataItem) this.data.remove(0));
         }                    
         if (notify) {
             fireSeriesChanged();
         }
+        else {
+            incrementVersion();
+        }
+    }
+
+    /**
+     * Adds a block of data items to the series and sends a single 
+     * {@link SeriesChangeEvent} to all registered listeners.  For a sorted 
+     * series, the new items are sorted and then merged with the existing 
+     * items in one pass, which is much faster than adding the items one at a
+     * time.  Items with the same x-value are kept in the order they were 
+     * added.  If the maximum item count is exceeded, the surplus items are 
+     * removed from the start of the series.
+     * 
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, must have the
+     *           same length as <code>x</code>).
+     * 
+     * @throws SeriesException if duplicate x-values are not allowed and the 
+     *         new items contain a duplicate x-value (in which case the series
+     *         is not changed).
+     * 
+     * @since 1.0.3
+     */
+    public void addAll(double[] x, double[] y) {
+        addAll(x, y, true);
+    }
+
+    /**
+     * Adds a block of data items to the series and, if requested, sends a 
+     * single {@link SeriesChangeEvent} to all registered listeners.
+     * 
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, must have the
+     *           same length as <code>x</code>).
+     * @param notify  a flag that controls whether or not a 
+     *                {@link SeriesChangeEvent} is sent to all registered 
+     *                listeners.
+     * 
+     * @throws SeriesException if duplicate x-values are not allowed and the 
+     *         new items contain a duplicate x-value (in which case the series
+     *         is not changed).
+     * 
+     * @since 1.0.3
+     */
+    public void addAll(double[] x, double[] y, boolean notify) {
+        checkArrays(x, y);
+        XYDataItem[] items = new XYDataItem[x.length];
+        for (int i = 0; i < x.length; i++) {
+            items[i] = new XYDataItem(x[i], y[i]);
+        }
+        if (this.autoSort) {
+            // Arrays.sort() is stable for objects, so items with equal 
+            // x-values stay in the order they were supplied...
+            Arrays.sort(items);
+            List merged = new java.util.ArrayList(this.data.size() 
+                    + items.length);
+            int i = 0;
+            int j = 0;
+            while (i < this.data.size() || j < items.length) {
+                XYDataItem next;
+                if (j == items.length) {
+                    next = (XYDataItem) this.data.get(i++);
+                }
+                else if (i == this.data.size() 
+                        || items[j].compareTo(this.data.get(i)) < 0) {
+                    next = items[j++];
+                }
+                else {
+                    next = (XYDataItem) this.data.get(i++);
+                }
+                if (!this.allowDuplicateXValues && merged.size() > 0 
+                        && next.compareTo(merged.get(merged.size() - 1)) 
+                        == 0) {
+                    throw new SeriesException("X-value already exists.");
+                }
+                merged.add(next);
+            }
+            this.data.clear();
+            this.data.addAll(merged);
+        }
+        else {
+            if (!this.allowDuplicateXValues) {
+                Set xValues = new HashSet();
+                for (int i = 0; i < this.data.size(); i++) {
+                    xValues.add(((XYDataItem) this.data.get(i)).getX());
+                }
+                for (int i = 0; i < items.length; i++) {
+                    if (!xValues.add(items[i].getX())) {
+                        throw new SeriesException("X-value already exists.");
+                    }
+                }
+            }
+            this.data.addAll(Arrays.asList(items));
+        }
+        for (int i = 0; i < items.length; i++) {
+            updateBoundsForAddedItem(items[i]);
+        }
+        int excess = this.data.size() - this.maximumItemCount;
+        if (excess > 0) {
+            removeFirstItems(excess);
+        }
+        if (notify) {
+            fireSeriesChanged();
+        }
+        else {
+            incrementVersion();
+        }
+    }
+
+    /**
+     * Checks the arrays passed to the addAll() methods.
+     * 
+     * @param x  the x-values.
+     * @param y  the y-values.
+     */
+    static void checkArrays(double[] x, double[] y) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        if (y == null) {
+            throw new IllegalArgumentException("Null 'y' argument.");
+        }
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "The 'x' and 'y' arrays have different lengths.");
+        }
     }
 
     /**
@@ -392,12 +589,28 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @param end  the end index (zero-based).
      */
     public void delete(int start, int end) {
-        for (int i = start; i <= end; i++) {
-            this.data.remove(start);
+        List items = this.data.subList(start, end + 1);
+        for (int i = 0; i < items.size(); i++) {
+            updateBoundsForRemovedItem((XYDataItem) items.get(i));
         }
+        items.clear();
         fireSeriesChanged();
     }
 
+    /**
+     * Removes items from the start of the series, without sending a change
+     * event.
+     * 
+     * @param count  the number of items to remove.
+     */
+    private void removeFirstItems(int count) {
+        List items = this.data.subList(0, count);
+        for (int i = 0; i < count; i++) {
+            updateBoundsForRemovedItem((XYDataItem) items.get(i));
+        }
+        items.clear();
+    }
+
     /**
      * Removes the item at the specified index and sends a 
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -408,6 +621,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public XYDataItem remove(int index) {
         XYDataItem result = (XYDataItem) this.data.remove(index);
+        updateBoundsForRemovedItem(result);
         fireSeriesChanged();
         return result;
     }
@@ -430,6 +644,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            resetBounds();
             fireSeriesChanged();
         }
     }
@@ -467,6 +682,34 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         return getDataItem(index).getY();
     }
 
+    /**
+     * Returns the x-value (as a double primitive) at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     * 
+     * @since 1.0.3
+     */
+    public double getXValue(int index) {
+        return getDataItem(index).getX().doubleValue();
+    }
+
+    /**
+     * Returns the y-value (as a double primitive) at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (<code>Double.NaN</code> if the y-value is 
+     *         <code>null</code>).
+     * 
+     * @since 1.0.3
+     */
+    public double getYValue(int index) {
+        Number y = getDataItem(index).getY();
+        return (y != null ? y.doubleValue() : Double.NaN);
+    }
+
     /**
      * Updates the value of an item in the series and sends a 
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -478,9 +721,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      *             the update(Number, Number) method.
      */
     public void update(int index, Number y) {
-        XYDataItem item = getDataItem(index);
-        item.setY(y);
-        fireSeriesChanged();
+        updateByIndex(index, y);
     }
     
     /**
@@ -493,7 +734,11 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @since 1.0.1
      */
     public void updateByIndex(int index, Number y) {
-        update(index, y);
+        XYDataItem item = getDataItem(index);
+        updateBoundsForRemovedItem(item);
+        item.setY(y);
+        updateBoundsForAddedItem(item);
+        fireSeriesChanged();
     }
     
     /**
@@ -512,7 +757,9 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         }
         else {
             XYDataItem item = getDataItem(index);
+            updateBoundsForRemovedItem(item);
             item.setY(y);
+            updateBoundsForAddedItem(item);
             fireSeriesChanged();
         }
     }
@@ -542,28 +789,232 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             catch (CloneNotSupportedException e) {
                 throw new SeriesException("Couldn't clone XYDataItem!");   
             }
+            updateBoundsForRemovedItem(existing);
             existing.setY(y);
+            updateBoundsForAddedItem(existing);
         }
         else {
             // if the series is sorted, the negative index is a result from
             // Collections.binarySearch() and tells us where to insert the
             // new item...otherwise it will be just -1 and we should just
             // append the value to the list...
+            XYDataItem item = new XYDataItem(x, y);
             if (this.autoSort) {
-                this.data.add(-index - 1, new XYDataItem(x, y));
+                this.data.add(-index - 1, item);
             }
             else {
-                this.data.add(new XYDataItem(x, y));
+                this.data.add(item);
             }
+            updateBoundsForAddedItem(item);
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                this.data.remove(0);
+                updateBoundsForRemovedItem((XYDataItem) this.data.remove(0));
             }
         }            
         fireSeriesChanged();
         return overwritten;
     }
 
+    /**
+     * Returns the smallest x-value in the series.  The bounds of the series 
+     * are updated as items are added, and are only recalculated (by 
+     * iterating over the items) after an item holding one of the bounds has
+     * been removed or updated.  Note that changes made directly to the 
+     * {@link XYDataItem} objects in the series are not tracked.
+     * 
+     * @return The smallest x-value (<code>Double.NaN</code> if the series is
+     *         empty).
+     *         
+     * @since 1.0.3
+     */
+    public double getMinX() {
+        updateBounds();
+        return this.minX;
+    }
+
+    /**
+     * Returns the largest x-value in the series.
+     * 
+     * @return The largest x-value (<code>Double.NaN</code> if the series is
+     *         empty).
+     *         
+     * @see #getMinX()
+     * @since 1.0.3
+     */
+    public double getMaxX() {
+        updateBounds();
+        return this.maxX;
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring <code>null</code>
+     * and <code>Double.NaN</code> values.
+     * 
+     * @return The smallest y-value (<code>Double.NaN</code> if the series 
+     *         contains no y-values).
+     *         
+     * @see #getMinX()
+     * @since 1.0.3
+     */
+    public double getMinY() {
+        updateBounds();
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring <code>null</code>
+     * and <code>Double.NaN</code> values.
+     * 
+     * @return The largest y-value (<code>Double.NaN</code> if the series 
+     *         contains no y-values).
+     *         
+     * @see #getMinX()
+     * @since 1.0.3
+     */
+    public double getMaxY() {
+        updateBounds();
+        return this.maxY;
+    }
+
+    /**
+     * Extends the bounds of the series to include an item that has been 
+     * added.
+     * 
+     * @param item  the item.
+     */
+    private void updateBoundsForAddedItem(XYDataItem item) {
+        Number y = item.getY();
+        updateBoundsForAddedItem(item.getX().doubleValue(), 
+                (y != null ? y.doubleValue() : Double.NaN));
+    }
+    
+    /**
+     * Extends the bounds of the series to include an item that has been 
+     * added.
+     * 
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     */
+    void updateBoundsForAddedItem(double x, double y) {
+        if (this.boundsStale) {
+            return;  // everything will be recalculated anyway
+        }
+        this.minX = minIgnoreNaN(this.minX, x);
+        this.maxX = maxIgnoreNaN(this.maxX, x);
+        this.minY = minIgnoreNaN(this.minY, y);
+        this.maxY = maxIgnoreNaN(this.maxY, y);
+    }
+
+    /**
+     * Marks the bounds as stale if the item that has been removed held one 
+     * of them.
+     * 
+     * @param item  the item.
+     */
+    private void updateBoundsForRemovedItem(XYDataItem item) {
+        Number y = item.getY();
+        updateBoundsForRemovedItem(item.getX().doubleValue(), 
+                (y != null ? y.doubleValue() : Double.NaN));
+    }
+    
+    /**
+     * Marks the bounds as stale if the item that has been removed held one 
+     * of them.
+     * 
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     */
+    void updateBoundsForRemovedItem(double x, double y) {
+        if (x == this.minX || x == this.maxX || y == this.minY 
+                || y == this.maxY) {
+            this.boundsStale = true;
+        }
+    }
+    
+    /**
+     * Marks the bounds as stale, so that they will be recalculated the next
+     * time they are required.
+     */
+    void invalidateBounds() {
+        this.boundsStale = true;
+    }
+    
+    /**
+     * Resets the bounds for an empty series.
+     */
+    void resetBounds() {
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        this.boundsStale = false;
+    }
+    
+    /**
+     * Recalculates the bounds by iterating over all the items in the series,
+     * if they are stale.
+     */
+    private void updateBounds() {
+        if (this.boundsStale) {
+            double x0 = Double.NaN;
+            double x1 = Double.NaN;
+            double y0 = Double.NaN;
+            double y1 = Double.NaN;
+            int count = getItemCount();
+            for (int i = 0; i < count; i++) {
+                double x = getXValue(i);
+                double y = getYValue(i);
+                x0 = minIgnoreNaN(x0, x);
+                x1 = maxIgnoreNaN(x1, x);
+                y0 = minIgnoreNaN(y0, y);
+                y1 = maxIgnoreNaN(y1, y);
+            }
+            this.minX = x0;
+            this.maxX = x1;
+            this.minY = y0;
+            this.maxY = y1;
+            this.boundsStale = false;
+        }
+    }
+
+    /**
+     * Returns the smaller of two values, ignoring <code>Double.NaN</code>.
+     * 
+     * @param a  the first value.
+     * @param b  the second value.
+     * 
+     * @return The smaller value (<code>Double.NaN</code> only if both values
+     *         are <code>Double.NaN</code>).
+     */
+    private static double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * Returns the larger of two values, ignoring <code>Double.NaN</code>.
+     * 
+     * @param a  the first value.
+     * @param b  the second value.
+     * 
+     * @return The larger value (<code>Double.NaN</code> only if both values
+     *         are <code>Double.NaN</code>).
+     */
+    private static double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
     /**
      * Returns the index of the item with the specified x-value, or a negative 
      * index if the series does not contain an item with that x-value.  Be 
@@ -615,7 +1066,13 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         throws CloneNotSupportedException {
 
         XYSeries copy = (XYSeries) super.clone();
-        copy.data = new java.util.ArrayList();
+        if (this.data instanceof CircularArrayList) {
+            copy.data = new CircularArrayList();
+        }
+        else {
+            copy.data = new java.util.ArrayList();
+        }
+        copy.resetBounds();
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = (XYDataItem) this.data.get(index);
@@ -644,7 +1101,9 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         if (obj == this) {
             return true;
         }
-        if (!(obj instanceof XYSeries)) {
+        // a subclass may hold its items outside the data list, so only 
+        // series of the same class are compared...
+        if (obj == null || obj.getClass() != getClass()) {
             return false;
         }
         if (!super.equals(obj)) {
@@ -48,6 +48,12 @@
  * 11-Jan-2005 : Removed deprecated code in preparation for 1.0.0 release (DG);
  * 28-Mar-2005 : Fixed bug in getSeries(int) method (1170825) (DG);
  * 05-Oct-2005 : Made the interval delegate a dataset listener (DG);
+ * 17-Oct-2026 : Added getXValue() and getYValue() methods that read the 
+ *               series values without creating objects (DG);
+ * 17-Oct-2026 : Implemented RangeInfo, and use the bounds maintained by each
+ *               series to find the domain and range bounds (DG);
+ * 17-Oct-2026 : Override getDomainOrder() (DG);
+ * 17-Oct-2026 : Include the series versions in the collection version (DG);
  *
  */
 
@@ -58,9 +64,10 @@ import java.util.Collections;
 import java.util.List;
 
 import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
 import org.jfree.data.general.DatasetChangeEvent;
-import org.jfree.data.general.DatasetUtilities;
 import org.jfree.util.ObjectUtilities;
 
 /**
@@ -69,7 +76,7 @@ import org.jfree.util.ObjectUtilities;
  */
 public class XYSeriesCollection extends AbstractIntervalXYDataset
                                 implements IntervalXYDataset, DomainInfo, 
-                                           Serializable {
+                                           RangeInfo, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -7590013825931496766L;
@@ -79,6 +86,12 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
     
     /** The interval delegate (used to calculate the start and end x-values). */
     private IntervalXYDelegate intervalDelegate;
+
+    /** 
+     * The sum of the versions of the series removed from the collection 
+     * (this keeps the collection version increasing).
+     */
+    private transient long removedSeriesVersion;
     
     /**
      * Constructs an empty dataset.
@@ -134,6 +147,7 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         // fetch the series, remove the change listener, then remove the series.
         XYSeries ts = (XYSeries) this.data.get(series);
         ts.removeChangeListener(this);
+        this.removedSeriesVersion += ts.getVersion();
         this.data.remove(series);
         fireDatasetChanged();
 
@@ -152,6 +166,7 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         }
         if (this.data.contains(series)) {
             series.removeChangeListener(this);
+            this.removedSeriesVersion += series.getVersion();
             this.data.remove(series);
             fireDatasetChanged();
         }
@@ -168,6 +183,7 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         for (int i = 0; i < this.data.size(); i++) {
           XYSeries series = (XYSeries) this.data.get(i);
           series.removeChangeListener(this);
+          this.removedSeriesVersion += series.getVersion();
         }
 
         // Remove all the series from the collection and notify listeners.
@@ -175,6 +191,23 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         fireDatasetChanged();
     }
 
+    /**
+     * Returns the modification version of the collection.  This includes 
+     * the versions of the series in the collection, so it also increases 
+     * when a series is changed without notification.
+     * 
+     * @return The version.
+     * 
+     * @since 1.0.3
+     */
+    public long getVersion() {
+        long result = super.getVersion() + this.removedSeriesVersion;
+        for (int i = 0; i < this.data.size(); i++) {
+            result += ((XYSeries) this.data.get(i)).getVersion();
+        }
+        return result;
+    }
+
     /**
      * Returns the number of series in the collection.
      *
@@ -184,6 +217,26 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return this.data.size();
     }
 
+    /**
+     * Returns the order of the domain (x-) values in the dataset.  If every
+     * series in the collection sorts its items by x-value, this method 
+     * returns {@link DomainOrder#ASCENDING}, otherwise it returns 
+     * {@link DomainOrder#NONE}.
+     * 
+     * @return The domain order (never <code>null</code>).
+     * 
+     * @since 1.0.3
+     */
+    public DomainOrder getDomainOrder() {
+        for (int i = 0; i < this.data.size(); i++) {
+            XYSeries s = (XYSeries) this.data.get(i);
+            if (!s.getAutoSort()) {
+                return DomainOrder.NONE;
+            }
+        }
+        return DomainOrder.ASCENDING;
+    }
+
     /**
      * Returns a list of all the series in the collection.  
      * 
@@ -241,8 +294,21 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     public Number getX(int series, int item) {
         XYSeries ts = (XYSeries) this.data.get(series);
-        XYDataItem xyItem = ts.getDataItem(item);
-        return xyItem.getX();
+        return ts.getX(item);
+    }
+
+    /**
+     * Returns the x-value (as a double primitive) for the specified series 
+     * and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    public double getXValue(int series, int item) {
+        XYSeries ts = (XYSeries) this.data.get(series);
+        return ts.getXValue(item);
     }
 
     /**
@@ -278,11 +344,23 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      * @return The value (possibly <code>null</code>).
      */
     public Number getY(int series, int index) {
-
         XYSeries ts = (XYSeries) this.data.get(series);
-        XYDataItem xyItem = ts.getDataItem(index);
-        return xyItem.getY();
+        return ts.getY(index);
+    }
 
+    /**
+     * Returns the y-value (as a double primitive) for the specified series 
+     * and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code> 
+     *         y-value).
+     */
+    public double getYValue(int series, int item) {
+        XYSeries ts = (XYSeries) this.data.get(series);
+        return ts.getYValue(item);
     }
 
     /**
@@ -371,22 +449,120 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
     }
 
     /**
-     * Returns the range of the values in this dataset's domain.
+     * Returns the range of the values in this dataset's domain.  The x-value
+     * bounds are read from each series (see {@link XYSeries#getMinX()}), so 
+     * the items are not iterated over.
      *
      * @param includeInterval  a flag that determines whether or not the
      *                         x-interval is taken into account.
      * 
-     * @return The range.
+     * @return The range (<code>null</code> if the dataset contains no 
+     *         items).
      */
     public Range getDomainBounds(boolean includeInterval) {
         if (includeInterval) {
             return this.intervalDelegate.getDomainBounds(includeInterval);
         }
         else {
-            return DatasetUtilities.iterateDomainBounds(this, includeInterval);
+            double lower = Double.POSITIVE_INFINITY;
+            double upper = Double.NEGATIVE_INFINITY;
+            for (int s = 0; s < this.data.size(); s++) {
+                XYSeries series = (XYSeries) this.data.get(s);
+                double minX = series.getMinX();
+                if (!Double.isNaN(minX)) {
+                    lower = Math.min(lower, minX);
+                }
+                double maxX = series.getMaxX();
+                if (!Double.isNaN(maxX)) {
+                    upper = Math.max(upper, maxX);
+                }
+            }
+            if (lower > upper) {
+                return null;
+            }
+            return new Range(lower, upper);
         }
             
     }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account (ignored, 
+     *                         since the y-interval is zero for this 
+     *                         dataset).
+     * 
+     * @return The minimum value (<code>Double.NaN</code> if the dataset 
+     *         contains no y-values).
+     *         
+     * @since 1.0.3
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        double result = Double.NaN;
+        Range r = getRangeBounds(includeInterval);
+        if (r != null) {
+            result = r.getLowerBound();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account (ignored, 
+     *                         since the y-interval is zero for this 
+     *                         dataset).
+     * 
+     * @return The maximum value (<code>Double.NaN</code> if the dataset 
+     *         contains no y-values).
+     *         
+     * @since 1.0.3
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        double result = Double.NaN;
+        Range r = getRangeBounds(includeInterval);
+        if (r != null) {
+            result = r.getUpperBound();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.  The bounds are read
+     * from each series (see {@link XYSeries#getMinY()}), so the items are 
+     * not iterated over.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account (ignored, 
+     *                         since the y-interval is zero for this 
+     *                         dataset).
+     * 
+     * @return The range (<code>null</code> if the dataset contains no 
+     *         y-values).
+     *         
+     * @since 1.0.3
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (int s = 0; s < this.data.size(); s++) {
+            XYSeries series = (XYSeries) this.data.get(s);
+            double minY = series.getMinY();
+            if (!Double.isNaN(minY)) {
+                lower = Math.min(lower, minY);
+            }
+            double maxY = series.getMaxY();
+            if (!Double.isNaN(maxY)) {
+                upper = Math.max(upper, maxY);
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
     
     /**
      * Returns the interval width. This is used to calculate the start and end 
@@ -0,0 +1,241 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * DownsampledXYDatasetTests.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Added testViewReused() and testIsViewed() (DG);
+ *
+ */
+package org.jfree.data.xy.junit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.xy.DownsampledXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link DownsampledXYDataset} class.
+ */
+public class DownsampledXYDatasetTests extends TestCase 
+        implements DatasetChangeListener {
+
+    /** The number of events received. */
+    private int eventCount;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DownsampledXYDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DownsampledXYDatasetTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Records a change event.
+     *
+     * @param event  the event.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+    }
+
+    /**
+     * Creates a series with a flat line and a single spike.
+     *
+     * @param count  the item count.
+     * @param spike  the index of the spike.
+     *
+     * @return The series.
+     */
+    private XYSeries createSeries(int count, int spike) {
+        XYSeries s = new XYSeries("S");
+        for (int i = 0; i < count; i++) {
+            s.add(i, (i == spike ? 100.0 : 0.0));
+        }
+        return s;
+    }
+
+    /**
+     * The first and last items and the spike are kept.
+     */
+    public void testSample() {
+        XYSeriesCollection c = new XYSeriesCollection(createSeries(1000, 617));
+        DownsampledXYDataset d = new DownsampledXYDataset(c, 50);
+        assertEquals(50, d.getItemCount(0));
+        assertEquals(0.0, d.getXValue(0, 0), 0.0);
+        assertEquals(999.0, d.getXValue(0, 49), 0.0);
+        boolean spike = false;
+        for (int i = 0; i < 50; i++) {
+            if (d.getYValue(0, i) == 100.0) {
+                spike = true;
+                assertEquals(617, d.getUnderlyingItem(0, i));
+            }
+        }
+        assertTrue(spike);
+        assertEquals(new Range(0.0, 100.0), d.getRangeBounds(false));
+    }
+
+    /**
+     * A series with no more than the maximum item count is not sampled.
+     */
+    public void testSmallSeries() {
+        XYSeriesCollection c = new XYSeriesCollection(createSeries(10, 3));
+        DownsampledXYDataset d = new DownsampledXYDataset(c, 50);
+        assertEquals(10, d.getItemCount(0));
+        assertEquals(100.0, d.getYValue(0, 3), 0.0);
+    }
+
+    /**
+     * A domain view samples the visible range only, and does not change the
+     * dataset.
+     */
+    public void testCreateDomainView() {
+        XYSeriesCollection c = new XYSeriesCollection(createSeries(1000, 617));
+        DownsampledXYDataset d = new DownsampledXYDataset(c, 50);
+        XYDataset v1 = d.createDomainView(new Range(600.0, 640.0), 100.0);
+        XYDataset v2 = d.createDomainView(new Range(0.0, 10000.0), 100.0);
+        assertEquals(43, v1.getItemCount(0));
+        assertEquals(599.0, v1.getXValue(0, 0), 0.0);
+        assertEquals(641.0, v1.getXValue(0, 42), 0.0);
+        assertEquals(50, v2.getItemCount(0));
+        assertEquals(50, d.getItemCount(0));
+        assertEquals(999.0, d.getXValue(0, 49), 0.0);
+    }
+
+    /**
+     * The last view is reused until the range or the underlying dataset 
+     * changes.
+     */
+    public void testViewReused() {
+        XYSeries s = createSeries(1000, 617);
+        DownsampledXYDataset d = new DownsampledXYDataset(
+            new XYSeriesCollection(s), 50
+        );
+        XYDataset v1 = d.createDomainView(new Range(0.0, 500.0), 100.0);
+        assertSame(v1, d.createDomainView(new Range(0.0, 500.0), 200.0));
+        XYDataset v2 = d.createDomainView(new Range(0.0, 501.0), 100.0);
+        assertNotSame(v1, v2);
+        assertSame(v2, d.createDomainView(new Range(0.0, 501.0), 100.0));
+
+        // a change that is announced...
+        s.add(1000.0, 1.0);
+        XYDataset v3 = d.createDomainView(new Range(0.0, 501.0), 100.0);
+        assertNotSame(v2, v3);
+
+        // ...and a change that isn't
+        s.add(1001.0, 2.0, false);
+        XYDataset v4 = d.createDomainView(new Range(0.0, 501.0), 100.0);
+        assertNotSame(v3, v4);
+        assertSame(v4, d.createDomainView(new Range(0.0, 501.0), 100.0));
+    }
+
+    /**
+     * A view is created when there is a range and the underlying dataset is 
+     * sorted by x-value.
+     */
+    public void testIsViewed() {
+        XYSeriesCollection c = new XYSeriesCollection(createSeries(1000, 617));
+        DownsampledXYDataset d = new DownsampledXYDataset(c, 50);
+        Range r = new Range(0.0, 500.0);
+        assertTrue(d.isViewed(r, 100.0));
+        assertNotSame(d, d.createDomainView(r, 100.0));
+        assertFalse(d.isViewed(null, 100.0));
+        assertSame(d, d.createDomainView(null, 100.0));
+
+        XYSeries unsorted = new XYSeries("U", false);
+        unsorted.add(2.0, 1.0);
+        unsorted.add(1.0, 2.0);
+        d = new DownsampledXYDataset(new XYSeriesCollection(unsorted), 50);
+        assertFalse(d.isViewed(r, 100.0));
+        assertSame(d, d.createDomainView(r, 100.0));
+    }
+
+    /**
+     * Changes to the underlying dataset are passed on until the dataset is
+     * disposed.
+     */
+    public void testDispose() {
+        XYSeries s = createSeries(1000, 617);
+        DownsampledXYDataset d = new DownsampledXYDataset(
+            new XYSeriesCollection(s), 50
+        );
+        d.addChangeListener(this);
+        s.add(1000.0, 1.0);
+        assertEquals(1, this.eventCount);
+        assertEquals(1000.0, d.getXValue(0, 49), 0.0);
+        d.dispose();
+        s.add(1001.0, 1.0);
+        assertEquals(1, this.eventCount);
+    }
+
+    /**
+     * Checks the argument validation in the constructor.
+     */
+    public void testConstructor() {
+        try {
+            new DownsampledXYDataset(null, 10);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new DownsampledXYDataset(new XYSeriesCollection(), 2);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
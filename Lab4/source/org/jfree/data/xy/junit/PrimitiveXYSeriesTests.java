@@ -0,0 +1,286 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * PrimitiveXYSeriesTests.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Added testEqualsXYSeries() (DG);
+ *
+ */
+package org.jfree.data.xy.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.SeriesException;
+import org.jfree.data.xy.PrimitiveXYSeries;
+import org.jfree.data.xy.XYDataItem;
+import org.jfree.data.xy.XYSeries;
+
+/**
+ * Tests for the {@link PrimitiveXYSeries} class.
+ */
+public class PrimitiveXYSeriesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(PrimitiveXYSeriesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public PrimitiveXYSeriesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Items are sorted by x-value, with duplicates added after the existing
+     * items with the same x-value.
+     */
+    public void testAddSorted() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        s.add(3.0, 30.0);
+        s.add(1.0, 10.0);
+        s.add(2.0, 20.0);
+        s.add(2.0, 21.0);
+        assertEquals(4, s.getItemCount());
+        assertEquals(1.0, s.getXValue(0), 0.0);
+        assertEquals(20.0, s.getYValue(1), 0.0);
+        assertEquals(21.0, s.getYValue(2), 0.0);
+        assertEquals(3.0, s.getXValue(3), 0.0);
+    }
+
+    /**
+     * A duplicate x-value is rejected when duplicates are not allowed.
+     */
+    public void testAddDuplicate() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S", true, false);
+        s.add(1.0, 1.0);
+        try {
+            s.add(1.0, 2.0);
+            fail("Should have thrown a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(1, s.getItemCount());
+    }
+
+    /**
+     * A null y-value is stored as NaN.
+     */
+    public void testNullY() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        s.add(new XYDataItem(new Double(1.0), null), false);
+        assertTrue(Double.isNaN(s.getYValue(0)));
+        assertNull(s.getY(0));
+    }
+
+    /**
+     * The oldest items are dropped once the maximum item count is reached.
+     */
+    public void testMaximumItemCount() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        s.setMaximumItemCount(3);
+        for (int i = 0; i < 10; i++) {
+            s.add(i, i * 10.0);
+        }
+        assertEquals(3, s.getItemCount());
+        assertEquals(7.0, s.getXValue(0), 0.0);
+        assertEquals(9.0, s.getXValue(2), 0.0);
+        assertEquals(7.0, s.getMinX(), 0.0);
+        assertEquals(90.0, s.getMaxY(), 0.0);
+    }
+
+    /**
+     * Some checks for the addAll() method.
+     */
+    public void testAddAll() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        s.add(2.0, 20.0);
+        s.addAll(new double[] {5.0, 1.0, 3.0}, new double[] {50.0, 10.0, 
+                30.0}, true);
+        assertEquals(4, s.getItemCount());
+        assertEquals(1.0, s.getXValue(0), 0.0);
+        assertEquals(2.0, s.getXValue(1), 0.0);
+        assertEquals(30.0, s.getYValue(2), 0.0);
+        assertEquals(5.0, s.getMaxX(), 0.0);
+
+        PrimitiveXYSeries s2 = new PrimitiveXYSeries("S2", true, false);
+        s2.add(1.0, 1.0);
+        try {
+            s2.addAll(new double[] {2.0, 1.0}, new double[] {2.0, 1.0}, true);
+            fail("Should have thrown a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(1, s2.getItemCount());
+    }
+
+    /**
+     * The series gives the same results as an {@link XYSeries} with the same
+     * items.
+     */
+    public void testSameAsXYSeries() {
+        PrimitiveXYSeries p = new PrimitiveXYSeries("S");
+        XYSeries s = new XYSeries("S");
+        for (int i = 0; i < 50; i++) {
+            double x = (i * 37) % 23;
+            p.add(x, i);
+            s.add(x, i);
+        }
+        p.remove(4);
+        s.remove(4);
+        p.delete(10, 12);
+        s.delete(10, 12);
+        p.updateByIndex(5, new Double(-1.0));
+        s.updateByIndex(5, new Double(-1.0));
+        assertEquals(s.getItemCount(), p.getItemCount());
+        for (int i = 0; i < s.getItemCount(); i++) {
+            assertEquals(s.getDataItem(i), p.getDataItem(i));
+        }
+        assertEquals(s.getItems(), p.getItems());
+        assertEquals(s.getMinY(), p.getMinY(), 0.0);
+        assertEquals(s.getMaxY(), p.getMaxY(), 0.0);
+        assertEquals(s.indexOf(new Double(7.0)), p.indexOf(new Double(7.0)));
+    }
+
+    /**
+     * Changing an item returned by getDataItem() does not change the series.
+     */
+    public void testGetDataItemIsCopy() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        s.add(1.0, 1.0);
+        s.getDataItem(0).setY(new Double(99.0));
+        assertEquals(1.0, s.getYValue(0), 0.0);
+    }
+
+    /**
+     * Some checks for the addOrUpdate() method.
+     */
+    public void testAddOrUpdate() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S", true, false);
+        assertNull(s.addOrUpdate(new Double(1.0), new Double(1.0)));
+        XYDataItem old = s.addOrUpdate(new Double(1.0), new Double(2.0));
+        assertEquals(new Double(1.0), old.getY());
+        assertEquals(2.0, s.getYValue(0), 0.0);
+        assertEquals(1, s.getItemCount());
+    }
+
+    /**
+     * Confirm that the equals method can distinguish the items.
+     */
+    public void testEquals() {
+        PrimitiveXYSeries s1 = new PrimitiveXYSeries("S");
+        PrimitiveXYSeries s2 = new PrimitiveXYSeries("S");
+        assertEquals(s1, s2);
+        s1.add(1.0, 2.0);
+        assertFalse(s1.equals(s2));
+        s2.add(1.0, 2.0);
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+    }
+
+    /**
+     * A primitive series is never equal to an {@link XYSeries}, in either 
+     * direction (the items of a primitive series are not held in the 
+     * data list).
+     */
+    public void testEqualsXYSeries() {
+        PrimitiveXYSeries s1 = new PrimitiveXYSeries("S");
+        s1.add(1.0, 2.0);
+        XYSeries s2 = new XYSeries("S");
+        assertFalse(s2.equals(s1));
+        assertFalse(s1.equals(s2));
+        s2.add(1.0, 2.0);
+        assertFalse(s2.equals(s1));
+        assertFalse(s1.equals(s2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        PrimitiveXYSeries s1 = new PrimitiveXYSeries("S");
+        s1.add(1.0, 2.0);
+        s1.add(3.0, 4.0);
+        PrimitiveXYSeries s2 = (PrimitiveXYSeries) s1.clone();
+        assertTrue(s1 != s2);
+        assertEquals(s1, s2);
+        s2.add(5.0, 6.0);
+        assertEquals(2, s1.getItemCount());
+
+        XYSeries s3 = s1.createCopy(1, 1);
+        assertEquals(1, s3.getItemCount());
+        assertEquals(3.0, s3.getXValue(0), 0.0);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() throws Exception {
+        PrimitiveXYSeries s1 = new PrimitiveXYSeries("S");
+        s1.add(1.0, 2.0);
+        s1.add(3.0, Double.NaN);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(s1);
+        out.close();
+        ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(
+                buffer.toByteArray()));
+        PrimitiveXYSeries s2 = (PrimitiveXYSeries) in.readObject();
+        in.close();
+        assertEquals(s1, s2);
+        s2.add(2.0, 5.0);
+        assertEquals(2.0, s2.getXValue(1), 0.0);
+    }
+
+}
@@ -0,0 +1,262 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * XYSeriesTests.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+package org.jfree.data.xy.junit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.SeriesException;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link XYSeries} class.
+ */
+public class XYSeriesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(XYSeriesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public XYSeriesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * The oldest items are dropped once the maximum item count is reached,
+     * including when the maximum is set after the items are added.
+     */
+    public void testMaximumItemCount() {
+        XYSeries s = new XYSeries("S");
+        for (int i = 0; i < 10; i++) {
+            s.add(i, i);
+        }
+        s.setMaximumItemCount(4);
+        assertEquals(4, s.getItemCount());
+        assertEquals(6.0, s.getXValue(0), 0.0);
+        for (int i = 10; i < 100; i++) {
+            s.add(i, i);
+        }
+        assertEquals(4, s.getItemCount());
+        assertEquals(96.0, s.getXValue(0), 0.0);
+        assertEquals(99.0, s.getXValue(3), 0.0);
+    }
+
+    /**
+     * Some checks for the delete() method.
+     */
+    public void testDelete() {
+        XYSeries s = new XYSeries("S");
+        for (int i = 0; i < 10; i++) {
+            s.add(i, i);
+        }
+        s.delete(2, 4);
+        assertEquals(7, s.getItemCount());
+        assertEquals(1.0, s.getXValue(1), 0.0);
+        assertEquals(5.0, s.getXValue(2), 0.0);
+    }
+
+    /**
+     * The addAll() method merges the new items into a sorted series, keeping
+     * items with equal x-values in the order they were added.
+     */
+    public void testAddAll() {
+        XYSeries s = new XYSeries("S");
+        s.add(2.0, 1.0);
+        s.add(4.0, 1.0);
+        s.addAll(new double[] {3.0, 1.0, 2.0}, new double[] {2.0, 2.0, 2.0});
+        assertEquals(5, s.getItemCount());
+        assertEquals(1.0, s.getXValue(0), 0.0);
+        assertEquals(1.0, s.getYValue(1), 0.0);
+        assertEquals(2.0, s.getYValue(2), 0.0);
+        assertEquals(3.0, s.getXValue(3), 0.0);
+        assertEquals(1.0, s.getMinX(), 0.0);
+        assertEquals(4.0, s.getMaxX(), 0.0);
+    }
+
+    /**
+     * The addAll() method leaves the series unchanged if a duplicate x-value
+     * is found and duplicates are not allowed.
+     */
+    public void testAddAllDuplicate() {
+        XYSeries s = new XYSeries("S", true, false);
+        s.add(1.0, 1.0);
+        try {
+            s.addAll(new double[] {2.0, 1.0}, new double[] {2.0, 2.0});
+            fail("Should have thrown a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(1, s.getItemCount());
+        XYSeries u = new XYSeries("U", false, false);
+        try {
+            u.addAll(new double[] {2.0, 2.0}, new double[] {2.0, 2.0});
+            fail("Should have thrown a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(0, u.getItemCount());
+    }
+
+    /**
+     * The addAll() method applies the maximum item count once.
+     */
+    public void testAddAllMaximumItemCount() {
+        XYSeries s = new XYSeries("S");
+        s.setMaximumItemCount(3);
+        s.addAll(new double[] {5.0, 4.0, 3.0, 2.0, 1.0}, 
+                new double[] {1.0, 2.0, 3.0, 4.0, 5.0});
+        assertEquals(3, s.getItemCount());
+        assertEquals(3.0, s.getXValue(0), 0.0);
+        assertEquals(1.0, s.getYValue(2), 0.0);
+    }
+
+    /**
+     * A copy of a capped series keeps the cap.
+     */
+    public void testCreateCopy() throws CloneNotSupportedException {
+        XYSeries s1 = new XYSeries("S");
+        s1.setMaximumItemCount(3);
+        for (int i = 0; i < 5; i++) {
+            s1.add(i, i);
+        }
+        XYSeries s2 = (XYSeries) s1.clone();
+        assertEquals(s1, s2);
+        s2.add(5.0, 5.0);
+        assertEquals(3, s2.getItemCount());
+        assertEquals(3.0, s2.getXValue(0), 0.0);
+        assertEquals(2.0, s1.getXValue(0), 0.0);
+    }
+
+    /**
+     * The bounds follow the items as they are added, updated and removed.
+     */
+    public void testBounds() {
+        XYSeries s = new XYSeries("S");
+        assertTrue(Double.isNaN(s.getMinX()));
+        assertTrue(Double.isNaN(s.getMaxY()));
+        s.add(2.0, 5.0);
+        s.add(1.0, null);
+        s.add(3.0, Double.NaN);
+        s.add(4.0, -1.0);
+        assertEquals(1.0, s.getMinX(), 0.0);
+        assertEquals(4.0, s.getMaxX(), 0.0);
+        assertEquals(-1.0, s.getMinY(), 0.0);
+        assertEquals(5.0, s.getMaxY(), 0.0);
+        s.updateByIndex(3, new Double(7.0));
+        assertEquals(5.0, s.getMinY(), 0.0);
+        assertEquals(7.0, s.getMaxY(), 0.0);
+        s.remove(new Double(4.0));
+        assertEquals(3.0, s.getMaxX(), 0.0);
+        assertEquals(5.0, s.getMinY(), 0.0);
+        assertEquals(5.0, s.getMaxY(), 0.0);
+        s.clear();
+        assertTrue(Double.isNaN(s.getMinX()));
+        assertTrue(Double.isNaN(s.getMinY()));
+    }
+
+    /**
+     * Items dropped from a capped series are removed from the bounds.
+     */
+    public void testBoundsMaximumItemCount() {
+        XYSeries s = new XYSeries("S");
+        s.setMaximumItemCount(2);
+        s.add(1.0, 10.0);
+        s.add(2.0, 2.0);
+        s.add(3.0, 3.0);
+        assertEquals(2.0, s.getMinX(), 0.0);
+        assertEquals(3.0, s.getMaxY(), 0.0);
+    }
+
+    /**
+     * The version increases with each change, with or without notification.
+     */
+    public void testVersion() {
+        XYSeries s = new XYSeries("S");
+        long v0 = s.getVersion();
+        s.add(1.0, 1.0);
+        long v1 = s.getVersion();
+        assertTrue(v1 > v0);
+        s.add(2.0, 2.0, false);
+        long v2 = s.getVersion();
+        assertTrue(v2 > v1);
+        s.getY(0);
+        assertEquals(v2, s.getVersion());
+        s.updateByIndex(0, new Double(5.0));
+        assertTrue(s.getVersion() > v2);
+    }
+
+    /**
+     * The collection version includes the series versions, and does not go
+     * back when a series is removed.
+     */
+    public void testCollectionVersion() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        XYSeriesCollection c = new XYSeriesCollection(s1);
+        long v0 = c.getVersion();
+        s1.add(1.0, 1.0, false);
+        long v1 = c.getVersion();
+        assertTrue(v1 > v0);
+        c.addSeries(s2);
+        long v2 = c.getVersion();
+        assertTrue(v2 > v1);
+        c.removeSeries(s1);
+        long v3 = c.getVersion();
+        assertTrue(v3 > v2);
+        s1.add(2.0, 2.0);
+        assertEquals(v3, c.getVersion());
+    }
+
+}